@@ -347,6 +347,12 @@ public class ASiCContainerWithCAdESValidator extends AbstractASiCContainerValida
 		return result;
 	}
 
+	@Override
+	protected boolean isConcurrentSignatureValidationSupported() {
+		// CMS signatures are verified independently
+		return true;
+	}
+
 	@Override
 	protected ASiCWithCAdESDiagnosticDataBuilder initializeDiagnosticDataBuilder() {
 		return new ASiCWithCAdESDiagnosticDataBuilder();
@@ -48,6 +48,9 @@ public class FileArchiveEntry extends CommonDocument implements DSSZipEntryDocum
     /** Contains metadata about the extracted entry */
     private final DSSZipEntry dssZipEntry;
 
+    /** The central directory record of the entry, when the archive has been parsed with {@code ZipCentralDirectory} */
+    private final ZipCentralDirectory.Record record;
+
     /**
      * Default constructor
      *
@@ -60,6 +63,28 @@ public class FileArchiveEntry extends CommonDocument implements DSSZipEntryDocum
         this.zipArchive = zipArchive;
         this.zipEntry = zipEntry;
         this.dssZipEntry = new DSSZipEntry(zipEntry);
+        this.record = null;
+        this.name = dssZipEntry.getName();
+        this.mimeType = MimeType.fromFileName(dssZipEntry.getName());
+    }
+
+    /**
+     * Constructor to create an entry from a parsed central directory record.
+     * The content of the entry is read directly from the archive file, without re-parsing of the archive.
+     *
+     * @param zipArchive {@link FileDocument} representing a ZIP-container
+     * @param record {@link ZipCentralDirectory.Record} of the entry to be extracted
+     * @param zipEntry {@link ZipEntry} containing metadata for zip container entry to be extracted
+     */
+    protected FileArchiveEntry(final FileDocument zipArchive, final ZipCentralDirectory.Record record,
+                               final ZipEntry zipEntry) {
+        Objects.requireNonNull(zipArchive, "ZIP Archive cannot be null!");
+        Objects.requireNonNull(record, "ZIP Record cannot be null!");
+        Objects.requireNonNull(zipEntry, "ZIP Entry cannot be null!");
+        this.zipArchive = zipArchive;
+        this.zipEntry = zipEntry;
+        this.dssZipEntry = new DSSZipEntry(zipEntry);
+        this.record = record;
         this.name = dssZipEntry.getName();
         this.mimeType = MimeType.fromFileName(dssZipEntry.getName());
     }
@@ -67,6 +92,9 @@ public class FileArchiveEntry extends CommonDocument implements DSSZipEntryDocum
     @Override
     public InputStream openStream() {
         try {
+            if (record != null) {
+                return record.openStream(zipArchive.getFile());
+            }
             return new ZipFileEntryInputStream();
         } catch (IOException e) {
             throw new DSSException("Unable to create an InputStream", e);
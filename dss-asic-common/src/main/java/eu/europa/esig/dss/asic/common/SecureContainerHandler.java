@@ -25,6 +25,9 @@ import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandler;
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
+import eu.europa.esig.dss.signature.resources.InMemoryResourcesHandlerBuilder;
 import eu.europa.esig.dss.enumerations.MimeType;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
@@ -40,6 +43,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
@@ -82,6 +86,20 @@ public class SecureContainerHandler implements ZipContainerHandler {
 	 */
 	private boolean extractComments = false;
 
+	/**
+	 * Defines the maximum size of an extracted ZIP entry to be kept in memory, in bytes.
+	 * Bigger entries are stored using {@code resourcesHandlerBuilder}.
+	 * Default : -1 (all entries are kept in memory)
+	 */
+	private long maxInMemoryEntrySize = -1;
+
+	/**
+	 * Used to create the documents for the extracted entries bigger than {@code maxInMemoryEntrySize}
+	 * and for the created ZIP archives
+	 * Default : {@code InMemoryResourcesHandlerBuilder}
+	 */
+	private DSSResourcesHandlerBuilder resourcesHandlerBuilder = new InMemoryResourcesHandlerBuilder();
+
 	/**
 	 * Internal variable used to calculate the extracted entries size
 	 * NOTE: shall be reset on every use
@@ -167,14 +185,53 @@ public class SecureContainerHandler implements ZipContainerHandler {
 		this.extractComments = extractComments;
 	}
 
+	/**
+	 * Sets the maximum size of an extracted ZIP entry to be kept in memory.
+	 * The entries exceeding the size are written using the defined {@code DSSResourcesHandlerBuilder}
+	 * (e.g. {@code TempFileResourcesHandlerBuilder} to spill them into temporary files).
+	 *
+	 * NOTE: applies only to the archives processed with {@code java.util.zip.ZipInputStream}.
+	 *       The entries of a {@code FileDocument} archive are read lazily from the file, when possible.
+	 *
+	 * Default : -1 (all entries are kept in memory)
+	 *
+	 * @param maxInMemoryEntrySize in bytes
+	 */
+	public void setMaxInMemoryEntrySize(long maxInMemoryEntrySize) {
+		this.maxInMemoryEntrySize = maxInMemoryEntrySize;
+	}
+
+	/**
+	 * Sets the builder used to create the documents for the extracted entries bigger than
+	 * {@code maxInMemoryEntrySize}, as well as for the ZIP archives created with {@code createZipArchive} method.
+	 * Use {@code TempFileResourcesHandlerBuilder} in order to keep the heap usage independent of the container size.
+	 *
+	 * Default : {@code InMemoryResourcesHandlerBuilder}
+	 *
+	 * @param resourcesHandlerBuilder {@link DSSResourcesHandlerBuilder}
+	 */
+	public void setResourcesHandlerBuilder(DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+		Objects.requireNonNull(resourcesHandlerBuilder, "DSSResourcesHandlerBuilder cannot be null!");
+		this.resourcesHandlerBuilder = resourcesHandlerBuilder;
+	}
+
 	@Override
 	public List<DSSDocument> extractContainerContent(DSSDocument zipArchive) {
 		resetCounters();
 
 		List<DSSDocument> result = new ArrayList<>();
-		if (isInFileProcessingSupported(zipArchive)) {
+		ZipCentralDirectory centralDirectory = readCentralDirectory(zipArchive);
+		if (centralDirectory != null) {
+			FileDocument zipFileDocument = (FileDocument) zipArchive;
+			for (ZipCentralDirectory.Record record : centralDirectory.getRecords()) {
+				result.add(new FileArchiveEntry(zipFileDocument, record, record.getZipEntry(extractComments)));
+			}
+			return result;
+		}
+
+		if (!malformedEntriesDetected() && isInFileProcessingSupported(zipArchive)) {
 			FileDocument zipFileDocument = (FileDocument) zipArchive;
-			List<ZipEntry> zipEntries = extractZipEntries(zipFileDocument);
+			List<ZipEntry> zipEntries = readZipEntries(zipFileDocument);
 			if (!malformedEntriesDetected()) {
 				for (ZipEntry zipEntry : zipEntries) {
 					result.add(new FileArchiveEntry(zipFileDocument, zipEntry));
@@ -200,6 +257,53 @@ public class SecureContainerHandler implements ZipContainerHandler {
 		return result;
 	}
 
+	/**
+	 * Reads the central directory of a {@code FileDocument} archive, which allows a direct access
+	 * to the entries without decompression of the whole archive.
+	 * The declared number and sizes of the entries are verified against the configured limits.
+	 * The records not matching their local file headers, as well as the data not covered by the local file headers
+	 * (e.g. entries not listed in the central directory), are counted as malformed entries.
+	 *
+	 * @param zipArchive {@link DSSDocument} to read
+	 * @return {@link ZipCentralDirectory} if the archive has been parsed successfully and does not contain
+	 *         malformed entries, NULL otherwise
+	 */
+	private ZipCentralDirectory readCentralDirectory(DSSDocument zipArchive) {
+		if (zipArchive instanceof FileDocument) {
+			ZipCentralDirectory centralDirectory;
+			try {
+				centralDirectory = ZipCentralDirectory.read(((FileDocument) zipArchive).getFile());
+			} catch (IOException e) {
+				LOG.warn("Unable to read the central directory of the archive with name '{}'. " +
+						"Continue with ZipInputStream... Reason : {}", zipArchive.getName(), e.getMessage());
+				return null;
+			}
+			assertCollectionSizeValid(centralDirectory.getRecords());
+			for (ZipCentralDirectory.Record record : centralDirectory.getRecords()) {
+				if (record.isMalformed()) {
+					LOG.warn("ZIP container contains a malformed entry with name '{}'! Reason: [{}]",
+							record.getName(), record.getMalformedReason());
+					malformedFilesCounter++;
+					assertMalformedFilesAmountValid();
+				}
+			}
+			if (centralDirectory.hasUncoveredData()) {
+				LOG.warn("ZIP container with name '{}' contains data not listed in the central directory! Reason: [{}]",
+						zipArchive.getName(), centralDirectory.getUncoveredDataReason());
+				malformedFilesCounter++;
+				assertMalformedFilesAmountValid();
+			}
+			if (malformedEntriesDetected()) {
+				LOG.warn("The archive with name '{}' contains malformed entries. Unable to parse with the central directory. " +
+						"Continue with ZipInputStream...", zipArchive.getName());
+				return null;
+			}
+			assertDeclaredSizeValid(centralDirectory, DSSUtils.getFileByteSize(zipArchive));
+			return centralDirectory;
+		}
+		return null;
+	}
+
 	/**
 	 * This method used to verify whether the provided archive container is supported by
 	 * java.util.zip.ZipFile implementation
@@ -249,6 +353,18 @@ public class SecureContainerHandler implements ZipContainerHandler {
 	private List<ZipEntry> extractZipEntries(DSSDocument zipArchive) {
 		resetCounters();
 
+		ZipCentralDirectory centralDirectory = readCentralDirectory(zipArchive);
+		if (centralDirectory != null) {
+			List<ZipEntry> result = new ArrayList<>();
+			for (ZipCentralDirectory.Record record : centralDirectory.getRecords()) {
+				result.add(record.getZipEntry(extractComments));
+			}
+			return result;
+		}
+		return readZipEntries(zipArchive);
+	}
+
+	private List<ZipEntry> readZipEntries(DSSDocument zipArchive) {
 		long containerSize = DSSUtils.getFileByteSize(zipArchive);
 		long allowedSize = containerSize * maxCompressionRatio;
 
@@ -266,7 +382,9 @@ public class SecureContainerHandler implements ZipContainerHandler {
 		} catch (IOException e) {
 			throw new IllegalArgumentException("Unable to extract entries from zip archive", e);
 		}
-		extractComments(zipArchive, result);
+		if (!malformedEntriesDetected()) {
+			extractComments(zipArchive, result);
+		}
 		return result;
 	}
 
@@ -292,9 +410,23 @@ public class SecureContainerHandler implements ZipContainerHandler {
 
 	@Override
 	public DSSDocument createZipArchive(List<DSSDocument> containerEntries, Date creationTime, String zipComment) {
-		try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-			 	ZipOutputStream zos = new ZipOutputStream(baos)) {
+		try (DSSResourcesHandler resourcesHandler = resourcesHandlerBuilder.createResourcesHandler()) {
+			try (OutputStream os = resourcesHandler.createOutputStream()) {
+				writeZipArchive(containerEntries, creationTime, zipComment, os);
+			}
+			return resourcesHandler.writeToDSSDocument();
+
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to create an ASiC container. Reason : %s", e.getMessage()), e);
+		}
+	}
 
+	@Override
+	public void writeZipArchive(List<DSSDocument> containerEntries, Date creationTime, String zipComment, OutputStream os) {
+		Objects.requireNonNull(os, "OutputStream cannot be null!");
+		try {
+			// the ZipOutputStream is not closed in order to keep the given OutputStream open
+			ZipOutputStream zos = new ZipOutputStream(os);
 			for (DSSDocument entry : containerEntries) {
 				final ZipEntry zipEntry = getZipEntry(entry, creationTime);
 				zos.putNextEntry(zipEntry);
@@ -306,8 +438,7 @@ public class SecureContainerHandler implements ZipContainerHandler {
 				zos.setComment(zipComment);
 			}
 			zos.finish();
-
-			return new InMemoryDocument(baos.toByteArray());
+			zos.flush();
 
 		} catch (IOException e) {
 			throw new DSSException(String.format("Unable to create an ASiC container. Reason : %s", e.getMessage()), e);
@@ -345,11 +476,21 @@ public class SecureContainerHandler implements ZipContainerHandler {
 		 * because they must appear before the user data in the resulting zip file.
 		 */
 		if (ZipEntry.STORED == zipEntry.getMethod()) {
-			final byte[] byteArray = DSSUtils.toByteArray(content);
-			zipEntry.setSize(byteArray.length);
-			zipEntry.setCompressedSize(byteArray.length);
 			final CRC32 crc = new CRC32();
-			crc.update(byteArray, 0, byteArray.length);
+			long size = 0;
+			try (InputStream is = content.openStream()) {
+				byte[] data = new byte[8192];
+				int nRead;
+				while ((nRead = is.read(data)) != -1) {
+					crc.update(data, 0, nRead);
+					size += nRead;
+				}
+			} catch (IOException e) {
+				throw new DSSException(String.format("Unable to read the content of the entry '%s'. Reason : %s",
+						zipEntry.getName(), e.getMessage()), e);
+			}
+			zipEntry.setSize(size);
+			zipEntry.setCompressedSize(size);
 			zipEntry.setCrc(crc.getValue());
 		}
 		/*
@@ -380,7 +521,8 @@ public class SecureContainerHandler implements ZipContainerHandler {
 	 * @throws DSSException if too many tries failed
 	 */
 	private ZipEntry getNextValidEntry(ZipInputStream zis) {
-		while (malformedFilesCounter < maxMalformedFiles) {
+		while (true) {
+			assertMalformedFilesAmountValid();
 			try {
 				return zis.getNextEntry();
 			} catch (Exception e) {
@@ -391,7 +533,12 @@ public class SecureContainerHandler implements ZipContainerHandler {
 				closeEntry(zis);
 			}
 		}
-		throw new DSSException("Unable to retrieve a valid ZipEntry (" + maxMalformedFiles + " tries)");
+	}
+
+	private void assertMalformedFilesAmountValid() {
+		if (malformedFilesCounter >= maxMalformedFiles) {
+			throw new DSSException("Unable to retrieve a valid ZipEntry (" + maxMalformedFiles + " tries)");
+		}
 	}
 
 	/**
@@ -417,11 +564,8 @@ public class SecureContainerHandler implements ZipContainerHandler {
 	 */
 	private DSSDocument getCurrentEntryDocument(ZipInputStream zis, ZipEntry entry, long containerSize) {
 		long allowedSize = containerSize * maxCompressionRatio;
-		try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-			secureCopy(zis, baos, allowedSize);
-			baos.flush();
-
-			DSSDocument currentDocument = new InMemoryDocument(baos.toByteArray());
+		try {
+			DSSDocument currentDocument = readEntryContent(zis, allowedSize);
 			String fileName = entry.getName();
 			currentDocument.setName(entry.getName());
 			currentDocument.setMimeType(MimeType.fromFileName(fileName));
@@ -434,6 +578,34 @@ public class SecureContainerHandler implements ZipContainerHandler {
 		}
 	}
 
+	/**
+	 * Reads the current entry content. The content is kept in memory, unless its size exceeds
+	 * {@code maxInMemoryEntrySize}, when the content is written using the {@code resourcesHandlerBuilder}
+	 *
+	 * @param is          {@link InputStream} of the entry
+	 * @param allowedSize defines an allowed size of the ZIP container entries
+	 * @return {@link DSSDocument} representing the entry content
+	 * @throws IOException if an exception occurs
+	 */
+	private DSSDocument readEntryContent(InputStream is, long allowedSize) throws IOException {
+		final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		if (secureCopy(is, baos, allowedSize, maxInMemoryEntrySize)) {
+			return new InMemoryDocument(baos.toByteArray());
+		}
+		return spillEntryContent(baos, is, allowedSize);
+	}
+
+	private DSSDocument spillEntryContent(ByteArrayOutputStream readContent, InputStream is, long allowedSize) throws IOException {
+		try (DSSResourcesHandler resourcesHandler = resourcesHandlerBuilder.createResourcesHandler()) {
+			try (OutputStream os = resourcesHandler.createOutputStream()) {
+				readContent.writeTo(os);
+				readContent.reset();
+				secureCopy(is, os, allowedSize);
+			}
+			return resourcesHandler.writeToDSSDocument();
+		}
+	}
+
 	/**
 	 * Reads and copies InputStream in a secure way to OutputStream. Detects
 	 * "ZipBombing" (large files inside a zip container) depending on the provided
@@ -446,13 +618,35 @@ public class SecureContainerHandler implements ZipContainerHandler {
 	 * @throws IOException if an exception occurs
 	 */
 	private void secureCopy(InputStream is, OutputStream os, long allowedSize) throws IOException {
+		secureCopy(is, os, allowedSize, -1);
+	}
+
+	/**
+	 * Reads and copies InputStream in a secure way to OutputStream, until the end of the stream is reached
+	 * or more than {@code maxLength} bytes have been copied
+	 *
+	 * @param is          {@link InputStream} of file
+	 * @param os          {@link OutputStream} where save file to.
+	 * @param allowedSize defines an allowed size of the ZIP container entries, if
+	 *                    -1 skips the validation
+	 * @param maxLength   the number of bytes after which the copy is interrupted, if -1 the whole stream is copied
+	 * @return TRUE if the end of the stream has been reached, FALSE if the copy has been interrupted
+	 * @throws IOException if an exception occurs
+	 */
+	private boolean secureCopy(InputStream is, OutputStream os, long allowedSize, long maxLength) throws IOException {
 		byte[] data = new byte[2048];
+		long copied = 0;
 		int nRead;
 		while ((nRead = is.read(data)) != -1) {
 			byteCounter += nRead;
 			assertExtractEntryLengthValid(allowedSize);
 			os.write(data, 0, nRead);
+			copied += nRead;
+			if (maxLength != -1 && copied > maxLength) {
+				return false;
+			}
 		}
+		return true;
 	}
 
 	/**
@@ -477,6 +671,13 @@ public class SecureContainerHandler implements ZipContainerHandler {
 		}
 	}
 
+	private void assertDeclaredSizeValid(ZipCentralDirectory centralDirectory, long containerSize) {
+		long totalSize = centralDirectory.getTotalSize();
+		if (totalSize > threshold && totalSize > containerSize * maxCompressionRatio) {
+			throw new IllegalInputException("Zip Bomb detected in the ZIP container. Validation is interrupted.");
+		}
+	}
+
 	private void assertCollectionSizeValid(Collection<?> collection) {
 		if (collection.size() > maxAllowedFilesAmount) {
 			throw new IllegalInputException("Too many files detected. Cannot extract ASiC content from the file.");
@@ -20,6 +20,9 @@
  */
 package eu.europa.esig.dss.asic.common;
 
+import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
+import eu.europa.esig.dss.signature.resources.InMemoryResourcesHandlerBuilder;
+
 /**
  * Default implementation of a builder,
  * building a new instance of {@code eu.europa.esig.dss.asic.common.SecureContainerHandler}
@@ -53,6 +56,18 @@ public class SecureContainerHandlerBuilder implements ZipContainerHandlerBuilder
      */
     private boolean extractComments = false;
 
+    /**
+     * Defines the maximum size of an extracted ZIP entry to be kept in memory, in bytes.
+     * Default : -1 (all entries are kept in memory)
+     */
+    private long maxInMemoryEntrySize = -1;
+
+    /**
+     * Used to create the documents for big extracted entries and for the created ZIP archives
+     * Default : {@code InMemoryResourcesHandlerBuilder}
+     */
+    private DSSResourcesHandlerBuilder resourcesHandlerBuilder = new InMemoryResourcesHandlerBuilder();
+
     /**
      * Sets the maximum allowed threshold after exceeding each the security checks
      * are enforced
@@ -129,6 +144,35 @@ public class SecureContainerHandlerBuilder implements ZipContainerHandlerBuilder
         return this;
     }
 
+    /**
+     * Sets the maximum size of an extracted ZIP entry to be kept in memory.
+     * The entries exceeding the size are written using the defined {@code DSSResourcesHandlerBuilder}.
+     * <p>
+     * Default : -1 (all entries are kept in memory)
+     *
+     * @param maxInMemoryEntrySize in bytes
+     * @return {@link SecureContainerHandlerBuilder}
+     */
+    public SecureContainerHandlerBuilder setMaxInMemoryEntrySize(long maxInMemoryEntrySize) {
+        this.maxInMemoryEntrySize = maxInMemoryEntrySize;
+        return this;
+    }
+
+    /**
+     * Sets the builder used to create the documents for the extracted entries bigger than
+     * {@code maxInMemoryEntrySize}, as well as for the created ZIP archives.
+     * Use {@code TempFileResourcesHandlerBuilder} in order to keep the heap usage independent of the container size.
+     * <p>
+     * Default : {@code InMemoryResourcesHandlerBuilder}
+     *
+     * @param resourcesHandlerBuilder {@link DSSResourcesHandlerBuilder}
+     * @return {@link SecureContainerHandlerBuilder}
+     */
+    public SecureContainerHandlerBuilder setResourcesHandlerBuilder(DSSResourcesHandlerBuilder resourcesHandlerBuilder) {
+        this.resourcesHandlerBuilder = resourcesHandlerBuilder;
+        return this;
+    }
+
     @Override
     public SecureContainerHandler build() {
         final SecureContainerHandler secureContainerHandler = new SecureContainerHandler();
@@ -137,6 +181,8 @@ public class SecureContainerHandlerBuilder implements ZipContainerHandlerBuilder
         secureContainerHandler.setMaxAllowedFilesAmount(maxAllowedFilesAmount);
         secureContainerHandler.setMaxMalformedFiles(maxMalformedFiles);
         secureContainerHandler.setExtractComments(extractComments);
+        secureContainerHandler.setMaxInMemoryEntrySize(maxInMemoryEntrySize);
+        secureContainerHandler.setResourcesHandlerBuilder(resourcesHandlerBuilder);
         return secureContainerHandler;
     }
 
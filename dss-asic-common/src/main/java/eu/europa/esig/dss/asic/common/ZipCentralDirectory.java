@@ -0,0 +1,821 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.asic.common;
+
+import eu.europa.esig.dss.exception.IllegalInputException;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipEntry;
+
+/**
+ * Internal class that is used for performance purposes, reading the central directory of a ZIP-archive
+ * stored in the file system once, and giving a direct access to the entries' data.
+ *
+ * Only the central directory and the local file headers are read on parsing: the entries are not decompressed.
+ * The content of an entry is read on request from the file: STORED entries are served directly from the file region,
+ * DEFLATED entries are inflated on the fly.
+ *
+ * Multi-disk and encrypted archives, as well as compression methods other than STORED and DEFLATED,
+ * are not supported: an {@code IOException} is thrown on parsing of such archives.
+ *
+ * Every record is compared against its local file header (name, compression method, sizes and CRC).
+ * The records which do not match their local file header are returned as malformed (see {@code Record#isMalformed}),
+ * as the archive content would be interpreted differently by a stream-based reader.
+ * In the same way, the local file headers shall cover the archive from its beginning up to the central directory
+ * without gaps (see {@code #getUncoveredDataReason}), otherwise a stream-based reader may find entries
+ * not listed in the central directory.
+ *
+ * The records are returned in the order of their local file headers, i.e. the order used by a stream-based reader.
+ *
+ */
+public class ZipCentralDirectory {
+
+	/** End of central directory record signature */
+	private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+
+	/** ZIP64 end of central directory locator signature */
+	private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+
+	/** ZIP64 end of central directory record signature */
+	private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+
+	/** Central directory file header signature */
+	private static final int CENTRAL_FILE_HEADER_SIGNATURE = 0x02014b50;
+
+	/** Local file header signature */
+	private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+
+	/** Data descriptor signature (optional) */
+	private static final int DATA_DESCRIPTOR_SIGNATURE = 0x08074b50;
+
+	/** Size of the end of central directory record, without the comment */
+	private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+
+	/** Size of the ZIP64 end of central directory locator */
+	private static final int ZIP64_LOCATOR_SIZE = 20;
+
+	/** Size of the ZIP64 end of central directory record, without the extensible data */
+	private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE = 56;
+
+	/** Size of the central directory file header, without the variable fields */
+	private static final int CENTRAL_FILE_HEADER_SIZE = 46;
+
+	/** Size of the local file header, without the variable fields */
+	private static final int LOCAL_FILE_HEADER_SIZE = 30;
+
+	/** The maximum length of the archive comment */
+	private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+
+	/** The general purpose flag indicating the sizes and CRC are defined in a data descriptor after the data */
+	private static final int DATA_DESCRIPTOR_FLAG = 1 << 3;
+
+	/** The ZIP64 extended information extra field tag */
+	private static final int ZIP64_EXTRA_TAG = 0x0001;
+
+	/** The value indicating the field is defined within the ZIP64 extra field (16 bits) */
+	private static final int ZIP64_MAGIC_SHORT = 0xFFFF;
+
+	/** The value indicating the field is defined within the ZIP64 extra field (32 bits) */
+	private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+	/** The size of the buffer used to read the entries */
+	private static final int BUFFER_SIZE = 8192;
+
+	/** The ZIP-archive file */
+	private final File file;
+
+	/** The entries of the archive, in the order of the local file headers */
+	private final List<Record> records;
+
+	/** Describes the archive data not covered by the local file headers, NULL if none */
+	private final String uncoveredDataReason;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param file {@link File} the ZIP-archive
+	 * @param records a list of {@link Record}s
+	 * @param uncoveredDataReason describes the data not covered by the local file headers, NULL if none
+	 */
+	private ZipCentralDirectory(final File file, final List<Record> records, final String uncoveredDataReason) {
+		this.file = file;
+		this.records = Collections.unmodifiableList(records);
+		this.uncoveredDataReason = uncoveredDataReason;
+	}
+
+	/**
+	 * Reads the central directory of the given ZIP-archive
+	 *
+	 * @param file {@link File} the ZIP-archive
+	 * @return {@link ZipCentralDirectory}
+	 * @throws IOException if the archive cannot be read, is malformed or is not supported
+	 */
+	public static ZipCentralDirectory read(final File file) throws IOException {
+		Objects.requireNonNull(file, "File cannot be null!");
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			return readCentralDirectory(file, channel);
+		}
+	}
+
+	/**
+	 * Gets the file of the ZIP-archive
+	 *
+	 * @return {@link File}
+	 */
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * Gets the entries of the archive, in the order of the local file headers
+	 *
+	 * @return a list of {@link Record}s
+	 */
+	public List<Record> getRecords() {
+		return records;
+	}
+
+	/**
+	 * Gets whether the archive contains data, between its beginning and the central directory,
+	 * not covered by the local file headers of the records (e.g. entries not listed in the central directory)
+	 *
+	 * @return TRUE if the archive contains uncovered data, FALSE otherwise
+	 */
+	public boolean hasUncoveredData() {
+		return uncoveredDataReason != null;
+	}
+
+	/**
+	 * Gets the description of the archive data not covered by the local file headers
+	 *
+	 * @return {@link String}, NULL if the local file headers cover the whole archive
+	 */
+	public String getUncoveredDataReason() {
+		return uncoveredDataReason;
+	}
+
+	/**
+	 * Gets the sum of the declared (uncompressed) sizes of the entries
+	 *
+	 * @return total size in bytes
+	 */
+	public long getTotalSize() {
+		long totalSize = 0;
+		for (Record record : records) {
+			if (totalSize > Long.MAX_VALUE - record.size) {
+				return Long.MAX_VALUE;
+			}
+			totalSize += record.size;
+		}
+		return totalSize;
+	}
+
+	private static ZipCentralDirectory readCentralDirectory(File file, FileChannel channel) throws IOException {
+		final long fileSize = channel.size();
+		final int tailSize = (int) Math.min(fileSize, END_OF_CENTRAL_DIRECTORY_SIZE + MAX_COMMENT_LENGTH);
+		final ByteBuffer tail = read(channel, fileSize - tailSize, tailSize);
+
+		final int eocdPosition = findEndOfCentralDirectory(tail);
+		if (eocdPosition == -1) {
+			throw new IOException("The end of central directory record is not found!");
+		}
+		final long eocdOffset = fileSize - tailSize + eocdPosition;
+		if (unsignedShort(tail, eocdPosition + 4) != 0 || unsignedShort(tail, eocdPosition + 6) != 0) {
+			throw new IOException("Multi-disk archives are not supported!");
+		}
+
+		long entriesNumber = unsignedShort(tail, eocdPosition + 10);
+		long centralDirectorySize = unsignedInt(tail, eocdPosition + 12);
+		long centralDirectoryOffset = unsignedInt(tail, eocdPosition + 16);
+		long centralDirectoryEnd = eocdOffset;
+
+		if (entriesNumber == ZIP64_MAGIC_SHORT || centralDirectorySize == ZIP64_MAGIC || centralDirectoryOffset == ZIP64_MAGIC) {
+			if (eocdOffset < ZIP64_LOCATOR_SIZE) {
+				throw new IOException("The ZIP64 end of central directory locator is not found!");
+			}
+			final ByteBuffer locator = read(channel, eocdOffset - ZIP64_LOCATOR_SIZE, ZIP64_LOCATOR_SIZE);
+			if (locator.getInt(0) != ZIP64_LOCATOR_SIGNATURE) {
+				throw new IOException("The ZIP64 end of central directory locator is not found!");
+			}
+			final long zip64EocdOffset = locator.getLong(8);
+			if (zip64EocdOffset < 0 || zip64EocdOffset + ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE > eocdOffset) {
+				throw new IOException("Invalid ZIP64 end of central directory offset!");
+			}
+			final ByteBuffer zip64Eocd = read(channel, zip64EocdOffset, ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE);
+			if (zip64Eocd.getInt(0) != ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+				throw new IOException("The ZIP64 end of central directory record is not found!");
+			}
+			entriesNumber = zip64Eocd.getLong(32);
+			centralDirectorySize = zip64Eocd.getLong(40);
+			centralDirectoryOffset = zip64Eocd.getLong(48);
+			centralDirectoryEnd = zip64EocdOffset;
+		}
+
+		if (centralDirectoryOffset < 0 || centralDirectorySize < 0 || centralDirectorySize > Integer.MAX_VALUE
+				|| centralDirectoryOffset + centralDirectorySize > centralDirectoryEnd) {
+			throw new IOException("Invalid central directory location!");
+		}
+		if (entriesNumber < 0 || entriesNumber > centralDirectorySize / CENTRAL_FILE_HEADER_SIZE) {
+			throw new IOException("Invalid number of entries!");
+		}
+
+		final ByteBuffer centralDirectory = read(channel, centralDirectoryOffset, (int) centralDirectorySize);
+		final List<Record> result = new ArrayList<>((int) entriesNumber);
+		int position = 0;
+		for (long ii = 0; ii < entriesNumber; ii++) {
+			final Record record = readRecord(centralDirectory, position, channel, centralDirectoryOffset);
+			result.add(record);
+			position = record.nextHeaderPosition;
+		}
+		result.sort(Comparator.comparingLong(record -> record.localHeaderOffset));
+		return new ZipCentralDirectory(file, result, verifyCoverage(channel, result, centralDirectoryOffset));
+	}
+
+	/**
+	 * Verifies whether the local file headers and the data of the records cover the archive
+	 * from its beginning up to the central directory, without gaps nor overlaps
+	 *
+	 * @param channel {@link FileChannel} of the archive
+	 * @param records a list of {@link Record}s sorted by the local file header offsets
+	 * @param centralDirectoryOffset the position of the central directory
+	 * @return the description of the uncovered data, NULL if the whole archive is covered
+	 */
+	private static String verifyCoverage(FileChannel channel, List<Record> records, long centralDirectoryOffset)
+			throws IOException {
+		long expectedOffset = 0;
+		for (int ii = 0; ii < records.size(); ii++) {
+			final Record record = records.get(ii);
+			if (record.isMalformed()) {
+				// reported on the record level
+				return null;
+			}
+			if (record.localHeaderOffset != expectedOffset) {
+				return String.format("the data at the offset %s is not covered by a local file header " +
+						"(next local file header at the offset %s)", expectedOffset, record.localHeaderOffset);
+			}
+			expectedOffset = record.dataOffset + record.zipEntry.getCompressedSize();
+			if (record.dataDescriptor) {
+				final long nextHeaderOffset = ii + 1 < records.size() ?
+						records.get(ii + 1).localHeaderOffset : centralDirectoryOffset;
+				expectedOffset += getDataDescriptorLength(channel, expectedOffset, nextHeaderOffset);
+			}
+		}
+		if (expectedOffset != centralDirectoryOffset) {
+			return String.format("the data at the offset %s is not covered by a local file header " +
+					"(central directory at the offset %s)", expectedOffset, centralDirectoryOffset);
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the length of the data descriptor at the given {@code offset}, with or without signature,
+	 * with 32 or 64 bits sizes. The length matching the position of the next header is preferred.
+	 *
+	 * @param channel {@link FileChannel} of the archive
+	 * @param offset the position of the data descriptor
+	 * @param nextHeaderOffset the position of the next local file header or of the central directory
+	 * @return the length of the data descriptor
+	 */
+	private static long getDataDescriptorLength(FileChannel channel, long offset, long nextHeaderOffset) throws IOException {
+		final boolean withSignature = offset + 4 <= nextHeaderOffset
+				&& read(channel, offset, 4).getInt(0) == DATA_DESCRIPTOR_SIGNATURE;
+		final long shortLength = withSignature ? 16 : 12;
+		final long longLength = withSignature ? 24 : 20;
+		return offset + longLength == nextHeaderOffset ? longLength : shortLength;
+	}
+
+	private static int findEndOfCentralDirectory(ByteBuffer tail) {
+		for (int ii = tail.limit() - END_OF_CENTRAL_DIRECTORY_SIZE; ii >= 0; ii--) {
+			if (tail.getInt(ii) == END_OF_CENTRAL_DIRECTORY_SIGNATURE
+					&& ii + END_OF_CENTRAL_DIRECTORY_SIZE + unsignedShort(tail, ii + 20) == tail.limit()) {
+				return ii;
+			}
+		}
+		return -1;
+	}
+
+	private static Record readRecord(ByteBuffer centralDirectory, int position, FileChannel channel,
+									 long centralDirectoryOffset) throws IOException {
+		if (position + CENTRAL_FILE_HEADER_SIZE > centralDirectory.limit()
+				|| centralDirectory.getInt(position) != CENTRAL_FILE_HEADER_SIGNATURE) {
+			throw new IOException("Invalid central directory file header!");
+		}
+		final int flags = unsignedShort(centralDirectory, position + 8);
+		if ((flags & 1) != 0) {
+			throw new IOException("Encrypted entries are not supported!");
+		}
+		final int method = unsignedShort(centralDirectory, position + 10);
+		if (method != ZipEntry.STORED && method != ZipEntry.DEFLATED) {
+			throw new IOException(String.format("The compression method '%s' is not supported!", method));
+		}
+		final long crc = unsignedInt(centralDirectory, position + 16);
+		long compressedSize = unsignedInt(centralDirectory, position + 20);
+		long size = unsignedInt(centralDirectory, position + 24);
+		final int nameLength = unsignedShort(centralDirectory, position + 28);
+		final int extraLength = unsignedShort(centralDirectory, position + 30);
+		final int commentLength = unsignedShort(centralDirectory, position + 32);
+		long localHeaderOffset = unsignedInt(centralDirectory, position + 42);
+
+		final int namePosition = position + CENTRAL_FILE_HEADER_SIZE;
+		final int nextHeaderPosition = namePosition + nameLength + extraLength + commentLength;
+		if (nextHeaderPosition > centralDirectory.limit()) {
+			throw new IOException("Invalid central directory file header!");
+		}
+		final String name = getString(centralDirectory, namePosition, nameLength);
+		final String comment = commentLength > 0 ?
+				getString(centralDirectory, namePosition + nameLength + extraLength, commentLength) : null;
+
+		// ZIP64 extended information extra field
+		int extraPosition = namePosition + nameLength;
+		final int extraEnd = extraPosition + extraLength;
+		while (extraPosition + 4 <= extraEnd) {
+			final int tag = unsignedShort(centralDirectory, extraPosition);
+			final int length = unsignedShort(centralDirectory, extraPosition + 2);
+			int fieldPosition = extraPosition + 4;
+			if (fieldPosition + length > extraEnd) {
+				throw new IOException("Invalid extra field!");
+			}
+			if (tag == ZIP64_EXTRA_TAG) {
+				final int fieldEnd = fieldPosition + length;
+				if (size == ZIP64_MAGIC && fieldPosition + 8 <= fieldEnd) {
+					size = centralDirectory.getLong(fieldPosition);
+					fieldPosition += 8;
+				}
+				if (compressedSize == ZIP64_MAGIC && fieldPosition + 8 <= fieldEnd) {
+					compressedSize = centralDirectory.getLong(fieldPosition);
+					fieldPosition += 8;
+				}
+				if (localHeaderOffset == ZIP64_MAGIC && fieldPosition + 8 <= fieldEnd) {
+					localHeaderOffset = centralDirectory.getLong(fieldPosition);
+				}
+			}
+			extraPosition += 4 + length;
+		}
+		if (size < 0 || compressedSize < 0 || localHeaderOffset < 0
+				|| localHeaderOffset + LOCAL_FILE_HEADER_SIZE > centralDirectoryOffset) {
+			throw new IOException(String.format("Invalid sizes or offset for the entry '%s'!", name));
+		}
+		if (method == ZipEntry.STORED && size != compressedSize) {
+			throw new IOException(String.format("Invalid size of the STORED entry '%s'!", name));
+		}
+
+		// Local file header : contains the metadata extracted with ZipInputStream (e.g. extended timestamps)
+		final ByteBuffer localHeader = read(channel, localHeaderOffset, LOCAL_FILE_HEADER_SIZE);
+		final long dosTime = unsignedInt(localHeader, 10);
+		final int localNameLength = unsignedShort(localHeader, 26);
+		final int localExtraLength = unsignedShort(localHeader, 28);
+		final long dataOffset = localHeaderOffset + LOCAL_FILE_HEADER_SIZE + localNameLength + localExtraLength;
+
+		String malformedReason;
+		byte[] localExtra = null;
+		final boolean dataDescriptor = (unsignedShort(localHeader, 6) & DATA_DESCRIPTOR_FLAG) != 0;
+		if (localHeader.getInt(0) != LOCAL_FILE_HEADER_SIGNATURE) {
+			malformedReason = "invalid local file header";
+		} else if (dataOffset + compressedSize > centralDirectoryOffset) {
+			malformedReason = "invalid data location";
+		} else {
+			final ByteBuffer localFields = read(channel, localHeaderOffset + LOCAL_FILE_HEADER_SIZE, localNameLength + localExtraLength);
+			malformedReason = verifyLocalHeader(localHeader, localFields, name, method, crc, compressedSize, size);
+			if (localExtraLength > 0) {
+				localExtra = new byte[localExtraLength];
+				localFields.position(localNameLength);
+				localFields.get(localExtra);
+			}
+		}
+
+		final ZipEntry zipEntry = new ZipEntry(name);
+		zipEntry.setMethod(method);
+		zipEntry.setTime(dosToJavaTime(dosTime));
+		if (localExtra != null) {
+			zipEntry.setExtra(localExtra);
+		}
+		zipEntry.setCrc(crc);
+		zipEntry.setSize(size);
+		zipEntry.setCompressedSize(compressedSize);
+
+		return new Record(zipEntry, comment, localHeaderOffset, dataOffset, dataDescriptor, nextHeaderPosition, malformedReason);
+	}
+
+	/**
+	 * Verifies whether the local file header matches the central directory record
+	 *
+	 * @return the mismatch description, NULL if the local file header matches the record
+	 */
+	private static String verifyLocalHeader(ByteBuffer localHeader, ByteBuffer localFields, String name, int method,
+											long crc, long compressedSize, long size) {
+		final int localNameLength = unsignedShort(localHeader, 26);
+		final int localExtraLength = unsignedShort(localHeader, 28);
+		if (!name.equals(getString(localFields, 0, localNameLength))) {
+			return "the local file header name does not match";
+		}
+		if (unsignedShort(localHeader, 8) != method) {
+			return "the local file header compression method does not match";
+		}
+		if ((unsignedShort(localHeader, 6) & DATA_DESCRIPTOR_FLAG) != 0) {
+			// the sizes and CRC are defined after the data
+			return null;
+		}
+		final long localCrc = unsignedInt(localHeader, 14);
+		long localCompressedSize = unsignedInt(localHeader, 18);
+		long localSize = unsignedInt(localHeader, 22);
+		if (localSize == ZIP64_MAGIC || localCompressedSize == ZIP64_MAGIC) {
+			// both sizes shall be present within the ZIP64 extra field of a local file header
+			int extraPosition = localNameLength;
+			final int extraEnd = localNameLength + localExtraLength;
+			while (extraPosition + 4 <= extraEnd) {
+				final int tag = unsignedShort(localFields, extraPosition);
+				final int length = unsignedShort(localFields, extraPosition + 2);
+				if (tag == ZIP64_EXTRA_TAG && length >= 16 && extraPosition + 4 + length <= extraEnd) {
+					localSize = localFields.getLong(extraPosition + 4);
+					localCompressedSize = localFields.getLong(extraPosition + 12);
+					break;
+				}
+				extraPosition += 4 + length;
+			}
+		}
+		if (localCrc != crc || localCompressedSize != compressedSize || localSize != size) {
+			return "the local file header sizes or CRC do not match";
+		}
+		return null;
+	}
+
+	private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+		final ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) == -1) {
+				throw new EOFException("Unexpected end of the ZIP archive!");
+			}
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	private static int unsignedShort(ByteBuffer buffer, int position) {
+		return buffer.getShort(position) & 0xFFFF;
+	}
+
+	private static long unsignedInt(ByteBuffer buffer, int position) {
+		return buffer.getInt(position) & 0xFFFFFFFFL;
+	}
+
+	private static String getString(ByteBuffer buffer, int position, int length) {
+		final byte[] bytes = new byte[length];
+		for (int ii = 0; ii < length; ii++) {
+			bytes[ii] = buffer.get(position + ii);
+		}
+		// UTF-8 is used by java.util.zip.ZipInputStream by default
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static long dosToJavaTime(long dosTime) {
+		final Calendar calendar = Calendar.getInstance();
+		calendar.clear();
+		calendar.set((int) (((dosTime >> 25) & 0x7f) + 1980), (int) (((dosTime >> 21) & 0x0f) - 1),
+				(int) ((dosTime >> 16) & 0x1f), (int) ((dosTime >> 11) & 0x1f),
+				(int) ((dosTime >> 5) & 0x3f), (int) ((dosTime << 1) & 0x3e));
+		return calendar.getTimeInMillis();
+	}
+
+	/**
+	 * Represents an entry of the ZIP-archive
+	 */
+	public static final class Record {
+
+		/** Metadata of the entry */
+		private final ZipEntry zipEntry;
+
+		/** Comment of the entry */
+		private final String comment;
+
+		/** Position of the local file header within the file */
+		private final long localHeaderOffset;
+
+		/** Position of the entry data within the file */
+		private final long dataOffset;
+
+		/** Whether the entry data is followed by a data descriptor */
+		private final boolean dataDescriptor;
+
+		/** Declared uncompressed size */
+		private final long size;
+
+		/** Position of the next record within the central directory (used on parsing) */
+		private final int nextHeaderPosition;
+
+		/** Describes the mismatch between the record and its local file header, NULL if none */
+		private final String malformedReason;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param zipEntry {@link ZipEntry}
+		 * @param comment {@link String}
+		 * @param localHeaderOffset position of the local file header within the file
+		 * @param dataOffset position of the data within the file
+		 * @param dataDescriptor whether the data is followed by a data descriptor
+		 * @param nextHeaderPosition position of the next record within the central directory
+		 * @param malformedReason describes the mismatch with the local file header, NULL if none
+		 */
+		private Record(ZipEntry zipEntry, String comment, long localHeaderOffset, long dataOffset, boolean dataDescriptor,
+					   int nextHeaderPosition, String malformedReason) {
+			this.zipEntry = zipEntry;
+			this.comment = comment;
+			this.localHeaderOffset = localHeaderOffset;
+			this.dataOffset = dataOffset;
+			this.dataDescriptor = dataDescriptor;
+			this.size = zipEntry.getSize();
+			this.nextHeaderPosition = nextHeaderPosition;
+			this.malformedReason = malformedReason;
+		}
+
+		/**
+		 * Gets whether the record does not match its local file header
+		 *
+		 * @return TRUE if the record is malformed, FALSE otherwise
+		 */
+		public boolean isMalformed() {
+			return malformedReason != null;
+		}
+
+		/**
+		 * Gets the description of the mismatch between the record and its local file header
+		 *
+		 * @return {@link String}, NULL if the record is not malformed
+		 */
+		public String getMalformedReason() {
+			return malformedReason;
+		}
+
+		/**
+		 * Gets the name of the entry
+		 *
+		 * @return {@link String}
+		 */
+		public String getName() {
+			return zipEntry.getName();
+		}
+
+		/**
+		 * Gets the comment of the entry, when defined
+		 *
+		 * @return {@link String}
+		 */
+		public String getComment() {
+			return comment;
+		}
+
+		/**
+		 * Gets the declared uncompressed size of the entry
+		 *
+		 * @return size in bytes
+		 */
+		public long getSize() {
+			return size;
+		}
+
+		/**
+		 * Builds a new {@code ZipEntry} with the metadata of the entry
+		 *
+		 * @param withComment whether the comment shall be set
+		 * @return {@link ZipEntry}
+		 */
+		public ZipEntry getZipEntry(boolean withComment) {
+			final ZipEntry result = new ZipEntry(zipEntry);
+			if (withComment) {
+				result.setComment(comment);
+			}
+			return result;
+		}
+
+		/**
+		 * Opens a stream reading the (uncompressed) content of the entry from the given ZIP-archive file.
+		 * The integrity (declared size and CRC) of the read data is verified.
+		 *
+		 * @param file {@link File} the ZIP-archive
+		 * @return {@link InputStream}
+		 * @throws IOException if the record is malformed or an error occurs on the file opening
+		 */
+		public InputStream openStream(File file) throws IOException {
+			if (isMalformed()) {
+				throw new IOException(String.format("The entry '%s' is malformed : %s!", getName(), malformedReason));
+			}
+			final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+			InputStream is = new FileRegionInputStream(channel, dataOffset, zipEntry.getCompressedSize());
+			if (zipEntry.getMethod() == ZipEntry.DEFLATED) {
+				is = new EntryInflaterInputStream(is);
+			}
+			return new VerifyingInputStream(is, zipEntry.getName(), size, zipEntry.getCrc());
+		}
+
+	}
+
+	/**
+	 * Reads a region of a file
+	 */
+	private static final class FileRegionInputStream extends InputStream {
+
+		/** The file channel */
+		private final FileChannel channel;
+
+		/** The current position within the file */
+		private long position;
+
+		/** The number of bytes remaining to be read */
+		private long remaining;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param channel {@link FileChannel}
+		 * @param position the start of the region
+		 * @param length the length of the region
+		 */
+		private FileRegionInputStream(FileChannel channel, long position, long length) {
+			this.channel = channel;
+			this.position = position;
+			this.remaining = length;
+		}
+
+		@Override
+		public int read() throws IOException {
+			final byte[] b = new byte[1];
+			return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			if (len == 0) {
+				return 0;
+			}
+			final int toRead = (int) Math.min(len, remaining);
+			final int read = channel.read(ByteBuffer.wrap(b, off, toRead), position);
+			if (read == -1) {
+				throw new EOFException("Unexpected end of the ZIP archive!");
+			}
+			position += read;
+			remaining -= read;
+			return read;
+		}
+
+		@Override
+		public void close() throws IOException {
+			channel.close();
+		}
+
+	}
+
+	/**
+	 * Inflates raw DEFLATE data
+	 */
+	private static final class EntryInflaterInputStream extends InflaterInputStream {
+
+		/** Whether the end of the compressed data has been reached */
+		private boolean eof = false;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param in {@link InputStream} the compressed data
+		 */
+		private EntryInflaterInputStream(InputStream in) {
+			super(in, new Inflater(true), BUFFER_SIZE);
+		}
+
+		@Override
+		protected void fill() throws IOException {
+			if (eof) {
+				throw new EOFException("Unexpected end of ZLIB input stream");
+			}
+			len = in.read(buf, 0, buf.length);
+			if (len == -1) {
+				// a dummy byte is required by the Inflater in the 'nowrap' mode
+				buf[0] = 0;
+				len = 1;
+				eof = true;
+			}
+			inf.setInput(buf, 0, len);
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				super.close();
+			} finally {
+				inf.end();
+			}
+		}
+
+	}
+
+	/**
+	 * Verifies the size and the CRC of the read entry content
+	 */
+	private static final class VerifyingInputStream extends InputStream {
+
+		/** The entry content */
+		private final InputStream in;
+
+		/** The entry name */
+		private final String name;
+
+		/** The declared size */
+		private final long size;
+
+		/** The declared CRC */
+		private final long crc;
+
+		/** Computes the CRC of the read data */
+		private final CRC32 crc32 = new CRC32();
+
+		/** The number of read bytes */
+		private long count = 0;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param in {@link InputStream} the entry content
+		 * @param name {@link String} the entry name
+		 * @param size the declared size
+		 * @param crc the declared CRC
+		 */
+		private VerifyingInputStream(InputStream in, String name, long size, long crc) {
+			this.in = in;
+			this.name = name;
+			this.size = size;
+			this.crc = crc;
+		}
+
+		@Override
+		public int read() throws IOException {
+			final byte[] b = new byte[1];
+			return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			final int read = in.read(b, off, len);
+			if (read == -1) {
+				if (count != size) {
+					throw new IOException(String.format("Invalid size of the entry '%s' : expected %s, read %s",
+							name, size, count));
+				}
+				if (crc32.getValue() != crc) {
+					throw new IOException(String.format("Invalid CRC of the entry '%s'!", name));
+				}
+				return -1;
+			}
+			count += read;
+			if (count > size) {
+				throw new IllegalInputException(String.format(
+						"Zip Bomb detected in the ZIP container. The entry '%s' exceeds its declared size.", name));
+			}
+			crc32.update(b, off, read);
+			return read;
+		}
+
+		@Override
+		public void close() throws IOException {
+			in.close();
+		}
+
+	}
+
+}
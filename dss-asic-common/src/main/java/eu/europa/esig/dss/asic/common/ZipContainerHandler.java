@@ -20,10 +20,14 @@
  */
 package eu.europa.esig.dss.asic.common;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Date;
 import java.util.List;
+import java.util.Objects;
 
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
 
 /**
  * The interface provides utilities for data extraction/creation of ZIP-archives
@@ -60,4 +64,30 @@ public interface ZipContainerHandler {
 	 */
 	DSSDocument createZipArchive(List<DSSDocument> containerEntries, Date creationTime, String zipComment);
 
+	/**
+	 * Writes a ZIP-Archive with the given {@code containerEntries} to the {@code os}.
+	 * The default implementation writes the archive created with
+	 * {@code #createZipArchive(List, Date, String)}: override the method in order to write the archive
+	 * directly to the {@code os}, without building it first.
+	 *
+	 * NOTE: the OutputStream is not closed by the method
+	 *
+	 * @param containerEntries a list of {@link DSSDocument}s to embed into the new
+	 *                         container instance
+	 * @param creationTime     (Optional) {@link Date} defined time of an archive
+	 *                         creation, will be set for all embedded files. If
+	 *                         null, the local current time will be used
+	 * @param zipComment       (Optional) {@link String} defined a zipComment
+	 * @param os               {@link OutputStream} to write the ZIP-Archive to
+	 */
+	default void writeZipArchive(List<DSSDocument> containerEntries, Date creationTime, String zipComment, OutputStream os) {
+		Objects.requireNonNull(os, "OutputStream cannot be null!");
+		DSSDocument zipArchive = createZipArchive(containerEntries, creationTime, zipComment);
+		try {
+			zipArchive.writeTo(os);
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to write the ZIP-Archive. Reason : %s", e.getMessage()), e);
+		}
+	}
+
 }
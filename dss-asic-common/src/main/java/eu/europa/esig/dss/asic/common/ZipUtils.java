@@ -24,6 +24,7 @@ import eu.europa.esig.dss.model.DSSDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.OutputStream;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
@@ -126,6 +127,38 @@ public final class ZipUtils {
 		return getZipContainerHandler().createZipArchive(containerEntries, creationTime, zipComment);
 	}
 
+	/**
+	 * Writes a ZIP-Archive with the given {@code containerEntries} directly to the {@code os}
+	 *
+	 * NOTE: the OutputStream is not closed by the method
+	 *
+	 * @param containerEntries a list of {@link DSSDocument}s to embed into the new
+	 *                         container instance
+	 * @param creationTime     (Optional) {@link Date} defined time of an archive
+	 *                         creation, will be set for all embedded files. If
+	 *                         null, the local current time will be used
+	 * @param zipComment       (Optional) {@link String} defined a zipComment
+	 * @param os               {@link OutputStream} to write the ZIP-Archive to
+	 */
+	public void writeZipArchive(List<DSSDocument> containerEntries, Date creationTime, String zipComment, OutputStream os) {
+		getZipContainerHandler().writeZipArchive(containerEntries, creationTime, zipComment, os);
+	}
+
+	/**
+	 * Writes a ZIP-Archive with the given {@code asicContent} directly to the {@code os}
+	 *
+	 * NOTE: the OutputStream is not closed by the method
+	 *
+	 * @param asicContent      {@link ASiCContent} to create a new ZIP Archive from
+	 * @param creationTime     (Optional) {@link Date} defined time of an archive
+	 *                         creation, will be set for all embedded files. If
+	 *                         null, the local current time will be used
+	 * @param os               {@link OutputStream} to write the ZIP-Archive to
+	 */
+	public void writeZipArchive(ASiCContent asicContent, Date creationTime, OutputStream os) {
+		writeZipArchive(asicContent.getAllDocuments(), creationTime, asicContent.getZipComment(), os);
+	}
+
 	/**
 	 * Creates a ZIP-Archive with the given {@code asicContent}, indicating teh current creation time
 	 *
@@ -0,0 +1,240 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.asic.common;
+
+import eu.europa.esig.dss.enumerations.MimeTypeEnum;
+import eu.europa.esig.dss.exception.IllegalInputException;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.spi.DSSUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ZipCentralDirectoryTest {
+
+    @Test
+    public void test() throws IOException {
+        byte[] content = new byte[100000];
+        Arrays.fill(content, (byte) 'a');
+        DSSDocument mimetype = new InMemoryDocument(MimeTypeEnum.ASICE.getMimeTypeString().getBytes(), ASiCUtils.MIME_TYPE);
+        DSSDocument document = new InMemoryDocument(content, "doc.txt");
+        DSSDocument zipArchive = ZipUtils.getInstance().createZipArchive(Arrays.asList(mimetype, document), new Date(), null);
+
+        File zipArchiveFile = new File("target/central-directory.zip");
+        zipArchive.save(zipArchiveFile.getPath());
+
+        ZipCentralDirectory centralDirectory = ZipCentralDirectory.read(zipArchiveFile);
+        List<ZipCentralDirectory.Record> records = centralDirectory.getRecords();
+        assertEquals(2, records.size());
+        assertFalse(centralDirectory.hasUncoveredData());
+        assertEquals(MimeTypeEnum.ASICE.getMimeTypeString().getBytes().length + content.length, centralDirectory.getTotalSize());
+
+        try (ZipFile zipFile = new ZipFile(zipArchiveFile)) {
+            List<? extends ZipEntry> entries = Collections.list(zipFile.entries());
+            assertEquals(entries.size(), records.size());
+            for (int i = 0; i < entries.size(); i++) {
+                ZipEntry expected = entries.get(i);
+                ZipEntry zipEntry = records.get(i).getZipEntry(false);
+                assertEquals(expected.getName(), zipEntry.getName());
+                assertEquals(expected.getMethod(), zipEntry.getMethod());
+                assertEquals(expected.getSize(), zipEntry.getSize());
+                assertEquals(expected.getCompressedSize(), zipEntry.getCompressedSize());
+                assertEquals(expected.getCrc(), zipEntry.getCrc());
+                assertEquals(expected.getTime(), zipEntry.getTime());
+
+                try (InputStream expectedIS = zipFile.getInputStream(expected);
+                     InputStream is = records.get(i).openStream(zipArchiveFile)) {
+                    assertArrayEquals(DSSUtils.toByteArray(expectedIS), DSSUtils.toByteArray(is));
+                }
+            }
+        }
+        assertEquals(ZipEntry.STORED, records.get(0).getZipEntry(false).getMethod());
+        assertEquals(ZipEntry.DEFLATED, records.get(1).getZipEntry(false).getMethod());
+
+        FileArchiveEntry fileArchiveEntry = new FileArchiveEntry(new FileDocument(zipArchiveFile), records.get(1),
+                records.get(1).getZipEntry(false));
+        assertArrayEquals(content, DSSUtils.toByteArray(fileArchiveEntry));
+        assertEquals("doc.txt", fileArchiveEntry.getName());
+
+        try (InputStream entryInputStream = fileArchiveEntry.openStream()) {
+            entryInputStream.read();
+            entryInputStream.close();
+
+            // ensure the stream is closed
+            assertThrows(IOException.class, () -> entryInputStream.read());
+        }
+
+        // ensure the file is not locked
+        assertTrue(zipArchiveFile.delete());
+        assertFalse(zipArchiveFile.exists());
+    }
+
+    @Test
+    public void notZipTest() throws IOException {
+        File file = new File("target/not-a-zip.txt");
+        new InMemoryDocument("Hello World!".getBytes()).save(file.getPath());
+
+        assertThrows(IOException.class, () -> ZipCentralDirectory.read(file));
+        assertTrue(file.delete());
+    }
+
+    @Test
+    public void declaredSizeExceededTest() throws IOException {
+        byte[] content = new byte[10000];
+        Arrays.fill(content, (byte) 'b');
+        DSSDocument zipArchive = ZipUtils.getInstance().createZipArchive(
+                Collections.singletonList(new InMemoryDocument(content, "doc.txt")), new Date(), null);
+        byte[] binaries = DSSUtils.toByteArray(zipArchive);
+
+        File zipArchiveFile = new File("target/central-directory-size.zip");
+        zipArchive.save(zipArchiveFile.getPath());
+
+        ZipCentralDirectory centralDirectory = ZipCentralDirectory.read(zipArchiveFile);
+        assertEquals(1, centralDirectory.getRecords().size());
+
+        // change the declared uncompressed size within the central directory
+        int centralHeaderPosition = indexOf(binaries, new byte[] { 0x50, 0x4b, 0x01, 0x02 });
+        binaries[centralHeaderPosition + 24] = 0x10;
+        binaries[centralHeaderPosition + 25] = 0x00;
+        binaries[centralHeaderPosition + 26] = 0x00;
+        binaries[centralHeaderPosition + 27] = 0x00;
+        new InMemoryDocument(binaries).save(zipArchiveFile.getPath());
+
+        ZipCentralDirectory.Record record = ZipCentralDirectory.read(zipArchiveFile).getRecords().get(0);
+        assertEquals(16, record.getSize());
+        try (InputStream is = record.openStream(zipArchiveFile)) {
+            assertThrows(IllegalInputException.class, () -> DSSUtils.toByteArray(is));
+        }
+
+        assertTrue(zipArchiveFile.delete());
+    }
+
+    @Test
+    public void localHeaderMismatchTest() throws IOException {
+        DSSDocument mimetype = new InMemoryDocument(MimeTypeEnum.ASICE.getMimeTypeString().getBytes(), ASiCUtils.MIME_TYPE);
+        DSSDocument zipArchive = ZipUtils.getInstance().createZipArchive(Collections.singletonList(mimetype), new Date(), null);
+        byte[] binaries = DSSUtils.toByteArray(zipArchive);
+
+        File zipArchiveFile = new File("target/central-directory-mismatch.zip");
+        zipArchive.save(zipArchiveFile.getPath());
+        assertFalse(ZipCentralDirectory.read(zipArchiveFile).getRecords().get(0).isMalformed());
+
+        // change the declared uncompressed size within the local file header of the STORED entry
+        int localHeaderPosition = indexOf(binaries, new byte[] { 0x50, 0x4b, 0x03, 0x04 });
+        byte[] sizeMismatch = Arrays.copyOf(binaries, binaries.length);
+        sizeMismatch[localHeaderPosition + 22] = 0x01;
+        new InMemoryDocument(sizeMismatch).save(zipArchiveFile.getPath());
+
+        ZipCentralDirectory.Record record = ZipCentralDirectory.read(zipArchiveFile).getRecords().get(0);
+        assertTrue(record.isMalformed());
+        assertEquals("the local file header sizes or CRC do not match", record.getMalformedReason());
+        assertThrows(IOException.class, () -> record.openStream(zipArchiveFile));
+
+        // change the compression method within the local file header
+        byte[] methodMismatch = Arrays.copyOf(binaries, binaries.length);
+        methodMismatch[localHeaderPosition + 8] = ZipEntry.DEFLATED;
+        new InMemoryDocument(methodMismatch).save(zipArchiveFile.getPath());
+
+        ZipCentralDirectory.Record methodRecord = ZipCentralDirectory.read(zipArchiveFile).getRecords().get(0);
+        assertTrue(methodRecord.isMalformed());
+        assertEquals("the local file header compression method does not match", methodRecord.getMalformedReason());
+
+        // change the name within the local file header
+        byte[] nameMismatch = Arrays.copyOf(binaries, binaries.length);
+        nameMismatch[localHeaderPosition + 30] = 'M';
+        new InMemoryDocument(nameMismatch).save(zipArchiveFile.getPath());
+
+        ZipCentralDirectory.Record nameRecord = ZipCentralDirectory.read(zipArchiveFile).getRecords().get(0);
+        assertTrue(nameRecord.isMalformed());
+        assertEquals("the local file header name does not match", nameRecord.getMalformedReason());
+
+        assertTrue(zipArchiveFile.delete());
+    }
+
+    @Test
+    public void entryNotListedInCentralDirectoryTest() throws IOException {
+        DSSDocument mimetype = new InMemoryDocument(MimeTypeEnum.ASICE.getMimeTypeString().getBytes(), ASiCUtils.MIME_TYPE);
+        byte[] listedArchive = DSSUtils.toByteArray(ZipUtils.getInstance().createZipArchive(
+                Collections.singletonList(mimetype), new Date(), null));
+        byte[] hiddenArchive = DSSUtils.toByteArray(ZipUtils.getInstance().createZipArchive(
+                Collections.singletonList(new InMemoryDocument("Hidden".getBytes(), "hidden.txt")), new Date(), null));
+
+        // insert the local entry of the hidden document before the central directory of the listed one
+        int listedCentralDirectory = indexOf(listedArchive, new byte[] { 0x50, 0x4b, 0x01, 0x02 });
+        int hiddenCentralDirectory = indexOf(hiddenArchive, new byte[] { 0x50, 0x4b, 0x01, 0x02 });
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        baos.write(listedArchive, 0, listedCentralDirectory);
+        baos.write(hiddenArchive, 0, hiddenCentralDirectory);
+        baos.write(listedArchive, listedCentralDirectory, listedArchive.length - listedCentralDirectory);
+        byte[] binaries = baos.toByteArray();
+
+        // update the central directory offset within the end of central directory record
+        int eocdPosition = indexOf(binaries, new byte[] { 0x50, 0x4b, 0x05, 0x06 });
+        int centralDirectoryOffset = listedCentralDirectory + hiddenCentralDirectory;
+        for (int i = 0; i < 4; i++) {
+            binaries[eocdPosition + 16 + i] = (byte) (centralDirectoryOffset >> (8 * i));
+        }
+
+        File zipArchiveFile = new File("target/central-directory-hidden.zip");
+        new InMemoryDocument(binaries).save(zipArchiveFile.getPath());
+
+        ZipCentralDirectory centralDirectory = ZipCentralDirectory.read(zipArchiveFile);
+        assertEquals(1, centralDirectory.getRecords().size());
+        assertTrue(centralDirectory.hasUncoveredData());
+        assertNotNull(centralDirectory.getUncoveredDataReason());
+
+        // the archive is processed as malformed, the hidden entry is extracted with ZipInputStream
+        List<DSSDocument> documents = new SecureContainerHandler().extractContainerContent(new FileDocument(zipArchiveFile));
+        assertEquals(2, documents.size());
+        assertEquals(ASiCUtils.MIME_TYPE, documents.get(0).getName());
+        assertEquals("hidden.txt", documents.get(1).getName());
+
+        assertTrue(zipArchiveFile.delete());
+    }
+
+    private int indexOf(byte[] array, byte[] target) {
+        for (int i = 0; i <= array.length - target.length; i++) {
+            if (Arrays.equals(Arrays.copyOfRange(array, i, i + target.length), target)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+}
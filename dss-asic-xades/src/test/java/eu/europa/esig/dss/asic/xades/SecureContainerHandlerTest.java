@@ -24,16 +24,20 @@ import eu.europa.esig.dss.asic.common.ASiCUtils;
 import eu.europa.esig.dss.asic.common.ContainerEntryDocument;
 import eu.europa.esig.dss.asic.common.DSSZipEntry;
 import eu.europa.esig.dss.asic.common.DSSZipEntryDocument;
+import eu.europa.esig.dss.asic.common.FileArchiveEntry;
 import eu.europa.esig.dss.asic.common.SecureContainerHandler;
 import eu.europa.esig.dss.asic.common.SecureContainerHandlerBuilder;
 import eu.europa.esig.dss.asic.common.ZipUtils;
 import eu.europa.esig.dss.asic.xades.validation.ASiCContainerWithXAdESValidator;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.enumerations.MimeType;
 import eu.europa.esig.dss.enumerations.MimeTypeEnum;
 import eu.europa.esig.dss.exception.IllegalInputException;
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.CommonCertificateVerifier;
@@ -44,7 +48,10 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.attribute.FileTime;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -185,6 +192,70 @@ public class SecureContainerHandlerTest {
 		}
 	}
 
+	@Test
+	public void extractContainerContentWithTempFilesTest() {
+		DSSDocument document = new InMemoryDocument(
+				DSSUtils.toByteArray(new File("src/test/resources/validation/multifiles-ok.asice")));
+		List<DSSDocument> inMemoryEntries = new SecureContainerHandler().extractContainerContent(document);
+
+		File tempDirectory = new File("target/secure-container-handler");
+		TempFileResourcesHandlerBuilder tempFileResourcesHandlerBuilder = new TempFileResourcesHandlerBuilder();
+		tempFileResourcesHandlerBuilder.setTempFileDirectory(tempDirectory);
+
+		SecureContainerHandler secureContainerHandler = new SecureContainerHandler();
+		secureContainerHandler.setMaxInMemoryEntrySize(100);
+		secureContainerHandler.setResourcesHandlerBuilder(tempFileResourcesHandlerBuilder);
+		List<DSSDocument> entries = secureContainerHandler.extractContainerContent(document);
+		assertEquals(6, Utils.collectionSize(entries));
+
+		int bigEntriesCounter = 0;
+		for (int i = 0; i < entries.size(); i++) {
+			DSSDocument entry = entries.get(i);
+			DSSDocument inMemoryEntry = inMemoryEntries.get(i);
+			assertEquals(inMemoryEntry.getName(), entry.getName());
+			assertEquals(inMemoryEntry.getDigest(DigestAlgorithm.SHA256), entry.getDigest(DigestAlgorithm.SHA256));
+			if (DSSUtils.getFileByteSize(entry) > 100) {
+				++bigEntriesCounter;
+			}
+		}
+		assertTrue(bigEntriesCounter > 0);
+		assertEquals(bigEntriesCounter, tempDirectory.listFiles().length);
+
+		tempFileResourcesHandlerBuilder.clear();
+		assertEquals(0, tempDirectory.listFiles().length);
+	}
+
+	@Test
+	public void writeZipArchiveTest() throws IOException {
+		DSSDocument document = new FileDocument("src/test/resources/validation/multifiles-ok.asice");
+
+		SecureContainerHandler secureContainerHandler = new SecureContainerHandler();
+		List<DSSDocument> entries = secureContainerHandler.extractContainerContent(document);
+
+		File zipArchiveFile = new File("target/writtenZipArchive.asice");
+		try (OutputStream os = new FileOutputStream(zipArchiveFile)) {
+			secureContainerHandler.writeZipArchive(entries, new Date(), ASiCUtils.getZipComment(MimeTypeEnum.ASICE), os);
+		}
+
+		TempFileResourcesHandlerBuilder tempFileResourcesHandlerBuilder = new TempFileResourcesHandlerBuilder();
+		tempFileResourcesHandlerBuilder.setTempFileDirectory(new File("target"));
+		secureContainerHandler.setResourcesHandlerBuilder(tempFileResourcesHandlerBuilder);
+		DSSDocument zipArchive = secureContainerHandler.createZipArchive(entries, new Date(), ASiCUtils.getZipComment(MimeTypeEnum.ASICE));
+		assertTrue(zipArchive instanceof FileDocument);
+
+		for (DSSDocument archive : Arrays.asList(new FileDocument(zipArchiveFile), zipArchive)) {
+			List<DSSDocument> archiveEntries = secureContainerHandler.extractContainerContent(archive);
+			assertEquals(entries.size(), archiveEntries.size());
+			for (int i = 0; i < entries.size(); i++) {
+				assertEquals(entries.get(i).getName(), archiveEntries.get(i).getName());
+				assertEquals(entries.get(i).getDigest(DigestAlgorithm.SHA256), archiveEntries.get(i).getDigest(DigestAlgorithm.SHA256));
+			}
+		}
+
+		tempFileResourcesHandlerBuilder.clear();
+		assertTrue(zipArchiveFile.delete());
+	}
+
 	@Test
 	public void createZipArchiveTest() throws IOException {
 		Date creationTime = new Date();
@@ -333,4 +404,77 @@ public class SecureContainerHandlerTest {
 		assertFalse(zipArchiveFile.exists());
 	}
 
+	@Test
+	public void centralDirectoryMismatchTest() throws IOException {
+		DSSDocument mimetype = new InMemoryDocument(MimeTypeEnum.ASICE.getMimeTypeString().getBytes(), ASiCUtils.MIME_TYPE);
+		DSSDocument document = new InMemoryDocument("Hello World!".getBytes(), "doc.txt");
+		byte[] binaries = DSSUtils.toByteArray(new SecureContainerHandler().createZipArchive(
+				Arrays.asList(mimetype, document), new Date(), null));
+
+		// rename the entry within its local file header only
+		int localHeaderPosition = indexOf(binaries, new byte[] { 0x50, 0x4b, 0x03, 0x04 }, 1);
+		binaries[localHeaderPosition + 32] = 'x';
+
+		File zipArchiveFile = new File("target/central-directory-mismatch.asice");
+		new InMemoryDocument(binaries).save(zipArchiveFile.getPath());
+		DSSDocument zipArchive = new FileDocument(zipArchiveFile);
+
+		// the content is read with ZipInputStream, as the central directory does not match the local headers
+		SecureContainerHandler secureContainerHandler = new SecureContainerHandler();
+		List<DSSDocument> entries = secureContainerHandler.extractContainerContent(zipArchive);
+		assertEquals(2, entries.size());
+		assertEquals(ASiCUtils.MIME_TYPE, entries.get(0).getName());
+		assertEquals("dox.txt", entries.get(1).getName());
+		assertFalse(entries.get(1) instanceof FileArchiveEntry);
+		assertEquals("Hello World!", new String(DSSUtils.toByteArray(entries.get(1))));
+
+		assertEquals(Arrays.asList(ASiCUtils.MIME_TYPE, "dox.txt"), secureContainerHandler.extractEntryNames(zipArchive));
+
+		secureContainerHandler.setMaxMalformedFiles(1);
+		Exception exception = assertThrows(DSSException.class, () -> secureContainerHandler.extractContainerContent(zipArchive));
+		assertEquals("Unable to retrieve a valid ZipEntry (1 tries)", exception.getMessage());
+
+		assertTrue(zipArchiveFile.delete());
+	}
+
+	@Test
+	public void centralDirectoryBombTest() throws IOException {
+		DSSDocument document = new InMemoryDocument(new byte[20000000], "zeros.bin");
+		DSSDocument zipArchive = new SecureContainerHandler().createZipArchive(Collections.singletonList(document), new Date(), null);
+		byte[] binaries = DSSUtils.toByteArray(zipArchive);
+
+		File zipArchiveFile = new File("target/central-directory-bomb.zip");
+		zipArchive.save(zipArchiveFile.getPath());
+
+		SecureContainerHandler secureContainerHandler = new SecureContainerHandler();
+		Exception exception = assertThrows(IllegalInputException.class,
+				() -> secureContainerHandler.extractContainerContent(new FileDocument(zipArchiveFile)));
+		assertEquals("Zip Bomb detected in the ZIP container. Validation is interrupted.", exception.getMessage());
+
+		// declare a small uncompressed size within the central directory
+		int centralHeaderPosition = indexOf(binaries, new byte[] { 0x50, 0x4b, 0x01, 0x02 }, 0);
+		binaries[centralHeaderPosition + 24] = 0x10;
+		binaries[centralHeaderPosition + 25] = 0x00;
+		binaries[centralHeaderPosition + 26] = 0x00;
+		binaries[centralHeaderPosition + 27] = 0x00;
+		new InMemoryDocument(binaries).save(zipArchiveFile.getPath());
+
+		List<DSSDocument> entries = secureContainerHandler.extractContainerContent(new FileDocument(zipArchiveFile));
+		assertEquals(1, entries.size());
+		try (InputStream is = entries.get(0).openStream()) {
+			assertThrows(IllegalInputException.class, () -> DSSUtils.toByteArray(is));
+		}
+
+		assertTrue(zipArchiveFile.delete());
+	}
+
+	private int indexOf(byte[] array, byte[] target, int occurrence) {
+		for (int i = 0; i <= array.length - target.length; i++) {
+			if (Arrays.equals(Arrays.copyOfRange(array, i, i + target.length), target) && occurrence-- == 0) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
 }
@@ -150,6 +150,12 @@ public class CMSDocumentValidator extends SignedDocumentValidator {
 		return cmsSignedData;
 	}
 
+	@Override
+	protected boolean isConcurrentSignatureValidationSupported() {
+		// CMS signatures are verified independently
+		return true;
+	}
+
 	@Override
 	protected CAdESDiagnosticDataBuilder initializeDiagnosticDataBuilder() {
 		return new CAdESDiagnosticDataBuilder();
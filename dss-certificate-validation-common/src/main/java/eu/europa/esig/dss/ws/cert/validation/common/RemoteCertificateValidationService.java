@@ -24,6 +24,7 @@ import eu.europa.esig.dss.exception.IllegalInputException;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.policy.ValidationPolicy;
 import eu.europa.esig.dss.policy.ValidationPolicyFacade;
+import eu.europa.esig.dss.policy.ValidationPolicyRegistry;
 import eu.europa.esig.dss.spi.x509.CertificateSource;
 import eu.europa.esig.dss.spi.x509.CommonCertificateSource;
 import eu.europa.esig.dss.utils.Utils;
@@ -40,7 +41,6 @@ import eu.europa.esig.dss.ws.dto.exception.DSSRemoteServiceException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.List;
 
@@ -124,8 +124,8 @@ public class RemoteCertificateValidationService {
 	}
 
 	private ValidationPolicy getValidationPolicy(RemoteDocument policy) {
-		try (ByteArrayInputStream bais = new ByteArrayInputStream(policy.getBytes())) {
-			return ValidationPolicyFacade.newFacade().getValidationPolicy(bais);
+		try {
+			return ValidationPolicyRegistry.getInstance().getValidationPolicy(policy.getBytes());
 		} catch (Exception e) {
 			throw new IllegalInputException(String.format("Unable to load the validation policy : %s", e.getMessage()), e);
 		}
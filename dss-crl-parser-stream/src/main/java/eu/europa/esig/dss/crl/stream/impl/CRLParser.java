@@ -46,7 +46,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
 import java.security.cert.X509CRLEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.List;
 
 /**
  * http://luca.ntop.org/Teaching/Appunti/asn1.html
@@ -86,6 +90,9 @@ class CRLParser {
 
 	private static final Logger LOG = LoggerFactory.getLogger(CRLParser.class);
 
+	/** The size of the buffer used to read the signed data */
+	private static final int BUFFER_SIZE = 8192;
+
 	/**
 	 * This method extracts the signed data (TBSCertList)
 	 * 
@@ -108,8 +115,8 @@ class CRLParser {
 		DERUtil.readTagNumber(is, tag);
 		int tbsLength = DERUtil.readLength(is);
 
-		// Read TBSCertList Content
-		readNbBytes(is, tbsLength);
+		// Read TBSCertList Content (without keeping it in memory)
+		consume(is, tbsLength);
 
 		// End digest TBS
 		is.on(false);
@@ -196,6 +203,109 @@ class CRLParser {
 		return null;
 	}
 
+	/**
+	 * This method parses the revokedCertificates sequence of the CRL once and builds an index
+	 * allowing a binary search of the CRL entries by a serial number
+	 *
+	 * @param derEncoded
+	 *            byte array representing the DER encoded CRL
+	 * @return {@link CRLSerialIndex}
+	 * @throws IOException if an exception occurs
+	 */
+	public CRLSerialIndex buildSerialIndex(byte[] derEncoded) throws IOException {
+		ByteArrayInputStream is = new ByteArrayInputStream(derEncoded);
+
+		// Skip CertificateList Sequence info
+		consumeTagIntro(is);
+
+		// Read TBSCertList Sequence
+		consumeTagIntro(is);
+
+		// Skip all before mandatory thisUpdate
+		int tag = -1;
+		int tagNo = BERTags.NULL;
+		int length = -1;
+		do {
+			tag = DERUtil.readTag(is);
+			if (tag < 0) {
+				// EOF
+				return CRLSerialIndex.EMPTY;
+			}
+			tagNo = DERUtil.readTagNumber(is, tag);
+			length = DERUtil.readLength(is);
+			skip(is, length);
+		} while (!isDate(tagNo));
+
+		tag = DERUtil.readTag(is);
+		tagNo = DERUtil.readTagNumber(is, tag);
+		length = DERUtil.readLength(is);
+
+		// TBSCertList -> nextUpdate (optional)
+		if (isDate(tagNo)) {
+			skip(is, length);
+
+			tag = DERUtil.readTag(is);
+			tagNo = DERUtil.readTagNumber(is, tag);
+			length = DERUtil.readLength(is);
+		}
+
+		// TBSCertList -> revokedCertificates (optional)
+		if (tagNo != BERTags.SEQUENCE || length <= 0) {
+			return CRLSerialIndex.EMPTY;
+		}
+
+		final int end = getPosition(is, derEncoded) + length;
+		final List<SerialIndexEntry> entries = new ArrayList<>();
+
+		int position = getPosition(is, derEncoded);
+		while (position < end) {
+			tag = DERUtil.readTag(is);
+			if (tag < 0) {
+				// EOF
+				break;
+			}
+			tagNo = DERUtil.readTagNumber(is, tag);
+			length = DERUtil.readLength(is);
+			int next = getPosition(is, derEncoded) + length;
+
+			if (tagNo == BERTags.SEQUENCE) {
+				int entryTag = DERUtil.readTag(is);
+				int entryTagNo = DERUtil.readTagNumber(is, entryTag);
+				int entryLength = DERUtil.readLength(is);
+
+				// SerialNumber
+				if (BERTags.INTEGER == entryTagNo) {
+					BigInteger serialNumber = rebuildASN1Integer(readNbBytes(is, entryLength)).getValue();
+					entries.add(new SerialIndexEntry(serialNumber, position));
+				}
+			} else {
+				LOG.debug("Should only contain SEQUENCEs : tagNo = {} (ignored)", tagNo);
+			}
+
+			skip(is, next - getPosition(is, derEncoded));
+			position = next;
+		}
+
+		// stable sort, the first occurrence of a serial number is kept (as on a sequential read)
+		Collections.sort(entries);
+
+		int[] entryOffsets = new int[entries.size()];
+		int size = 0;
+		BigInteger previous = null;
+		for (SerialIndexEntry entry : entries) {
+			if (!entry.serialNumber.equals(previous)) {
+				entryOffsets[size++] = entry.offset;
+				previous = entry.serialNumber;
+			}
+		}
+		LOG.debug("Serial number index built for {} CRL entries", size);
+		return new CRLSerialIndex(size == entryOffsets.length ? entryOffsets : Arrays.copyOf(entryOffsets, size));
+	}
+
+	private int getPosition(ByteArrayInputStream is, byte[] derEncoded) {
+		return derEncoded.length - is.available();
+	}
+
 	/**
 	 * This method allows to retrieve common CRL information (thisUpdate, nextUpdate, signatureAlgorithm,
 	 * signatureValue, extensions,...). It voluntary doesn't parse the revokedCertificates sequence.
@@ -386,6 +496,29 @@ class CRLParser {
 		return array;
 	}
 
+	/**
+	 * This method reads n bytes from the InputStream with a fixed-size buffer and discards them.
+	 * Unlike {@code skip}, the bytes are read, so they are processed by a {@code BinaryFilteringInputStream}.
+	 *
+	 * @param is
+	 *            {@link InputStream}
+	 * @param length
+	 *            number of bytes to be read
+	 * @throws IOException if an error occurs during the InputStream reading
+	 */
+	private void consume(InputStream is, int length) throws IOException {
+		final byte[] buffer = new byte[Math.max(1, Math.min(length, BUFFER_SIZE))];
+		int remaining = length;
+		while (remaining > 0) {
+			int read = is.read(buffer, 0, Math.min(remaining, buffer.length));
+			if (read == -1) {
+				LOG.warn("Cannot read expected length!");
+				return;
+			}
+			remaining -= read;
+		}
+	}
+
 	/**
 	 * This method skips n bytes in the InputStream
 	 * 
@@ -475,4 +608,27 @@ class CRLParser {
 		}
 	}
 
+	/**
+	 * Represents a temporary CRL entry used on the serial number index creation
+	 */
+	private static class SerialIndexEntry implements Comparable<SerialIndexEntry> {
+
+		/** The certificate serial number */
+		private final BigInteger serialNumber;
+
+		/** The offset of the CRL entry within the DER encoded CRL */
+		private final int offset;
+
+		SerialIndexEntry(BigInteger serialNumber, int offset) {
+			this.serialNumber = serialNumber;
+			this.offset = offset;
+		}
+
+		@Override
+		public int compareTo(SerialIndexEntry o) {
+			return serialNumber.compareTo(o.serialNumber);
+		}
+
+	}
+
 }
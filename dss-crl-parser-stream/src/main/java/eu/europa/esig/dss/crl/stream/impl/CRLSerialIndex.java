@@ -0,0 +1,136 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.crl.stream.impl;
+
+import org.bouncycastle.asn1.ASN1Primitive;
+import org.bouncycastle.asn1.ASN1Sequence;
+import org.bouncycastle.asn1.BERTags;
+import org.bouncycastle.asn1.x509.TBSCertList.CRLEntry;
+import org.bouncycastle.jce.provider.X509CRLEntryObject;
+import org.bouncycastle.util.io.Streams;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.cert.X509CRLEntry;
+import java.util.Arrays;
+
+/**
+ * This class represents an index of the revokedCertificates entries of a CRL.
+ * Only offsets of the entries within the DER encoded CRL are kept, sorted by the certificate serial number,
+ * what allows a binary search of a serial number without a new parsing of the whole CRL.
+ *
+ * NOTE: the index does not keep the CRL binaries. The same DER encoded CRL used to build the index
+ *       shall be provided on a lookup.
+ */
+class CRLSerialIndex {
+
+	/** The index to be used for a CRL without revoked certificates */
+	static final CRLSerialIndex EMPTY = new CRLSerialIndex(new int[0]);
+
+	/** Offsets of CRL entries within the DER encoded CRL, sorted by the serial number */
+	private final int[] entryOffsets;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param entryOffsets array of CRL entries offsets within the DER encoded CRL, sorted by the serial number
+	 */
+	CRLSerialIndex(int[] entryOffsets) {
+		this.entryOffsets = entryOffsets;
+	}
+
+	/**
+	 * Returns a number of indexed CRL entries
+	 *
+	 * @return number of CRL entries
+	 */
+	public int size() {
+		return entryOffsets.length;
+	}
+
+	/**
+	 * Returns the CRL entry for the given serial number, when present
+	 *
+	 * @param derEncoded byte array representing the DER encoded CRL the index has been built from
+	 * @param serialNumber {@link BigInteger} the certificate's serial number
+	 * @return {@link X509CRLEntry} if the serial number is present in the CRL, null otherwise
+	 * @throws IOException if an exception occurs on the CRL entry reading
+	 */
+	public X509CRLEntry getRevocationInfo(byte[] derEncoded, BigInteger serialNumber) throws IOException {
+		int low = 0;
+		int high = entryOffsets.length - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int comparison = readSerialNumber(derEncoded, entryOffsets[mid]).compareTo(serialNumber);
+			if (comparison < 0) {
+				low = mid + 1;
+			} else if (comparison > 0) {
+				high = mid - 1;
+			} else {
+				return readEntry(derEncoded, entryOffsets[mid]);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Reads the serial number of the CRL entry starting at the given offset
+	 *
+	 * @param derEncoded byte array representing the DER encoded CRL
+	 * @param offset the offset of the CRL entry within the CRL
+	 * @return {@link BigInteger} serial number
+	 * @throws IOException if an exception occurs
+	 */
+	static BigInteger readSerialNumber(byte[] derEncoded, int offset) throws IOException {
+		ByteArrayInputStream is = new ByteArrayInputStream(derEncoded, offset, derEncoded.length - offset);
+		// Skip CRL entry Sequence info
+		int tag = DERUtil.readTag(is);
+		DERUtil.readTagNumber(is, tag);
+		DERUtil.readLength(is);
+
+		tag = DERUtil.readTag(is);
+		int tagNo = DERUtil.readTagNumber(is, tag);
+		int length = DERUtil.readLength(is);
+		if (BERTags.INTEGER != tagNo || length <= 0) {
+			throw new IOException(String.format("Unable to read a serial number of the CRL entry at offset '%s'", offset));
+		}
+
+		byte[] array = new byte[length];
+		if (Streams.readFully(is, array) != length) {
+			throw new IOException(String.format("Unable to read a serial number of the CRL entry at offset '%s'", offset));
+		}
+		return new BigInteger(array);
+	}
+
+	private X509CRLEntry readEntry(byte[] derEncoded, int offset) throws IOException {
+		ByteArrayInputStream is = new ByteArrayInputStream(derEncoded, offset, derEncoded.length - offset);
+		int tag = DERUtil.readTag(is);
+		DERUtil.readTagNumber(is, tag);
+		int length = DERUtil.readLength(is);
+		int headerLength = derEncoded.length - offset - is.available();
+
+		byte[] entryArray = Arrays.copyOfRange(derEncoded, offset, offset + headerLength + length);
+		ASN1Sequence asn1Sequence = ASN1Sequence.getInstance(ASN1Primitive.fromByteArray(entryArray));
+		return new X509CRLEntryObject(CRLEntry.getInstance(asn1Sequence));
+	}
+
+}
@@ -33,13 +33,15 @@ import org.slf4j.LoggerFactory;
 
 import javax.security.auth.x500.X500Principal;
 import java.io.BufferedInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
 import java.security.GeneralSecurityException;
 import java.security.Signature;
 import java.security.cert.X509CRLEntry;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * The DSS implementation of {@code ICRLUtils}
@@ -48,6 +50,26 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 
 	private static final Logger LOG = LoggerFactory.getLogger(CRLUtilsStreamImpl.class);
 
+	/** The maximum number of CRL serial number indexes kept in memory */
+	private static final int MAX_SERIAL_INDEXES = 64;
+
+	/**
+	 * Caches the serial number indexes of processed CRLs, in order to avoid a new parsing of the CRL
+	 * on each revocation status lookup.
+	 * The CRL identifier (computed from the CRL digest) is used as a key.
+	 */
+	private final Map<String, CRLSerialIndex> serialIndexes = Collections.synchronizedMap(
+			new LinkedHashMap<String, CRLSerialIndex>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = -4624425012375929541L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, CRLSerialIndex> eldest) {
+					return size() > MAX_SERIAL_INDEXES;
+				}
+
+			});
+
 	/**
 	 * Default constructor
 	 */
@@ -78,39 +100,65 @@ public class CRLUtilsStreamImpl extends AbstractCRLUtils implements ICRLUtils {
 			crlValidity.setIssuerX509PrincipalMatches(true);
 		}
 
-		checkSignatureValue(crlValidity, crlInfos.getSignatureValue(), signatureAlgorithm, getSignedData(crlValidity), issuerToken);
+		checkSignatureValue(crlValidity, crlInfos.getSignatureValue(), signatureAlgorithm, issuerToken);
 		
 		return crlValidity;
 	}
 
-	private byte[] getSignedData(CRLValidity crlValidity) throws IOException {
+	/**
+	 * Updates the {@code signature} with the signed data (TBSCertList) of the CRL.
+	 * The signed data is streamed to the signature and is not kept in memory.
+	 *
+	 * @param crlValidity {@link CRLValidity}
+	 * @param signature {@link Signature} initialized for verification
+	 * @throws IOException if an exception occurs on the CRL parsing
+	 */
+	private void updateWithSignedData(CRLValidity crlValidity, Signature signature) throws IOException {
 		try (InputStream is = crlValidity.toCRLInputStream();
-			 ByteArrayOutputStream baos = new ByteArrayOutputStream();
-			 BinaryFilteringInputStream bfis = new BinaryFilteringInputStream(is, baos)) {
+			 SignatureOutputStream sos = new SignatureOutputStream(signature);
+			 BinaryFilteringInputStream bfis = new BinaryFilteringInputStream(is, sos)) {
 			CRLParser parser = new CRLParser();
 			parser.getSignedData(bfis);
-			return baos.toByteArray();
 		}
 	}
 
 	@Override
 	public X509CRLEntry getRevocationInfo(CRLValidity crlValidity, BigInteger serialNumber) {
-		CRLParser parser = new CRLParser();
 		X509CRLEntry crlEntry = null;
-		try (InputStream is = crlValidity.toCRLInputStream()) {
-			crlEntry = parser.retrieveRevocationInfo(is, serialNumber);
+		try {
+			CRLSerialIndex serialIndex = getSerialIndex(crlValidity);
+			crlEntry = serialIndex.getRevocationInfo(crlValidity.getDerEncoded(), serialNumber);
 		} catch (IOException e) {
 			LOG.error("Unable to retrieve the revocation status", e);
 		}
 		return crlEntry;
 	}
 
+	/**
+	 * Returns the serial number index for the given CRL.
+	 * The index is built once on the first call and then reused for all the lookups within the same CRL.
+	 *
+	 * @param crlValidity {@link CRLValidity}
+	 * @return {@link CRLSerialIndex}
+	 * @throws IOException if an exception occurs on the CRL parsing
+	 */
+	private CRLSerialIndex getSerialIndex(CRLValidity crlValidity) throws IOException {
+		final String crlId = crlValidity.getCrlBinary().asXmlId();
+		CRLSerialIndex serialIndex = serialIndexes.get(crlId);
+		if (serialIndex == null) {
+			CRLParser parser = new CRLParser();
+			serialIndex = parser.buildSerialIndex(crlValidity.getDerEncoded());
+			serialIndexes.put(crlId, serialIndex);
+		}
+		return serialIndex;
+	}
+
 	private void checkSignatureValue(CRLValidity crlValidity, byte[] signatureValue, SignatureAlgorithm signatureAlgorithm,
-									 byte[] signedData, CertificateToken signer) {
+									 CertificateToken signer) throws IOException {
 		try {
 			Signature signature = Signature.getInstance(signatureAlgorithm.getJCEId());
 			signature.initVerify(signer.getPublicKey());
-			signature.update(signedData);
+			updateWithSignedData(crlValidity, signature);
 			if (signature.verify(signatureValue)) {
 				crlValidity.setSignatureIntact(true);
 				crlValidity.setIssuerToken(signer);
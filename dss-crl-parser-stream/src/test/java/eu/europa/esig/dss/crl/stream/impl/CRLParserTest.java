@@ -29,10 +29,14 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509CRL;
 import java.security.cert.X509CRLEntry;
 
 import org.junit.jupiter.api.Test;
@@ -216,6 +220,67 @@ public class CRLParserTest {
 		}
 	}
 	
+	@Test
+	public void serialIndex() throws IOException {
+		byte[] crlBinaries;
+		try (InputStream fis = CRLParserTest.class.getResourceAsStream("/http___crl.globalsign.com_gs_gspersonalsign2sha2g2.crl")) {
+			crlBinaries = Utils.toByteArray(fis);
+		}
+
+		CRLSerialIndex serialIndex = parser.buildSerialIndex(crlBinaries);
+		assertTrue(serialIndex.size() > 0);
+
+		BigInteger serialNumber = new BigInteger("288350169419475868349393253038503091234");
+		X509CRLEntry entry = serialIndex.getRevocationInfo(crlBinaries, serialNumber);
+		assertNotNull(entry);
+		assertEquals(serialNumber, entry.getSerialNumber());
+
+		try (InputStream is = new ByteArrayInputStream(crlBinaries)) {
+			assertEquals(parser.retrieveRevocationInfo(is, serialNumber), entry);
+		}
+
+		serialNumber = new BigInteger("288350169419475868349393264025423631520");
+		entry = serialIndex.getRevocationInfo(crlBinaries, serialNumber);
+		assertNotNull(entry);
+		assertEquals(serialNumber, entry.getSerialNumber());
+
+		assertNull(serialIndex.getRevocationInfo(crlBinaries, new BigInteger("52030000000")));
+	}
+
+	@Test
+	public void serialIndexAllEntries() throws Exception {
+		byte[] crlBinaries;
+		try (InputStream fis = CRLParserTest.class.getResourceAsStream("/LTGRCA.crl")) {
+			crlBinaries = Utils.toByteArray(fis);
+		}
+
+		CRLSerialIndex serialIndex = parser.buildSerialIndex(crlBinaries);
+		assertTrue(serialIndex.size() > 0);
+
+		CertificateFactory certificateFactory = CertificateFactory.getInstance("X.509");
+		X509CRL x509CRL = (X509CRL) certificateFactory.generateCRL(new ByteArrayInputStream(crlBinaries));
+		assertEquals(x509CRL.getRevokedCertificates().size(), serialIndex.size());
+		for (X509CRLEntry x509CRLEntry : x509CRL.getRevokedCertificates()) {
+			X509CRLEntry entry = serialIndex.getRevocationInfo(crlBinaries, x509CRLEntry.getSerialNumber());
+			assertNotNull(entry);
+			assertEquals(x509CRLEntry.getSerialNumber(), entry.getSerialNumber());
+			assertEquals(x509CRLEntry.getRevocationDate(), entry.getRevocationDate());
+			assertEquals(x509CRLEntry.getRevocationReason(), entry.getRevocationReason());
+		}
+	}
+
+	@Test
+	public void serialIndexWithoutRevokedCertificates() throws IOException {
+		byte[] crlBinaries;
+		try (InputStream fis = CRLParserTest.class.getResourceAsStream("/DS_NA2_CA-B1.crl")) {
+			crlBinaries = Utils.toByteArray(fis);
+		}
+
+		CRLSerialIndex serialIndex = parser.buildSerialIndex(crlBinaries);
+		assertEquals(0, serialIndex.size());
+		assertNull(serialIndex.getRevocationInfo(crlBinaries, new BigInteger("5203")));
+	}
+
 	@Test
 	public void parseCRLWithoutRevokedCertificates() throws IOException {
 		try (InputStream fis = CRLParserTest.class.getResourceAsStream("/DS_NA2_CA-B1.crl");
@@ -239,4 +304,20 @@ public class CRLParserTest {
 		}
 	}
 
+	@Test
+	public void getSignedData() throws Exception {
+		byte[] crlBinaries;
+		try (InputStream fis = CRLParserTest.class.getResourceAsStream("/http___crl.globalsign.com_gs_gspersonalsign2sha2g2.crl")) {
+			crlBinaries = Utils.toByteArray(fis);
+		}
+		CertificateFactory certificateFactory = CertificateFactory.getInstance("X.509");
+		X509CRL x509CRL = (X509CRL) certificateFactory.generateCRL(new ByteArrayInputStream(crlBinaries));
+
+		try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+				BinaryFilteringInputStream bfis = new BinaryFilteringInputStream(new ByteArrayInputStream(crlBinaries), baos)) {
+			parser.getSignedData(bfis);
+			assertArrayEquals(x509CRL.getTBSCertList(), baos.toByteArray());
+		}
+	}
+
 }
@@ -46,6 +46,7 @@ import eu.europa.esig.dss.enumerations.SignatureQualification;
 import eu.europa.esig.dss.enumerations.SubIndication;
 import eu.europa.esig.dss.enumerations.TimestampQualification;
 import eu.europa.esig.dss.enumerations.ValidationTime;
+import eu.europa.esig.dss.jaxb.object.IdentifierIndex;
 import eu.europa.esig.dss.jaxb.object.Message;
 
 import java.io.Serializable;
@@ -80,6 +81,24 @@ public class DetailedReport {
 	 */
 	private DetailedReportMessageCollector messageCollector;
 
+	/**
+	 * Index of the Basic Building Blocks by token ids
+	 */
+	private final IdentifierIndex<XmlBasicBuildingBlocks> basicBuildingBlocksIndex =
+			new IdentifierIndex<>(XmlBasicBuildingBlocks::getId);
+
+	/**
+	 * Index of the signatures by their ids
+	 */
+	private final IdentifierIndex<Serializable> signaturesIndex = new IdentifierIndex<>(
+			element -> element instanceof XmlSignature ? ((XmlSignature) element).getId() : null);
+
+	/**
+	 * Index of the processed certificates by their ids
+	 */
+	private final IdentifierIndex<Serializable> certificatesIndex = new IdentifierIndex<>(
+			element -> element instanceof XmlCertificate ? ((XmlCertificate) element).getId() : null);
+
 	/**
 	 * The default constructor
 	 *
@@ -147,15 +166,7 @@ public class DetailedReport {
 	 * @return the XmlBasicBuildingBlocks
 	 */
 	public XmlBasicBuildingBlocks getBasicBuildingBlockById(String tokenId) {
-		List<XmlBasicBuildingBlocks> basicBuildingBlocks = jaxbDetailedReport.getBasicBuildingBlocks();
-		if (basicBuildingBlocks != null) {
-			for (XmlBasicBuildingBlocks xmlBasicBuildingBlocks : basicBuildingBlocks) {
-				if (tokenId.equals(xmlBasicBuildingBlocks.getId())) {
-					return xmlBasicBuildingBlocks;
-				}
-			}
-		}
-		return null;
+		return basicBuildingBlocksIndex.get(jaxbDetailedReport.getBasicBuildingBlocks(), tokenId);
 	}
 
 	/**
@@ -720,15 +731,7 @@ public class DetailedReport {
 	 * @return {@link XmlSignature}
 	 */
 	public XmlSignature getXmlSignatureById(String signatureId) {
-		List<XmlSignature> signatures = getSignatures();
-		if (signatures != null) {
-			for (XmlSignature xmlSignature : signatures) {
-				if (signatureId.equals(xmlSignature.getId())) {
-					return xmlSignature;
-				}
-			}
-		}
-		return null;
+		return (XmlSignature) signaturesIndex.get(jaxbDetailedReport.getSignatureOrTimestampOrEvidenceRecord(), signatureId);
 	}
 
 	/**
@@ -739,15 +742,7 @@ public class DetailedReport {
 	 * @return {@link XmlCertificate}
 	 */
 	public XmlCertificate getXmlCertificateById(String certificateId) {
-		List<XmlCertificate> certificates = getCertificates();
-		if (certificates != null) {
-			for (XmlCertificate xmlCertificate : certificates) {
-				if (certificateId.equals(xmlCertificate.getId())) {
-					return xmlCertificate;
-				}
-			}
-		}
-		return null;
+		return (XmlCertificate) certificatesIndex.get(jaxbDetailedReport.getSignatureOrTimestampOrEvidenceRecord(), certificateId);
 	}
 
 	/**
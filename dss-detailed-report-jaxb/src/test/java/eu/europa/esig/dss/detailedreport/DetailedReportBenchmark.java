@@ -0,0 +1,146 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.detailedreport;
+
+import eu.europa.esig.dss.detailedreport.jaxb.XmlBasicBuildingBlocks;
+import eu.europa.esig.dss.detailedreport.jaxb.XmlCertificate;
+import eu.europa.esig.dss.detailedreport.jaxb.XmlDetailedReport;
+import eu.europa.esig.dss.detailedreport.jaxb.XmlSignature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookup of all Basic Building Blocks, signatures and certificates by id
+ * on a synthetic {@code DetailedReport}, as done by the simple report construction.
+ * The indexed lookups are compared with a linear scan of the report content.
+ *
+ * The benchmark is not executed with the unit tests. Run the main method with the test classpath of the module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DetailedReportBenchmark {
+
+	@Param({ "100", "1000", "5000" })
+	private int tokensNumber;
+
+	private XmlDetailedReport xmlDetailedReport;
+
+	private List<String> tokenIds;
+
+	@Setup
+	public void init() {
+		xmlDetailedReport = new XmlDetailedReport();
+		tokenIds = new ArrayList<>();
+		for (int i = 0; i < tokensNumber; i++) {
+			String tokenId = "T-" + i;
+			tokenIds.add(tokenId);
+
+			XmlBasicBuildingBlocks xmlBasicBuildingBlocks = new XmlBasicBuildingBlocks();
+			xmlBasicBuildingBlocks.setId(tokenId);
+			xmlDetailedReport.getBasicBuildingBlocks().add(xmlBasicBuildingBlocks);
+
+			XmlSignature xmlSignature = new XmlSignature();
+			xmlSignature.setId(tokenId);
+			xmlDetailedReport.getSignatureOrTimestampOrEvidenceRecord().add(xmlSignature);
+
+			XmlCertificate xmlCertificate = new XmlCertificate();
+			xmlCertificate.setId(tokenId);
+			xmlDetailedReport.getSignatureOrTimestampOrEvidenceRecord().add(xmlCertificate);
+		}
+	}
+
+	@Benchmark
+	public void indexedLookups(Blackhole blackhole) {
+		DetailedReport detailedReport = new DetailedReport(xmlDetailedReport);
+		for (String tokenId : tokenIds) {
+			blackhole.consume(detailedReport.getBasicBuildingBlockById(tokenId));
+			blackhole.consume(detailedReport.getXmlSignatureById(tokenId));
+			blackhole.consume(detailedReport.getXmlCertificateById(tokenId));
+		}
+	}
+
+	@Benchmark
+	public void linearLookups(Blackhole blackhole) {
+		DetailedReport detailedReport = new DetailedReport(xmlDetailedReport);
+		for (String tokenId : tokenIds) {
+			blackhole.consume(findBasicBuildingBlocks(tokenId));
+			blackhole.consume(findSignature(detailedReport.getSignatures(), tokenId));
+			blackhole.consume(findCertificate(detailedReport.getCertificates(), tokenId));
+		}
+	}
+
+	private XmlBasicBuildingBlocks findBasicBuildingBlocks(String tokenId) {
+		for (XmlBasicBuildingBlocks xmlBasicBuildingBlocks : xmlDetailedReport.getBasicBuildingBlocks()) {
+			if (tokenId.equals(xmlBasicBuildingBlocks.getId())) {
+				return xmlBasicBuildingBlocks;
+			}
+		}
+		return null;
+	}
+
+	private static XmlSignature findSignature(List<XmlSignature> signatures, String signatureId) {
+		for (XmlSignature xmlSignature : signatures) {
+			if (signatureId.equals(xmlSignature.getId())) {
+				return xmlSignature;
+			}
+		}
+		return null;
+	}
+
+	private static XmlCertificate findCertificate(List<XmlCertificate> certificates, String certificateId) {
+		for (XmlCertificate xmlCertificate : certificates) {
+			if (certificateId.equals(xmlCertificate.getId())) {
+				return xmlCertificate;
+			}
+		}
+		return null;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(DetailedReportBenchmark.class.getSimpleName())
+				.build();
+		new Runner(options).run();
+	}
+
+}
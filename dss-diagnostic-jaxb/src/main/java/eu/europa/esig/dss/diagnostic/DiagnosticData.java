@@ -44,6 +44,7 @@ import eu.europa.esig.dss.enumerations.RevocationReason;
 import eu.europa.esig.dss.enumerations.RevocationType;
 import eu.europa.esig.dss.enumerations.SignatureLevel;
 import eu.europa.esig.dss.enumerations.TimestampType;
+import eu.europa.esig.dss.jaxb.object.IdentifierIndex;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -76,6 +77,25 @@ public class DiagnosticData {
 	/** List of found evidence records */
 	private List<EvidenceRecordWrapper> foundEvidenceRecords;
 
+	/** Index of found signatures by their ids */
+	private final IdentifierIndex<SignatureWrapper> signaturesIndex = new IdentifierIndex<>(SignatureWrapper::getId);
+
+	/** Index of used certificates by their ids */
+	private final IdentifierIndex<CertificateWrapper> certificatesIndex = new IdentifierIndex<>(CertificateWrapper::getId);
+
+	/** Index of found timestamps by their ids */
+	private final IdentifierIndex<TimestampWrapper> timestampsIndex = new IdentifierIndex<>(TimestampWrapper::getId);
+
+	/** Index of found evidence records by their ids */
+	private final IdentifierIndex<EvidenceRecordWrapper> evidenceRecordsIndex = new IdentifierIndex<>(EvidenceRecordWrapper::getId);
+
+	/** Index of used revocation data by their ids */
+	private final IdentifierIndex<XmlRevocation> revocationsIndex = new IdentifierIndex<>(XmlRevocation::getId);
+
+	/** Index of orphan certificate values (binaries) by their ids */
+	private final IdentifierIndex<XmlOrphanCertificateToken> orphanCertificatesIndex = new IdentifierIndex<>(
+			orphanToken -> XmlEncapsulationType.BINARIES.equals(orphanToken.getEncapsulationType()) ? orphanToken.getId() : null);
+
 	/**
 	 * Default constructor
 	 *
@@ -647,25 +667,13 @@ public class DiagnosticData {
 	 * @return a signature wrapper or null
 	 */
 	public SignatureWrapper getSignatureById(String id) {
-		List<SignatureWrapper> signatures = getSignatures();
-		if (signatures != null) {
-			for (SignatureWrapper xmlSignature : signatures) {
-				if (id.equals(xmlSignature.getId())) {
-					return xmlSignature;
-				}
-			}
-		}
-		return null;
+		return signaturesIndex.get(getSignatures(), id);
 	}
 
 	private SignatureWrapper getSignatureByIdNullSafe(String id) {
-		List<SignatureWrapper> signatures = getSignatures();
-		if (signatures != null) {
-			for (SignatureWrapper xmlSignature : signatures) {
-				if (id.equals(xmlSignature.getId())) {
-					return xmlSignature;
-				}
-			}
+		SignatureWrapper signature = getSignatureById(id);
+		if (signature != null) {
+			return signature;
 		}
 		return new SignatureWrapper(new XmlSignature()); // TODO improve ?
 	}
@@ -686,13 +694,7 @@ public class DiagnosticData {
 	 * @return timestamp wrapper or null
 	 */
 	public TimestampWrapper getTimestampById(String id) {
-		List<TimestampWrapper> allTimestamps = getTimestampList();
-		for (TimestampWrapper timestampWrapper : allTimestamps) {
-			if (id.equals(timestampWrapper.getId())) {
-				return timestampWrapper;
-			}
-		}
-		return null;
+		return timestampsIndex.get(getTimestampList(), id);
 	}
 
 	/**
@@ -718,15 +720,7 @@ public class DiagnosticData {
 	 * @return a certificate wrapper or null
 	 */
 	public CertificateWrapper getUsedCertificateById(String id) {
-		List<CertificateWrapper> certificates = getUsedCertificates();
-		if (certificates != null) {
-			for (CertificateWrapper certificate : certificates) {
-				if (id.equals(certificate.getId())) {
-					return certificate;
-				}
-			}
-		}
-		return null;
+		return certificatesIndex.get(getUsedCertificates(), id);
 	}
 
 	/**
@@ -737,12 +731,11 @@ public class DiagnosticData {
 	 * @return a orphan certificate wrapper or null
 	 */
 	public OrphanCertificateTokenWrapper getOrphanCertificateById(String id) {
-		List<OrphanCertificateTokenWrapper> orphanCertificates = getAllOrphanCertificateObjects();
-		if (orphanCertificates != null) {
-			for (OrphanCertificateTokenWrapper certificate : orphanCertificates) {
-				if (id.equals(certificate.getId())) {
-					return certificate;
-				}
+		if (wrapped.getOrphanTokens() != null) {
+			XmlOrphanCertificateToken orphanToken = orphanCertificatesIndex.get(
+					wrapped.getOrphanTokens().getOrphanCertificates(), id);
+			if (orphanToken != null) {
+				return new OrphanCertificateTokenWrapper(orphanToken);
 			}
 		}
 		return null;
@@ -982,13 +975,7 @@ public class DiagnosticData {
 	 * @return evidence record wrapper or null
 	 */
 	public EvidenceRecordWrapper getEvidenceRecordById(String id) {
-		List<EvidenceRecordWrapper> evidenceRecords = getEvidenceRecords();
-		for (EvidenceRecordWrapper evidenceRecord : evidenceRecords) {
-			if (id.equals(evidenceRecord.getId())) {
-				return evidenceRecord;
-			}
-		}
-		return null;
+		return evidenceRecordsIndex.get(getEvidenceRecords(), id);
 	}
 
 	/**
@@ -1093,12 +1080,7 @@ public class DiagnosticData {
 	 * @return {@link CertificateWrapper}
 	 */
 	public CertificateWrapper getCertificateById(String id) {
-		for (CertificateWrapper certificateWrapper : getUsedCertificates()) {
-			if (id.equals(certificateWrapper.getId())) {
-				return certificateWrapper;
-			}
-		}
-		return null;
+		return getUsedCertificateById(id);
 	}
 	
 	/**
@@ -1107,10 +1089,9 @@ public class DiagnosticData {
 	 * @return {@link RevocationWrapper}
 	 */
 	public RevocationWrapper getRevocationById(String id) {
-		for (RevocationWrapper revocationWrapper : getAllRevocationData()) {
-			if (id.equals(revocationWrapper.getId())) {
-				return revocationWrapper;
-			}
+		XmlRevocation xmlRevocation = revocationsIndex.get(wrapped.getUsedRevocations(), id);
+		if (xmlRevocation != null) {
+			return new RevocationWrapper(xmlRevocation);
 		}
 		return null;
 	}
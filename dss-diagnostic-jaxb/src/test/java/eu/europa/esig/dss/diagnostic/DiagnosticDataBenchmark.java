@@ -0,0 +1,171 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.diagnostic;
+
+import eu.europa.esig.dss.diagnostic.jaxb.XmlCertificate;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDiagnosticData;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlEncapsulationType;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlOrphanCertificateToken;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlOrphanTokens;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlRevocation;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlSignature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookup of all tokens by id on a synthetic {@code DiagnosticData}
+ * (signatures, certificates, revocation data and orphan certificates), as done by the validation building blocks.
+ * The indexed lookups are compared with a linear scan of the token lists.
+ *
+ * The benchmark is not executed with the unit tests. Run the main method with the test classpath of the module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DiagnosticDataBenchmark {
+
+	@Param({ "100", "1000", "5000" })
+	private int tokensNumber;
+
+	private XmlDiagnosticData xmlDiagnosticData;
+
+	private List<String> signatureIds;
+
+	private List<String> certificateIds;
+
+	private List<String> revocationIds;
+
+	@Setup
+	public void init() {
+		xmlDiagnosticData = new XmlDiagnosticData();
+		xmlDiagnosticData.setOrphanTokens(new XmlOrphanTokens());
+		signatureIds = new ArrayList<>();
+		certificateIds = new ArrayList<>();
+		revocationIds = new ArrayList<>();
+		for (int i = 0; i < tokensNumber; i++) {
+			XmlSignature xmlSignature = new XmlSignature();
+			xmlSignature.setId("S-" + i);
+			xmlDiagnosticData.getSignatures().add(xmlSignature);
+			signatureIds.add(xmlSignature.getId());
+
+			XmlCertificate xmlCertificate = new XmlCertificate();
+			xmlCertificate.setId("C-" + i);
+			xmlDiagnosticData.getUsedCertificates().add(xmlCertificate);
+			certificateIds.add(xmlCertificate.getId());
+
+			XmlRevocation xmlRevocation = new XmlRevocation();
+			xmlRevocation.setId("R-" + i);
+			xmlDiagnosticData.getUsedRevocations().add(xmlRevocation);
+			revocationIds.add(xmlRevocation.getId());
+
+			XmlOrphanCertificateToken orphanCertificate = new XmlOrphanCertificateToken();
+			orphanCertificate.setId("C-" + (tokensNumber + i));
+			orphanCertificate.setEncapsulationType(XmlEncapsulationType.BINARIES);
+			xmlDiagnosticData.getOrphanTokens().getOrphanCertificates().add(orphanCertificate);
+		}
+	}
+
+	@Benchmark
+	public void indexedLookups(Blackhole blackhole) {
+		DiagnosticData diagnosticData = new DiagnosticData(xmlDiagnosticData);
+		for (String signatureId : signatureIds) {
+			blackhole.consume(diagnosticData.getSignatureById(signatureId));
+		}
+		for (String certificateId : certificateIds) {
+			blackhole.consume(diagnosticData.getUsedCertificateById(certificateId));
+			blackhole.consume(diagnosticData.getOrphanCertificateById(certificateId));
+		}
+		for (String revocationId : revocationIds) {
+			blackhole.consume(diagnosticData.getRevocationById(revocationId));
+		}
+	}
+
+	@Benchmark
+	public void linearLookups(Blackhole blackhole) {
+		DiagnosticData diagnosticData = new DiagnosticData(xmlDiagnosticData);
+		for (String signatureId : signatureIds) {
+			blackhole.consume(find(diagnosticData.getSignatures(), signatureId));
+		}
+		for (String certificateId : certificateIds) {
+			blackhole.consume(find(diagnosticData.getUsedCertificates(), certificateId));
+			blackhole.consume(findOrphan(xmlDiagnosticData.getOrphanTokens().getOrphanCertificates(), certificateId));
+		}
+		for (String revocationId : revocationIds) {
+			blackhole.consume(findRevocation(xmlDiagnosticData.getUsedRevocations(), revocationId));
+		}
+	}
+
+	private static <T extends TokenProxy> T find(List<T> tokens, String id) {
+		for (T token : tokens) {
+			if (id.equals(token.getId())) {
+				return token;
+			}
+		}
+		return null;
+	}
+
+	private static OrphanCertificateTokenWrapper findOrphan(List<XmlOrphanCertificateToken> orphanTokens, String id) {
+		for (XmlOrphanCertificateToken orphanToken : orphanTokens) {
+			if (XmlEncapsulationType.BINARIES.equals(orphanToken.getEncapsulationType()) && id.equals(orphanToken.getId())) {
+				return new OrphanCertificateTokenWrapper(orphanToken);
+			}
+		}
+		return null;
+	}
+
+	private static RevocationWrapper findRevocation(List<XmlRevocation> revocations, String id) {
+		for (XmlRevocation xmlRevocation : revocations) {
+			if (id.equals(xmlRevocation.getId())) {
+				return new RevocationWrapper(xmlRevocation);
+			}
+		}
+		return null;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(DiagnosticDataBenchmark.class.getSimpleName())
+				.build();
+		new Runner(options).run();
+	}
+
+}
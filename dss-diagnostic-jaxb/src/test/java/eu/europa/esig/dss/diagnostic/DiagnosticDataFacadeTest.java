@@ -0,0 +1,86 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.diagnostic;
+
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDiagnosticData;
+import eu.europa.esig.dss.jaxb.common.AbstractJaxbFacade;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.xml.sax.SAXException;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class DiagnosticDataFacadeTest {
+
+	@AfterEach
+	public void clean() {
+		AbstractJaxbFacade.clearCachedMarshallers();
+	}
+
+	@Test
+	public void marshallTest() throws Exception {
+		DiagnosticDataFacade facade = DiagnosticDataFacade.newFacade();
+		XmlDiagnosticData diagnosticData = facade.unmarshall(new File("src/test/resources/diag-data.xml"), false);
+
+		String xml = facade.marshall(diagnosticData, false);
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		facade.marshall(diagnosticData, baos, false);
+		assertEquals(xml, new String(baos.toByteArray(), StandardCharsets.UTF_8));
+
+		AbstractJaxbFacade.clearCachedMarshallers();
+		assertEquals(xml, facade.marshall(diagnosticData, false));
+	}
+
+	@Test
+	public void customMarshallerTest() throws Exception {
+		DiagnosticDataFacade facade = DiagnosticDataFacade.newFacade();
+		XmlDiagnosticData diagnosticData = facade.unmarshall(new File("src/test/resources/diag-data.xml"), false);
+		String xml = facade.marshall(diagnosticData, false);
+
+		// the same JAXBContext, but another marshaller configuration
+		DiagnosticDataFacade customFacade = new NotFormattedDiagnosticDataFacade();
+		String notFormattedXml = customFacade.marshall(diagnosticData, false);
+		assertNotEquals(xml, notFormattedXml);
+		assertEquals(xml, facade.marshall(diagnosticData, false));
+		assertEquals(notFormattedXml, customFacade.marshall(diagnosticData, false));
+	}
+
+	private static class NotFormattedDiagnosticDataFacade extends DiagnosticDataFacade {
+
+		@Override
+		public Marshaller getMarshaller(boolean validate) throws JAXBException, SAXException, IOException {
+			Marshaller marshaller = super.getMarshaller(validate);
+			marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, false);
+			return marshaller;
+		}
+
+	}
+
+}
@@ -28,6 +28,7 @@ import eu.europa.esig.dss.model.identifier.TokenIdentifierProvider;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.policy.ValidationPolicy;
 import eu.europa.esig.dss.policy.ValidationPolicyFacade;
+import eu.europa.esig.dss.policy.ValidationPolicyRegistry;
 import eu.europa.esig.dss.validation.executor.certificate.CertificateProcessExecutor;
 import eu.europa.esig.dss.validation.executor.certificate.DefaultCertificateProcessExecutor;
 import eu.europa.esig.dss.validation.reports.CertificateReports;
@@ -70,6 +71,9 @@ public class CertificateValidator implements ProcessExecutorProvider<Certificate
 	/** The CertificateProcessExecutor */
 	private CertificateProcessExecutor processExecutor;
 
+	/** The registry used to obtain the parsed validation policies (when null, the policy is parsed on each validation) */
+	private ValidationPolicyRegistry validationPolicyRegistry = ValidationPolicyRegistry.getInstance();
+
 	/**
 	 * The default constructor
 	 *
@@ -136,6 +140,18 @@ public class CertificateValidator implements ProcessExecutorProvider<Certificate
 	public void setLocale(Locale locale) {
 		this.locale = locale;
 	}
+
+	/**
+	 * Sets the registry used to obtain the validation policies provided as XML.
+	 * When null, the policy is parsed on each validation.
+	 *
+	 * Default: the shared {@code ValidationPolicyRegistry}
+	 *
+	 * @param validationPolicyRegistry {@link ValidationPolicyRegistry}
+	 */
+	public void setValidationPolicyRegistry(ValidationPolicyRegistry validationPolicyRegistry) {
+		this.validationPolicyRegistry = validationPolicyRegistry;
+	}
 	
 	private Date getValidationTime() {
 		if (validationTime == null) {
@@ -152,7 +168,8 @@ public class CertificateValidator implements ProcessExecutorProvider<Certificate
 	public CertificateReports validate() {
 		ValidationPolicy defaultPolicy;
 		try {
-			defaultPolicy = ValidationPolicyFacade.newFacade().getCertificateValidationPolicy();
+			defaultPolicy = validationPolicyRegistry != null ? validationPolicyRegistry.getCertificateValidationPolicy()
+					: ValidationPolicyFacade.newFacade().getCertificateValidationPolicy();
 		} catch (Exception e) {
 			throw new DSSException("Unable to load the default policy", e);
 		}
@@ -172,7 +189,8 @@ public class CertificateValidator implements ProcessExecutorProvider<Certificate
 				return validate();
 
 			} else {
-				ValidationPolicy validationPolicy = ValidationPolicyFacade.newFacade().getValidationPolicy(policyDataStream);
+				ValidationPolicy validationPolicy = validationPolicyRegistry != null ? validationPolicyRegistry.getValidationPolicy(policyDataStream)
+						: ValidationPolicyFacade.newFacade().getValidationPolicy(policyDataStream);
 				return validate(validationPolicy);
 			}
 
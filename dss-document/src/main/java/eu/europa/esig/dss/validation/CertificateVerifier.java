@@ -31,6 +31,8 @@ import eu.europa.esig.dss.spi.x509.ListCertificateSource;
 import eu.europa.esig.dss.spi.x509.aia.AIASource;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * Provides information on the sources to be used in the validation process in
  * the context of a signature.
@@ -211,6 +213,30 @@ public interface CertificateVerifier {
 	 */
 	void setAIASource(final AIASource aiaSource);
 
+	/**
+	 * Gets the {@code ExecutorService} used to execute the independent validation tasks concurrently
+	 * (e.g. signature value verification, online revocation data requests)
+	 *
+	 * @return {@link ExecutorService} if defined, NULL otherwise
+	 */
+	default ExecutorService getExecutorService() {
+		return null;
+	}
+
+	/**
+	 * Sets the {@code ExecutorService} used to execute the independent validation tasks concurrently
+	 * (e.g. signature value verification, online revocation data requests).
+	 * Default : NULL (all tasks are executed sequentially within the calling thread)
+	 * <p>
+	 * NOTE: the lifecycle of the executor service shall be managed by the caller
+	 *
+	 * @param executorService {@link ExecutorService}
+	 * @throws UnsupportedOperationException if the implementation does not support concurrent validation
+	 */
+	default void setExecutorService(final ExecutorService executorService) {
+		throw new UnsupportedOperationException("The concurrent validation is not supported by this implementation!");
+	}
+
 	/**
 	 * This method allows to change the Digest Algorithm that will be used for tokens' digest calculation
 	 * Default : {@code DigestAlgorithm.SHA256}
@@ -36,6 +36,7 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
 
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 /**
  * This class provides the different sources used to verify the status of a certificate using the trust model. There are
@@ -97,6 +98,12 @@ public class CommonCertificateVerifier implements CertificateVerifier {
 	 */
 	private AIASource aiaSource;
 
+	/**
+	 * The executor service used to execute the independent validation tasks concurrently.
+	 * When not defined, the tasks are executed sequentially.
+	 */
+	private ExecutorService executorService;
+
 	/**
 	 * This variable set the default Digest Algorithm what will be used for calculation
 	 * of digests for validation tokens and signed data
@@ -323,6 +330,16 @@ public class CommonCertificateVerifier implements CertificateVerifier {
 		this.aiaSource = aiaSource;
 	}
 
+	@Override
+	public ExecutorService getExecutorService() {
+		return executorService;
+	}
+
+	@Override
+	public void setExecutorService(ExecutorService executorService) {
+		this.executorService = executorService;
+	}
+
 	@Override
 	public StatusAlert getAlertOnInvalidTimestamp() {
 		return alertOnInvalidTimestamp;
@@ -28,7 +28,7 @@ import eu.europa.esig.dss.enumerations.SignatureAlgorithm;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.policy.ValidationPolicy;
-import eu.europa.esig.dss.policy.ValidationPolicyFacade;
+import eu.europa.esig.dss.policy.ValidationPolicyRegistry;
 import eu.europa.esig.dss.policy.jaxb.CryptographicConstraint;
 import eu.europa.esig.dss.policy.jaxb.Level;
 import eu.europa.esig.dss.spi.CertificateExtensionsUtils;
@@ -103,7 +103,7 @@ public class RevocationDataVerifier {
      */
     public static RevocationDataVerifier createDefaultRevocationDataVerifier() {
         try {
-            final ValidationPolicy validationPolicy = ValidationPolicyFacade.newFacade().getDefaultValidationPolicy();
+            final ValidationPolicy validationPolicy = ValidationPolicyRegistry.getInstance().getDefaultValidationPolicy();
             return createRevocationDataVerifierFromPolicy(validationPolicy);
         } catch (Exception e) {
             throw new DSSException(String.format(
@@ -22,6 +22,7 @@ package eu.europa.esig.dss.validation;
 
 import eu.europa.esig.dss.spi.x509.CertificateReorderer;
 import eu.europa.esig.dss.enumerations.RevocationReason;
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.Token;
 import eu.europa.esig.dss.model.x509.X500PrincipalHelper;
@@ -68,6 +69,10 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 /**
  * During the validation of a signature, the software retrieves different X509 artifacts like Certificate, CRL and OCSP
@@ -119,6 +124,12 @@ public class SignatureValidationContext implements ValidationContext {
 	/** Cached map of tokens and their {@code CertificateToken} issuers */
 	private final Map<Token, CertificateToken> tokenIssuerMap = new HashMap<>();
 
+	/** Issuer requests by AIA in progress (used with an ExecutorService) */
+	private final Map<CertificateToken, AIAIssuerRequest> aiaIssuerRequests = new HashMap<>();
+
+	/** Issuers found within the certificate sources before requesting AIA (used with an ExecutorService) */
+	private final Map<Token, CertificateToken> certificateSourceIssuers = new HashMap<>();
+
 	/** Certificates from the document */
 	private final ListCertificateSource documentCertificateSource = new ListCertificateSource();
 
@@ -152,6 +163,9 @@ public class SignatureValidationContext implements ValidationContext {
 	/** External trusted certificate sources */
 	private ListCertificateSource trustedCertSources;
 
+	/** Used to execute the online revocation data requests concurrently, when defined */
+	private ExecutorService executorService;
+
 	/** External adjunct certificate sources */
 	private ListCertificateSource adjunctCertSources;
 
@@ -199,6 +213,7 @@ public class SignatureValidationContext implements ValidationContext {
 		this.revocationDataVerifier = certificateVerifier.getRevocationDataVerifier();
 		this.revocationDataVerifier.setTrustedCertificateSource(trustedCertSources);
 		this.revocationFallback = certificateVerifier.isRevocationFallback();
+		this.executorService = certificateVerifier.getExecutorService();
 	}
 
 	@Override
@@ -359,6 +374,24 @@ public class SignatureValidationContext implements ValidationContext {
 		}
 	}
 
+	/**
+	 * This method returns all tokens to verify. If there is no more tokens to verify an empty list is returned.
+	 *
+	 * @return a list of tokens to verify
+	 */
+	private List<Token> getNotYetVerifiedTokens() {
+		synchronized (tokensToProcess) {
+			final List<Token> tokens = new ArrayList<>();
+			for (final Entry<Token, Boolean> entry : tokensToProcess.entrySet()) {
+				if (entry.getValue() == null) {
+					entry.setValue(true);
+					tokens.add(entry.getKey());
+				}
+			}
+			return tokens;
+		}
+	}
+
 	/**
 	 * This method returns a timestamp token to verify. If there is no more tokens to verify null is returned.
 	 *
@@ -405,6 +438,41 @@ public class SignatureValidationContext implements ValidationContext {
 			return issuerCertificateToken;
 		}
 
+		ListCertificateSource allCertificateSources = getAllCertificateSources();
+		if (certificateSourceIssuers.containsKey(token)) {
+			// already looked up before requesting AIA
+			issuerCertificateToken = certificateSourceIssuers.remove(token);
+		} else {
+			issuerCertificateToken = getIssuerFromCertificateSources(token, allCertificateSources);
+		}
+
+		// Request AIA only when no issuer has been found yet
+		if (issuerCertificateToken == null && token instanceof CertificateToken && aiaSource != null &&
+				!tokenIssuerMap.containsKey(token)) {
+			issuerCertificateToken = getIssuerFromAIA((CertificateToken) token);
+		}
+		// remove a request by AIA not used anymore
+		aiaIssuerRequests.remove(token);
+		
+		if (issuerCertificateToken == null && token instanceof OCSPToken) {
+			issuerCertificateToken = getOCSPIssuer((OCSPToken) token, allCertificateSources);
+		}
+
+		if (issuerCertificateToken == null && token instanceof TimestampToken) {
+			issuerCertificateToken = getTSACertificate((TimestampToken) token, allCertificateSources);
+		}
+
+		if (issuerCertificateToken != null) {
+			addCertificateTokenForVerification(issuerCertificateToken);
+		}
+
+		// Cache the result (successful or unsuccessful)
+		tokenIssuerMap.put(token, issuerCertificateToken);
+
+		return issuerCertificateToken;
+	}
+
+	private CertificateToken getIssuerFromCertificateSources(final Token token, ListCertificateSource allCertificateSources) {
 		// Find issuer candidates from a particular certificate source
 		Set<CertificateToken> candidates = Collections.emptySet();
 
@@ -427,7 +495,6 @@ public class SignatureValidationContext implements ValidationContext {
 		}
 
 		// Find issuer candidates from all sources
-		ListCertificateSource allCertificateSources = getAllCertificateSources();
 		if (Utils.isCollectionEmpty(candidates)) {
 			candidates = getIssuersFromSources(token, allCertificateSources);
 		}
@@ -437,31 +504,23 @@ public class SignatureValidationContext implements ValidationContext {
 			candidates = processedCertificates;
 		}
 
-		issuerCertificateToken = new TokenIssuerSelector(token, candidates).getIssuer();
-
-		// Request AIA only when no issuer has been found yet
-		if (issuerCertificateToken == null && token instanceof CertificateToken && aiaSource != null &&
-				!tokenIssuerMap.containsKey(token)) {
-			final AIACertificateSource aiaCertificateSource = new AIACertificateSource((CertificateToken) token, aiaSource);
-			issuerCertificateToken = aiaCertificateSource.getIssuerFromAIA();
-			addCertificateSource(aiaCertificateSources, aiaCertificateSource);
-		}
-		
-		if (issuerCertificateToken == null && token instanceof OCSPToken) {
-			issuerCertificateToken = getOCSPIssuer((OCSPToken) token, allCertificateSources);
-		}
+		return new TokenIssuerSelector(token, candidates).getIssuer();
+	}
 
-		if (issuerCertificateToken == null && token instanceof TimestampToken) {
-			issuerCertificateToken = getTSACertificate((TimestampToken) token, allCertificateSources);
-		}
+	private CertificateToken getIssuerFromAIA(final CertificateToken certificateToken) {
+		final AIACertificateSource aiaCertificateSource;
+		final CertificateToken issuerCertificateToken;
 
-		if (issuerCertificateToken != null) {
-			addCertificateTokenForVerification(issuerCertificateToken);
+		final AIAIssuerRequest aiaIssuerRequest = aiaIssuerRequests.get(certificateToken);
+		if (aiaIssuerRequest != null) {
+			aiaCertificateSource = aiaIssuerRequest.aiaCertificateSource;
+			issuerCertificateToken = aiaIssuerRequest.getResult();
+		} else {
+			aiaCertificateSource = new AIACertificateSource(certificateToken, aiaSource);
+			issuerCertificateToken = aiaCertificateSource.getIssuerFromAIA();
 		}
 
-		// Cache the result (successful or unsuccessful)
-		tokenIssuerMap.put(token, issuerCertificateToken);
-
+		addCertificateSource(aiaCertificateSources, aiaCertificateSource);
 		return issuerCertificateToken;
 	}
 
@@ -758,6 +817,11 @@ public class SignatureValidationContext implements ValidationContext {
 			getCertChain(timestampToken);
 			timestampToken = getNotYetVerifiedTimestamp();
 		}
+
+		if (executorService != null) {
+			validateConcurrently();
+			return;
+		}
 		
 		Token token = getNotYetVerifiedToken();
 		while (token != null) {
@@ -770,6 +834,87 @@ public class SignatureValidationContext implements ValidationContext {
 		}
 	}
 
+	/**
+	 * Processes the tokens to be verified by iterations. Within an iteration, the certificate chains are built
+	 * sequentially, while the online revocation data requests for all certificates of the iteration are executed
+	 * concurrently using the defined {@code ExecutorService}. The obtained revocation data is then added for
+	 * verification in the order of the processed certificates.
+	 */
+	private void validateConcurrently() {
+		List<Token> tokens = getNotYetVerifiedTokens();
+		while (Utils.isCollectionNotEmpty(tokens)) {
+			getIssuersConcurrently(tokens);
+
+			final List<OnlineRevocationRequest> onlineRevocationRequests = new ArrayList<>();
+			for (Token token : tokens) {
+				// extract the certificate chain and add missing tokens for verification
+				List<Token> certChain = getCertChain(token);
+				if (token instanceof CertificateToken) {
+					final CertificateToken certToken = (CertificateToken) token;
+					final Set<RevocationToken<?>> revocations = new HashSet<>();
+					final Supplier<RevocationToken<?>> onlineRevocationSupplier = getRevocationDataSupplier(certToken, certChain, revocations);
+					if (onlineRevocationSupplier != null) {
+						onlineRevocationRequests.add(new OnlineRevocationRequest(certToken, revocations,
+								CompletableFuture.supplyAsync(onlineRevocationSupplier, executorService)));
+					}
+				}
+			}
+
+			for (OnlineRevocationRequest onlineRevocationRequest : onlineRevocationRequests) {
+				addOnlineRevocationToken(onlineRevocationRequest.certificateToken, onlineRevocationRequest.revocations,
+						onlineRevocationRequest.getResult());
+			}
+
+			tokens = getNotYetVerifiedTokens();
+		}
+	}
+
+	/**
+	 * Finds the issuers of the given tokens level by level (the tokens, their issuers, the issuers of the issuers, etc.).
+	 * The requests by AIA required for the tokens of a level are executed concurrently
+	 * using the defined {@code ExecutorService}.
+	 *
+	 * @param tokens a list of {@link Token}s to find issuers for
+	 */
+	private void getIssuersConcurrently(final List<Token> tokens) {
+		final Set<Token> processedTokens = new HashSet<>();
+		List<Token> currentLevel = tokens;
+		while (Utils.isCollectionNotEmpty(currentLevel)) {
+			requestIssuersByAIA(currentLevel);
+
+			final List<Token> nextLevel = new ArrayList<>();
+			for (Token token : currentLevel) {
+				if (processedTokens.add(token)) {
+					final CertificateToken issuer = getIssuer(token);
+					if (issuer != null && !processedTokens.contains(issuer)) {
+						nextLevel.add(issuer);
+					}
+				}
+			}
+			currentLevel = nextLevel;
+		}
+	}
+
+	private void requestIssuersByAIA(final List<Token> tokens) {
+		if (aiaSource == null) {
+			return;
+		}
+		final ListCertificateSource allCertificateSources = getAllCertificateSources();
+		for (Token token : tokens) {
+			if (token instanceof CertificateToken && !token.isSelfSigned() && !tokenIssuerMap.containsKey(token) &&
+					!aiaIssuerRequests.containsKey(token) && !certificateSourceIssuers.containsKey(token)) {
+				final CertificateToken issuer = getIssuerFromCertificateSources(token, allCertificateSources);
+				certificateSourceIssuers.put(token, issuer);
+				if (issuer != null) {
+					continue;
+				}
+				final AIACertificateSource aiaCertificateSource = new AIACertificateSource((CertificateToken) token, aiaSource);
+				aiaIssuerRequests.put((CertificateToken) token, new AIAIssuerRequest(aiaCertificateSource,
+						CompletableFuture.supplyAsync(aiaCertificateSource::getIssuerFromAIA, executorService)));
+			}
+		}
+	}
+
 	/**
 	 * Retrieves the revocation data from signature (if exists) or from the online
 	 * sources. The issuer certificate must be provided, the underlining library
@@ -780,6 +925,27 @@ public class SignatureValidationContext implements ValidationContext {
 	 * @return a set of found {@link RevocationToken}s
 	 */
 	private Set<RevocationToken<?>> getRevocationData(final CertificateToken certToken, List<Token> certChain) {
+		final Set<RevocationToken<?>> revocations = new HashSet<>();
+
+		final Supplier<RevocationToken<?>> onlineRevocationSupplier = getRevocationDataSupplier(certToken, certChain, revocations);
+		if (onlineRevocationSupplier != null) {
+			addOnlineRevocationToken(certToken, revocations, onlineRevocationSupplier.get());
+		}
+
+		return revocations;
+	}
+
+	/**
+	 * Collects the revocation data from signature (if exists) to the given {@code revocations} set and
+	 * returns a supplier requesting a revocation data from the online sources, when the request is required.
+	 *
+	 * @param certToken the current token
+	 * @param certChain the complete chain
+	 * @param revocations a set of {@link RevocationToken}s to be filled
+	 * @return {@link Supplier} of an online {@link RevocationToken} when an online request is required, NULL otherwise
+	 */
+	private Supplier<RevocationToken<?>> getRevocationDataSupplier(final CertificateToken certToken, List<Token> certChain,
+																   final Set<RevocationToken<?>> revocations) {
 
 		if (LOG.isTraceEnabled()) {
 			LOG.trace("Checking revocation data for : {}", certToken.getDSSIdAsString());
@@ -787,17 +953,15 @@ public class SignatureValidationContext implements ValidationContext {
 
 		if (isRevocationDataNotRequired(certToken)) {
 			LOG.debug("Revocation data is not required for certificate : {}", certToken.getDSSIdAsString());
-			return Collections.emptySet();
+			return null;
 		}
 
-		CertificateToken issuerToken = getIssuer(certToken);
+		final CertificateToken issuerToken = getIssuer(certToken);
 		if (issuerToken == null) {
 			LOG.warn("Issuer not found for certificate {}", certToken.getDSSIdAsString());
-			return Collections.emptySet();
+			return null;
 		}
 
-		Set<RevocationToken<?>> revocations = new HashSet<>();
-
 		// ALL Embedded revocation data
 		List<RevocationToken<CRL>> crlTokens = documentCRLSource.getRevocationTokens(certToken, issuerToken);
 		for (RevocationToken<CRL> revocationToken : crlTokens) {
@@ -820,29 +984,35 @@ public class SignatureValidationContext implements ValidationContext {
 			LOG.debug("The signature does not contain relative revocation data.");
 			if (checkRevocationForUntrustedChains || containsTrustAnchor(certChain)) {
 				LOG.trace("Revocation update is in progress for certificate : {}", certToken.getDSSIdAsString());
-				CertificateToken trustAnchor = (CertificateToken) getFirstTrustAnchor(certChain);
+				final CertificateToken trustAnchor = (CertificateToken) getFirstTrustAnchor(certChain);
 
 				// Fetch OCSP or CRL from online sources
-				final RevocationToken<?> onlineRevocationToken = getRevocationToken(certToken, issuerToken, trustAnchor);
-
-				// Check if the obtained revocation is not yet present
-				if (onlineRevocationToken != null && !revocations.contains(onlineRevocationToken)) {
-					LOG.debug("Obtained a new revocation data : {}, for certificate : {}",
-							onlineRevocationToken.getDSSIdAsString(), certToken.getDSSIdAsString());
-					revocations.add(onlineRevocationToken);
-					addRevocationTokenForVerification(onlineRevocationToken);
-				}
+				return () -> getRevocationToken(certToken, issuerToken, trustAnchor);
 				
 			} else {
 				LOG.warn("External revocation check is skipped for untrusted certificate : {}", certToken.getDSSIdAsString());
 			}
 		}
-		
+
 		if (revocations.isEmpty()) {
 			LOG.warn("No revocation found for the certificate {}", certToken.getDSSIdAsString());
 		}
+		return null;
+	}
 
-		return revocations;
+	private void addOnlineRevocationToken(final CertificateToken certToken, final Set<RevocationToken<?>> revocations,
+										  final RevocationToken<?> onlineRevocationToken) {
+		// Check if the obtained revocation is not yet present
+		if (onlineRevocationToken != null && !revocations.contains(onlineRevocationToken)) {
+			LOG.debug("Obtained a new revocation data : {}, for certificate : {}",
+					onlineRevocationToken.getDSSIdAsString(), certToken.getDSSIdAsString());
+			revocations.add(onlineRevocationToken);
+			addRevocationTokenForVerification(onlineRevocationToken);
+		}
+
+		if (revocations.isEmpty()) {
+			LOG.warn("No revocation found for the certificate {}", certToken.getDSSIdAsString());
+		}
 	}
 
 	private <T extends Token> boolean containsTrustAnchor(List<T> certChain) {
@@ -1366,6 +1536,94 @@ public class SignatureValidationContext implements ValidationContext {
 		}
 	}
 
+	/**
+	 * This class represents a pending online revocation data request for a certificate
+	 */
+	private static class OnlineRevocationRequest {
+
+		/** The certificate to get revocation data for */
+		private final CertificateToken certificateToken;
+
+		/** The revocation data collected for the certificate before the online request */
+		private final Set<RevocationToken<?>> revocations;
+
+		/** The result of the online revocation data request */
+		private final CompletableFuture<RevocationToken<?>> future;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param certificateToken {@link CertificateToken} to get revocation data for
+		 * @param revocations a set of {@link RevocationToken}s collected for the certificate
+		 * @param future {@link CompletableFuture} of the online revocation data request
+		 */
+		private OnlineRevocationRequest(final CertificateToken certificateToken, final Set<RevocationToken<?>> revocations,
+										final CompletableFuture<RevocationToken<?>> future) {
+			this.certificateToken = certificateToken;
+			this.revocations = revocations;
+			this.future = future;
+		}
+
+		/**
+		 * Waits for the online request to complete and returns the obtained revocation data
+		 *
+		 * @return {@link RevocationToken} when obtained, NULL otherwise
+		 */
+		private RevocationToken<?> getResult() {
+			try {
+				return future.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+				throw new DSSException(String.format("Unable to retrieve revocation data for certificate '%s' : %s",
+						certificateToken.getDSSIdAsString(), e.getMessage()), e);
+			}
+		}
+
+	}
+
+	/**
+	 * This class represents a pending request of an issuer certificate by AIA
+	 */
+	private static class AIAIssuerRequest {
+
+		/** The certificate source executing the request */
+		private final AIACertificateSource aiaCertificateSource;
+
+		/** The result of the request */
+		private final CompletableFuture<CertificateToken> future;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param aiaCertificateSource {@link AIACertificateSource} executing the request
+		 * @param future {@link CompletableFuture} of the request
+		 */
+		private AIAIssuerRequest(final AIACertificateSource aiaCertificateSource,
+								 final CompletableFuture<CertificateToken> future) {
+			this.aiaCertificateSource = aiaCertificateSource;
+			this.future = future;
+		}
+
+		/**
+		 * Waits for the request to complete and returns the obtained issuer certificate
+		 *
+		 * @return {@link CertificateToken} issuer when obtained, NULL otherwise
+		 */
+		private CertificateToken getResult() {
+			try {
+				return future.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+				throw new DSSException(String.format("Unable to retrieve the issuer by AIA : %s", e.getMessage()), e);
+			}
+		}
+
+	}
+
 	/**
 	 * This class defines a POE provided to the validation process or obtained from processed timestamps
 	 */
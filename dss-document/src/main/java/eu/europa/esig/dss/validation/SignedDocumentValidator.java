@@ -34,6 +34,7 @@ import eu.europa.esig.dss.model.scope.SignatureScope;
 import eu.europa.esig.dss.policy.EtsiValidationPolicy;
 import eu.europa.esig.dss.policy.ValidationPolicy;
 import eu.europa.esig.dss.policy.ValidationPolicyFacade;
+import eu.europa.esig.dss.policy.ValidationPolicyRegistry;
 import eu.europa.esig.dss.policy.jaxb.ConstraintsParameters;
 import eu.europa.esig.dss.spi.DSSSecurityProvider;
 import eu.europa.esig.dss.spi.DSSUtils;
@@ -64,10 +65,15 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * Validates a signed document. The content of the document is determined
@@ -182,6 +188,14 @@ public abstract class SignedDocumentValidator implements DocumentValidator {
 	 */
 	protected boolean skipValidationContextExecution = false;
 
+	/**
+	 * The registry used to obtain the parsed validation policies
+	 * (when null, the policy is parsed on each validation)
+	 *
+	 * Default: the shared {@code ValidationPolicyRegistry}
+	 */
+	private ValidationPolicyRegistry validationPolicyRegistry = ValidationPolicyRegistry.getInstance();
+
 	/**
 	 * Cached list of signatures extracted from the document
 	 */
@@ -351,6 +365,19 @@ public abstract class SignedDocumentValidator implements DocumentValidator {
 		this.enableEtsiValidationReport = enableEtsiValidationReport;
 	}
 
+	/**
+	 * Sets the registry used to obtain the validation policies provided as XML.
+	 * The same parsed policy instance is then reused by the following validations.
+	 * When null, the policy is parsed on each validation.
+	 *
+	 * Default: the shared {@code ValidationPolicyRegistry}
+	 *
+	 * @param validationPolicyRegistry {@link ValidationPolicyRegistry}
+	 */
+	public void setValidationPolicyRegistry(ValidationPolicyRegistry validationPolicyRegistry) {
+		this.validationPolicyRegistry = validationPolicyRegistry;
+	}
+
 	@Override
 	public Reports validateDocument() {
 		return validateDocument((InputStream) null);
@@ -417,9 +444,11 @@ public abstract class SignedDocumentValidator implements DocumentValidator {
 		try {
 			if (policyDataStream == null) {
 				LOG.debug("No provided validation policy : use the default policy");
-				validationPolicy = ValidationPolicyFacade.newFacade().getDefaultValidationPolicy();
+				validationPolicy = validationPolicyRegistry != null ? validationPolicyRegistry.getDefaultValidationPolicy()
+						: ValidationPolicyFacade.newFacade().getDefaultValidationPolicy();
 			} else {
-				validationPolicy = ValidationPolicyFacade.newFacade().getValidationPolicy(policyDataStream);
+				validationPolicy = validationPolicyRegistry != null ? validationPolicyRegistry.getValidationPolicy(policyDataStream)
+						: ValidationPolicyFacade.newFacade().getValidationPolicy(policyDataStream);
 			}
 		} catch (Exception e) {
 			throw new IllegalInputException("Unable to load the policy", e);
@@ -979,11 +1008,80 @@ public abstract class SignedDocumentValidator implements DocumentValidator {
 
 	@Override
 	public <T extends AdvancedSignature> void processSignaturesValidation(Collection<T> allSignatureList) {
+		final ExecutorService executorService = certificateVerifier != null ? certificateVerifier.getExecutorService() : null;
+		if (executorService != null && Utils.collectionSize(allSignatureList) > 1 && isConcurrentSignatureValidationSupported()) {
+			processSignaturesValidationConcurrently(allSignatureList, executorService);
+		} else {
+			for (final AdvancedSignature signature : allSignatureList) {
+				signature.checkSignatureIntegrity();
+			}
+		}
+	}
+
+	/**
+	 * Verifies the signatures within the given {@code ExecutorService} and waits for all the tasks to complete.
+	 * A task is created for each top-level signature, which verifies the signature and then its counter signatures,
+	 * so a counter signature is never verified concurrently with its master signature.
+	 *
+	 * @param <T> {@link AdvancedSignature} implementation
+	 * @param allSignatureList a collection of {@link AdvancedSignature}s to be validated
+	 * @param executorService {@link ExecutorService} to be used
+	 */
+	private <T extends AdvancedSignature> void processSignaturesValidationConcurrently(Collection<T> allSignatureList,
+																					   ExecutorService executorService) {
+		final Set<AdvancedSignature> signaturesToValidate = Collections.newSetFromMap(new IdentityHashMap<>());
+		signaturesToValidate.addAll(allSignatureList);
+
+		final List<Future<?>> futures = new ArrayList<>();
 		for (final AdvancedSignature signature : allSignatureList) {
-			signature.checkSignatureIntegrity();
+			final AdvancedSignature masterSignature = signature.getMasterSignature();
+			if (masterSignature == null || !signaturesToValidate.contains(masterSignature)) {
+				futures.add(executorService.submit(() -> checkSignatureTreeIntegrity(signature, signaturesToValidate)));
+			}
+		}
+		try {
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DSSException("Interruption during the signatures validation", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new DSSException(String.format("Unable to validate the signatures : %s", e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Verifies the {@code signature} and then, recursively, its counter signatures present in {@code signaturesToValidate}
+	 *
+	 * @param signature {@link AdvancedSignature} to be verified
+	 * @param signaturesToValidate a set of {@link AdvancedSignature}s to be verified
+	 */
+	private void checkSignatureTreeIntegrity(AdvancedSignature signature, Set<AdvancedSignature> signaturesToValidate) {
+		signature.checkSignatureIntegrity();
+		for (AdvancedSignature counterSignature : signature.getCounterSignatures()) {
+			if (signaturesToValidate.contains(counterSignature)) {
+				checkSignatureTreeIntegrity(counterSignature, signaturesToValidate);
+			}
 		}
 	}
 
+	/**
+	 * Defines whether the signature values of different signatures handled by the validator can be
+	 * verified concurrently, when an {@code ExecutorService} is defined within the {@code CertificateVerifier}.
+	 * The method shall be overridden for the formats, where the signatures are verified independently
+	 * from a shared mutable structure (e.g. a DOM tree).
+	 * Default : FALSE (signatures are verified sequentially)
+	 *
+	 * @return TRUE if the signatures can be verified concurrently, FALSE otherwise
+	 */
+	protected boolean isConcurrentSignatureValidationSupported() {
+		return false;
+	}
+
 	@Deprecated
 	@Override
 	public <T extends AdvancedSignature> void findSignatureScopes(Collection<T> currentValidatorSignatures) {
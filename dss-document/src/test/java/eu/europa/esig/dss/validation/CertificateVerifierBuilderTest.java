@@ -32,9 +32,13 @@ import eu.europa.esig.dss.spi.x509.aia.DefaultAIASource;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
 import eu.europa.esig.dss.spi.x509.revocation.crl.OfflineCRLSource;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OfflineOCSPSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -44,6 +48,18 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class CertificateVerifierBuilderTest {
 
+    private ExecutorService executorService;
+
+    @BeforeEach
+    public void init() {
+        executorService = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
     @Test
     public void buildCompleteCopyTest() {
         CertificateVerifier certificateVerifier = initCertificateVerifier();
@@ -123,6 +139,27 @@ public class CertificateVerifierBuilderTest {
         assertTrue(copy.isRevocationFallback());
     }
 
+    @Test
+    public void buildCompleteCopyWithExecutorServiceTest() {
+        CertificateVerifier certificateVerifier = initCertificateVerifier();
+        certificateVerifier.setExecutorService(executorService);
+
+        CertificateVerifier copy = new CertificateVerifierBuilder(certificateVerifier).buildCompleteCopy();
+        assertEquals(executorService, copy.getExecutorService());
+
+        copy = new CertificateVerifierBuilder(certificateVerifier).buildCompleteCopyForValidation();
+        assertEquals(executorService, copy.getExecutorService());
+    }
+
+    @Test
+    public void buildOfflineAndSilentCopyWithExecutorServiceTest() {
+        CertificateVerifier certificateVerifier = initCertificateVerifier();
+        certificateVerifier.setExecutorService(executorService);
+
+        CertificateVerifier copy = new CertificateVerifierBuilder(certificateVerifier).buildOfflineAndSilentCopy();
+        assertNull(copy.getExecutorService());
+    }
+
     private CertificateVerifier initCertificateVerifier() {
         CertificateVerifier certificateVerifier = new CommonCertificateVerifier();
         certificateVerifier.setDefaultDigestAlgorithm(DigestAlgorithm.SHA512);
@@ -39,10 +39,13 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SignatureValidationContextTest {
 
@@ -140,7 +143,22 @@ public class SignatureValidationContextTest {
 
 	@Test
 	public void testBridgeCertificateMovesUpInsteadofSidewaysAndFindsRootOnValidation() {
-		CertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+		testBridgeCertificateMovesUpInsteadofSidewaysAndFindsRoot(new CommonCertificateVerifier());
+	}
+
+	@Test
+	public void testBridgeCertificateMovesUpInsteadofSidewaysAndFindsRootWithExecutorService() {
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			CertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+			certificateVerifier.setExecutorService(executorService);
+			testBridgeCertificateMovesUpInsteadofSidewaysAndFindsRoot(certificateVerifier);
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private void testBridgeCertificateMovesUpInsteadofSidewaysAndFindsRoot(CertificateVerifier certificateVerifier) {
 		CertificateSource certSource = new CommonTrustedCertificateSource();
 		certificateVerifier.setTrustedCertSources(certSource);
 
@@ -224,6 +242,40 @@ public class SignatureValidationContextTest {
 		assertNotNull(certToken.getPublicKeyOfTheSigner());
 	}
 
+	@Test
+	public void successfulAiaRequestWithExecutorServiceTest() {
+		CertificateToken certToken = DSSUtils.loadCertificate(new File("src/test/resources/certificates/CZ.cer"));
+		CertificateToken caCertToken = DSSUtils.loadCertificate(new File("src/test/resources/certificates/CZ_CA.cer"));
+
+		Map<String, byte[]> dataMap = new HashMap<>();
+		dataMap.put("http://q.ica.cz/ca_nbusr09.p7c", caCertToken.getEncoded());
+
+		DataLoader dataLoader = new MemoryDataLoader(dataMap);
+		MockAIASource aiaSource = new MockAIASource(dataLoader);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			CommonCertificateVerifier certificateVerifier = new CommonCertificateVerifier();
+			certificateVerifier.setAIASource(aiaSource);
+			certificateVerifier.setExecutorService(executorService);
+
+			SignatureValidationContext svc = new SignatureValidationContext();
+			svc.initialize(certificateVerifier);
+			svc.addCertificateTokenForVerification(certToken);
+
+			svc.validate();
+			assertEquals(1, aiaSource.requestCounter);
+			assertNotNull(certToken.getPublicKeyOfTheSigner());
+			assertTrue(svc.getProcessedCertificates().contains(caCertToken));
+
+			svc.validate();
+			assertEquals(1, aiaSource.requestCounter);
+
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
 	@Test
 	public void unsuccessfulAiaRequestTest() {
 		CertificateToken certToken = DSSUtils.loadCertificate(new File("src/test/resources/certificates/CZ.cer"));
@@ -38,6 +38,9 @@ public class I18nProvider {
 	
 	private static final String MESSAGES = "dss-messages"; // defined a name of the target file
 	
+	// the requested locale
+	private final Locale locale;
+
 	// Use system locale as default
 	private final ResourceBundle bundle;
 	
@@ -58,10 +61,20 @@ public class I18nProvider {
 	 * @param locale {@link Locale} language/location to use
 	 */
 	public I18nProvider(Locale locale) {
+		this.locale = locale;
 		this.bundle = ResourceBundle.getBundle(MESSAGES, locale);
 		this.keySet = bundle.keySet();
 	}
 	
+	/**
+	 * Gets the language/location the provider has been created with
+	 *
+	 * @return {@link Locale}
+	 */
+	public Locale getLocale() {
+		return locale;
+	}
+
 	/**
 	 * Extracts an {@code I18nMessage} by its key
 	 * 
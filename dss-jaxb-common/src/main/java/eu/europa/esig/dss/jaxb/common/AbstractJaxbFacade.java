@@ -37,8 +37,13 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -49,6 +54,16 @@ import java.util.Objects;
  */
 public abstract class AbstractJaxbFacade<T> {
 
+	/** The maximum number of marshallers cached per thread */
+	private static final int MAX_CACHED_MARSHALLERS = 16;
+
+	/**
+	 * Caches the marshallers per thread and facade class.
+	 * The facade class (and not its {@code JAXBContext}) is used as a key, in order to take into account
+	 * the customizations of {@code #getMarshaller(boolean)} by subclasses.
+	 */
+	private static final ThreadLocal<Map<Class<?>, Marshaller>> MARSHALLER_CACHE = ThreadLocal.withInitial(HashMap::new);
+
 	/**
 	 * Default constructor
 	 */
@@ -125,7 +140,7 @@ public abstract class AbstractJaxbFacade<T> {
 	public String marshall(T jaxbObject, boolean validate) throws JAXBException, IOException, SAXException {
 		Objects.requireNonNull(jaxbObject, "JAXBObject is null");
 
-		Marshaller marshaller = getMarshaller(validate);
+		Marshaller marshaller = getCachedMarshaller(validate);
 
 		try (StringWriter writer = new StringWriter()) {
 			marshaller.marshal(wrap(jaxbObject), writer);
@@ -176,9 +191,12 @@ public abstract class AbstractJaxbFacade<T> {
 		Objects.requireNonNull(jaxbObject, "JAXBObject is null");
 		Objects.requireNonNull(os, "OutputStream is null");
 
-		Marshaller marshaller = getMarshaller(validate);
+		Marshaller marshaller = getCachedMarshaller(validate);
 
-		marshaller.marshal(wrap(jaxbObject), os);
+		// marshals through a Writer, as {@code #marshall(T, boolean)}, in order to produce the same indentation
+		Writer writer = new OutputStreamWriter(os, StandardCharsets.UTF_8);
+		marshaller.marshal(wrap(jaxbObject), writer);
+		writer.flush();
 	}
 
 	/**
@@ -357,6 +375,42 @@ public abstract class AbstractJaxbFacade<T> {
 		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 		return marshaller;
 	}
+
+	/**
+	 * Returns a Marshaller cached for the current thread and the class of the facade (see {@link #getMarshaller(boolean)})
+	 *
+	 * @param validate defines if the schema should be validated
+	 * @return {@link Marshaller}
+	 * @throws JAXBException
+	 *                            if an exception occurred with the
+	 *                            {@link JAXBContext}
+	 * @throws SAXException
+	 *                            if an exception occurred with the {@link Schema}
+	 * @throws IOException
+	 *                            if an exception occurred with the I/O.
+	 */
+	protected Marshaller getCachedMarshaller(boolean validate) throws JAXBException, SAXException, IOException {
+		final Map<Class<?>, Marshaller> marshallers = MARSHALLER_CACHE.get();
+		Marshaller marshaller = marshallers.get(getClass());
+		if (marshaller == null) {
+			if (marshallers.size() >= MAX_CACHED_MARSHALLERS) {
+				marshallers.clear();
+			}
+			marshaller = getMarshaller(validate);
+			marshallers.put(getClass(), marshaller);
+		} else {
+			marshaller.setSchema(validate ? getSchema() : null);
+		}
+		return marshaller;
+	}
+
+	/**
+	 * Removes the marshallers of all facades cached for the current thread
+	 */
+	public static void clearCachedMarshallers() {
+		MARSHALLER_CACHE.remove();
+	}
+
 	/**
 	 * Returns the Unmarshaller
 	 *
@@ -0,0 +1,127 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.jaxb.object;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Lazily built index of the elements of a list by their identifier, used by the report wrappers
+ * in order to avoid a linear scan on each lookup by id.
+ * <p>
+ * The index is built on the first lookup and is rebuilt when the indexed list is replaced, when its size changes
+ * or when the identifier of a found element does not match the requested one anymore.
+ * When several elements share the same identifier, the first one of the list is returned (as with a linear scan).
+ * <p>
+ * The class is thread-safe: the index is published as an immutable snapshot, a concurrent rebuild is harmless.
+ *
+ * @param <T> the type of the indexed elements
+ */
+public class IdentifierIndex<T> {
+
+	/** Extracts the identifier of an element, returns null for elements to be skipped */
+	private final Function<T, String> identifierExtractor;
+
+	/** The current snapshot of the index */
+	private volatile Snapshot<T> snapshot;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param identifierExtractor {@link Function} returning the identifier of an element,
+	 *                            or null when the element shall not be indexed
+	 */
+	public IdentifierIndex(final Function<T, String> identifierExtractor) {
+		Objects.requireNonNull(identifierExtractor, "Identifier extractor cannot be null!");
+		this.identifierExtractor = identifierExtractor;
+	}
+
+	/**
+	 * Returns the first element of the {@code elements} list with the given {@code identifier}
+	 *
+	 * @param elements list of elements to look into
+	 * @param identifier {@link String} identifier of the element to find
+	 * @return the found element, null if none
+	 */
+	public T get(List<? extends T> elements, String identifier) {
+		if (elements == null || identifier == null) {
+			return null;
+		}
+		Snapshot<T> currentSnapshot = snapshot;
+		if (currentSnapshot == null || !currentSnapshot.isBuiltFrom(elements)) {
+			currentSnapshot = build(elements);
+		}
+		T element = currentSnapshot.index.get(identifier);
+		if (element != null && !identifier.equals(identifierExtractor.apply(element))) {
+			// the identifier has been changed since the index construction
+			currentSnapshot = build(elements);
+			element = currentSnapshot.index.get(identifier);
+		}
+		return element;
+	}
+
+	/**
+	 * Drops the current index, the next lookup will rebuild it
+	 */
+	public void invalidate() {
+		snapshot = null;
+	}
+
+	private Snapshot<T> build(List<? extends T> elements) {
+		Map<String, T> index = new HashMap<>();
+		for (T element : elements) {
+			String identifier = identifierExtractor.apply(element);
+			if (identifier != null) {
+				index.putIfAbsent(identifier, element);
+			}
+		}
+		Snapshot<T> newSnapshot = new Snapshot<>(elements, elements.size(), index);
+		snapshot = newSnapshot;
+		return newSnapshot;
+	}
+
+	private static final class Snapshot<T> {
+
+		/** The indexed list */
+		private final List<?> source;
+
+		/** Size of the indexed list at the index construction time */
+		private final int sourceSize;
+
+		/** Elements by their identifiers */
+		private final Map<String, T> index;
+
+		private Snapshot(List<?> source, int sourceSize, Map<String, T> index) {
+			this.source = source;
+			this.sourceSize = sourceSize;
+			this.index = index;
+		}
+
+		private boolean isBuiltFrom(List<?> elements) {
+			return source == elements && sourceSize == elements.size();
+		}
+
+	}
+
+}
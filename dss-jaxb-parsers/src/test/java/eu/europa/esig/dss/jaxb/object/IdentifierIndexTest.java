@@ -0,0 +1,107 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.jaxb.object;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class IdentifierIndexTest {
+
+	@Test
+	public void getTest() {
+		List<Message> messages = new ArrayList<>();
+		messages.add(new Message("key1", "value1"));
+		messages.add(new Message("key2", "value2"));
+		messages.add(new Message("key1", "value3"));
+
+		IdentifierIndex<Message> index = new IdentifierIndex<>(Message::getKey);
+		assertEquals("value1", index.get(messages, "key1").getValue());
+		assertEquals("value2", index.get(messages, "key2").getValue());
+		assertNull(index.get(messages, "key3"));
+		assertNull(index.get(messages, null));
+		assertNull(index.get(null, "key1"));
+	}
+
+	@Test
+	public void skippedElementsTest() {
+		List<Message> messages = new ArrayList<>();
+		messages.add(new Message("key1", "value1"));
+		messages.add(new Message("key2", null));
+
+		IdentifierIndex<Message> index = new IdentifierIndex<>(message -> message.getValue() != null ? message.getKey() : null);
+		assertEquals("value1", index.get(messages, "key1").getValue());
+		assertNull(index.get(messages, "key2"));
+	}
+
+	@Test
+	public void modifiedListTest() {
+		List<Message> messages = new ArrayList<>();
+		messages.add(new Message("key1", "value1"));
+
+		IdentifierIndex<Message> index = new IdentifierIndex<>(Message::getKey);
+		assertNull(index.get(messages, "key2"));
+
+		Message message = new Message("key2", "value2");
+		messages.add(message);
+		assertSame(message, index.get(messages, "key2"));
+
+		messages.remove(message);
+		assertNull(index.get(messages, "key2"));
+
+		List<Message> otherMessages = new ArrayList<>();
+		otherMessages.add(message);
+		assertSame(message, index.get(otherMessages, "key2"));
+		assertNull(index.get(otherMessages, "key1"));
+
+		assertEquals("value1", index.get(messages, "key1").getValue());
+	}
+
+	@Test
+	public void modifiedIdentifierTest() {
+		List<String[]> elements = new ArrayList<>();
+		String[] element = new String[] { "id1" };
+		elements.add(element);
+
+		IdentifierIndex<String[]> index = new IdentifierIndex<>(e -> e[0]);
+		assertSame(element, index.get(elements, "id1"));
+
+		element[0] = "id2";
+		assertNull(index.get(elements, "id1"));
+		assertSame(element, index.get(elements, "id2"));
+
+		element[0] = "id3";
+		index.invalidate();
+		assertSame(element, index.get(elements, "id3"));
+	}
+
+	@Test
+	public void nullExtractorTest() {
+		assertThrows(NullPointerException.class, () -> new IdentifierIndex<Message>(null));
+	}
+
+}
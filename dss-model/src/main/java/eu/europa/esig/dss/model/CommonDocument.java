@@ -40,7 +40,9 @@ import java.util.EnumMap;
 public abstract class CommonDocument implements DSSDocument {
 
 	/**
-	 * Cached map of DigestAlgorithms and the corresponding digests for the document
+	 * Cached map of DigestAlgorithms and the corresponding digests for the document.
+	 * NOTE: the map shall be accessed within a block synchronized on it, as the digests
+	 * of a document may be requested concurrently (e.g. by the signatures validated in parallel)
 	 */
 	protected EnumMap<DigestAlgorithm, String> base64EncodeDigestMap = new EnumMap<>(
 			DigestAlgorithm.class);
@@ -102,7 +104,10 @@ public abstract class CommonDocument implements DSSDocument {
 
 	@Override
 	public String getDigest(final DigestAlgorithm digestAlgorithm) {
-		String base64EncodeDigest = base64EncodeDigestMap.get(digestAlgorithm);
+		String base64EncodeDigest;
+		synchronized (base64EncodeDigestMap) {
+			base64EncodeDigest = base64EncodeDigestMap.get(digestAlgorithm);
+		}
 		if (base64EncodeDigest == null) {
 			try (InputStream is = openStream()) {
 				MessageDigest messageDigest = digestAlgorithm.getMessageDigest();
@@ -113,7 +118,9 @@ public abstract class CommonDocument implements DSSDocument {
 				}
 				final byte[] digestBytes = messageDigest.digest();
 				base64EncodeDigest = Base64.getEncoder().encodeToString(digestBytes);
-				base64EncodeDigestMap.put(digestAlgorithm, base64EncodeDigest);
+				synchronized (base64EncodeDigestMap) {
+					base64EncodeDigestMap.put(digestAlgorithm, base64EncodeDigest);
+				}
 			} catch (IOException | NoSuchAlgorithmException e) {
 				throw new DSSException("Unable to compute the digest", e);
 			}
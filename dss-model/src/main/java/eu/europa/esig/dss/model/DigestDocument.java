@@ -82,12 +82,17 @@ public class DigestDocument extends CommonDocument {
 	public void addDigest(final DigestAlgorithm digestAlgorithm, final String base64EncodeDigest) {
 		Objects.requireNonNull(digestAlgorithm, "The Digest Algorithm is not defined");
 		Objects.requireNonNull(base64EncodeDigest, "The digest value is not defined");
-		base64EncodeDigestMap.put(digestAlgorithm, base64EncodeDigest);
+		synchronized (base64EncodeDigestMap) {
+			base64EncodeDigestMap.put(digestAlgorithm, base64EncodeDigest);
+		}
 	}
 
 	@Override
 	public String getDigest(final DigestAlgorithm digestAlgorithm) {
-		String base64EncodeDigest = base64EncodeDigestMap.get(digestAlgorithm);
+		String base64EncodeDigest;
+		synchronized (base64EncodeDigestMap) {
+			base64EncodeDigest = base64EncodeDigestMap.get(digestAlgorithm);
+		}
 		if (base64EncodeDigest == null) {
 			throw new IllegalArgumentException("The digest document does not contain a digest value for the algorithm : " + digestAlgorithm);
 		}
@@ -100,9 +105,11 @@ public class DigestDocument extends CommonDocument {
 	 * @return {@link Digest}
 	 */
 	public Digest getExistingDigest() {
-		if (!base64EncodeDigestMap.isEmpty()) {
-			Entry<DigestAlgorithm, String> digestEntry = base64EncodeDigestMap.entrySet().iterator().next();
-			return new Digest(digestEntry.getKey(), Base64.getDecoder().decode(digestEntry.getValue()));
+		synchronized (base64EncodeDigestMap) {
+			if (!base64EncodeDigestMap.isEmpty()) {
+				Entry<DigestAlgorithm, String> digestEntry = base64EncodeDigestMap.entrySet().iterator().next();
+				return new Digest(digestEntry.getKey(), Base64.getDecoder().decode(digestEntry.getValue()));
+			}
 		}
 		throw new IllegalStateException("The DigestDocument does not contain any digest! You must specify it by using addDigest() method.");
 	}
@@ -26,6 +26,7 @@ import eu.europa.esig.dss.pades.signature.suite.DigestStabilityTest;
 import eu.europa.esig.dss.pades.signature.suite.GetOriginalDocumentTest;
 import eu.europa.esig.dss.pades.signature.suite.InvisibleSignatureFieldSignTest;
 import eu.europa.esig.dss.pades.signature.suite.PAdESAllSelfSignedCertsTest;
+import eu.europa.esig.dss.pades.signature.suite.PAdESBatchSignatureServiceTest;
 import eu.europa.esig.dss.pades.signature.suite.PAdESDoubleLTAValidationDataTest;
 import eu.europa.esig.dss.pades.signature.suite.PAdESDoubleSignBAndExtendToLTATest;
 import eu.europa.esig.dss.pades.signature.suite.PAdESDoubleSignatureLTAAndLTTest;
@@ -75,6 +76,7 @@ import eu.europa.esig.dss.pades.signature.suite.PAdESLevelLTAWithSingleDocTstTes
 import eu.europa.esig.dss.pades.signature.suite.PAdESLevelLTAWithSingleSelfSignedDocTstTest;
 import eu.europa.esig.dss.pades.signature.suite.PAdESLevelLTCRLCounterTest;
 import eu.europa.esig.dss.pades.signature.suite.PAdESLevelLTTest;
+import eu.europa.esig.dss.pades.signature.suite.PAdESLevelLTWithExecutorServiceTest;
 import eu.europa.esig.dss.pades.signature.suite.PAdESLevelLTWithVRIDictTest;
 import eu.europa.esig.dss.pades.signature.suite.PAdESLevelLTWrongAIATest;
 import eu.europa.esig.dss.pades.signature.suite.PAdESLevelTNotTrustedTSPTest;
@@ -111,7 +113,7 @@ import org.junit.platform.suite.api.Suite;
 		PAdESLevelBExternalSignatureTest.class, PAdESLevelBLoopTest.class, PAdESLevelBNotEnoughSpaceForSignatureTest.class,
 		PAdESLevelBOnlySigningCertTest.class, PAdESLevelBWithContentTimestampTest.class, PAdESLevelBWithDSATest.class,
 		PAdESLevelBWithECDSATest.class, PAdESLevelBWithSHA256andMGF1Test.class, PAdESLevelImpossibleLTAExceptionTest.class,
-		PAdESLevelImpossibleLTExceptionTest.class, PAdESLevelLTTest.class, PAdESLevelLTATest.class, PAdESLevelLTWrongAIATest.class,
+		PAdESLevelImpossibleLTExceptionTest.class, PAdESLevelLTTest.class, PAdESLevelLTWithExecutorServiceTest.class, PAdESLevelLTATest.class, PAdESLevelLTWrongAIATest.class,
 		PAdESLevelTTest.class, PDFTimestampFiltersTest.class, TwoPAdESSignaturesMustHaveDifferentIdTest.class, PAdESLevelBHugeTest.class,
 		InvisibleSignatureFieldSignTest.class, PAdESSpaceEOFTest.class, PAdESDoubleLTAValidationDataTest.class,
 		PAdESNoDuplicateValidationDataTest.class, PAdESWithPSSTest.class, PAdESWithSHA3Test.class, PAdESLevelTWithSHA1MessageImprintTest.class,
@@ -133,7 +135,8 @@ import org.junit.platform.suite.api.Suite;
 		PAdESExternalCMSSignatureTLevelDocTstTest.class, PAdESExternalCMSSignatureLTLevelDocTstTest.class,
 		PAdESExternalCMSSignatureLTALevelDocTstTest.class, PAdESExternalCMSSignatureServiceTest.class, CMSForPAdESGenerationServiceTest.class,
 		PAdESLevelBWithContentTimestampCustomDigestAlgoTest.class, PAdESLevelBEncryptedDocumentTest.class, PAdESLevelLTWithVRIDictTest.class,
-		PAdESDoubleSignatureLTWithVRIAndLTTest.class, PAdESDoubleSignatureLTAndLTWithVRITest.class })
+		PAdESDoubleSignatureLTWithVRIAndLTTest.class, PAdESDoubleSignatureLTAndLTWithVRITest.class,
+		PAdESBatchSignatureServiceTest.class })
 public class ITextPAdESSignatureSuiteTest {
 
 }
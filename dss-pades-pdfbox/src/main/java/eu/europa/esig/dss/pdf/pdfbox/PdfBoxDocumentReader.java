@@ -22,6 +22,7 @@ package eu.europa.esig.dss.pdf.pdfbox;
 
 import eu.europa.esig.dss.enumerations.CertificationPermission;
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.pades.PAdESCommonParameters;
 import eu.europa.esig.dss.pades.validation.ByteRange;
@@ -44,6 +45,7 @@ import org.apache.pdfbox.cos.COSBase;
 import org.apache.pdfbox.cos.COSDictionary;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDDocumentCatalog;
 import org.apache.pdfbox.pdmodel.PDPage;
@@ -106,10 +108,35 @@ public class PdfBoxDocumentReader implements PdfDocumentReader {
 	 */
 	public PdfBoxDocumentReader(DSSDocument dssDocument, String passwordProtection)
 			throws IOException, eu.europa.esig.dss.pades.exception.InvalidPasswordException {
+		this(dssDocument, passwordProtection, MemoryUsageSetting.setupMainMemoryOnly());
+	}
+
+	/**
+	 * The PDFBox implementation of the Reader with a defined memory usage configuration
+	 *
+	 * NOTE: when {@code memoryUsageSetting} allows usage of temporary files and the document is a {@code FileDocument},
+	 *       the file is accessed directly without loading its content to the memory
+	 *
+	 * @param dssDocument        {@link DSSDocument} to read
+	 * @param passwordProtection {@link String} a password to open a protected document
+	 * @param memoryUsageSetting {@link MemoryUsageSetting} defining the buffering strategy of the document
+	 * @throws IOException       if an exception occurs
+	 * @throws eu.europa.esig.dss.pades.exception.InvalidPasswordException if the password is not provided or
+	 *                           invalid for a protected document
+	 */
+	public PdfBoxDocumentReader(DSSDocument dssDocument, String passwordProtection, MemoryUsageSetting memoryUsageSetting)
+			throws IOException, eu.europa.esig.dss.pades.exception.InvalidPasswordException {
 		Objects.requireNonNull(dssDocument, "The document must be defined!");
+		Objects.requireNonNull(memoryUsageSetting, "MemoryUsageSetting must be defined!");
 		this.dssDocument = dssDocument;
-		try (InputStream is = dssDocument.openStream()) {
-			this.pdDocument = PDDocument.load(is, passwordProtection);
+		try {
+			if (memoryUsageSetting.useTempFile() && dssDocument instanceof FileDocument) {
+				this.pdDocument = PDDocument.load(((FileDocument) dssDocument).getFile(), passwordProtection, memoryUsageSetting);
+			} else {
+				try (InputStream is = dssDocument.openStream()) {
+					this.pdDocument = PDDocument.load(is, passwordProtection, memoryUsageSetting);
+				}
+			}
 		} catch (InvalidPasswordException e) {
 			throw new eu.europa.esig.dss.pades.exception.InvalidPasswordException(
 					String.format("Encrypted document : %s", e.getMessage()));
@@ -47,6 +47,7 @@ import eu.europa.esig.dss.pdf.pdfbox.visible.PdfBoxSignatureDrawerFactory;
 import eu.europa.esig.dss.pdf.pdfbox.visible.nativedrawer.NativePdfBoxVisibleSignatureDrawer;
 import eu.europa.esig.dss.pdf.visible.ImageUtils;
 import eu.europa.esig.dss.signature.resources.DSSResourcesHandler;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
@@ -60,6 +61,7 @@ import org.apache.pdfbox.cos.COSDictionary;
 import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.cos.COSObject;
 import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDDocumentCatalog;
 import org.apache.pdfbox.pdmodel.PDPage;
@@ -104,6 +106,9 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 	/** Used to generate encrypted content for protected documents */
 	private SecureRandomProvider secureRandomProvider;
 
+	/** Defines the memory usage strategy of PDFBox when loading documents */
+	private MemoryUsageSetting memoryUsageSetting;
+
 	/**
 	 * Set the {@code SecureRandomProvider}. Allows modifying a custom behavior for signing of encrypted documents.
 	 * 
@@ -114,6 +119,22 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 		this.secureRandomProvider = secureRandomProvider;
 	}
 
+	/**
+	 * Sets the {@code MemoryUsageSetting} to be used by PDFBox for loading documents and
+	 * buffering their content.
+	 *
+	 * NOTE: use {@code MemoryUsageSetting.setupTempFileOnly()} in order to keep the memory consumption
+	 *       independent of the document size. The original document is then accessed directly
+	 *       from the filesystem when provided as a {@code FileDocument}.
+	 *
+	 * Default : main memory only, or temporary files when a {@code TempFileResourcesHandlerBuilder} is used
+	 *
+	 * @param memoryUsageSetting {@link MemoryUsageSetting}
+	 */
+	public void setMemoryUsageSetting(MemoryUsageSetting memoryUsageSetting) {
+		this.memoryUsageSetting = memoryUsageSetting;
+	}
+
 	/**
 	 * Constructor for the PdfBoxSignatureService
 	 * 
@@ -132,7 +153,7 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 		try (DSSResourcesHandler resourcesHandler = instantiateResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
 			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(toSignDocument,
-					 getPasswordString(parameters.getPasswordProtection()))) {
+					 getPasswordString(parameters.getPasswordProtection()), getMemoryUsageSetting())) {
 
 			final SignatureFieldParameters fieldParameters = parameters.getImageParameters().getFieldParameters();
 			checkPdfPermissions(documentReader, fieldParameters);
@@ -159,7 +180,7 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 		try (DSSResourcesHandler resourcesHandler = instantiateResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
 			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(toSignDocument,
-					 getPasswordString(parameters.getPasswordProtection()))) {
+					 getPasswordString(parameters.getPasswordProtection()), getMemoryUsageSetting())) {
 
 			final SignatureFieldParameters fieldParameters = parameters.getImageParameters().getFieldParameters();
 			checkPdfPermissions(documentReader, fieldParameters);
@@ -439,9 +460,10 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 										char[] pwd, boolean includeVRIDict) {
 		try (DSSResourcesHandler resourcesHandler = instantiateResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
-			 InputStream is = document.openStream();
-			 PDDocument pdDocument = PDDocument.load(is, getPasswordString(pwd))) {
+			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(document, getPasswordString(pwd),
+					 getMemoryUsageSetting())) {
 
+			final PDDocument pdDocument = documentReader.getPDDocument();
 			if (!validationDataForInclusion.isEmpty()) {
 				final COSDictionary cosDictionary = pdDocument.getDocumentCatalog().getCOSObject();
 				cosDictionary.setItem(PAdESConstants.DSS_DICTIONARY_NAME,
@@ -654,7 +676,8 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 											final char[] pwd) {
 		try (DSSResourcesHandler resourcesHandler = instantiateResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
-			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(document, getPasswordString(pwd))) {
+			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(document, getPasswordString(pwd),
+					 getMemoryUsageSetting())) {
 			checkPdfPermissions(documentReader, parameters);
 
 			final PDDocument pdfDoc = documentReader.getPDDocument();
@@ -721,7 +744,7 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 		try (DSSResourcesHandler resourcesHandler = instantiateResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
 			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(toSignDocument,
-					 getPasswordString(parameters.getPasswordProtection()))) {
+					 getPasswordString(parameters.getPasswordProtection()), getMemoryUsageSetting())) {
 
 			final SignatureFieldParameters fieldParameters = parameters.getImageParameters().getFieldParameters();
 			checkPdfPermissions(documentReader, fieldParameters);
@@ -743,7 +766,7 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 		try (DSSResourcesHandler resourcesHandler = instantiateResourcesHandler();
 			 OutputStream os = resourcesHandler.createOutputStream();
 			 PdfBoxDocumentReader documentReader = new PdfBoxDocumentReader(toSignDocument,
-					 getPasswordString(parameters.getPasswordProtection()))) {
+					 getPasswordString(parameters.getPasswordProtection()), getMemoryUsageSetting())) {
 
 			final SignatureFieldParameters fieldParameters = parameters.getImageParameters().getFieldParameters();
 			checkPdfPermissions(documentReader, fieldParameters);
@@ -765,7 +788,7 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 
 	private DSSDocument getNewSignatureFieldScreenshot(DSSDocument doc, PAdESCommonParameters parameters, List<PdfAnnotation> originalAnnotations) throws IOException {
 		try (PdfBoxDocumentReader reader = new PdfBoxDocumentReader(doc,
-				getPasswordString(parameters.getPasswordProtection()))) {
+				getPasswordString(parameters.getPasswordProtection()), getMemoryUsageSetting())) {
 			List<PdfAnnotation> newAnnotations = reader.getPdfAnnotations(parameters.getImageParameters().getFieldParameters().getPage());
 			AnnotationBox pageBox = reader.getPageBox(parameters.getImageParameters().getFieldParameters().getPage());
 
@@ -804,7 +827,23 @@ public class PdfBoxSignatureService extends AbstractPDFSignatureService {
 	@Override
 	protected PdfDocumentReader loadPdfDocumentReader(DSSDocument dssDocument, char[] passwordProtection)
 			throws IOException, eu.europa.esig.dss.pades.exception.InvalidPasswordException {
-		return new PdfBoxDocumentReader(dssDocument, getPasswordString(passwordProtection));
+		return new PdfBoxDocumentReader(dssDocument, getPasswordString(passwordProtection), getMemoryUsageSetting());
+	}
+
+	/**
+	 * Returns the {@code MemoryUsageSetting} to be used for loading a document.
+	 * When not defined explicitly, temporary files are used if the output documents are stored
+	 * with a {@code TempFileResourcesHandlerBuilder}, main memory otherwise.
+	 *
+	 * @return {@link MemoryUsageSetting}
+	 */
+	protected MemoryUsageSetting getMemoryUsageSetting() {
+		if (memoryUsageSetting != null) {
+			return memoryUsageSetting;
+		} else if (resourcesHandlerBuilder instanceof TempFileResourcesHandlerBuilder) {
+			return MemoryUsageSetting.setupTempFileOnly();
+		}
+		return MemoryUsageSetting.setupMainMemoryOnly();
 	}
 
 	/**
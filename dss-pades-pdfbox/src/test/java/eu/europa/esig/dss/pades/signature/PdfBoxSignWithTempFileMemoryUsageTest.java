@@ -0,0 +1,171 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pades.signature;
+
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.pades.PAdESCommonParameters;
+import eu.europa.esig.dss.pades.PAdESSignatureParameters;
+import eu.europa.esig.dss.pades.PAdESTimestampParameters;
+import eu.europa.esig.dss.pades.signature.suite.AbstractPAdESTestSignature;
+import eu.europa.esig.dss.pdf.PDFServiceMode;
+import eu.europa.esig.dss.pdf.PDFSignatureService;
+import eu.europa.esig.dss.pdf.pdfbox.PdfBoxDefaultObjectFactory;
+import eu.europa.esig.dss.pdf.pdfbox.PdfBoxSignatureService;
+import eu.europa.esig.dss.pdf.pdfbox.visible.defaultdrawer.PdfBoxDefaultSignatureDrawerFactory;
+import eu.europa.esig.dss.signature.DocumentSignatureService;
+import eu.europa.esig.dss.signature.resources.TempFileResourcesHandlerBuilder;
+import eu.europa.esig.dss.utils.Utils;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PdfBoxSignWithTempFileMemoryUsageTest extends AbstractPAdESTestSignature {
+
+	private PAdESService service;
+	private PAdESSignatureParameters signatureParameters;
+	private DSSDocument documentToSign;
+
+	private TempFileResourcesHandlerBuilder tempFileResourcesHandlerBuilder;
+	private File originalFile;
+	private File scratchFileDirectory;
+
+	/** Number of PDFBox scratch files existing when saving the loaded document */
+	private final List<Integer> scratchFilesOnSave = new ArrayList<>();
+
+	@BeforeEach
+	public void init() throws Exception {
+		originalFile = Files.createTempFile("dss-original", ".pdf").toFile();
+		try (InputStream is = getClass().getResourceAsStream("/sample.pdf");
+			 OutputStream os = Files.newOutputStream(originalFile.toPath())) {
+			Utils.copy(is, os);
+		}
+		documentToSign = new FileDocument(originalFile);
+
+		signatureParameters = new PAdESSignatureParameters();
+		signatureParameters.setSigningCertificate(getSigningCert());
+		signatureParameters.setCertificateChain(getCertificateChain());
+		signatureParameters.setSignatureLevel(SignatureLevel.PAdES_BASELINE_B);
+
+		tempFileResourcesHandlerBuilder = new TempFileResourcesHandlerBuilder();
+		tempFileResourcesHandlerBuilder.setTempFileDirectory(new File("target"));
+
+		scratchFileDirectory = Files.createTempDirectory(new File("target").toPath(), "dss-scratch").toFile();
+
+		MockPdfBoxDefaultObjectFactory pdfObjFactory = new MockPdfBoxDefaultObjectFactory();
+		pdfObjFactory.setResourcesHandlerBuilder(tempFileResourcesHandlerBuilder);
+
+		service = new PAdESService(getOfflineCertificateVerifier());
+		service.setPdfObjFactory(pdfObjFactory);
+	}
+
+	@AfterEach
+	public void clean() {
+		tempFileResourcesHandlerBuilder.clear();
+		assertTrue(originalFile.delete());
+		// the scratch files are deleted on closing of the documents
+		assertTrue(scratchFileDirectory.delete());
+	}
+
+	@Override
+	protected DSSDocument sign() {
+		scratchFilesOnSave.clear();
+
+		ToBeSigned dataToSign = service.getDataToSign(documentToSign, signatureParameters);
+		// the cache is cleared on signDocument (parameters re-initialization)
+		assertTrue(signatureParameters.getPdfSignatureCache().getToBeSignedDocument() instanceof FileDocument);
+		// the loaded document is buffered within a scratch file
+		assertEquals(1, scratchFilesOnSave.size());
+		assertTrue(scratchFilesOnSave.get(0) > 0);
+
+		SignatureValue signatureValue = getToken().sign(dataToSign, signatureParameters.getDigestAlgorithm(),
+				signatureParameters.getMaskGenerationFunction(), getPrivateKeyEntry());
+		assertTrue(service.isValidSignatureValue(dataToSign, signatureValue, getSigningCert()));
+
+		DSSDocument signedDocument = service.signDocument(documentToSign, signatureParameters, signatureValue);
+		assertTrue(signedDocument instanceof FileDocument);
+		// the signature value is incorporated within the cached document, which is not loaded again
+		assertEquals(1, scratchFilesOnSave.size());
+		return signedDocument;
+	}
+
+	@Override
+	protected DocumentSignatureService<PAdESSignatureParameters, PAdESTimestampParameters> getService() {
+		return service;
+	}
+
+	@Override
+	protected PAdESSignatureParameters getSignatureParameters() {
+		return signatureParameters;
+	}
+
+	@Override
+	protected DSSDocument getDocumentToSign() {
+		return documentToSign;
+	}
+
+	@Override
+	protected String getSigningAlias() {
+		return GOOD_USER;
+	}
+
+	private class MockPdfBoxDefaultObjectFactory extends PdfBoxDefaultObjectFactory {
+
+		@Override
+		public PDFSignatureService newPAdESSignatureService() {
+			PdfBoxSignatureService padesSignatureService = new MockPdfBoxSignatureService();
+			padesSignatureService.setMemoryUsageSetting(MemoryUsageSetting.setupTempFileOnly().setTempDir(scratchFileDirectory));
+			return configure(padesSignatureService);
+		}
+
+	}
+
+	private class MockPdfBoxSignatureService extends PdfBoxSignatureService {
+
+		private MockPdfBoxSignatureService() {
+			super(PDFServiceMode.SIGNATURE, new PdfBoxDefaultSignatureDrawerFactory());
+		}
+
+		@Override
+		public void checkEncryptedAndSaveIncrementally(PDDocument pdDocument, OutputStream outputStream,
+													   PAdESCommonParameters parameters) {
+			String[] scratchFiles = scratchFileDirectory.list();
+			scratchFilesOnSave.add(scratchFiles != null ? scratchFiles.length : 0);
+			super.checkEncryptedAndSaveIncrementally(pdDocument, outputStream, parameters);
+		}
+
+	}
+
+}
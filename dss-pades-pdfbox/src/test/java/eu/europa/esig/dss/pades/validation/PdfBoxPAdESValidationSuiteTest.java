@@ -97,6 +97,7 @@ import eu.europa.esig.dss.pades.validation.suite.dss917.DSS917Test;
 import eu.europa.esig.dss.pades.validation.suite.evidencerecord.PAdESLevelLTWithXmlEvidenceRecordValidationTest;
 import eu.europa.esig.dss.pades.validation.suite.revocation.PAdESDssAndVriTest;
 import eu.europa.esig.dss.pades.validation.suite.revocation.PAdESFiveSignaturesDocTest;
+import eu.europa.esig.dss.pades.validation.suite.revocation.PAdESFiveSignaturesDocWithExecutorServiceTest;
 import eu.europa.esig.dss.pades.validation.suite.revocation.PAdESMultiSignedDocRevocTest;
 import eu.europa.esig.dss.pades.validation.suite.revocation.PAdESRevocationOriginTest;
 import eu.europa.esig.dss.pades.validation.suite.revocation.PAdESSignatureDigestReferenceTest;
@@ -107,7 +108,7 @@ import org.junit.platform.suite.api.Suite;
 @SelectClasses({ ASN1PolicyTest.class, DSS1188Test.class, DSS1376GetOriginalDocTest.class, DSS1420Test.class, DSS1420Sha224Test.class,
 		DSS818CRYTest.class, DSS818ADOTest.class, DSS818SKTest.class, DSS917Test.class, DSS917CorruptedTest.class, PadesWrongDigestAlgoTest.class,
 		PdfPkcs7Test.class, DSS1538Test.class, DSS1683Test.class, DSS1690Test.class, PAdESRevocationOriginTest.class, PAdESMultiSignedDocRevocTest.class,
-		PAdESDssAndVriTest.class, PAdESFiveSignaturesDocTest.class, PAdESSignatureDigestReferenceTest.class, PAdESSignatureDigestReferenceTest.class,
+		PAdESDssAndVriTest.class, PAdESFiveSignaturesDocTest.class, PAdESFiveSignaturesDocWithExecutorServiceTest.class, PAdESSignatureDigestReferenceTest.class, PAdESSignatureDigestReferenceTest.class,
 		SignatureTimestampCertificateNotFoundTest.class, PAdESSimpleValidationTest.class, PAdESSimpleCorruptedTest.class, PAdESOutOfByteRangeTest.class,
 		ArchiveTimestampCoverageTest.class, DoubleArchiveTstCoverageTest.class, PolicyZeroHashTest.class, SIWATest.class, DSS1794CrlTest.class,
 		DSS1794OcspTest.class, PAdESMultipleFieldSignatureReferenceTest.class, DSS1899Test.class, DSS1899TstWithNullTypeTest.class, PAdESInfiniteLoopTest.class,
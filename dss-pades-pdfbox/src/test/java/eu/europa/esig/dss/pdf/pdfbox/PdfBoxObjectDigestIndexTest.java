@@ -0,0 +1,139 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.pdfbox;
+
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.pdf.PdfDict;
+import eu.europa.esig.dss.pdf.modifications.DefaultPdfObjectModificationsFinder;
+import eu.europa.esig.dss.pdf.modifications.ObjectModification;
+import eu.europa.esig.dss.pdf.modifications.PdfObjectDigestIndex;
+import eu.europa.esig.dss.pdf.modifications.PdfObjectModifications;
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PdfBoxObjectDigestIndexTest {
+
+	private byte[] original;
+
+	private byte[] modified;
+
+	@BeforeEach
+	public void init() throws IOException {
+		original = new InMemoryDocument(getClass().getResourceAsStream("/sample.pdf")).getBytes();
+		try (PDDocument pdDocument = PDDocument.load(original)) {
+			PDPage page = pdDocument.getPage(0);
+			try (PDPageContentStream cs = new PDPageContentStream(pdDocument, page, PDPageContentStream.AppendMode.APPEND, true)) {
+				cs.addRect(10, 10, 100, 100);
+				cs.fill();
+			}
+			pdDocument.getDocumentCatalog().getCOSObject().setNeedToBeUpdated(true);
+			pdDocument.getPages().getCOSObject().setNeedToBeUpdated(true);
+			page.getCOSObject().setNeedToBeUpdated(true);
+			COSArray contents = (COSArray) page.getCOSObject().getDictionaryObject(COSName.CONTENTS);
+			contents.setNeedToBeUpdated(true);
+			for (int i = 0; i < contents.size(); i++) {
+				((COSStream) contents.getObject(i)).setNeedToBeUpdated(true);
+			}
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			pdDocument.saveIncremental(baos);
+			modified = baos.toByteArray();
+		}
+	}
+
+	@Test
+	public void sameRevisionTest() throws IOException {
+		try (PdfBoxDocumentReader firstReader = new PdfBoxDocumentReader(original, null);
+			 PdfBoxDocumentReader secondReader = new PdfBoxDocumentReader(original, null)) {
+			PdfObjectDigestIndex firstIndex = new PdfObjectDigestIndex(firstReader, 500);
+			PdfObjectDigestIndex secondIndex = new PdfObjectDigestIndex(secondReader, 500);
+			assertTrue(firstIndex.size() > 0);
+			assertEquals(firstIndex.size(), secondIndex.size());
+
+			Set<Long> unchangedObjects = firstIndex.getUnchangedObjects(secondIndex);
+			assertEquals(firstIndex.size(), unchangedObjects.size());
+		}
+	}
+
+	@Test
+	public void modifiedRevisionTest() throws IOException {
+		try (PdfBoxDocumentReader originalReader = new PdfBoxDocumentReader(original, null);
+			 PdfBoxDocumentReader modifiedReader = new PdfBoxDocumentReader(modified, null)) {
+			PdfObjectDigestIndex originalIndex = new PdfObjectDigestIndex(originalReader, 500);
+			PdfObjectDigestIndex modifiedIndex = new PdfObjectDigestIndex(modifiedReader, 500);
+
+			Set<Long> unchangedObjects = originalIndex.getUnchangedObjects(modifiedIndex);
+			assertFalse(unchangedObjects.isEmpty());
+			assertTrue(unchangedObjects.size() < originalIndex.size());
+
+			// the page and all its ancestors are changed
+			PdfDict catalog = originalReader.getCatalogDictionary();
+			Long pagesObjectNumber = catalog.getObjectNumber("Pages");
+			assertNotNull(pagesObjectNumber);
+			assertFalse(unchangedObjects.contains(pagesObjectNumber));
+			Long pageObjectNumber = catalog.getAsDict("Pages").getAsArray("Kids").getObjectNumber(0);
+			assertNotNull(pageObjectNumber);
+			assertFalse(unchangedObjects.contains(pageObjectNumber));
+
+			// page resources are not changed
+			Long resourcesObjectNumber = catalog.getAsDict("Pages").getAsArray("Kids").getAsDict(0).getObjectNumber("Resources");
+			assertNotNull(resourcesObjectNumber);
+			assertTrue(unchangedObjects.contains(resourcesObjectNumber));
+		}
+	}
+
+	@Test
+	public void findModificationsTest() throws IOException {
+		DefaultPdfObjectModificationsFinder finder = new DefaultPdfObjectModificationsFinder();
+		try (PdfBoxDocumentReader originalReader = new PdfBoxDocumentReader(original, null);
+			 PdfBoxDocumentReader modifiedReader = new PdfBoxDocumentReader(modified, null)) {
+			PdfObjectModifications objectModifications = finder.find(originalReader, modifiedReader);
+			assertTrue(objectModifications.getUndefinedChanges().size() > 0);
+
+			List<String> objectTrees = new ArrayList<>();
+			for (ObjectModification objectModification : objectModifications.getUndefinedChanges()) {
+				objectTrees.add(objectModification.getObjectTree().toString());
+			}
+			assertTrue(objectTrees.stream().anyMatch(s -> s.contains("/Contents")), objectTrees.toString());
+
+			// the same revision
+			objectModifications = finder.find(modifiedReader, modifiedReader);
+			assertTrue(objectModifications.isEmpty());
+		}
+	}
+
+}
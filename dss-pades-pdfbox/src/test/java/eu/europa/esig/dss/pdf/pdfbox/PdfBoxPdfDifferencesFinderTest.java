@@ -0,0 +1,154 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.pdfbox;
+
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.pdf.modifications.DefaultPdfDifferencesFinder;
+import eu.europa.esig.dss.pdf.modifications.PdfModification;
+import eu.europa.esig.dss.pdf.modifications.PdfPageDigestCalculator;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PdfBoxPdfDifferencesFinderTest {
+
+	private byte[] original;
+
+	private byte[] modified;
+
+	@BeforeEach
+	public void init() throws IOException {
+		original = toByteArray(getClass().getResourceAsStream("/sample.pdf"));
+		try (PDDocument pdDocument = PDDocument.load(original)) {
+			PDPage page = pdDocument.getPage(0);
+			try (PDPageContentStream cs = new PDPageContentStream(pdDocument, page, PDPageContentStream.AppendMode.APPEND, true)) {
+				cs.addRect(10, 10, 100, 100);
+				cs.fill();
+			}
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			pdDocument.save(baos);
+			modified = baos.toByteArray();
+		}
+	}
+
+	@Test
+	public void identicalPagesAreNotRendered() throws IOException {
+		DefaultPdfDifferencesFinder finder = new DefaultPdfDifferencesFinder();
+		try (CountingDocumentReader signedReader = new CountingDocumentReader(original);
+			 CountingDocumentReader finalReader = new CountingDocumentReader(original)) {
+			List<PdfModification> visualDifferences = finder.getVisualDifferences(signedReader, finalReader);
+			assertTrue(visualDifferences.isEmpty());
+			assertEquals(0, signedReader.renderings);
+			assertEquals(0, finalReader.renderings);
+		}
+	}
+
+	@Test
+	public void finalRevisionRendersAreReused() throws IOException {
+		DefaultPdfDifferencesFinder finder = new DefaultPdfDifferencesFinder();
+		try (CountingDocumentReader finalReader = new CountingDocumentReader(modified)) {
+			for (int i = 0; i < 3; i++) {
+				try (CountingDocumentReader signedReader = new CountingDocumentReader(original)) {
+					List<PdfModification> visualDifferences = finder.getVisualDifferences(signedReader, finalReader);
+					assertEquals(1, visualDifferences.size());
+					assertEquals(1, visualDifferences.get(0).getPage());
+					assertEquals(1, signedReader.renderings);
+				}
+			}
+			assertEquals(1, finalReader.renderings);
+		}
+	}
+
+	@Test
+	public void concurrentRendering() throws IOException {
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			DefaultPdfDifferencesFinder finder = new DefaultPdfDifferencesFinder();
+			finder.setExecutorService(executorService);
+			try (CountingDocumentReader signedReader = new CountingDocumentReader(original);
+				 CountingDocumentReader finalReader = new CountingDocumentReader(modified)) {
+				List<PdfModification> visualDifferences = finder.getVisualDifferences(signedReader, finalReader);
+				assertEquals(1, visualDifferences.size());
+				assertEquals(1, signedReader.renderings);
+				assertEquals(1, finalReader.renderings);
+			}
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	@Test
+	public void pageDigests() throws IOException {
+		PdfPageDigestCalculator calculator = new PdfPageDigestCalculator();
+		try (PdfBoxDocumentReader originalReader = new PdfBoxDocumentReader(original, null);
+			 PdfBoxDocumentReader sameReader = new PdfBoxDocumentReader(original, null);
+			 PdfBoxDocumentReader modifiedReader = new PdfBoxDocumentReader(modified, null)) {
+			List<byte[]> originalDigests = calculator.computePageDigests(originalReader);
+			assertEquals(originalReader.getNumberOfPages(), originalDigests.size());
+			assertNotNull(originalDigests.get(0));
+
+			List<byte[]> sameDigests = calculator.computePageDigests(sameReader);
+			assertArrayEquals(originalDigests.get(0), sameDigests.get(0));
+
+			List<byte[]> modifiedDigests = calculator.computePageDigests(modifiedReader);
+			assertEquals(originalDigests.size(), modifiedDigests.size());
+			assertFalse(Arrays.equals(originalDigests.get(0), modifiedDigests.get(0)));
+		}
+	}
+
+	private static byte[] toByteArray(InputStream is) throws IOException {
+		return new InMemoryDocument(is).getBytes();
+	}
+
+	private static class CountingDocumentReader extends PdfBoxDocumentReader {
+
+		private int renderings;
+
+		CountingDocumentReader(byte[] binaries) throws IOException {
+			super(binaries, null);
+		}
+
+		@Override
+		public BufferedImage generateImageScreenshot(int page) throws IOException {
+			renderings++;
+			return super.generateImageScreenshot(page);
+		}
+
+	}
+
+}
@@ -0,0 +1,73 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.pdfbox;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.pades.exception.InvalidPasswordException;
+import eu.europa.esig.dss.pades.validation.PdfRevision;
+import eu.europa.esig.dss.pdf.PDFServiceMode;
+import eu.europa.esig.dss.pdf.PdfCMSRevision;
+import eu.europa.esig.dss.pdf.PdfDocumentReader;
+import eu.europa.esig.dss.pdf.pdfbox.visible.defaultdrawer.PdfBoxDefaultSignatureDrawerFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PdfBoxSignatureServiceTest {
+
+	@Test
+	public void getRevisionsLoadsEachRevisionOnceTest() {
+		DSSDocument document = new InMemoryDocument(getClass().getResourceAsStream("/validation/pades-5-signatures-and-1-document-timestamp.pdf"));
+
+		ReaderCountingSignatureService signatureService = new ReaderCountingSignatureService();
+		List<PdfRevision> revisions = signatureService.getRevisions(document, null);
+		assertEquals(7, revisions.size());
+
+		long signatureRevisions = revisions.stream().filter(r -> r instanceof PdfCMSRevision).count();
+		assertEquals(6, signatureRevisions);
+		// the whole document, then every previous revision once
+		assertTrue(signatureService.loadedReaders <= signatureRevisions + 2,
+				"Revisions loaded : " + signatureService.loadedReaders);
+	}
+
+	private static class ReaderCountingSignatureService extends PdfBoxSignatureService {
+
+		private int loadedReaders = 0;
+
+		ReaderCountingSignatureService() {
+			super(PDFServiceMode.SIGNATURE, new PdfBoxDefaultSignatureDrawerFactory());
+		}
+
+		@Override
+		protected PdfDocumentReader loadPdfDocumentReader(DSSDocument dssDocument, char[] passwordProtection)
+				throws IOException, InvalidPasswordException {
+			++loadedReaders;
+			return super.loadPdfDocumentReader(dssDocument, passwordProtection);
+		}
+
+	}
+
+}
@@ -0,0 +1,235 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pades.signature;
+
+import eu.europa.esig.dss.model.DSSDocument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contains the result of a batch signature creation, obtained with
+ * {@code PAdESBatchSignatureService.signDocuments(...)}
+ *
+ */
+public class PAdESBatchSignatureResult {
+
+    /** The results per document, in the order of the batch */
+    private final List<DocumentResult> documentResults = new ArrayList<>();
+
+    /** The total processing time of the batch, in nanoseconds */
+    private long totalTime;
+
+    /**
+     * Default constructor
+     */
+    PAdESBatchSignatureResult() {
+        // empty
+    }
+
+    /**
+     * Adds a result of a document signing
+     *
+     * @param documentResult {@link DocumentResult}
+     */
+    void add(DocumentResult documentResult) {
+        documentResults.add(documentResult);
+        totalTime += documentResult.getPreparationTime() + documentResult.getSigningTime();
+    }
+
+    /**
+     * Returns the results per document, in the order of the batch
+     *
+     * @return a list of {@link DocumentResult}s
+     */
+    public List<DocumentResult> getDocumentResults() {
+        return Collections.unmodifiableList(documentResults);
+    }
+
+    /**
+     * Returns the successfully signed documents, in the order of the batch
+     *
+     * @return a list of signed {@link DSSDocument}s
+     */
+    public List<DSSDocument> getSignedDocuments() {
+        final List<DSSDocument> result = new ArrayList<>();
+        for (DocumentResult documentResult : documentResults) {
+            if (documentResult.isSigned()) {
+                result.add(documentResult.getSignedDocument());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of documents failed to be signed
+     *
+     * @return number of failed documents
+     */
+    public int getFailureCount() {
+        int count = 0;
+        for (DocumentResult documentResult : documentResults) {
+            if (!documentResult.isSigned()) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the total time spent on preparation and signing of the documents, in milliseconds
+     *
+     * NOTE: the time spent to compute the signature values on the signing token is not included
+     *
+     * @return total processing time in milliseconds
+     */
+    public long getTotalTime() {
+        return TimeUnit.NANOSECONDS.toMillis(totalTime);
+    }
+
+    /**
+     * Returns the throughput of the batch as a number of signed documents per second
+     *
+     * @return number of signed documents per second, 0 if no document has been signed
+     */
+    public double getThroughput() {
+        int signedCount = documentResults.size() - getFailureCount();
+        if (signedCount == 0 || totalTime == 0) {
+            return 0;
+        }
+        return signedCount / (totalTime / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Represents a result of a signature creation for a single document of the batch
+     */
+    public static class DocumentResult {
+
+        /** The original document */
+        private final DSSDocument document;
+
+        /** The signed document, NULL if the signature creation failed */
+        private final DSSDocument signedDocument;
+
+        /** The exception thrown on the signature creation, when applicable */
+        private final Exception exception;
+
+        /** Time spent on the document preparation, in nanoseconds */
+        private final long preparationTime;
+
+        /** Time spent on the signature incorporation and extension, in nanoseconds */
+        private final long signingTime;
+
+        /**
+         * Default constructor
+         *
+         * @param document {@link DSSDocument} original document
+         * @param signedDocument {@link DSSDocument} signed document, NULL if failed
+         * @param exception {@link Exception} thrown on the signature creation, NULL if succeeded
+         * @param preparationTime time spent on the document preparation, in nanoseconds
+         * @param signingTime time spent on the signature incorporation, in nanoseconds
+         */
+        DocumentResult(DSSDocument document, DSSDocument signedDocument, Exception exception,
+                       long preparationTime, long signingTime) {
+            this.document = document;
+            this.signedDocument = signedDocument;
+            this.exception = exception;
+            this.preparationTime = preparationTime;
+            this.signingTime = signingTime;
+        }
+
+        /**
+         * Gets the original document
+         *
+         * @return {@link DSSDocument}
+         */
+        public DSSDocument getDocument() {
+            return document;
+        }
+
+        /**
+         * Gets the signed document
+         *
+         * @return {@link DSSDocument}, NULL if the signature creation failed
+         */
+        public DSSDocument getSignedDocument() {
+            return signedDocument;
+        }
+
+        /**
+         * Gets the exception thrown on the document preparation or signing
+         *
+         * @return {@link Exception}, NULL if the document has been signed successfully
+         */
+        public Exception getException() {
+            return exception;
+        }
+
+        /**
+         * Returns whether the document has been signed successfully
+         *
+         * @return TRUE if the document is signed, FALSE otherwise
+         */
+        public boolean isSigned() {
+            return signedDocument != null;
+        }
+
+        /**
+         * Gets the time spent on the document preparation (computation of the data to be signed), in milliseconds
+         *
+         * @return preparation time in milliseconds
+         */
+        public long getPreparationTimeMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(preparationTime);
+        }
+
+        /**
+         * Gets the time spent on the signature incorporation and extension, in milliseconds
+         *
+         * @return signing time in milliseconds
+         */
+        public long getSigningTimeMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(signingTime);
+        }
+
+        /**
+         * Gets the preparation time in nanoseconds
+         *
+         * @return preparation time
+         */
+        long getPreparationTime() {
+            return preparationTime;
+        }
+
+        /**
+         * Gets the signing time in nanoseconds
+         *
+         * @return signing time
+         */
+        long getSigningTime() {
+            return signingTime;
+        }
+
+    }
+
+}
@@ -0,0 +1,333 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pades.signature;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.Revocation;
+import eu.europa.esig.dss.pades.PAdESSignatureParameters;
+import eu.europa.esig.dss.pdf.IPdfObjFactory;
+import eu.europa.esig.dss.pdf.ServiceLoaderPdfObjFactory;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSourceAlternateUrlsSupport;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.spi.x509.tsp.TSPSource;
+import eu.europa.esig.dss.utils.Utils;
+import eu.europa.esig.dss.validation.CertificateVerifier;
+import eu.europa.esig.dss.validation.CertificateVerifierBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * This class allows signing of a large number of PDF documents with the same signing key.
+ *
+ * The signature creation is performed in two steps :
+ * 1) {@code #prepare(...)} computes the data to be signed of all documents. The prepared PDF revisions are cached
+ *    within the signature parameters of each document, thus the documents are not parsed again on the signing;
+ * 2) {@code #signDocuments(...)} incorporates the signature values computed on the data to be signed
+ *    obtained with {@code PAdESSignatureBatch.getDataToSign()}, e.g. within a single session with the signing token.
+ *
+ * All documents of a batch share the same {@code TSPSource} and revocation data requests: revocation data
+ * is requested only once per certificate, and the obtained result (or its absence) is re-used for the following
+ * documents of the batch. A timestamp is still requested for every signature, as it covers the signature value.
+ *
+ * NOTE: the prepared PDF revisions of all documents are kept until {@code #signDocuments(...)}. For a large number
+ * of documents, use {@code #sign(...)} processing the documents in chunks of {@code chunkSize}, or configure
+ * the {@code IPdfObjFactory} with a temporary file {@code DSSResourcesHandlerBuilder}.
+ *
+ */
+public class PAdESBatchSignatureService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PAdESBatchSignatureService.class);
+
+    /** The default maximum number of documents prepared at once by {@code #sign(...)} */
+    private static final int DEFAULT_CHUNK_SIZE = 50;
+
+    /** The CertificateVerifier used for signature creation */
+    private final CertificateVerifier certificateVerifier;
+
+    /** The TSPSource used for timestamp requests */
+    private TSPSource tspSource;
+
+    /** Loads a relevant implementation for signature creation/extension */
+    private IPdfObjFactory pdfObjFactory = new ServiceLoaderPdfObjFactory();
+
+    /** The maximum number of documents prepared at once by {@code #sign(...)} */
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    /**
+     * Default constructor
+     *
+     * @param certificateVerifier {@link CertificateVerifier} providing the sources to be used on signature creation
+     */
+    public PAdESBatchSignatureService(CertificateVerifier certificateVerifier) {
+        Objects.requireNonNull(certificateVerifier, "CertificateVerifier cannot be null!");
+        this.certificateVerifier = certificateVerifier;
+    }
+
+    /**
+     * Sets the TSPSource to be used for all documents of a batch (required for -T level and higher)
+     *
+     * @param tspSource {@link TSPSource}
+     */
+    public void setTspSource(TSPSource tspSource) {
+        this.tspSource = tspSource;
+    }
+
+    /**
+     * Set the IPdfObjFactory. Allow to set the used implementation. Cannot be null.
+     *
+     * @param pdfObjFactory {@link IPdfObjFactory}
+     */
+    public void setPdfObjFactory(IPdfObjFactory pdfObjFactory) {
+        Objects.requireNonNull(pdfObjFactory, "PdfObjFactory is null");
+        this.pdfObjFactory = pdfObjFactory;
+    }
+
+    /**
+     * Sets the maximum number of documents prepared at once by {@code #sign(...)}, thus the maximum number
+     * of prepared PDF revisions kept in memory (default : 50)
+     *
+     * @param chunkSize the maximum number of documents in a chunk
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size shall be a positive number!");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Signs the given documents, processing them in chunks of {@code chunkSize} documents.
+     * The {@code signer} is called once per chunk with the data to be signed of the chunk and shall return
+     * the signature values in the same order (e.g. computed within a single session with the signing token).
+     *
+     * The revocation data obtained for a certificate is re-used for all chunks.
+     *
+     * @param documents a list of {@link DSSDocument}s to be signed
+     * @param parametersProvider {@link Function} returning signature parameters for a document
+     * @param signer {@link Function} computing the signature values on the data to be signed of a chunk
+     * @return {@link PAdESBatchSignatureResult}
+     */
+    public PAdESBatchSignatureResult sign(List<DSSDocument> documents,
+                                          Function<DSSDocument, PAdESSignatureParameters> parametersProvider,
+                                          Function<List<ToBeSigned>, List<SignatureValue>> signer) {
+        Objects.requireNonNull(documents, "Documents cannot be null!");
+        Objects.requireNonNull(parametersProvider, "Parameters provider cannot be null!");
+        Objects.requireNonNull(signer, "Signer cannot be null!");
+
+        final PAdESService batchService = createBatchService();
+        final PAdESBatchSignatureResult result = new PAdESBatchSignatureResult();
+        for (int i = 0; i < documents.size(); i += chunkSize) {
+            final List<DSSDocument> chunk = documents.subList(i, Math.min(i + chunkSize, documents.size()));
+            final PAdESSignatureBatch batch = prepare(batchService, chunk, parametersProvider);
+            final List<ToBeSigned> dataToSign = batch.getDataToSign();
+            final List<SignatureValue> signatureValues = dataToSign.isEmpty() ?
+                    Collections.<SignatureValue>emptyList() : signer.apply(dataToSign);
+            for (PAdESBatchSignatureResult.DocumentResult documentResult : signDocuments(batch, signatureValues).getDocumentResults()) {
+                result.add(documentResult);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Prepares the given documents for signing and computes the data to be signed.
+     *
+     * NOTE: the {@code parametersProvider} shall return a new instance of {@code PAdESSignatureParameters}
+     *       for every document, as the parameters are used to cache the prepared PDF revision.
+     *       The prepared revisions of all documents are kept in memory until {@code #signDocuments(...)},
+     *       see {@code #sign(...)} for a large number of documents.
+     *       A document failing on preparation is reported within the result and skipped on signing.
+     *
+     * @param documents a list of {@link DSSDocument}s to be signed
+     * @param parametersProvider {@link Function} returning signature parameters for a document
+     * @return {@link PAdESSignatureBatch}
+     */
+    public PAdESSignatureBatch prepare(List<DSSDocument> documents,
+                                       Function<DSSDocument, PAdESSignatureParameters> parametersProvider) {
+        Objects.requireNonNull(documents, "Documents cannot be null!");
+        Objects.requireNonNull(parametersProvider, "Parameters provider cannot be null!");
+        return prepare(createBatchService(), documents, parametersProvider);
+    }
+
+    private PAdESSignatureBatch prepare(PAdESService batchService, List<DSSDocument> documents,
+                                        Function<DSSDocument, PAdESSignatureParameters> parametersProvider) {
+        final PAdESSignatureBatch batch = new PAdESSignatureBatch(batchService);
+        for (DSSDocument document : documents) {
+            final PAdESSignatureParameters parameters = parametersProvider.apply(document);
+            final PAdESSignatureBatch.PreparedDocument preparedDocument = new PAdESSignatureBatch.PreparedDocument(document, parameters);
+            final long start = System.nanoTime();
+            try {
+                Objects.requireNonNull(parameters, "SignatureParameters cannot be null!");
+                preparedDocument.setToBeSigned(batch.getService().getDataToSign(document, parameters));
+            } catch (Exception e) {
+                LOG.warn("Unable to prepare the document '{}' for signing : {}", document.getName(), e.getMessage());
+                preparedDocument.setException(e);
+            }
+            preparedDocument.setPreparationTime(System.nanoTime() - start);
+            batch.add(preparedDocument);
+        }
+        return batch;
+    }
+
+    /**
+     * Incorporates the signature values into the prepared documents and extends the signatures
+     * to the target level, when required.
+     *
+     * @param batch {@link PAdESSignatureBatch} obtained with {@code #prepare(...)}
+     * @param signatureValues a list of {@link SignatureValue}s computed on {@code PAdESSignatureBatch.getDataToSign()},
+     *                        in the same order
+     * @return {@link PAdESBatchSignatureResult}
+     */
+    public PAdESBatchSignatureResult signDocuments(PAdESSignatureBatch batch, List<SignatureValue> signatureValues) {
+        Objects.requireNonNull(batch, "SignatureBatch cannot be null!");
+        Objects.requireNonNull(signatureValues, "SignatureValues cannot be null!");
+
+        final List<ToBeSigned> dataToSign = batch.getDataToSign();
+        if (dataToSign.size() != signatureValues.size()) {
+            throw new IllegalArgumentException(String.format("The number of signature values '%s' does not match " +
+                    "the number of prepared documents '%s'!", signatureValues.size(), dataToSign.size()));
+        }
+
+        final PAdESBatchSignatureResult result = new PAdESBatchSignatureResult();
+        int i = 0;
+        for (PAdESSignatureBatch.PreparedDocument preparedDocument : batch.getPreparedDocuments()) {
+            if (preparedDocument.getToBeSigned() == null) {
+                result.add(new PAdESBatchSignatureResult.DocumentResult(preparedDocument.getDocument(), null,
+                        preparedDocument.getException(), preparedDocument.getPreparationTime(), 0));
+                continue;
+            }
+
+            final SignatureValue signatureValue = signatureValues.get(i++);
+            DSSDocument signedDocument = null;
+            Exception exception = null;
+            final long start = System.nanoTime();
+            try {
+                signedDocument = batch.getService().signDocument(preparedDocument.getDocument(),
+                        preparedDocument.getParameters(), signatureValue);
+            } catch (Exception e) {
+                LOG.warn("Unable to sign the document '{}' : {}", preparedDocument.getDocument().getName(), e.getMessage());
+                exception = e;
+            }
+            result.add(new PAdESBatchSignatureResult.DocumentResult(preparedDocument.getDocument(), signedDocument,
+                    exception, preparedDocument.getPreparationTime(), System.nanoTime() - start));
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Batch of {} documents signed in {} ms ({} failed, {} documents/s)", result.getDocumentResults().size(),
+                    result.getTotalTime(), result.getFailureCount(), result.getThroughput());
+        }
+        return result;
+    }
+
+    /**
+     * Creates a new {@code PAdESService} to be used for a batch, sharing the revocation data between the documents
+     *
+     * @return {@link PAdESService}
+     */
+    protected PAdESService createBatchService() {
+        final CertificateVerifier batchCertificateVerifier = new CertificateVerifierBuilder(certificateVerifier).buildCompleteCopy();
+        if (certificateVerifier.getCrlSource() != null) {
+            batchCertificateVerifier.setCrlSource(new BatchRevocationSource<>(certificateVerifier.getCrlSource()));
+        }
+        if (certificateVerifier.getOcspSource() != null) {
+            batchCertificateVerifier.setOcspSource(new BatchRevocationSource<>(certificateVerifier.getOcspSource()));
+        }
+
+        final PAdESService service = new PAdESService(batchCertificateVerifier);
+        service.setPdfObjFactory(pdfObjFactory);
+        if (tspSource != null) {
+            service.setTspSource(tspSource);
+        }
+        return service;
+    }
+
+    /**
+     * Keeps the revocation data obtained within a batch, in order to request it only once for all documents
+     *
+     * @param <R> {@link Revocation} type
+     */
+    private static class BatchRevocationSource<R extends Revocation> implements RevocationSourceAlternateUrlsSupport<R> {
+
+        private static final long serialVersionUID = -2479836143283604719L;
+
+        /** The source used to retrieve the revocation data */
+        private final RevocationSource<R> revocationSource;
+
+        /** The revocation data obtained within the batch, by certificate and issuer identifiers */
+        private final Map<String, RevocationToken<R>> revocationTokens = new ConcurrentHashMap<>();
+
+        /** The certificate and issuer identifiers for which no revocation data has been found within the batch */
+        private final Set<String> missingRevocationKeys = ConcurrentHashMap.newKeySet();
+
+        /**
+         * Default constructor
+         *
+         * @param revocationSource {@link RevocationSource} to retrieve revocation data from
+         */
+        private BatchRevocationSource(RevocationSource<R> revocationSource) {
+            this.revocationSource = revocationSource;
+        }
+
+        @Override
+        public RevocationToken<R> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+            return getRevocationToken(certificateToken, issuerCertificateToken, Collections.emptyList());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public RevocationToken<R> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken,
+                                                     List<String> alternativeUrls) {
+            if (issuerCertificateToken == null) {
+                return revocationSource.getRevocationToken(certificateToken, null);
+            }
+            final String key = certificateToken.getDSSIdAsString() + issuerCertificateToken.getDSSIdAsString();
+            RevocationToken<R> revocationToken = revocationTokens.get(key);
+            if (revocationToken == null && !missingRevocationKeys.contains(key)) {
+                if (Utils.isCollectionNotEmpty(alternativeUrls) && revocationSource instanceof RevocationSourceAlternateUrlsSupport) {
+                    revocationToken = ((RevocationSourceAlternateUrlsSupport<R>) revocationSource).getRevocationToken(
+                            certificateToken, issuerCertificateToken, alternativeUrls);
+                } else {
+                    revocationToken = revocationSource.getRevocationToken(certificateToken, issuerCertificateToken);
+                }
+                if (revocationToken != null) {
+                    revocationTokens.put(key, revocationToken);
+                } else {
+                    missingRevocationKeys.add(key);
+                }
+            }
+            return revocationToken;
+        }
+
+    }
+
+}
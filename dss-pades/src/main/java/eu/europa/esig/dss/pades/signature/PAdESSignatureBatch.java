@@ -0,0 +1,214 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pades.signature;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.pades.PAdESSignatureParameters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Contains a set of documents prepared for a signature creation within a single batch,
+ * obtained with {@code PAdESBatchSignatureService.prepare(...)}.
+ *
+ * The data to be signed of all prepared documents is returned by {@code #getDataToSign()},
+ * allowing to compute the signature values within a single session with the signing token.
+ *
+ */
+public class PAdESSignatureBatch {
+
+    /** The service used to create the signatures of the batch, sharing the revocation data between documents */
+    private final PAdESService service;
+
+    /** The documents of the batch, in the original order */
+    private final List<PreparedDocument> preparedDocuments = new ArrayList<>();
+
+    /**
+     * Default constructor
+     *
+     * @param service {@link PAdESService} to be used to sign the documents of the batch
+     */
+    PAdESSignatureBatch(PAdESService service) {
+        this.service = service;
+    }
+
+    /**
+     * Gets the service to be used to sign the documents of the batch
+     *
+     * @return {@link PAdESService}
+     */
+    PAdESService getService() {
+        return service;
+    }
+
+    /**
+     * Adds a document to the batch
+     *
+     * @param preparedDocument {@link PreparedDocument}
+     */
+    void add(PreparedDocument preparedDocument) {
+        preparedDocuments.add(preparedDocument);
+    }
+
+    /**
+     * Gets all documents of the batch, including the ones failed to be prepared
+     *
+     * @return a list of {@link PreparedDocument}s
+     */
+    List<PreparedDocument> getPreparedDocuments() {
+        return Collections.unmodifiableList(preparedDocuments);
+    }
+
+    /**
+     * Returns the data to be signed of all successfully prepared documents, in the order of the documents.
+     * The signature values shall be provided to {@code PAdESBatchSignatureService.signDocuments(...)}
+     * in the same order.
+     *
+     * @return a list of {@link ToBeSigned}
+     */
+    public List<ToBeSigned> getDataToSign() {
+        final List<ToBeSigned> result = new ArrayList<>();
+        for (PreparedDocument preparedDocument : preparedDocuments) {
+            if (preparedDocument.getToBeSigned() != null) {
+                result.add(preparedDocument.getToBeSigned());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of documents of the batch
+     *
+     * @return number of documents
+     */
+    public int size() {
+        return preparedDocuments.size();
+    }
+
+    /**
+     * Represents a document of the batch with its signature parameters
+     */
+    static class PreparedDocument {
+
+        /** The document to be signed */
+        private final DSSDocument document;
+
+        /** The signature parameters of the document, containing the cached prepared PDF revision */
+        private final PAdESSignatureParameters parameters;
+
+        /** The data to be signed, NULL if the preparation failed */
+        private ToBeSigned toBeSigned;
+
+        /** The exception thrown on the document preparation */
+        private Exception exception;
+
+        /** Time spent on the document preparation, in nanoseconds */
+        private long preparationTime;
+
+        /**
+         * Default constructor
+         *
+         * @param document {@link DSSDocument} to be signed
+         * @param parameters {@link PAdESSignatureParameters} of the document
+         */
+        PreparedDocument(DSSDocument document, PAdESSignatureParameters parameters) {
+            this.document = document;
+            this.parameters = parameters;
+        }
+
+        /**
+         * Gets the document to be signed
+         *
+         * @return {@link DSSDocument}
+         */
+        DSSDocument getDocument() {
+            return document;
+        }
+
+        /**
+         * Gets the signature parameters of the document
+         *
+         * @return {@link PAdESSignatureParameters}
+         */
+        PAdESSignatureParameters getParameters() {
+            return parameters;
+        }
+
+        /**
+         * Gets the data to be signed
+         *
+         * @return {@link ToBeSigned}, NULL if the preparation failed
+         */
+        ToBeSigned getToBeSigned() {
+            return toBeSigned;
+        }
+
+        /**
+         * Sets the data to be signed
+         *
+         * @param toBeSigned {@link ToBeSigned}
+         */
+        void setToBeSigned(ToBeSigned toBeSigned) {
+            this.toBeSigned = toBeSigned;
+        }
+
+        /**
+         * Gets the exception thrown on the document preparation
+         *
+         * @return {@link Exception}
+         */
+        Exception getException() {
+            return exception;
+        }
+
+        /**
+         * Sets the exception thrown on the document preparation
+         *
+         * @param exception {@link Exception}
+         */
+        void setException(Exception exception) {
+            this.exception = exception;
+        }
+
+        /**
+         * Gets the time spent on the document preparation, in nanoseconds
+         *
+         * @return preparation time
+         */
+        long getPreparationTime() {
+            return preparationTime;
+        }
+
+        /**
+         * Sets the time spent on the document preparation, in nanoseconds
+         *
+         * @param preparationTime preparation time
+         */
+        void setPreparationTime(long preparationTime) {
+            this.preparationTime = preparationTime;
+        }
+
+    }
+
+}
@@ -123,6 +123,12 @@ public class PDFDocumentValidator extends SignedDocumentValidator {
         return validationContext;
     }
 
+    @Override
+    protected boolean isConcurrentSignatureValidationSupported() {
+        // CMS signatures are verified independently
+        return true;
+    }
+
     @Override
     protected PAdESDiagnosticDataBuilder initializeDiagnosticDataBuilder() {
         return new PAdESDiagnosticDataBuilder();
@@ -52,12 +52,14 @@ import eu.europa.esig.dss.pdf.visible.SignatureFieldBoxBuilder;
 import eu.europa.esig.dss.pdf.visible.VisualSignatureFieldAppearance;
 import eu.europa.esig.dss.signature.resources.DSSResourcesHandler;
 import eu.europa.esig.dss.signature.resources.DSSResourcesHandlerBuilder;
+import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.AdvancedSignature;
 import eu.europa.esig.dss.spi.x509.tsp.TimestampToken;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -268,7 +270,8 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 		final List<PdfRevision> revisions = new ArrayList<>();
 		final List<PdfByteRangeDocument> revisionDocuments = PAdESUtils.extractRevisions(document);
 
-		try (PdfDocumentReader reader = loadPdfDocumentReader(document, pwd)) {
+		try (PdfDocumentReader reader = loadPdfDocumentReader(document, pwd);
+			 PdfRevisionReaders revisionReaders = new PdfRevisionReaders(document, reader, pwd)) {
 
 			final PdfCompositeDssDictionary compositeDssDictionary = new PdfCompositeDssDictionary();
 
@@ -304,7 +307,8 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 					final boolean signatureCoversWholeDocument = reader.isSignatureCoversWholeDocument(signatureDictionary);
 
 					final DSSDocument revisionContent = PAdESUtils.getRevisionContent(document, byteRange);
-					try (PdfDocumentReader revisionReader = loadPdfDocumentReader(revisionContent, pwd)) {
+					try {
+						final PdfDocumentReader revisionReader = revisionReaders.getReader(revisionContent);
 
 						// Method is used to detect modification within the signature dictionary itself (spoofing attack)
 						verifyPdfSignatureDictionary(signatureDictionary, fieldNames, revisionReader);
@@ -343,7 +347,8 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 						revisions.add(newRevision);
 					}
 
-					try (PdfDocumentReader revisionReader = loadPdfDocumentReader(previousRevision, pwd)) {
+					try {
+						final PdfDocumentReader revisionReader = revisionReaders.getReader(previousRevision);
 
 						// checks if there is a previous update of the DSS dictionary and creates a new revision if needed
 						lastDSSDictionary = getPreviousDssDictAndUpdateIfNeeded(revisions, compositeDssDictionary,
@@ -411,6 +416,100 @@ public abstract class AbstractPDFSignatureService implements PDFSignatureService
 	protected abstract PdfDocumentReader loadPdfDocumentReader(DSSDocument dssDocument, char[] passwordProtection)
 			throws IOException, InvalidPasswordException;
 
+	/**
+	 * Provides the readers for the revisions of a document analyzed within {@code getRevisions}, ensuring
+	 * each revision is parsed only once. The revisions are processed from the latest to the first, and the previous
+	 * revision of a signature is usually the signed revision of the preceding one, therefore only the last loaded
+	 * revision reader is kept. The reader of the whole document is reused for the revision covering it.
+	 */
+	private class PdfRevisionReaders implements Closeable {
+
+		/** The reader of the whole document (not closed by this class) */
+		private final PdfDocumentReader documentReader;
+
+		/** The length of the whole document */
+		private final long documentLength;
+
+		/** The password used to protect the document */
+		private final char[] pwd;
+
+		/** The length of the last loaded revision, -1 if none */
+		private long cachedRevisionLength = -1;
+
+		/** The reader of the last loaded revision, null if the loading failed */
+		private PdfDocumentReader cachedReader;
+
+		/** The exception thrown on the last revision loading, if any */
+		private Exception cachedException;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param document {@link DSSDocument} the whole document
+		 * @param documentReader {@link PdfDocumentReader} the reader of the whole document
+		 * @param pwd the password used to protect the document
+		 */
+		PdfRevisionReaders(DSSDocument document, PdfDocumentReader documentReader, char[] pwd) {
+			this.documentReader = documentReader;
+			this.documentLength = DSSUtils.getFileByteSize(document);
+			this.pwd = pwd;
+		}
+
+		/**
+		 * Gets the reader for the given revision
+		 *
+		 * @param revision {@link DSSDocument} to read
+		 * @return {@link PdfDocumentReader}
+		 * @throws Exception if the revision cannot be loaded
+		 */
+		PdfDocumentReader getReader(DSSDocument revision) throws Exception {
+			final long revisionLength = getRevisionLength(revision);
+			if (revisionLength == -1) {
+				// not a revision of the document, shall not be cached
+				close();
+				cachedReader = loadPdfDocumentReader(revision, pwd);
+				return cachedReader;
+			}
+			if (revisionLength == documentLength) {
+				return documentReader;
+			}
+			if (revisionLength != cachedRevisionLength) {
+				close();
+				cachedRevisionLength = revisionLength;
+				try {
+					cachedReader = loadPdfDocumentReader(revision, pwd);
+				} catch (Exception e) {
+					cachedException = e;
+				}
+			}
+			if (cachedException != null) {
+				throw cachedException;
+			}
+			return cachedReader;
+		}
+
+		private long getRevisionLength(DSSDocument revision) {
+			if (revision instanceof PdfByteRangeDocument) {
+				ByteRange byteRange = ((PdfByteRangeDocument) revision).getByteRange();
+				if (byteRange.getFirstPartStart() == 0 && byteRange.getSecondPartEnd() == 0) {
+					return byteRange.getLength();
+				}
+			}
+			return -1;
+		}
+
+		@Override
+		public void close() {
+			if (cachedReader != null) {
+				Utils.closeQuietly(cachedReader);
+				cachedReader = null;
+			}
+			cachedException = null;
+			cachedRevisionLength = -1;
+		}
+
+	}
+
 	/**
 	 * Sorts the given map starting from the latest revision to the first
 	 * 
@@ -20,6 +20,7 @@
  */
 package eu.europa.esig.dss.pdf.modifications;
 
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.pdf.AnnotationBox;
 import eu.europa.esig.dss.pdf.PdfAnnotation;
 import eu.europa.esig.dss.pdf.PdfDocumentReader;
@@ -31,9 +32,19 @@ import org.slf4j.LoggerFactory;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Default implementation used to find differences in pages between two PDF revisions.
@@ -52,6 +63,21 @@ public class DefaultPdfDifferencesFinder implements PdfDifferencesFinder {
      */
     private int maximalPagesAmountForVisualComparison = 10;
 
+    /**
+     * Calculates page digests, used to skip the visual comparison of unchanged pages
+     */
+    private PdfPageDigestCalculator pageDigestCalculator = new PdfPageDigestCalculator();
+
+    /**
+     * Used to render the signed and the final revisions concurrently
+     */
+    private ExecutorService executorService;
+
+    /**
+     * Caches the data computed for the final revisions, in order to re-use it between signatures
+     */
+    private final Map<PdfDocumentReader, FinalRevisionRenders> finalRevisionRendersMap = new WeakHashMap<>();
+
     /**
      * Sets a maximal pages amount in a PDF to process a visual screenshot
      * comparison Example: for value 10, the visual comparison will be executed for
@@ -68,6 +94,32 @@ public class DefaultPdfDifferencesFinder implements PdfDifferencesFinder {
         this.maximalPagesAmountForVisualComparison = pagesAmount;
     }
 
+    /**
+     * Sets the calculator used to compute page digests.
+     * Pages with equal digests in the signed and final revisions are not rendered for a visual comparison.
+     *
+     * Default : {@code PdfPageDigestCalculator} using SHA-256
+     *
+     * @param pageDigestCalculator {@link PdfPageDigestCalculator}
+     */
+    public void setPageDigestCalculator(PdfPageDigestCalculator pageDigestCalculator) {
+        Objects.requireNonNull(pageDigestCalculator, "PdfPageDigestCalculator cannot be null!");
+        this.pageDigestCalculator = pageDigestCalculator;
+    }
+
+    /**
+     * Sets the {@code ExecutorService} used to render the signed and the final document revisions concurrently.
+     * NOTE: pages of the same document are rendered within a single thread, as the underlying PDF
+     * implementations do not support a concurrent access to the same document.
+     *
+     * Default : NULL (the revisions are rendered sequentially within the calling thread)
+     *
+     * @param executorService {@link ExecutorService}
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
     /**
      * Default constructor instantiating object with default configuration
      */
@@ -151,31 +203,101 @@ public class DefaultPdfDifferencesFinder implements PdfDifferencesFinder {
             return Collections.emptyList();
         }
 
-        final List<PdfModification> visualDifferences = new ArrayList<>();
-        for (int pageNumber = 1; pageNumber <= signedRevisionReader.getNumberOfPages()
-                && pageNumber <= finalRevisionReader.getNumberOfPages(); pageNumber++) {
-            try {
-                BufferedImage signedScreenshot = signedRevisionReader.generateImageScreenshot(pageNumber);
+        final int pagesToCompare = Math.min(signedRevisionReader.getNumberOfPages(), pagesAmount);
+        final FinalRevisionRenders finalRevisionRenders = getFinalRevisionRenders(finalRevisionReader);
+        final List<byte[]> signedPageDigests = pageDigestCalculator.computePageDigests(signedRevisionReader);
+        final List<byte[]> finalPageDigests = finalRevisionRenders.getPageDigests(finalRevisionReader);
 
+        final Map<Integer, List<PdfAnnotation>> addedAnnotationsMap = new LinkedHashMap<>();
+        for (int pageNumber = 1; pageNumber <= pagesToCompare; pageNumber++) {
+            // NOTE: a rendering may alter the document (e.g. by creating missing appearance streams),
+            // therefore an already rendered page of the final revision is compared visually in order
+            // to keep the state of both revisions consistent for the following object modifications check
+            if (isPageDigestEqual(signedPageDigests, finalPageDigests, pageNumber)
+                    && !finalRevisionRenders.isRendered(pageNumber)) {
+                LOG.trace("The page {} is identical in the signed revision and the final document.", pageNumber);
+                continue;
+            }
+            try {
                 List<PdfAnnotation> signedAnnotations = signedRevisionReader.getPdfAnnotations(pageNumber);
-                List<PdfAnnotation> finalAnnotations = finalRevisionReader.getPdfAnnotations(pageNumber);
+                List<PdfAnnotation> finalAnnotations = finalRevisionRenders.getPdfAnnotations(finalRevisionReader, pageNumber);
+                addedAnnotationsMap.put(pageNumber, getUpdatedAnnotations(signedAnnotations, finalAnnotations));
 
-                List<PdfAnnotation> addedAnnotations = getUpdatedAnnotations(signedAnnotations, finalAnnotations);
-                BufferedImage finalScreenshot = finalRevisionReader.generateImageScreenshotWithoutAnnotations(pageNumber,
-                        addedAnnotations);
+            } catch (IOException e) {
+                LOG.warn("Unable to get visual differences for a page number : {}. Reason : {}",
+                        pageNumber, e.getMessage(), e);
+            }
+        }
+        if (addedAnnotationsMap.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-                if (!ImageUtils.imagesEqual(signedScreenshot, finalScreenshot)) {
-                    LOG.warn("A visual difference found on page {} between a signed revision and the final document!",
-                            pageNumber);
-                    visualDifferences.add(new CommonPdfModification(pageNumber));
-                }
+        final Map<Integer, BufferedImage> signedScreenshots;
+        final Map<Integer, BufferedImage> finalScreenshots;
+        if (executorService != null) {
+            // each document is rendered within a single thread, as PDF readers do not support concurrent access
+            final CompletableFuture<Map<Integer, BufferedImage>> finalScreenshotsFuture = CompletableFuture.supplyAsync(
+                    () -> finalRevisionRenders.getScreenshots(finalRevisionReader, addedAnnotationsMap), executorService);
+            signedScreenshots = getScreenshots(signedRevisionReader, addedAnnotationsMap.keySet());
+            finalScreenshots = getResult(finalScreenshotsFuture);
+        } else {
+            signedScreenshots = getScreenshots(signedRevisionReader, addedAnnotationsMap.keySet());
+            finalScreenshots = finalRevisionRenders.getScreenshots(finalRevisionReader, addedAnnotationsMap);
+        }
 
+        final List<PdfModification> visualDifferences = new ArrayList<>();
+        for (Integer pageNumber : addedAnnotationsMap.keySet()) {
+            BufferedImage signedScreenshot = signedScreenshots.get(pageNumber);
+            BufferedImage finalScreenshot = finalScreenshots.get(pageNumber);
+            if (signedScreenshot == null || finalScreenshot == null) {
+                continue;
+            }
+            if (!ImageUtils.imagesEqual(signedScreenshot, finalScreenshot)) {
+                LOG.warn("A visual difference found on page {} between a signed revision and the final document!",
+                        pageNumber);
+                visualDifferences.add(new CommonPdfModification(pageNumber));
+            }
+        }
+        return visualDifferences;
+    }
+
+    private FinalRevisionRenders getFinalRevisionRenders(PdfDocumentReader finalRevisionReader) {
+        synchronized (finalRevisionRendersMap) {
+            return finalRevisionRendersMap.computeIfAbsent(finalRevisionReader, k -> new FinalRevisionRenders());
+        }
+    }
+
+    private boolean isPageDigestEqual(List<byte[]> signedPageDigests, List<byte[]> finalPageDigests, int pageNumber) {
+        if (signedPageDigests.size() < pageNumber || finalPageDigests.size() < pageNumber) {
+            return false;
+        }
+        byte[] signedPageDigest = signedPageDigests.get(pageNumber - 1);
+        byte[] finalPageDigest = finalPageDigests.get(pageNumber - 1);
+        return signedPageDigest != null && Arrays.equals(signedPageDigest, finalPageDigest);
+    }
+
+    private Map<Integer, BufferedImage> getScreenshots(PdfDocumentReader reader, Collection<Integer> pageNumbers) {
+        final Map<Integer, BufferedImage> screenshots = new HashMap<>();
+        for (Integer pageNumber : pageNumbers) {
+            try {
+                screenshots.put(pageNumber, reader.generateImageScreenshot(pageNumber));
             } catch (IOException e) {
                 LOG.warn("Unable to get visual differences for a page number : {}. Reason : {}",
                         pageNumber, e.getMessage(), e);
             }
         }
-        return visualDifferences;
+        return screenshots;
+    }
+
+    private Map<Integer, BufferedImage> getResult(CompletableFuture<Map<Integer, BufferedImage>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new DSSException(String.format("Unable to render the final document revision : %s", e.getMessage()), e);
+        }
     }
 
     private List<PdfAnnotation> getUpdatedAnnotations(List<PdfAnnotation> signedAnnotations,
@@ -189,4 +311,93 @@ public class DefaultPdfDifferencesFinder implements PdfDifferencesFinder {
         return updatesAnnotations;
     }
 
+    /**
+     * Keeps the data computed for the final document revision, in order to be re-used between
+     * the comparisons of different signed revisions against the same final document.
+     * NOTE: the class does not keep a reference to the reader itself, in order to allow its garbage collection.
+     */
+    private class FinalRevisionRenders {
+
+        /** Page digests of the final revision */
+        private List<byte[]> pageDigests;
+
+        /** Annotations extracted per page number */
+        private final Map<Integer, List<PdfAnnotation>> annotationsMap = new HashMap<>();
+
+        /** Screenshots per page number and the list of annotations excluded from the rendering */
+        private final Map<Integer, Map<List<PdfAnnotation>, BufferedImage>> screenshotsMap = new HashMap<>();
+
+        /**
+         * Returns page digests of the final revision, computes them on the first call
+         *
+         * @param reader {@link PdfDocumentReader} of the final revision
+         * @return a list of page digests
+         */
+        private synchronized List<byte[]> getPageDigests(PdfDocumentReader reader) {
+            if (pageDigests == null) {
+                pageDigests = pageDigestCalculator.computePageDigests(reader);
+            }
+            return pageDigests;
+        }
+
+        /**
+         * Checks whether the page of the final revision has been already rendered
+         *
+         * @param pageNumber the page number
+         * @return TRUE if the page has been rendered, FALSE otherwise
+         */
+        private synchronized boolean isRendered(int pageNumber) {
+            return screenshotsMap.containsKey(pageNumber);
+        }
+
+        /**
+         * Returns annotations of the page of the final revision
+         *
+         * @param reader {@link PdfDocumentReader} of the final revision
+         * @param pageNumber the page number
+         * @return a list of {@link PdfAnnotation}s
+         * @throws IOException if an error occurs on annotations extraction
+         */
+        private synchronized List<PdfAnnotation> getPdfAnnotations(PdfDocumentReader reader, int pageNumber)
+                throws IOException {
+            List<PdfAnnotation> annotations = annotationsMap.get(pageNumber);
+            if (annotations == null) {
+                annotations = reader.getPdfAnnotations(pageNumber);
+                annotationsMap.put(pageNumber, annotations);
+            }
+            return annotations;
+        }
+
+        /**
+         * Returns screenshots of the requested pages of the final revision, rendering the missing ones
+         *
+         * @param reader {@link PdfDocumentReader} of the final revision
+         * @param pagesMap a map between page numbers and annotations to be excluded from the rendering
+         * @return a map between page numbers and screenshots
+         */
+        private synchronized Map<Integer, BufferedImage> getScreenshots(PdfDocumentReader reader,
+                                                                        Map<Integer, List<PdfAnnotation>> pagesMap) {
+            final Map<Integer, BufferedImage> screenshots = new HashMap<>();
+            for (Map.Entry<Integer, List<PdfAnnotation>> entry : pagesMap.entrySet()) {
+                Integer pageNumber = entry.getKey();
+                Map<List<PdfAnnotation>, BufferedImage> pageScreenshots =
+                        screenshotsMap.computeIfAbsent(pageNumber, k -> new HashMap<>());
+                BufferedImage screenshot = pageScreenshots.get(entry.getValue());
+                if (screenshot == null) {
+                    try {
+                        screenshot = reader.generateImageScreenshotWithoutAnnotations(pageNumber, entry.getValue());
+                        pageScreenshots.put(entry.getValue(), screenshot);
+                    } catch (IOException e) {
+                        LOG.warn("Unable to get visual differences for a page number : {}. Reason : {}",
+                                pageNumber, e.getMessage(), e);
+                        continue;
+                    }
+                }
+                screenshots.put(pageNumber, screenshot);
+            }
+            return screenshots;
+        }
+
+    }
+
 }
@@ -36,8 +36,10 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 /**
  * Default implementation used to find the differences between two provided PDF revisions.
@@ -53,6 +55,11 @@ public class DefaultPdfObjectModificationsFinder implements PdfObjectModificatio
     /** Used to categorize found object modifications to different groups */
     private PdfObjectModificationsFilter pdfObjectModificationsFilter = new PdfObjectModificationsFilter();
 
+    /**
+     * Caches object digest indexes of the final revisions, in order to re-use them between signatures
+     */
+    private final Map<PdfDocumentReader, PdfObjectDigestIndex> finalRevisionIndexes = new WeakHashMap<>();
+
     /**
      * Default constructor instantiating object with default configuration
      */
@@ -94,13 +101,43 @@ public class DefaultPdfObjectModificationsFinder implements PdfObjectModificatio
     private Set<ObjectModification> findObjectModifications(final PdfDocumentReader originalRevisionReader,
                                                             final PdfDocumentReader finalRevisionReader) {
         final Set<ObjectModification> modifications = new LinkedHashSet<>(); // use LinkedHashSet in order to have a deterministic order
+        final UnchangedObjects unchangedObjects = getUnchangedObjects(originalRevisionReader, finalRevisionReader);
         final PdfDict signedCatalogDict = originalRevisionReader.getCatalogDictionary();
         final PdfDict finalCatalogDict = finalRevisionReader.getCatalogDictionary();
-        compareObjectsRecursively(modifications, new HashSet<>(), new PdfObjectTree(PAdESConstants.CATALOG_NAME),
-                PAdESConstants.CATALOG_NAME, signedCatalogDict, finalCatalogDict);
+        compareObjectsRecursively(modifications, new HashSet<>(), unchangedObjects,
+                new PdfObjectTree(PAdESConstants.CATALOG_NAME), PAdESConstants.CATALOG_NAME,
+                signedCatalogDict, finalCatalogDict);
         return modifications;
     }
 
+    /**
+     * Builds object digest indexes for the given revisions and returns the objects remained unchanged
+     * between them. The index of the final revision is computed once and re-used for all signed revisions.
+     *
+     * @param originalRevisionReader {@link PdfDocumentReader} of the signed revision
+     * @param finalRevisionReader {@link PdfDocumentReader} of the final revision
+     * @return {@link UnchangedObjects}, NULL if the indexes cannot be built
+     */
+    private UnchangedObjects getUnchangedObjects(final PdfDocumentReader originalRevisionReader,
+                                                 final PdfDocumentReader finalRevisionReader) {
+        try {
+            PdfObjectDigestIndex finalRevisionIndex;
+            synchronized (finalRevisionIndexes) {
+                finalRevisionIndex = finalRevisionIndexes.get(finalRevisionReader);
+                if (finalRevisionIndex == null) {
+                    finalRevisionIndex = new PdfObjectDigestIndex(finalRevisionReader, maximumObjectVerificationDeepness);
+                    finalRevisionIndexes.put(finalRevisionReader, finalRevisionIndex);
+                }
+            }
+            PdfObjectDigestIndex signedRevisionIndex = new PdfObjectDigestIndex(originalRevisionReader, maximumObjectVerificationDeepness);
+            return new UnchangedObjects(signedRevisionIndex, signedRevisionIndex.getUnchangedObjects(finalRevisionIndex));
+
+        } catch (Exception e) {
+            LOG.debug("Unable to build object digest indexes. All objects will be compared. Reason : {}", e.getMessage(), e);
+            return null;
+        }
+    }
+
     /**
      * Returns found and categorized object differences between two provided {@code PdfDict} objects
      *
@@ -110,13 +147,14 @@ public class DefaultPdfObjectModificationsFinder implements PdfObjectModificatio
      */
     public PdfObjectModifications find(PdfDict originalRevisionDict, PdfDict finalRevisionDict) {
         final Set<ObjectModification> objectModifications = new LinkedHashSet<>();
-        compareDictsRecursively(objectModifications, new HashSet<>(), new PdfObjectTree(),
+        compareDictsRecursively(objectModifications, new HashSet<>(), null, new PdfObjectTree(),
                 originalRevisionDict, finalRevisionDict);
         return pdfObjectModificationsFilter.filter(objectModifications);
     }
 
     private void compareDictsRecursively(Set<ObjectModification> modifications, Set<String> processedObjects,
-                                                PdfObjectTree objectTree, PdfDict signedDict, PdfDict finalDict) {
+                                         UnchangedObjects unchangedObjects, PdfObjectTree objectTree,
+                                         PdfDict signedDict, PdfDict finalDict) {
         final String[] signedRevKeys = signedDict.list();
         final String[] finalRevKeys = finalDict.list();
         for (String key : signedRevKeys) {
@@ -125,8 +163,13 @@ public class DefaultPdfObjectModificationsFinder implements PdfObjectModificatio
             if (!isProcessedReference(processedObjects, currentObjectTree, key, objectNumber)) {
                 currentObjectTree.addKey(key);
                 addProcessedReference(processedObjects, currentObjectTree, key, objectNumber);
-                compareObjectsRecursively(modifications, processedObjects, currentObjectTree, key,
-                        signedDict.getObject(key), finalDict.getObject(key));
+                if (unchangedObjects != null && unchangedObjects.isUnchanged(objectNumber, finalDict.getObjectNumber(key))) {
+                    skipUnchangedObject(processedObjects, unchangedObjects, currentObjectTree, key,
+                            unchangedObjects.getStructure(objectNumber));
+                } else {
+                    compareObjectsRecursively(modifications, processedObjects, unchangedObjects, currentObjectTree,
+                            key, signedDict.getObject(key), finalDict.getObject(key));
+                }
             }
         }
 
@@ -156,7 +199,8 @@ public class DefaultPdfObjectModificationsFinder implements PdfObjectModificatio
     }
 
     private void compareObjectsRecursively(Set<ObjectModification> modifications, Set<String> processedObjects,
-                                                  PdfObjectTree objectTree, String key, Object signedObject, Object finalObject) {
+                                           UnchangedObjects unchangedObjects, PdfObjectTree objectTree, String key,
+                                           Object signedObject, Object finalObject) {
         if (maximumObjectVerificationDeepness < objectTree.getChainDeepness()) {
             LOG.warn("Maximum objects verification deepness has been reached : {}. " +
                     "Chain of objects is skipped.", maximumObjectVerificationDeepness);
@@ -191,15 +235,15 @@ public class DefaultPdfObjectModificationsFinder implements PdfObjectModificatio
 
         } else if (signedObject != null && finalObject != null) {
             if (signedObject instanceof PdfDict && finalObject instanceof PdfDict) {
-                compareDictsRecursively(modifications, processedObjects, objectTree,
+                compareDictsRecursively(modifications, processedObjects, unchangedObjects, objectTree,
                         (PdfDict) signedObject, (PdfDict) finalObject);
 
             } else if (signedObject instanceof PdfArray && finalObject instanceof PdfArray) {
                 PdfArray signedArray = (PdfArray) signedObject;
                 PdfArray finalArray = (PdfArray) finalObject;
-                compareArraysRecursively(modifications, processedObjects, objectTree, key,
+                compareArraysRecursively(modifications, processedObjects, unchangedObjects, objectTree, key,
                         signedArray, finalArray, true);
-                compareArraysRecursively(modifications, processedObjects, objectTree, key,
+                compareArraysRecursively(modifications, processedObjects, unchangedObjects, objectTree, key,
                         finalArray, signedArray, false);
 
             } else if (signedObject instanceof String && finalObject instanceof String) {
@@ -235,33 +279,72 @@ public class DefaultPdfObjectModificationsFinder implements PdfObjectModificatio
     }
 
     private void compareArraysRecursively(Set<ObjectModification> modifications, Set<String> processedObjects,
-                                                 PdfObjectTree objectTree, String key, PdfArray firstArray, PdfArray secondArray, boolean signedFirst) {
+                                          UnchangedObjects unchangedObjects, PdfObjectTree objectTree, String key,
+                                          PdfArray firstArray, PdfArray secondArray, boolean signedFirst) {
         for (int i = 0; i < firstArray.size(); i++) {
             final PdfObjectTree currentObjectTree = objectTree.copy();
 
-            Object signedRevObject = firstArray.getObject(i);
-            Object finalRevObject = null;
-
             Long objectNumber = firstArray.getObjectNumber(i);
+            int secondArrayPosition = -1;
             if (objectNumber != null) {
                 for (int j = 0; j < secondArray.size(); j++) {
                     Long finalObjectNumber = secondArray.getObjectNumber(j);
                     if (objectNumber.equals(finalObjectNumber)) {
-                        finalRevObject = secondArray.getObject(j);
+                        secondArrayPosition = j;
                     }
                 }
             } else if (i < secondArray.size()) {
-                finalRevObject = secondArray.getObject(i);
+                secondArrayPosition = i;
             }
 
             if (!isProcessedReference(processedObjects, currentObjectTree, key, objectNumber)) {
                 addProcessedReference(processedObjects, currentObjectTree, key, objectNumber);
-                compareObjectsRecursively(modifications, processedObjects, currentObjectTree, key,
+                if (unchangedObjects != null && secondArrayPosition != -1
+                        && unchangedObjects.isUnchanged(objectNumber, secondArray.getObjectNumber(secondArrayPosition))) {
+                    skipUnchangedObject(processedObjects, unchangedObjects, currentObjectTree, key,
+                            unchangedObjects.getStructure(objectNumber));
+                    continue;
+                }
+
+                Object signedRevObject = firstArray.getObject(i);
+                Object finalRevObject = secondArrayPosition != -1 ? secondArray.getObject(secondArrayPosition) : null;
+                compareObjectsRecursively(modifications, processedObjects, unchangedObjects, currentObjectTree, key,
                         signedFirst ? signedRevObject : finalRevObject, signedFirst ? finalRevObject : signedRevObject);
             }
         }
     }
 
+    /**
+     * This method is used for objects whose complete sub-tree is equal within both revisions.
+     * The objects are not compared, but the processed references are registered the same way as on
+     * the comparison, in order to keep the result of the following comparisons identical.
+     *
+     * @param processedObjects a set of processed object references
+     * @param unchangedObjects {@link UnchangedObjects}
+     * @param objectTree {@link PdfObjectTree} the current objects chain
+     * @param key {@link String} the last processed dictionary key
+     * @param structure {@link PdfObjectDigestIndex.Structure} of the unchanged object
+     */
+    private void skipUnchangedObject(Set<String> processedObjects, UnchangedObjects unchangedObjects,
+                                     PdfObjectTree objectTree, String key, PdfObjectDigestIndex.Structure structure) {
+        if (structure == null || maximumObjectVerificationDeepness < objectTree.getChainDeepness()) {
+            return;
+        }
+        for (int i = 0; i < structure.size(); i++) {
+            final PdfObjectTree currentObjectTree = objectTree.copy();
+            final String currentKey = structure.isDict() ? structure.getKey(i) : key;
+            final Long objectNumber = structure.getObjectNumber(i);
+            if (!isProcessedReference(processedObjects, currentObjectTree, currentKey, objectNumber)) {
+                if (structure.isDict()) {
+                    currentObjectTree.addKey(currentKey);
+                }
+                addProcessedReference(processedObjects, currentObjectTree, currentKey, objectNumber);
+                skipUnchangedObject(processedObjects, unchangedObjects, currentObjectTree, currentKey,
+                        objectNumber != null ? unchangedObjects.getStructure(objectNumber) : structure.getChild(i));
+            }
+        }
+    }
+
     private boolean isProcessedReference(Set<String> processedObjects, PdfObjectTree objectTree,
                                                 String key, Number objectNumber) {
         return processedObjects.contains(key + objectNumber) || objectTree.isProcessedReference(objectNumber);
@@ -328,4 +411,50 @@ public class DefaultPdfObjectModificationsFinder implements PdfObjectModificatio
         return new ByteArrayInputStream(DSSUtils.EMPTY_BYTE_ARRAY);
     }
 
+    /**
+     * Contains objects remained unchanged between the signed and the final revisions
+     */
+    private static class UnchangedObjects {
+
+        /** The object digest index of the signed revision */
+        private final PdfObjectDigestIndex signedRevisionIndex;
+
+        /** Numbers of objects with an unchanged sub-tree */
+        private final Set<Long> objectNumbers;
+
+        /**
+         * Default constructor
+         *
+         * @param signedRevisionIndex {@link PdfObjectDigestIndex} of the signed revision
+         * @param objectNumbers a set of unchanged object numbers
+         */
+        private UnchangedObjects(PdfObjectDigestIndex signedRevisionIndex, Set<Long> objectNumbers) {
+            this.signedRevisionIndex = signedRevisionIndex;
+            this.objectNumbers = objectNumbers;
+        }
+
+        /**
+         * Checks whether the signed and the final revisions reference the same unchanged object
+         *
+         * @param signedObjectNumber {@link Long} object number referenced from the signed revision
+         * @param finalObjectNumber {@link Long} object number referenced from the final revision
+         * @return TRUE if the referenced object is unchanged, FALSE otherwise
+         */
+        private boolean isUnchanged(Long signedObjectNumber, Long finalObjectNumber) {
+            return signedObjectNumber != null && signedObjectNumber.equals(finalObjectNumber)
+                    && objectNumbers.contains(signedObjectNumber);
+        }
+
+        /**
+         * Returns the structure of the object from the signed revision
+         *
+         * @param objectNumber {@link Long}
+         * @return {@link PdfObjectDigestIndex.Structure}
+         */
+        private PdfObjectDigestIndex.Structure getStructure(Long objectNumber) {
+            return signedRevisionIndex.getStructure(objectNumber);
+        }
+
+    }
+
 }
@@ -0,0 +1,390 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.modifications;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.pdf.PdfArray;
+import eu.europa.esig.dss.pdf.PdfDict;
+import eu.europa.esig.dss.pdf.PdfDocumentReader;
+import eu.europa.esig.dss.spi.DSSUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Contains an index of indirect objects of a PDF document revision, reachable from its catalog.
+ * For every object number, the index defines a digest of the object's own content (with references to other
+ * indirect objects represented by their object numbers) and the structure of the object.
+ * Comparing indexes of two revisions allows to identify objects whose complete sub-tree remained unchanged,
+ * without a comparison of the objects themselves.
+ *
+ * NOTE: the PDF object API exposes object numbers only. An object re-defined with a new generation
+ *       number is identified by a change of its content digest.
+ *
+ */
+public class PdfObjectDigestIndex {
+
+    /** The digest algorithm used to compute object digests */
+    private static final DigestAlgorithm DIGEST_ALGORITHM = DigestAlgorithm.SHA256;
+
+    /** Map between object numbers and the indexed objects */
+    private final Map<Long, IndexedObject> objects = new HashMap<>();
+
+    /** The maximum nesting level of direct objects within an indirect object */
+    private final int maximumObjectDepth;
+
+    /**
+     * Builds the index for all indirect objects reachable from the catalog of the given document revision
+     *
+     * @param reader {@link PdfDocumentReader} of the document revision
+     * @param maximumObjectDepth the maximum nesting level of direct objects within an indirect object
+     * @throws IOException if the document cannot be indexed
+     */
+    public PdfObjectDigestIndex(PdfDocumentReader reader, int maximumObjectDepth) throws IOException {
+        Objects.requireNonNull(reader, "PdfDocumentReader cannot be null!");
+        this.maximumObjectDepth = maximumObjectDepth;
+        build(reader.getCatalogDictionary());
+    }
+
+    private void build(PdfDict catalog) throws IOException {
+        if (catalog == null) {
+            throw new IOException("The catalog dictionary is not found!");
+        }
+        final Deque<PendingObject> pendingObjects = new ArrayDeque<>();
+        final Set<Long> discoveredObjects = new HashSet<>();
+        // the same instance is re-used, as the digest computation resets it
+        final MessageDigest messageDigest = DSSUtils.getMessageDigest(DIGEST_ALGORITHM);
+        // the catalog is not referenced by a number and is always compared directly
+        buildStructure(catalog, messageDigest, new ArrayList<>(), pendingObjects, discoveredObjects, 0);
+        messageDigest.reset();
+
+        while (!pendingObjects.isEmpty()) {
+            PendingObject pendingObject = pendingObjects.poll();
+            List<Long> references = new ArrayList<>();
+            Structure structure = buildStructure(pendingObject.object, messageDigest, references,
+                    pendingObjects, discoveredObjects, 0);
+            objects.put(pendingObject.objectNumber, new IndexedObject(messageDigest.digest(), structure, references));
+        }
+    }
+
+    private Structure buildStructure(Object object, MessageDigest messageDigest, List<Long> references,
+                                     Deque<PendingObject> pendingObjects, Set<Long> discoveredObjects,
+                                     int depth) throws IOException {
+        if (depth > maximumObjectDepth) {
+            throw new IOException("The PDF object exceeds the maximum allowed depth!");
+        }
+
+        if (object instanceof PdfDict) {
+            PdfDict dict = (PdfDict) object;
+            // keep the original order of keys, as it defines the order of the objects comparison
+            String[] keys = dict.list();
+            update(messageDigest, 'D', String.valueOf(keys.length));
+            Long[] objectNumbers = new Long[keys.length];
+            Structure[] children = new Structure[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                update(messageDigest, 'K', keys[i]);
+                objectNumbers[i] = dict.getObjectNumber(keys[i]);
+                if (objectNumbers[i] != null) {
+                    addReference(objectNumbers[i], dict.getObject(keys[i]), messageDigest, references,
+                            pendingObjects, discoveredObjects);
+                } else {
+                    children[i] = buildStructure(dict.getObject(keys[i]), messageDigest, references,
+                            pendingObjects, discoveredObjects, depth + 1);
+                }
+            }
+            updateStream(messageDigest, dict);
+            return new Structure(keys, objectNumbers, children);
+
+        } else if (object instanceof PdfArray) {
+            PdfArray array = (PdfArray) object;
+            update(messageDigest, 'A', String.valueOf(array.size()));
+            Long[] objectNumbers = new Long[array.size()];
+            Structure[] children = new Structure[array.size()];
+            for (int i = 0; i < array.size(); i++) {
+                objectNumbers[i] = array.getObjectNumber(i);
+                if (objectNumbers[i] != null) {
+                    addReference(objectNumbers[i], array.getObject(i), messageDigest, references,
+                            pendingObjects, discoveredObjects);
+                } else {
+                    children[i] = buildStructure(array.getObject(i), messageDigest, references,
+                            pendingObjects, discoveredObjects, depth + 1);
+                }
+            }
+            return new Structure(null, objectNumbers, children);
+
+        } else if (object == null) {
+            messageDigest.update((byte) 'N');
+
+        } else {
+            // the type is included, as objects of different types are never considered as equal
+            update(messageDigest, 'T', object.getClass().getName());
+            update(messageDigest, 'V', object.toString());
+        }
+        return null;
+    }
+
+    private void addReference(Long objectNumber, Object object, MessageDigest messageDigest, List<Long> references,
+                              Deque<PendingObject> pendingObjects, Set<Long> discoveredObjects) {
+        update(messageDigest, 'R', objectNumber.toString());
+        references.add(objectNumber);
+        if (discoveredObjects.add(objectNumber)) {
+            pendingObjects.add(new PendingObject(objectNumber, object));
+        }
+    }
+
+    private void updateStream(MessageDigest messageDigest, PdfDict dict) throws IOException {
+        try (InputStream is = dict.createRawInputStream()) {
+            if (is == null) {
+                return;
+            }
+            messageDigest.update((byte) 'S');
+            byte[] buffer = new byte[8192];
+            int count;
+            while ((count = is.read(buffer)) > 0) {
+                messageDigest.update(buffer, 0, count);
+            }
+            messageDigest.update((byte) 'E');
+        }
+    }
+
+    private void update(MessageDigest messageDigest, char type, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        messageDigest.update((byte) type);
+        messageDigest.update(String.valueOf(bytes.length).getBytes(StandardCharsets.US_ASCII));
+        messageDigest.update((byte) ':');
+        messageDigest.update(bytes);
+    }
+
+    /**
+     * Returns the number of indexed objects
+     *
+     * @return number of objects
+     */
+    public int size() {
+        return objects.size();
+    }
+
+    /**
+     * Returns a digest of the object's own content, with references to other objects represented
+     * by their object numbers
+     *
+     * @param objectNumber {@link Long} the object number
+     * @return digest of the object, NULL if the object is not indexed
+     */
+    public byte[] getDigest(Long objectNumber) {
+        IndexedObject indexedObject = objects.get(objectNumber);
+        return indexedObject != null ? indexedObject.digest : null;
+    }
+
+    /**
+     * Returns the structure of the indexed object
+     *
+     * @param objectNumber {@link Long} the object number
+     * @return {@link Structure}, NULL if the object is not indexed or is not a dictionary or an array
+     */
+    Structure getStructure(Long objectNumber) {
+        IndexedObject indexedObject = objects.get(objectNumber);
+        return indexedObject != null ? indexedObject.structure : null;
+    }
+
+    /**
+     * Returns object numbers of this index whose complete sub-tree (the object itself and all objects
+     * reachable from it) is equal within the {@code otherIndex}
+     *
+     * @param otherIndex {@link PdfObjectDigestIndex} of another revision of the same document
+     * @return a set of unchanged object numbers
+     */
+    public Set<Long> getUnchangedObjects(PdfObjectDigestIndex otherIndex) {
+        final Map<Long, List<Long>> referencingObjects = new HashMap<>();
+        final Deque<Long> changedObjects = new ArrayDeque<>();
+        for (Map.Entry<Long, IndexedObject> entry : objects.entrySet()) {
+            Long objectNumber = entry.getKey();
+            for (Long reference : entry.getValue().references) {
+                referencingObjects.computeIfAbsent(reference, k -> new ArrayList<>()).add(objectNumber);
+            }
+            if (!Arrays.equals(entry.getValue().digest, otherIndex.getDigest(objectNumber))) {
+                changedObjects.add(objectNumber);
+            }
+        }
+
+        // an object is changed when any object reachable from it is changed
+        final Set<Long> dirtyObjects = new HashSet<>(changedObjects);
+        while (!changedObjects.isEmpty()) {
+            List<Long> parents = referencingObjects.get(changedObjects.poll());
+            if (parents != null) {
+                for (Long parent : parents) {
+                    if (dirtyObjects.add(parent)) {
+                        changedObjects.add(parent);
+                    }
+                }
+            }
+        }
+
+        final Set<Long> unchangedObjects = new HashSet<>(objects.keySet());
+        unchangedObjects.removeAll(dirtyObjects);
+        return Collections.unmodifiableSet(unchangedObjects);
+    }
+
+    /**
+     * Represents an indexed indirect object
+     */
+    private static class IndexedObject {
+
+        /** Digest of the object content */
+        private final byte[] digest;
+
+        /** The structure of the object */
+        private final Structure structure;
+
+        /** Object numbers referenced from the object */
+        private final List<Long> references;
+
+        /**
+         * Default constructor
+         *
+         * @param digest byte array
+         * @param structure {@link Structure}
+         * @param references a list of referenced object numbers
+         */
+        private IndexedObject(byte[] digest, Structure structure, List<Long> references) {
+            this.digest = digest;
+            this.structure = structure;
+            this.references = references;
+        }
+
+    }
+
+    /**
+     * Represents a structure of a dictionary or an array, defining its keys (for a dictionary),
+     * references to indirect objects and enveloped direct dictionaries and arrays
+     */
+    static class Structure {
+
+        /** Keys of a dictionary, NULL for an array */
+        private final String[] keys;
+
+        /** Referenced object numbers per entry, NULL for a direct value */
+        private final Long[] objectNumbers;
+
+        /** Structures of enveloped direct dictionaries and arrays per entry */
+        private final Structure[] children;
+
+        /**
+         * Default constructor
+         *
+         * @param keys an array of {@link String} keys, NULL for an array
+         * @param objectNumbers an array of referenced object numbers
+         * @param children an array of enveloped {@link Structure}s
+         */
+        private Structure(String[] keys, Long[] objectNumbers, Structure[] children) {
+            this.keys = keys;
+            this.objectNumbers = objectNumbers;
+            this.children = children;
+        }
+
+        /**
+         * Returns whether the structure represents a dictionary
+         *
+         * @return TRUE if the structure is a dictionary, FALSE if it is an array
+         */
+        boolean isDict() {
+            return keys != null;
+        }
+
+        /**
+         * Returns the number of entries
+         *
+         * @return number of entries
+         */
+        int size() {
+            return objectNumbers.length;
+        }
+
+        /**
+         * Returns a key of the entry (dictionary only)
+         *
+         * @param i position of the entry
+         * @return {@link String} key
+         */
+        String getKey(int i) {
+            return keys[i];
+        }
+
+        /**
+         * Returns a referenced object number of the entry
+         *
+         * @param i position of the entry
+         * @return {@link Long} object number, NULL for a direct value
+         */
+        Long getObjectNumber(int i) {
+            return objectNumbers[i];
+        }
+
+        /**
+         * Returns an enveloped direct structure of the entry
+         *
+         * @param i position of the entry
+         * @return {@link Structure}, NULL if the entry is not a direct dictionary or array
+         */
+        Structure getChild(int i) {
+            return children[i];
+        }
+
+    }
+
+    /**
+     * An indirect object waiting to be indexed
+     */
+    private static class PendingObject {
+
+        /** The object number */
+        private final Long objectNumber;
+
+        /** The object */
+        private final Object object;
+
+        /**
+         * Default constructor
+         *
+         * @param objectNumber {@link Long}
+         * @param object {@link Object}
+         */
+        private PendingObject(Long objectNumber, Object object) {
+            this.objectNumber = objectNumber;
+            this.object = object;
+        }
+
+    }
+
+}
@@ -0,0 +1,308 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pdf.modifications;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.pdf.PdfArray;
+import eu.europa.esig.dss.pdf.PdfDict;
+import eu.europa.esig.dss.pdf.PdfDocumentReader;
+import eu.europa.esig.dss.spi.DSSUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Computes a structural digest for every page of a PDF document revision.
+ * The digest covers the page dictionary with all objects reachable from it (content streams, resources,
+ * annotations and their appearances), the attributes inherited from the page tree and the document-level
+ * entries affecting the page rendering. Two pages with equal digests are rendered identically.
+ *
+ */
+public class PdfPageDigestCalculator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PdfPageDigestCalculator.class);
+
+    /** Page attributes which may be inherited from the page tree nodes */
+    private static final String[] INHERITABLE_PAGE_ATTRIBUTES = { "Resources", "MediaBox", "CropBox", "Rotate" };
+
+    /** AcroForm entries used on appearance rendering */
+    private static final String[] ACROFORM_ATTRIBUTES = { "NeedAppearances", "DR", "DA", "Q" };
+
+    /** The /Parent key, excluded from the processing in order to keep the digest limited to the page itself */
+    private static final String PARENT = "Parent";
+
+    /** The digest algorithm used to compute the page digests */
+    private final DigestAlgorithm digestAlgorithm;
+
+    /** The maximum nesting level of PDF objects to be processed */
+    private int maximumObjectDepth = 500;
+
+    /**
+     * Default constructor using SHA-256
+     */
+    public PdfPageDigestCalculator() {
+        this(DigestAlgorithm.SHA256);
+    }
+
+    /**
+     * Constructor with a custom digest algorithm
+     *
+     * @param digestAlgorithm {@link DigestAlgorithm} to be used
+     */
+    public PdfPageDigestCalculator(DigestAlgorithm digestAlgorithm) {
+        Objects.requireNonNull(digestAlgorithm, "DigestAlgorithm cannot be null!");
+        this.digestAlgorithm = digestAlgorithm;
+    }
+
+    /**
+     * Sets the maximum nesting level of PDF objects to be processed.
+     * A page containing deeper structures does not get a digest and is always compared visually.
+     *
+     * Default : 500
+     *
+     * @param maximumObjectDepth the maximum nesting level
+     */
+    public void setMaximumObjectDepth(int maximumObjectDepth) {
+        this.maximumObjectDepth = maximumObjectDepth;
+    }
+
+    /**
+     * Computes digests of all pages of the document, in the page order.
+     * When the page tree cannot be processed, an empty list is returned.
+     * An entry of the returned list may be NULL, when a digest cannot be computed for the corresponding page.
+     *
+     * @param reader {@link PdfDocumentReader} of the document revision
+     * @return a list of page digests
+     */
+    public List<byte[]> computePageDigests(PdfDocumentReader reader) {
+        try {
+            PdfDict catalog = reader.getCatalogDictionary();
+            if (catalog == null) {
+                return Collections.emptyList();
+            }
+            PdfDict pagesRoot = catalog.getAsDict("Pages");
+            if (pagesRoot == null) {
+                return Collections.emptyList();
+            }
+
+            List<PageNode> pages = new ArrayList<>();
+            collectPages(pagesRoot, catalog.getObjectNumber("Pages"), new ArrayList<>(), new HashSet<>(), pages);
+            if (pages.size() != reader.getNumberOfPages()) {
+                LOG.debug("Unable to map the page tree to the document pages. Page digests are not computed.");
+                return Collections.emptyList();
+            }
+
+            final byte[] documentDigest = computeDocumentDigest(catalog);
+
+            final List<byte[]> result = new ArrayList<>();
+            for (PageNode page : pages) {
+                result.add(computePageDigest(page, documentDigest));
+            }
+            return result;
+
+        } catch (Exception e) {
+            LOG.debug("Unable to compute page digests. Reason : {}", e.getMessage(), e);
+            return Collections.emptyList();
+        }
+    }
+
+    private void collectPages(PdfDict node, Long objectNumber, List<PdfDict> ancestors, Set<Long> visitedNodes,
+                              List<PageNode> pages) throws IOException {
+        if (objectNumber != null && !visitedNodes.add(objectNumber)) {
+            throw new IOException(String.format("A cycle detected in the page tree for an object '%s'!", objectNumber));
+        }
+        if (ancestors.size() > maximumObjectDepth) {
+            throw new IOException("The page tree exceeds the maximum allowed depth!");
+        }
+        PdfArray kids = node.getAsArray("Kids");
+        if (kids == null && !"Pages".equals(node.getNameValue("Type"))) {
+            pages.add(new PageNode(node, objectNumber, new ArrayList<>(ancestors)));
+            return;
+        }
+        if (kids == null) {
+            return;
+        }
+        ancestors.add(0, node);
+        for (int i = 0; i < kids.size(); i++) {
+            PdfDict kid = kids.getAsDict(i);
+            if (kid == null) {
+                throw new IOException("A page tree node is not a dictionary!");
+            }
+            collectPages(kid, kids.getObjectNumber(i), ancestors, visitedNodes, pages);
+        }
+        ancestors.remove(0);
+    }
+
+    private byte[] computeDocumentDigest(PdfDict catalog) throws IOException {
+        MessageDigest messageDigest = DSSUtils.getMessageDigest(digestAlgorithm);
+        Set<Long> visited = new HashSet<>();
+        writeEntry(messageDigest, catalog, "OCProperties", visited, 0);
+        PdfDict acroForm = catalog.getAsDict("AcroForm");
+        if (acroForm != null) {
+            for (String key : ACROFORM_ATTRIBUTES) {
+                writeEntry(messageDigest, acroForm, key, visited, 0);
+            }
+        }
+        return messageDigest.digest();
+    }
+
+    private byte[] computePageDigest(PageNode page, byte[] documentDigest) {
+        try {
+            MessageDigest messageDigest = DSSUtils.getMessageDigest(digestAlgorithm);
+            messageDigest.update(documentDigest);
+
+            Set<Long> visited = new HashSet<>();
+            for (String key : INHERITABLE_PAGE_ATTRIBUTES) {
+                if (page.dict.getObject(key) == null) {
+                    for (PdfDict ancestor : page.ancestors) {
+                        if (ancestor.getObject(key) != null) {
+                            writeEntry(messageDigest, ancestor, key, visited, 0);
+                            break;
+                        }
+                    }
+                }
+            }
+            writeObject(messageDigest, page.dict, page.objectNumber, visited, 0);
+            return messageDigest.digest();
+
+        } catch (Exception e) {
+            LOG.debug("Unable to compute a page digest. Reason : {}", e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private void writeEntry(MessageDigest messageDigest, PdfDict dict, String key, Set<Long> visited,
+                            int depth) throws IOException {
+        writeString(messageDigest, 'K', key);
+        writeObject(messageDigest, dict.getObject(key), dict.getObjectNumber(key), visited, depth);
+    }
+
+    private void writeObject(MessageDigest messageDigest, Object object, Long objectNumber, Set<Long> visited,
+                             int depth) throws IOException {
+        if (depth > maximumObjectDepth) {
+            throw new IOException("The PDF object exceeds the maximum allowed depth!");
+        }
+        if (objectNumber != null) {
+            if (!visited.add(objectNumber)) {
+                writeString(messageDigest, 'R', objectNumber.toString());
+                return;
+            }
+            writeString(messageDigest, 'O', objectNumber.toString());
+        }
+
+        if (object == null) {
+            messageDigest.update((byte) 'N');
+
+        } else if (object instanceof PdfDict) {
+            PdfDict dict = (PdfDict) object;
+            String[] keys = dict.list();
+            Arrays.sort(keys);
+            writeString(messageDigest, 'D', String.valueOf(keys.length));
+            for (String key : keys) {
+                if (!PARENT.equals(key)) {
+                    writeString(messageDigest, 'K', key);
+                    writeObject(messageDigest, dict.getObject(key), dict.getObjectNumber(key), visited, depth + 1);
+                }
+            }
+            writeStream(messageDigest, dict);
+
+        } else if (object instanceof PdfArray) {
+            PdfArray array = (PdfArray) object;
+            writeString(messageDigest, 'A', String.valueOf(array.size()));
+            for (int i = 0; i < array.size(); i++) {
+                writeObject(messageDigest, array.getObject(i), array.getObjectNumber(i), visited, depth + 1);
+            }
+
+        } else if (object instanceof Number) {
+            writeString(messageDigest, 'F', object.toString());
+
+        } else if (object instanceof Boolean) {
+            writeString(messageDigest, 'B', object.toString());
+
+        } else {
+            writeString(messageDigest, 'T', object.toString());
+        }
+    }
+
+    private void writeStream(MessageDigest messageDigest, PdfDict dict) throws IOException {
+        try (InputStream is = dict.createRawInputStream()) {
+            if (is == null) {
+                return;
+            }
+            messageDigest.update((byte) 'S');
+            byte[] buffer = new byte[8192];
+            int count;
+            while ((count = is.read(buffer)) > 0) {
+                messageDigest.update(buffer, 0, count);
+            }
+            messageDigest.update((byte) 'E');
+        }
+    }
+
+    private void writeString(MessageDigest messageDigest, char type, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        messageDigest.update((byte) type);
+        messageDigest.update(String.valueOf(bytes.length).getBytes(StandardCharsets.US_ASCII));
+        messageDigest.update((byte) ':');
+        messageDigest.update(bytes);
+    }
+
+    /**
+     * Represents a leaf of the page tree
+     */
+    private static class PageNode {
+
+        /** The page dictionary */
+        private final PdfDict dict;
+
+        /** The object number of the page dictionary, when defined */
+        private final Long objectNumber;
+
+        /** The page tree nodes from the nearest to the root */
+        private final List<PdfDict> ancestors;
+
+        /**
+         * Default constructor
+         *
+         * @param dict {@link PdfDict} page dictionary
+         * @param objectNumber {@link Long} object number
+         * @param ancestors a list of {@link PdfDict} page tree nodes
+         */
+        private PageNode(PdfDict dict, Long objectNumber, List<PdfDict> ancestors) {
+            this.dict = dict;
+            this.objectNumber = objectNumber;
+            this.ancestors = ancestors;
+        }
+
+    }
+
+}
@@ -0,0 +1,255 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.pades.signature.suite;
+
+import eu.europa.esig.dss.diagnostic.DiagnosticData;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.Indication;
+import eu.europa.esig.dss.enumerations.MimeTypeEnum;
+import eu.europa.esig.dss.enumerations.SignatureLevel;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.SignatureValue;
+import eu.europa.esig.dss.model.TimestampBinary;
+import eu.europa.esig.dss.model.ToBeSigned;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.Revocation;
+import eu.europa.esig.dss.pades.PAdESSignatureParameters;
+import eu.europa.esig.dss.pades.signature.PAdESBatchSignatureResult;
+import eu.europa.esig.dss.pades.signature.PAdESBatchSignatureService;
+import eu.europa.esig.dss.pades.signature.PAdESSignatureBatch;
+import eu.europa.esig.dss.simplereport.SimpleReport;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
+import eu.europa.esig.dss.spi.x509.tsp.TSPSource;
+import eu.europa.esig.dss.test.PKIFactoryAccess;
+import eu.europa.esig.dss.validation.CertificateVerifier;
+import eu.europa.esig.dss.validation.SignedDocumentValidator;
+import eu.europa.esig.dss.validation.reports.Reports;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PAdESBatchSignatureServiceTest extends PKIFactoryAccess {
+
+	private PAdESBatchSignatureService service;
+
+	private List<DSSDocument> documentsToSign;
+
+	@BeforeEach
+	public void init() {
+		documentsToSign = Arrays.asList(
+				new InMemoryDocument(getClass().getResourceAsStream("/sample.pdf"), "sample.pdf", MimeTypeEnum.PDF),
+				new InMemoryDocument(getClass().getResourceAsStream("/doc.pdf"), "doc.pdf", MimeTypeEnum.PDF),
+				new InMemoryDocument("Hello world!".getBytes(), "not-pdf.txt", MimeTypeEnum.TEXT));
+
+		service = new PAdESBatchSignatureService(getCompleteCertificateVerifier());
+		service.setTspSource(getGoodTsa());
+	}
+
+	@Test
+	public void test() {
+		PAdESSignatureBatch batch = service.prepare(documentsToSign, document -> {
+			PAdESSignatureParameters signatureParameters = new PAdESSignatureParameters();
+			signatureParameters.setSigningCertificate(getSigningCert());
+			signatureParameters.setCertificateChain(getCertificateChain());
+			signatureParameters.setSignatureLevel(SignatureLevel.PAdES_BASELINE_LT);
+			return signatureParameters;
+		});
+		assertEquals(3, batch.size());
+
+		List<ToBeSigned> dataToSign = batch.getDataToSign();
+		assertEquals(2, dataToSign.size());
+
+		List<SignatureValue> signatureValues = new ArrayList<>();
+		for (ToBeSigned toBeSigned : dataToSign) {
+			signatureValues.add(getToken().sign(toBeSigned, DigestAlgorithm.SHA256, getPrivateKeyEntry()));
+		}
+
+		Exception exception = assertThrows(IllegalArgumentException.class,
+				() -> service.signDocuments(batch, Collections.emptyList()));
+		assertEquals("The number of signature values '0' does not match the number of prepared documents '2'!",
+				exception.getMessage());
+
+		PAdESBatchSignatureResult result = service.signDocuments(batch, signatureValues);
+		assertEquals(3, result.getDocumentResults().size());
+		assertEquals(2, result.getSignedDocuments().size());
+		assertEquals(1, result.getFailureCount());
+		assertTrue(result.getThroughput() > 0);
+
+		PAdESBatchSignatureResult.DocumentResult failedResult = result.getDocumentResults().get(2);
+		assertFalse(failedResult.isSigned());
+		assertNull(failedResult.getSignedDocument());
+		assertNotNull(failedResult.getException());
+
+		for (DSSDocument signedDocument : result.getSignedDocuments()) {
+			validate(signedDocument);
+		}
+	}
+
+	@Test
+	public void chunksTest() {
+		AtomicInteger revocationCalls = new AtomicInteger();
+		AtomicInteger timestampCalls = new AtomicInteger();
+		AtomicInteger signerCalls = new AtomicInteger();
+
+		PAdESBatchSignatureService singleDocumentService = getCountingService(revocationCalls, timestampCalls);
+		PAdESBatchSignatureResult result = singleDocumentService.sign(Collections.singletonList(getDocument("/sample.pdf")),
+				document -> getSignatureParameters(), getSigner(signerCalls));
+		assertEquals(1, result.getSignedDocuments().size());
+		assertEquals(1, timestampCalls.get());
+		assertEquals(1, signerCalls.get());
+
+		int revocationCallsPerDocument = revocationCalls.get();
+		assertTrue(revocationCallsPerDocument > 0);
+
+		revocationCalls.set(0);
+		timestampCalls.set(0);
+		signerCalls.set(0);
+
+		PAdESBatchSignatureService batchService = getCountingService(revocationCalls, timestampCalls);
+		Exception exception = assertThrows(IllegalArgumentException.class, () -> batchService.setChunkSize(0));
+		assertEquals("The chunk size shall be a positive number!", exception.getMessage());
+		batchService.setChunkSize(2);
+
+		List<DSSDocument> documents = Arrays.asList(getDocument("/sample.pdf"), getDocument("/doc.pdf"),
+				getDocument("/sample.pdf"), getDocument("/doc.pdf"), getDocument("/sample.pdf"));
+		result = batchService.sign(documents, document -> getSignatureParameters(), getSigner(signerCalls));
+		assertEquals(5, result.getDocumentResults().size());
+		assertEquals(5, result.getSignedDocuments().size());
+		assertEquals(0, result.getFailureCount());
+
+		// revocation data is requested once per certificate for the whole batch, including all chunks
+		assertEquals(revocationCallsPerDocument, revocationCalls.get());
+		// every signature requires its own timestamp on the signature value
+		assertEquals(5, timestampCalls.get());
+		assertEquals(3, signerCalls.get());
+
+		for (DSSDocument signedDocument : result.getSignedDocuments()) {
+			validate(signedDocument);
+		}
+	}
+
+	private PAdESBatchSignatureService getCountingService(AtomicInteger revocationCalls, AtomicInteger timestampCalls) {
+		CertificateVerifier certificateVerifier = getCompleteCertificateVerifier();
+		certificateVerifier.setCrlSource(new CountingRevocationSource<>(certificateVerifier.getCrlSource(), revocationCalls));
+		certificateVerifier.setOcspSource(new CountingRevocationSource<>(certificateVerifier.getOcspSource(), revocationCalls));
+
+		PAdESBatchSignatureService batchService = new PAdESBatchSignatureService(certificateVerifier);
+		batchService.setTspSource(new CountingTSPSource(getGoodTsa(), timestampCalls));
+		return batchService;
+	}
+
+	private DSSDocument getDocument(String path) {
+		return new InMemoryDocument(getClass().getResourceAsStream(path), path.substring(1), MimeTypeEnum.PDF);
+	}
+
+	private PAdESSignatureParameters getSignatureParameters() {
+		PAdESSignatureParameters signatureParameters = new PAdESSignatureParameters();
+		signatureParameters.setSigningCertificate(getSigningCert());
+		signatureParameters.setCertificateChain(getCertificateChain());
+		signatureParameters.setSignatureLevel(SignatureLevel.PAdES_BASELINE_LT);
+		return signatureParameters;
+	}
+
+	private Function<List<ToBeSigned>, List<SignatureValue>> getSigner(AtomicInteger signerCalls) {
+		return dataToSign -> {
+			signerCalls.incrementAndGet();
+			List<SignatureValue> signatureValues = new ArrayList<>();
+			for (ToBeSigned toBeSigned : dataToSign) {
+				signatureValues.add(getToken().sign(toBeSigned, DigestAlgorithm.SHA256, getPrivateKeyEntry()));
+			}
+			return signatureValues;
+		};
+	}
+
+	private void validate(DSSDocument documentToValidate) {
+		SignedDocumentValidator validator = SignedDocumentValidator.fromDocument(documentToValidate);
+		validator.setCertificateVerifier(getCompleteCertificateVerifier());
+		Reports reports = validator.validateDocument();
+		SimpleReport simpleReport = reports.getSimpleReport();
+		assertEquals(Indication.TOTAL_PASSED, simpleReport.getIndication(simpleReport.getFirstSignatureId()));
+
+		DiagnosticData diagnosticData = reports.getDiagnosticData();
+		assertEquals(SignatureLevel.PAdES_BASELINE_LT, diagnosticData.getSignatureFormat(diagnosticData.getFirstSignatureId()));
+	}
+
+	@Override
+	protected String getSigningAlias() {
+		return GOOD_USER;
+	}
+
+	private static class CountingRevocationSource<R extends Revocation> implements RevocationSource<R> {
+
+		private static final long serialVersionUID = 4307419325417045374L;
+
+		private final RevocationSource<R> revocationSource;
+
+		private final AtomicInteger counter;
+
+		private CountingRevocationSource(RevocationSource<R> revocationSource, AtomicInteger counter) {
+			this.revocationSource = revocationSource;
+			this.counter = counter;
+		}
+
+		@Override
+		public RevocationToken<R> getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			counter.incrementAndGet();
+			return revocationSource.getRevocationToken(certificateToken, issuerCertificateToken);
+		}
+
+	}
+
+	private static class CountingTSPSource implements TSPSource {
+
+		private static final long serialVersionUID = -6195461622766549406L;
+
+		private final TSPSource tspSource;
+
+		private final AtomicInteger counter;
+
+		private CountingTSPSource(TSPSource tspSource, AtomicInteger counter) {
+			this.tspSource = tspSource;
+			this.counter = counter;
+		}
+
+		@Override
+		public TimestampBinary getTimeStampResponse(DigestAlgorithm digestAlgorithm, byte[] digest) {
+			counter.incrementAndGet();
+			return tspSource.getTimeStampResponse(digestAlgorithm, digest);
+		}
+
+	}
+
+}
@@ -478,6 +478,38 @@ public class EtsiValidationPolicy implements ValidationPolicy {
 		}
 	}
 
+	/**
+	 * Completes all cryptographic constraints defined within the policy by the default {@link CryptographicConstraint}.
+	 * <p>
+	 * The constraints are otherwise completed on their first access during the validation process.
+	 * Resolving them up front ensures the policy is not modified anymore by a validation,
+	 * so the same instance can be shared between concurrent validations.
+	 */
+	public void initializeCryptographicConstraints() {
+		for (Context context : new Context[] { Context.SIGNATURE, Context.COUNTER_SIGNATURE, Context.TIMESTAMP, Context.REVOCATION }) {
+			BasicSignatureConstraints basicSignatureConstraints = getBasicSignatureConstraintsByContext(context);
+			if (basicSignatureConstraints != null) {
+				initializeCryptographicConstraintIfPresent(basicSignatureConstraints.getCryptographic());
+				if (basicSignatureConstraints.getSigningCertificate() != null) {
+					initializeCryptographicConstraintIfPresent(basicSignatureConstraints.getSigningCertificate().getCryptographic());
+				}
+				if (basicSignatureConstraints.getCACertificate() != null) {
+					initializeCryptographicConstraintIfPresent(basicSignatureConstraints.getCACertificate().getCryptographic());
+				}
+			}
+		}
+		EvidenceRecordConstraints evidenceRecordConstraints = getEvidenceRecordConstraints();
+		if (evidenceRecordConstraints != null) {
+			initializeCryptographicConstraintIfPresent(evidenceRecordConstraints.getCryptographic());
+		}
+	}
+
+	private void initializeCryptographicConstraintIfPresent(CryptographicConstraint cryptographicConstraint) {
+		if (cryptographicConstraint != null) {
+			initializeCryptographicConstraint(cryptographicConstraint);
+		}
+	}
+
 	/**
 	 * Gets the global cryptographic constraints
 	 *
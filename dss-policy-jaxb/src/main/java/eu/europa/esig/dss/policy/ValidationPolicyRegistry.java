@@ -0,0 +1,283 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.policy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.SAXException;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Thread-safe registry of parsed validation policies.
+ * <p>
+ * Each policy is unmarshalled and validated against the XSD schema only once, then the same instance is returned
+ * for the following requests. The policies loaded from the classpath are identified by their path,
+ * the other ones by the SHA-256 digest of their content (a modified policy file is therefore parsed again).
+ * The number of kept policies is bounded, the least recently used ones are evicted first.
+ * <p>
+ * NOTE: the returned {@code ValidationPolicy} instances are shared and shall not be modified.
+ * Use {@link ValidationPolicyFacade} in order to obtain a policy to be customized.
+ */
+public class ValidationPolicyRegistry {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ValidationPolicyRegistry.class);
+
+	/** The default maximum number of policies kept by the registry */
+	private static final int DEFAULT_MAX_SIZE = 100;
+
+	/** The digest algorithm used to identify policies by their content */
+	private static final String DIGEST_ALGORITHM = "SHA-256";
+
+	/** The default validation policy path */
+	private static final String DEFAULT_VALIDATION_POLICY_LOCATION = "/policy/constraint.xml";
+
+	/** The path for default certificate validation policy */
+	private static final String CERTIFICATE_VALIDATION_POLICY_LOCATION = "/policy/certificate-constraint.xml";
+
+	/** The path for a LOTL/TL validation policy */
+	private static final String TRUSTED_LIST_VALIDATION_POLICY_LOCATION = "/policy/tsl-constraint.xml";
+
+	/** The registry shared within the application */
+	private static final ValidationPolicyRegistry SHARED_INSTANCE = new ValidationPolicyRegistry();
+
+	/** The parsed policies by their keys, in access order */
+	private final LinkedHashMap<String, ValidationPolicy> policies;
+
+	/**
+	 * Default constructor keeping up to 100 policies
+	 */
+	public ValidationPolicyRegistry() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Constructor with a custom number of kept policies
+	 *
+	 * @param maxSize the maximum number of policies kept by the registry
+	 */
+	public ValidationPolicyRegistry(final int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("The maximum size of the registry shall be positive!");
+		}
+		this.policies = new LinkedHashMap<String, ValidationPolicy>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = -2170939566153232263L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, ValidationPolicy> eldest) {
+				return size() > maxSize;
+			}
+
+		};
+	}
+
+	/**
+	 * Returns the registry shared within the application
+	 *
+	 * @return {@link ValidationPolicyRegistry}
+	 */
+	public static ValidationPolicyRegistry getInstance() {
+		return SHARED_INSTANCE;
+	}
+
+	/**
+	 * Gets the default validation policy
+	 *
+	 * @return {@link ValidationPolicy}
+	 * @throws JAXBException if {@link JAXBException} occurs
+	 * @throws XMLStreamException if {@link XMLStreamException} occurs
+	 * @throws IOException if {@link IOException} occurs
+	 * @throws SAXException if {@link SAXException} occurs
+	 */
+	public ValidationPolicy getDefaultValidationPolicy() throws JAXBException, XMLStreamException, IOException, SAXException {
+		return getValidationPolicy(DEFAULT_VALIDATION_POLICY_LOCATION);
+	}
+
+	/**
+	 * Gets the default policy for certificate validation
+	 *
+	 * @return {@link ValidationPolicy}
+	 * @throws JAXBException if {@link JAXBException} occurs
+	 * @throws XMLStreamException if {@link XMLStreamException} occurs
+	 * @throws IOException if {@link IOException} occurs
+	 * @throws SAXException if {@link SAXException} occurs
+	 */
+	public ValidationPolicy getCertificateValidationPolicy() throws JAXBException, XMLStreamException, IOException, SAXException {
+		return getValidationPolicy(CERTIFICATE_VALIDATION_POLICY_LOCATION);
+	}
+
+	/**
+	 * Gets the validation policy for LOTL/TL
+	 *
+	 * @return {@link ValidationPolicy}
+	 * @throws JAXBException if {@link JAXBException} occurs
+	 * @throws XMLStreamException if {@link XMLStreamException} occurs
+	 * @throws IOException if {@link IOException} occurs
+	 * @throws SAXException if {@link SAXException} occurs
+	 */
+	public ValidationPolicy getTrustedListValidationPolicy() throws JAXBException, XMLStreamException, IOException, SAXException {
+		return getValidationPolicy(TRUSTED_LIST_VALIDATION_POLICY_LOCATION);
+	}
+
+	/**
+	 * Gets the validation policy from the classpath {@code path}
+	 *
+	 * @param path {@link String}
+	 * @return {@link ValidationPolicy}
+	 * @throws JAXBException if {@link JAXBException} occurs
+	 * @throws XMLStreamException if {@link XMLStreamException} occurs
+	 * @throws IOException if {@link IOException} occurs
+	 * @throws SAXException if {@link SAXException} occurs
+	 */
+	public ValidationPolicy getValidationPolicy(String path) throws JAXBException, XMLStreamException, IOException, SAXException {
+		Objects.requireNonNull(path, "The provided validation policy path is null");
+		String key = "path:" + path;
+		ValidationPolicy validationPolicy = get(key);
+		if (validationPolicy == null) {
+			validationPolicy = put(key, ValidationPolicyFacade.newFacade().getValidationPolicy(path));
+		}
+		return validationPolicy;
+	}
+
+	/**
+	 * Gets the validation policy from the {@code is}. The stream is fully read in order to compute its digest.
+	 *
+	 * @param is {@link InputStream}
+	 * @return {@link ValidationPolicy}
+	 * @throws JAXBException if {@link JAXBException} occurs
+	 * @throws XMLStreamException if {@link XMLStreamException} occurs
+	 * @throws IOException if {@link IOException} occurs
+	 * @throws SAXException if {@link SAXException} occurs
+	 */
+	public ValidationPolicy getValidationPolicy(InputStream is) throws JAXBException, XMLStreamException, IOException, SAXException {
+		Objects.requireNonNull(is, "The provided validation policy is null");
+		return getValidationPolicy(toByteArray(is));
+	}
+
+	/**
+	 * Gets the validation policy from the {@code file}
+	 *
+	 * @param file {@link File}
+	 * @return {@link ValidationPolicy}
+	 * @throws JAXBException if {@link JAXBException} occurs
+	 * @throws XMLStreamException if {@link XMLStreamException} occurs
+	 * @throws IOException if {@link IOException} occurs
+	 * @throws SAXException if {@link SAXException} occurs
+	 */
+	public ValidationPolicy getValidationPolicy(File file) throws JAXBException, XMLStreamException, IOException, SAXException {
+		Objects.requireNonNull(file, "The provided validation policy is null");
+		return getValidationPolicy(Files.readAllBytes(file.toPath()));
+	}
+
+	/**
+	 * Gets the validation policy from its binaries
+	 *
+	 * @param binaries byte array of the XML validation policy
+	 * @return {@link ValidationPolicy}
+	 * @throws JAXBException if {@link JAXBException} occurs
+	 * @throws XMLStreamException if {@link XMLStreamException} occurs
+	 * @throws IOException if {@link IOException} occurs
+	 * @throws SAXException if {@link SAXException} occurs
+	 */
+	public ValidationPolicy getValidationPolicy(byte[] binaries) throws JAXBException, XMLStreamException, IOException, SAXException {
+		Objects.requireNonNull(binaries, "The provided validation policy is null");
+		String key = "digest:" + getDigest(binaries);
+		ValidationPolicy validationPolicy = get(key);
+		if (validationPolicy == null) {
+			try (InputStream is = new ByteArrayInputStream(binaries)) {
+				validationPolicy = put(key, ValidationPolicyFacade.newFacade().getValidationPolicy(is));
+			}
+		}
+		return validationPolicy;
+	}
+
+	/**
+	 * Returns the number of policies kept by the registry
+	 *
+	 * @return number of policies
+	 */
+	public synchronized int size() {
+		return policies.size();
+	}
+
+	/**
+	 * Removes all policies from the registry
+	 */
+	public synchronized void clear() {
+		policies.clear();
+	}
+
+	private synchronized ValidationPolicy get(String key) {
+		return policies.get(key);
+	}
+
+	/**
+	 * Keeps the parsed policy, unless another thread has registered the same policy in the meantime
+	 * (in which case the already registered instance is returned)
+	 */
+	private synchronized ValidationPolicy put(String key, ValidationPolicy validationPolicy) {
+		ValidationPolicy existing = policies.get(key);
+		if (existing != null) {
+			return existing;
+		}
+		if (validationPolicy instanceof EtsiValidationPolicy) {
+			((EtsiValidationPolicy) validationPolicy).initializeCryptographicConstraints();
+		}
+		LOG.debug("Validation policy '{}' registered", key);
+		policies.put(key, validationPolicy);
+		return validationPolicy;
+	}
+
+	private static String getDigest(byte[] binaries) {
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+			return Base64.getEncoder().encodeToString(messageDigest.digest(binaries));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(String.format("Unable to compute the policy digest : %s", e.getMessage()), e);
+		}
+	}
+
+	private static byte[] toByteArray(InputStream is) throws IOException {
+		try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+			byte[] buffer = new byte[8192];
+			int count;
+			while ((count = is.read(buffer)) != -1) {
+				baos.write(buffer, 0, count);
+			}
+			return baos.toByteArray();
+		}
+	}
+
+}
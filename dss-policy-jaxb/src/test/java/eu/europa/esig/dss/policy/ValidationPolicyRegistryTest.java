@@ -0,0 +1,120 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.policy;
+
+import eu.europa.esig.dss.enumerations.Context;
+import eu.europa.esig.dss.policy.jaxb.CryptographicConstraint;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.bind.UnmarshalException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ValidationPolicyRegistryTest {
+
+	@Test
+	public void defaultPoliciesTest() throws Exception {
+		ValidationPolicyRegistry registry = new ValidationPolicyRegistry();
+
+		ValidationPolicy defaultPolicy = registry.getDefaultValidationPolicy();
+		assertNotNull(defaultPolicy);
+		assertSame(defaultPolicy, registry.getDefaultValidationPolicy());
+
+		ValidationPolicy certificatePolicy = registry.getCertificateValidationPolicy();
+		assertNotNull(certificatePolicy);
+		assertSame(certificatePolicy, registry.getCertificateValidationPolicy());
+		assertNotSame(defaultPolicy, certificatePolicy);
+
+		ValidationPolicy trustedListPolicy = registry.getTrustedListValidationPolicy();
+		assertNotNull(trustedListPolicy);
+		assertSame(trustedListPolicy, registry.getTrustedListValidationPolicy());
+
+		assertEquals(3, registry.size());
+
+		registry.clear();
+		assertEquals(0, registry.size());
+		assertNotSame(defaultPolicy, registry.getDefaultValidationPolicy());
+	}
+
+	@Test
+	public void policyByContentTest() throws Exception {
+		ValidationPolicyRegistry registry = new ValidationPolicyRegistry();
+
+		File policyFile = new File("src/test/resources/constraint.xml");
+		ValidationPolicy policy = registry.getValidationPolicy(policyFile);
+		assertNotNull(policy);
+		assertSame(policy, registry.getValidationPolicy(policyFile));
+		try (InputStream is = new FileInputStream(policyFile)) {
+			assertSame(policy, registry.getValidationPolicy(is));
+		}
+		assertSame(policy, registry.getValidationPolicy(Files.readAllBytes(policyFile.toPath())));
+		assertEquals(1, registry.size());
+
+		ValidationPolicy otherPolicy = registry.getValidationPolicy(new File("src/test/resources/constraint-core-validation.xml"));
+		assertNotSame(policy, otherPolicy);
+		assertEquals(2, registry.size());
+	}
+
+	@Test
+	public void cryptographicConstraintsInitializedTest() throws Exception {
+		ValidationPolicy policy = new ValidationPolicyRegistry().getDefaultValidationPolicy();
+
+		CryptographicConstraint defaultConstraint = policy.getCryptographic();
+		CryptographicConstraint caConstraint = policy.getSignatureConstraints().getBasicSignatureConstraints()
+				.getCACertificate().getCryptographic();
+		assertNotNull(caConstraint.getAcceptableDigestAlgo());
+		assertSame(defaultConstraint.getAcceptableDigestAlgo(), caConstraint.getAcceptableDigestAlgo());
+		assertSame(caConstraint, policy.getCertificateCryptographicConstraint(Context.SIGNATURE, SubContext.CA_CERTIFICATE));
+
+		CryptographicConstraint evidenceRecordConstraint = policy.getEvidenceRecordConstraints().getCryptographic();
+		assertNotNull(evidenceRecordConstraint.getAcceptableDigestAlgo());
+		assertSame(defaultConstraint.getAcceptableDigestAlgo(), evidenceRecordConstraint.getAcceptableDigestAlgo());
+		assertSame(evidenceRecordConstraint, policy.getEvidenceRecordCryptographicConstraint());
+	}
+
+	@Test
+	public void boundedSizeTest() throws Exception {
+		ValidationPolicyRegistry registry = new ValidationPolicyRegistry(1);
+
+		ValidationPolicy defaultPolicy = registry.getDefaultValidationPolicy();
+		registry.getCertificateValidationPolicy();
+		assertEquals(1, registry.size());
+		assertNotSame(defaultPolicy, registry.getDefaultValidationPolicy());
+	}
+
+	@Test
+	public void invalidPolicyTest() {
+		ValidationPolicyRegistry registry = new ValidationPolicyRegistry();
+		assertThrows(UnmarshalException.class, () -> registry.getValidationPolicy(new File("src/test/resources/invalid-policy.xml")));
+		assertEquals(0, registry.size());
+
+		assertThrows(IllegalArgumentException.class, () -> new ValidationPolicyRegistry(0));
+	}
+
+}
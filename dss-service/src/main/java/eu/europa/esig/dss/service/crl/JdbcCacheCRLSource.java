@@ -171,6 +171,17 @@ public class JdbcCacheCRLSource extends JdbcRevocationSource<CRL> implements CRL
         }
     }
 
+    @Override
+    protected RevocationToken<CRL> buildRevocationTokenFromCachedToken(RevocationToken<CRL> cachedRevocationToken,
+                                                                       CertificateToken certificateToken,
+                                                                       CertificateToken issuerCertificateToken) {
+        final CRLToken cachedCRLToken = (CRLToken) cachedRevocationToken;
+        CRLToken crlToken = new CRLToken(certificateToken, cachedCRLToken.getCrlValidity());
+        crlToken.setSourceURL(cachedCRLToken.getSourceURL());
+        crlToken.setExternalOrigin(RevocationOrigin.CACHED);
+        return crlToken;
+    }
+
     @Override
     protected void insertRevocation(final String revocationKey, final RevocationToken<CRL> token) {
         CRLToken crlToken = (CRLToken) token;
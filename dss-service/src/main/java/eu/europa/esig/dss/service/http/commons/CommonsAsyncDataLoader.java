@@ -0,0 +1,509 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.http.commons;
+
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.service.http.proxy.ProxyConfig;
+import eu.europa.esig.dss.service.http.proxy.ProxyProperties;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.http.Protocol;
+import eu.europa.esig.dss.spi.exception.DSSDataLoaderMultipleException;
+import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
+import eu.europa.esig.dss.utils.Utils;
+import org.apache.hc.client5.http.HttpRequestRetryStrategy;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.auth.AuthScope;
+import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.routing.DefaultRoutePlanner;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementation of DataLoader using the asynchronous API of HttpClient 5.
+ * <p>
+ * Unlike {@code CommonsDataLoader}, a single long-lived HTTP client with its connection pool is used for all
+ * the requests, HTTP/2 is negotiated with the servers supporting it (one connection per server is then multiplexed),
+ * and the alternative URLs provided to {@code get(List<String>)} are requested in parallel, the first successful
+ * response being returned.
+ * <p>
+ * The client is created on the first request with the current configuration of the loader: the configuration
+ * changes performed afterwards are taken into account only after a call of {@code close()}.
+ * FILE, FTP and LDAP urls are processed as in {@code CommonsDataLoader}, using the defined {@code ExecutorService}
+ * when available.
+ */
+public class CommonsAsyncDataLoader extends CommonsDataLoader implements Closeable {
+
+	private static final long serialVersionUID = -2410394618754226190L;
+
+	private static final Logger LOG = LoggerFactory.getLogger(CommonsAsyncDataLoader.class);
+
+	/** The HTTP protocol version policy (default: NEGOTIATE, HTTP/2 is used when supported by the server) */
+	private HttpVersionPolicy versionPolicy = HttpVersionPolicy.NEGOTIATE;
+
+	/** The executor used to process FILE, FTP and LDAP urls. When not defined, the calls are processed sequentially */
+	private transient ExecutorService executorService;
+
+	/** The shared HTTP client, created on the first request */
+	private transient CloseableHttpAsyncClient httpAsyncClient;
+
+	/**
+	 * The default constructor for CommonsAsyncDataLoader.
+	 */
+	public CommonsAsyncDataLoader() {
+		super();
+	}
+
+	/**
+	 * The constructor for CommonsAsyncDataLoader with defined content-type.
+	 *
+	 * @param contentType
+	 *            The content type of each request
+	 */
+	public CommonsAsyncDataLoader(final String contentType) {
+		super(contentType);
+	}
+
+	/**
+	 * Gets the HTTP protocol version policy
+	 *
+	 * @return {@link HttpVersionPolicy}
+	 */
+	public HttpVersionPolicy getVersionPolicy() {
+		return versionPolicy;
+	}
+
+	/**
+	 * Sets the HTTP protocol version policy.
+	 * FORCE_HTTP_1 disables HTTP/2, FORCE_HTTP_2 requires the servers to support it.
+	 *
+	 * Default : NEGOTIATE (HTTP/2 is used when negotiated with the server by TLS ALPN)
+	 *
+	 * @param versionPolicy {@link HttpVersionPolicy}
+	 */
+	public void setVersionPolicy(HttpVersionPolicy versionPolicy) {
+		Objects.requireNonNull(versionPolicy, "HttpVersionPolicy cannot be null!");
+		this.versionPolicy = versionPolicy;
+	}
+
+	/**
+	 * Sets the executor to be used to process FILE, FTP and LDAP urls (the HTTP requests are processed
+	 * by the I/O threads of the client).
+	 * When not defined, these urls are processed within the calling thread.
+	 *
+	 * @param executorService {@link ExecutorService}
+	 */
+	public void setExecutorService(ExecutorService executorService) {
+		this.executorService = executorService;
+	}
+
+	@Override
+	public DataAndUrl get(final List<String> urlStrings) {
+		return join(getAsync(urlStrings));
+	}
+
+	@Override
+	protected byte[] httpGet(final String url) {
+		return join(httpGetAsync(url));
+	}
+
+	@Override
+	public byte[] post(final String url, final byte[] content) {
+		return join(postAsync(url, content));
+	}
+
+	/**
+	 * Executes an asynchronous GET operation
+	 *
+	 * @param urlString {@link String} the url to access
+	 * @return {@link CompletableFuture} of the obtained data
+	 */
+	public CompletableFuture<byte[]> getAsync(final String urlString) {
+		if (Protocol.isFileUrl(urlString) || Protocol.isFtpUrl(urlString) || Protocol.isLdapUrl(urlString)) {
+			if (executorService != null) {
+				return CompletableFuture.supplyAsync(() -> CommonsAsyncDataLoader.super.get(urlString), executorService);
+			}
+			try {
+				return CompletableFuture.completedFuture(super.get(urlString));
+			} catch (Exception e) {
+				return failedFuture(e);
+			}
+		}
+		return httpGetAsync(urlString);
+	}
+
+	/**
+	 * Executes an asynchronous GET operation for the alternative URLs of the same resource.
+	 * The URLs are requested in parallel. The returned future completes with the first non-empty response
+	 * (the other requests are then cancelled), or with a {@code DSSDataLoaderMultipleException} when all requests fail
+	 * or return an empty content.
+	 *
+	 * @param urlStrings a list of {@link String} urls
+	 * @return {@link CompletableFuture} of {@link DataAndUrl}
+	 */
+	public CompletableFuture<DataAndUrl> getAsync(final List<String> urlStrings) {
+		if (Utils.isCollectionEmpty(urlStrings)) {
+			return failedFuture(new DSSExternalResourceException("Cannot process the GET call. List of URLs is empty!"));
+		}
+
+		final CompletableFuture<DataAndUrl> result = new CompletableFuture<>();
+		final Map<String, Throwable> exceptions = new ConcurrentHashMap<>(); // store map of exception thrown for urls
+		final AtomicInteger remaining = new AtomicInteger(urlStrings.size());
+
+		final List<CompletableFuture<byte[]>> calls = new ArrayList<>();
+		for (String urlString : urlStrings) {
+			LOG.debug("Processing a GET call to URL [{}]...", urlString);
+			final CompletableFuture<byte[]> call = getAsync(urlString);
+			calls.add(call);
+			call.whenComplete((bytes, e) -> {
+				if (e == null && Utils.isArrayNotEmpty(bytes)) {
+					result.complete(new DataAndUrl(urlString, bytes));
+				} else if (e != null) {
+					if (!result.isDone()) {
+						Throwable cause = unwrap(e);
+						LOG.warn("Cannot obtain data using '{}' : {}", urlString, cause.getMessage());
+						exceptions.put(urlString, cause);
+					}
+				} else {
+					LOG.debug("The retrieved content from URL [{}] is empty. Continue with other URLs...", urlString);
+					exceptions.put(urlString, new DSSException(String.format(
+							"The retrieved content from URL [%s] is empty", urlString)));
+				}
+				if (remaining.decrementAndGet() == 0) {
+					result.completeExceptionally(new DSSDataLoaderMultipleException(exceptions));
+				}
+			});
+		}
+		// cancel the requests which are still in progress
+		result.whenComplete((dataAndUrl, e) -> calls.forEach(call -> call.cancel(true)));
+		return result;
+	}
+
+	/**
+	 * Executes an asynchronous POST operation
+	 *
+	 * @param url {@link String} to access
+	 * @param content the content to post
+	 * @return {@link CompletableFuture} of the obtained data
+	 */
+	public CompletableFuture<byte[]> postAsync(final String url, final byte[] content) {
+		LOG.debug("Fetching data via POST from url {}", url);
+		final SimpleHttpRequest httpRequest;
+		try {
+			httpRequest = SimpleRequestBuilder.post(new URI(Utils.trim(url)))
+					.setBody(content, toContentType(contentType)).build();
+		} catch (URISyntaxException e) {
+			return failedFuture(new DSSExternalResourceException(String.format(
+					"Unable to process POST call for url [%s]. Reason : [%s]", url, e.getMessage()), e));
+		}
+		return executeAsync(httpRequest);
+	}
+
+	/**
+	 * Executes an asynchronous GET operation using HTTP or HTTPS protocol
+	 *
+	 * @param url {@link String} to access
+	 * @return {@link CompletableFuture} of the obtained data
+	 */
+	protected CompletableFuture<byte[]> httpGetAsync(final String url) {
+		final SimpleHttpRequest httpRequest;
+		try {
+			httpRequest = SimpleRequestBuilder.get(new URI(Utils.trim(url))).build();
+		} catch (URISyntaxException e) {
+			return failedFuture(new DSSExternalResourceException(String.format(
+					"Unable to process GET call for url [%s]. Reason : [%s]", url, e.getMessage()), e));
+		}
+		if (contentType != null) {
+			httpRequest.setHeader(HttpHeaders.CONTENT_TYPE, contentType);
+		}
+		return executeAsync(httpRequest);
+	}
+
+	/**
+	 * Processes asynchronously the {@code httpRequest}.
+	 * The response is handled by the defined {@code HttpClientResponseHandler}.
+	 *
+	 * @param httpRequest {@link SimpleHttpRequest}
+	 * @return {@link CompletableFuture} of the obtained data
+	 */
+	protected CompletableFuture<byte[]> executeAsync(final SimpleHttpRequest httpRequest) {
+		final CompletableFuture<byte[]> result = new CompletableFuture<>();
+		final String url = String.valueOf(httpRequest.getRequestUri());
+		try {
+			final URI uri = httpRequest.getUri();
+			final HttpHost targetHost = new HttpHost(uri.getScheme(), uri.getHost(), uri.getPort());
+			final HttpContext localContext = getHttpContext(targetHost);
+
+			final Future<SimpleHttpResponse> future = getHttpAsyncClient().execute(httpRequest, localContext,
+					new FutureCallback<SimpleHttpResponse>() {
+
+				@Override
+				public void completed(SimpleHttpResponse response) {
+					try {
+						result.complete(handleResponse(response));
+					} catch (Exception e) {
+						result.completeExceptionally(new DSSExternalResourceException(String.format(
+								"Unable to process %s call for url [%s]. Reason : [%s]", httpRequest.getMethod(), url,
+								DSSUtils.getExceptionMessage(e)), e));
+					}
+				}
+
+				@Override
+				public void failed(Exception e) {
+					result.completeExceptionally(new DSSExternalResourceException(String.format(
+							"Unable to process %s call for url [%s]. Reason : [%s]", httpRequest.getMethod(), url,
+							DSSUtils.getExceptionMessage(e)), e));
+				}
+
+				@Override
+				public void cancelled() {
+					result.cancel(false);
+				}
+
+			});
+			result.whenComplete((bytes, e) -> {
+				if (result.isCancelled()) {
+					future.cancel(true);
+				}
+			});
+
+		} catch (Exception e) {
+			result.completeExceptionally(new DSSExternalResourceException(String.format(
+					"Unable to process %s call for url [%s]. Reason : [%s]", httpRequest.getMethod(), url,
+					DSSUtils.getExceptionMessage(e)), e));
+		}
+		return result;
+	}
+
+	/**
+	 * Reads the response using the defined {@code HttpClientResponseHandler}
+	 *
+	 * @param response {@link SimpleHttpResponse}
+	 * @return byte array representing the response's content
+	 * @throws Exception if the response is not accepted
+	 */
+	protected byte[] handleResponse(SimpleHttpResponse response) throws Exception {
+		final BasicClassicHttpResponse classicHttpResponse = new BasicClassicHttpResponse(
+				response.getCode(), response.getReasonPhrase());
+		classicHttpResponse.setHeaders(response.getHeaders());
+		final byte[] body = response.getBodyBytes();
+		if (body != null) {
+			classicHttpResponse.setEntity(new ByteArrayEntity(body, response.getContentType()));
+		}
+		return getHttpClientResponseHandler().handleResponse(classicHttpResponse);
+	}
+
+	/**
+	 * Gets the shared HTTP client. The client is created and started on the first call.
+	 *
+	 * @return {@link CloseableHttpAsyncClient}
+	 */
+	protected synchronized CloseableHttpAsyncClient getHttpAsyncClient() {
+		if (httpAsyncClient == null) {
+			httpAsyncClient = getHttpAsyncClientBuilder().build();
+			httpAsyncClient.start();
+		}
+		return httpAsyncClient;
+	}
+
+	/**
+	 * Gets the {@code HttpAsyncClientBuilder}
+	 *
+	 * @return {@link HttpAsyncClientBuilder}
+	 */
+	protected HttpAsyncClientBuilder getHttpAsyncClientBuilder() {
+		final HttpAsyncClientBuilder httpClientBuilder = HttpAsyncClients.custom();
+		if (isUseSystemProperties()) {
+			httpClientBuilder.useSystemProperties();
+		}
+
+		final BasicCredentialsProvider credentialsProvider = getCredentialsProvider();
+		configureProxy(httpClientBuilder, credentialsProvider);
+
+		httpClientBuilder.setDefaultCredentialsProvider(credentialsProvider)
+				.setConnectionManager(getAsyncConnectionManager())
+				.setDefaultRequestConfig(getRequestConfig());
+
+		final Timeout socketTimeout = getSocketConfig().getSoTimeout();
+		if (socketTimeout != null) {
+			httpClientBuilder.setIOReactorConfig(IOReactorConfig.custom().setSoTimeout(socketTimeout).build());
+		}
+		final HttpRequestRetryStrategy retryStrategy = getRetryStrategy();
+		if (retryStrategy != null) {
+			httpClientBuilder.setRetryStrategy(retryStrategy);
+		}
+		return httpClientBuilder;
+	}
+
+	private PoolingAsyncClientConnectionManager getAsyncConnectionManager() {
+		final PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+				.setTlsStrategy(getTlsStrategy())
+				.setMaxConnTotal(getConnectionsMaxTotal())
+				.setMaxConnPerRoute(getConnectionsMaxPerRoute())
+				.setDefaultConnectionConfig(ConnectionConfig.copy(getConnectionConfig())
+						.setSocketTimeout(getSocketConfig().getSoTimeout()).build())
+				.setDefaultTlsConfig(TlsConfig.custom().setVersionPolicy(versionPolicy).build())
+				.build();
+
+		LOG.debug("PoolingAsyncClientConnectionManager: max total: {}", connectionManager.getMaxTotal());
+		LOG.debug("PoolingAsyncClientConnectionManager: max per route: {}", connectionManager.getDefaultMaxPerRoute());
+
+		return connectionManager;
+	}
+
+	private TlsStrategy getTlsStrategy() {
+		try {
+			return ClientTlsStrategyBuilder.create().setSslContext(getSSLContext())
+					.setTlsVersions(getSupportedSSLProtocols()).setCiphers(getSupportedSSLCipherSuites())
+					.setHostnameVerifier(getHostnameVerifier()).build();
+
+		} catch (final Exception e) {
+			throw new IllegalArgumentException("Unable to configure the SSLContext/TlsStrategy", e);
+		}
+	}
+
+	/**
+	 * Configures the proxy with the required credentials if needed.
+	 * As the client is shared between the requests, the proxy is determined for every target host.
+	 *
+	 * @param httpClientBuilder {@link HttpAsyncClientBuilder}
+	 * @param credentialsProvider {@link BasicCredentialsProvider}
+	 */
+	private void configureProxy(HttpAsyncClientBuilder httpClientBuilder, BasicCredentialsProvider credentialsProvider) {
+		final ProxyConfig proxyConfig = getProxyConfig();
+		if (proxyConfig == null) {
+			return;
+		}
+
+		final ProxyProperties httpProperties = proxyConfig.getHttpProperties();
+		final ProxyProperties httpsProperties = proxyConfig.getHttpsProperties();
+		addProxyCredentials(credentialsProvider, httpProperties);
+		addProxyCredentials(credentialsProvider, httpsProperties);
+
+		httpClientBuilder.setRoutePlanner(new DefaultRoutePlanner(null) {
+
+			@Override
+			protected HttpHost determineProxy(HttpHost host, HttpContext context) {
+				ProxyProperties proxyProps = null;
+				if (Protocol.isHttps(host.getSchemeName())) {
+					proxyProps = httpsProperties;
+				} else if (Protocol.isHttp(host.getSchemeName())) {
+					proxyProps = httpProperties;
+				}
+				if (proxyProps == null || isProxyBypassed(host, proxyProps.getExcludedHosts())) {
+					return null;
+				}
+				return new HttpHost(proxyProps.getScheme(), proxyProps.getHost(), proxyProps.getPort());
+			}
+
+		});
+	}
+
+	private void addProxyCredentials(BasicCredentialsProvider credentialsProvider, ProxyProperties proxyProps) {
+		if (proxyProps != null && Utils.isStringNotEmpty(proxyProps.getUser()) && Utils.isArrayNotEmpty(proxyProps.getPassword())) {
+			LOG.debug("proxy host/port: {}:{}", proxyProps.getHost(), proxyProps.getPort());
+			credentialsProvider.setCredentials(new AuthScope(proxyProps.getHost(), proxyProps.getPort()),
+					new UsernamePasswordCredentials(proxyProps.getUser(), proxyProps.getPassword()));
+		}
+	}
+
+	/**
+	 * Closes the shared HTTP client and its connection pool.
+	 * A new client will be created on the next request.
+	 */
+	@Override
+	public synchronized void close() {
+		if (httpAsyncClient != null) {
+			httpAsyncClient.close(CloseMode.GRACEFUL);
+			httpAsyncClient = null;
+		}
+	}
+
+	private static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CancellationException e) {
+			throw new DSSExternalResourceException("The request has been cancelled", e);
+		} catch (CompletionException e) {
+			Throwable cause = unwrap(e);
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new DSSExternalResourceException(String.format("Unable to process the request. Reason : [%s]",
+					cause.getMessage()), cause);
+		}
+	}
+
+	private static Throwable unwrap(Throwable e) {
+		if (e instanceof CompletionException && e.getCause() != null) {
+			return e.getCause();
+		}
+		return e;
+	}
+
+	private static <T> CompletableFuture<T> failedFuture(Throwable e) {
+		final CompletableFuture<T> future = new CompletableFuture<>();
+		future.completeExceptionally(e);
+		return future;
+	}
+
+	private static ContentType toContentType(String contentTypeString) {
+		return Utils.isStringNotBlank(contentTypeString) ? ContentType.create(contentTypeString) : null;
+	}
+
+}
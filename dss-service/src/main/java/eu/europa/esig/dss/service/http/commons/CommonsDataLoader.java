@@ -21,11 +21,15 @@
 package eu.europa.esig.dss.service.http.commons;
 
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
 import eu.europa.esig.dss.service.http.proxy.ProxyConfig;
 import eu.europa.esig.dss.service.http.proxy.ProxyProperties;
 import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.http.ConditionalDataLoader;
+import eu.europa.esig.dss.spi.client.http.ConditionalGetResult;
 import eu.europa.esig.dss.spi.client.http.DataLoader;
 import eu.europa.esig.dss.spi.client.http.Protocol;
+import eu.europa.esig.dss.spi.client.http.RemoteResourceVersion;
 import eu.europa.esig.dss.spi.exception.DSSDataLoaderMultipleException;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
 import eu.europa.esig.dss.utils.Utils;
@@ -53,13 +57,17 @@ import org.apache.hc.client5.http.routing.HttpRoutePlanner;
 import org.apache.hc.client5.http.ssl.DefaultHostnameVerifier;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactoryBuilder;
+import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpException;
 import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.io.HttpClientResponseHandler;
 import org.apache.hc.core5.http.io.SocketConfig;
 import org.apache.hc.core5.http.io.entity.BufferedHttpEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.InputStreamEntity;
 import org.apache.hc.core5.http.protocol.HttpContext;
 import org.apache.hc.core5.ssl.SSLContextBuilder;
@@ -75,6 +83,7 @@ import javax.naming.directory.Attributes;
 import javax.naming.directory.DirContext;
 import javax.naming.directory.InitialDirContext;
 import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -100,7 +109,7 @@ import java.util.StringTokenizer;
  * proxy management through {@code ProxyPreferenceManager}. The authentication
  * is also supported.
  */
-public class CommonsDataLoader implements DataLoader {
+public class CommonsDataLoader implements DataLoader, ConditionalDataLoader {
 
 	private static final long serialVersionUID = -805432648564425522L;
 
@@ -124,6 +133,18 @@ public class CommonsDataLoader implements DataLoader {
 	/** The content-type string */
 	private static final String CONTENT_TYPE = "Content-Type";
 
+	/** The HTTP header containing the entity tag of the response */
+	private static final String ETAG = "ETag";
+
+	/** The HTTP header containing the last modification date of the response */
+	private static final String LAST_MODIFIED = "Last-Modified";
+
+	/** The HTTP header for a conditional request with an entity tag */
+	private static final String IF_NONE_MATCH = "If-None-Match";
+
+	/** The HTTP header for a conditional request with a last modification date */
+	private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+
 	/** The content type value */
 	protected String contentType;
 
@@ -887,6 +908,77 @@ public class CommonsDataLoader implements DataLoader {
 		}
 	}
 
+	@Override
+	public ConditionalGetResult conditionalGet(final String url, final RemoteResourceVersion resourceVersion) {
+		if (!Protocol.isHttpUrl(url)) {
+			final byte[] bytes = get(url);
+			return new ConditionalGetResult(bytes != null ? new InMemoryDocument(bytes) : null, null);
+		}
+
+		HttpGet httpRequest = null;
+		CloseableHttpClient client = null;
+
+		try {
+			httpRequest = getHttpRequest(url);
+			if (resourceVersion != null) {
+				if (resourceVersion.getETag() != null) {
+					httpRequest.setHeader(IF_NONE_MATCH, resourceVersion.getETag());
+				}
+				if (resourceVersion.getLastModified() != null) {
+					httpRequest.setHeader(IF_MODIFIED_SINCE, resourceVersion.getLastModified());
+				}
+			}
+			client = getHttpClient(url);
+
+			final HttpHost targetHost = getHttpHost(httpRequest);
+			final HttpContext localContext = getHttpContext(targetHost);
+			return client.execute(targetHost, httpRequest, localContext, response -> {
+				final RemoteResourceVersion responseVersion = getResourceVersion(response, resourceVersion);
+				if (HttpStatus.SC_NOT_MODIFIED == response.getCode()) {
+					LOG.debug("The resource at url [{}] has not been modified since the version {}", url, resourceVersion);
+					EntityUtils.consumeQuietly(response.getEntity());
+					return ConditionalGetResult.notModified(responseVersion);
+				}
+				final byte[] content = getHttpClientResponseHandler().handleResponse(response);
+				return new ConditionalGetResult(new InMemoryDocument(content), responseVersion);
+			});
+
+		} catch (URISyntaxException | IOException e) {
+			throw new DSSExternalResourceException(String.format("Unable to process conditional GET call for url [%s]. Reason : [%s]", url, DSSUtils.getExceptionMessage(e)), e);
+
+		} finally {
+			closeQuietly(httpRequest, client);
+
+		}
+	}
+
+	/**
+	 * Extracts the version of the retrieved resource from the {@code response} headers
+	 *
+	 * @param response {@link ClassicHttpResponse}
+	 * @param requestedVersion {@link RemoteResourceVersion} used for the request, to be used for missing values
+	 *                                                     on a not modified response
+	 * @return {@link RemoteResourceVersion}
+	 */
+	private RemoteResourceVersion getResourceVersion(ClassicHttpResponse response, RemoteResourceVersion requestedVersion) {
+		String eTag = getHeaderValue(response, ETAG);
+		String lastModified = getHeaderValue(response, LAST_MODIFIED);
+		if (HttpStatus.SC_NOT_MODIFIED == response.getCode() && requestedVersion != null) {
+			if (eTag == null) {
+				eTag = requestedVersion.getETag();
+			}
+			if (lastModified == null) {
+				lastModified = requestedVersion.getLastModified();
+			}
+		}
+		return new RemoteResourceVersion(eTag, lastModified);
+	}
+
+	private String getHeaderValue(ClassicHttpResponse response, String headerName) {
+		final Header header = response.getFirstHeader(headerName);
+		return header != null ? header.getValue() : null;
+	}
+
 	@Override
 	public byte[] post(final String url, final byte[] content) {
 
@@ -1004,12 +1096,8 @@ public class CommonsDataLoader implements DataLoader {
 				.setMaxConnTotal(getConnectionsMaxTotal())
 				.setMaxConnPerRoute(getConnectionsMaxPerRoute());
 
-		final ConnectionConfig.Builder connectionConfigBuilder = ConnectionConfig.custom()
-				.setConnectTimeout(timeoutConnection)
-				.setTimeToLive(connectionTimeToLive);
-
 		final PoolingHttpClientConnectionManager connectionManager = builder.build();
-		connectionManager.setDefaultConnectionConfig(connectionConfigBuilder.build());
+		connectionManager.setDefaultConnectionConfig(getConnectionConfig());
 
 		LOG.debug("PoolingHttpClientConnectionManager: max total: {}", connectionManager.getMaxTotal());
 		LOG.debug("PoolingHttpClientConnectionManager: max per route: {}", connectionManager.getDefaultMaxPerRoute());
@@ -1017,7 +1105,24 @@ public class CommonsDataLoader implements DataLoader {
 		return connectionManager;
 	}
 
-	private SocketConfig getSocketConfig() {
+	/**
+	 * Gets the default connection configuration
+	 *
+	 * @return {@link ConnectionConfig}
+	 */
+	protected ConnectionConfig getConnectionConfig() {
+		return ConnectionConfig.custom()
+				.setConnectTimeout(timeoutConnection)
+				.setTimeToLive(connectionTimeToLive)
+				.build();
+	}
+
+	/**
+	 * Gets the default socket configuration
+	 *
+	 * @return {@link SocketConfig}
+	 */
+	protected SocketConfig getSocketConfig() {
 		SocketConfig.Builder socketConfigBuilder = SocketConfig.custom();
 		socketConfigBuilder.setSoTimeout(timeoutSocket);
 		return socketConfigBuilder.build();
@@ -1025,33 +1130,8 @@ public class CommonsDataLoader implements DataLoader {
 
 	private SSLConnectionSocketFactory getConnectionSocketFactoryHttps() {
 		try {
-			SSLContextBuilder sslContextBuilder = SSLContextBuilder.create();
-			sslContextBuilder.setProtocol(sslProtocol);
-
-			final TrustStrategy trustStrategy = getTrustStrategy();
-			if (trustStrategy != null) {
-				LOG.debug("Set the TrustStrategy");
-				sslContextBuilder.loadTrustMaterial(null, trustStrategy);
-			}
-
-			final KeyStore sslTrustStore = getSSLTrustStore();
-			if (sslTrustStore != null) {
-				LOG.debug("Set the SSL trust store as trust materials");
-				sslContextBuilder.loadTrustMaterial(sslTrustStore, trustStrategy);
-			}
-
-			final KeyStore sslKeystore = getSSLKeyStore();
-			if (sslKeystore != null) {
-				LOG.debug("Set the SSL keystore as key materials");
-				sslContextBuilder.loadKeyMaterial(sslKeystore, sslKeystorePassword);
-				if (loadKeyStoreAsTrustMaterial) {
-					LOG.debug("Set the SSL keystore as trust materials");
-					sslContextBuilder.loadTrustMaterial(sslKeystore, trustStrategy);
-				}
-			}
-
 			SSLConnectionSocketFactoryBuilder sslConnectionSocketFactoryBuilder = new SSLConnectionSocketFactoryBuilder();
-			return sslConnectionSocketFactoryBuilder.setSslContext(sslContextBuilder.build())
+			return sslConnectionSocketFactoryBuilder.setSslContext(getSSLContext())
 					.setTlsVersions(getSupportedSSLProtocols()).setCiphers(getSupportedSSLCipherSuites())
 					.setHostnameVerifier(getHostnameVerifier()).build();
 
@@ -1060,6 +1140,42 @@ public class CommonsDataLoader implements DataLoader {
 		}
 	}
 
+	/**
+	 * Builds the {@code SSLContext} configured with the defined trust strategy, trust store and key store
+	 *
+	 * @return {@link SSLContext}
+	 * @throws IOException if IOException occurs
+	 * @throws GeneralSecurityException if GeneralSecurityException occurs
+	 */
+	protected SSLContext getSSLContext() throws IOException, GeneralSecurityException {
+		SSLContextBuilder sslContextBuilder = SSLContextBuilder.create();
+		sslContextBuilder.setProtocol(sslProtocol);
+
+		final TrustStrategy trustStrategy = getTrustStrategy();
+		if (trustStrategy != null) {
+			LOG.debug("Set the TrustStrategy");
+			sslContextBuilder.loadTrustMaterial(null, trustStrategy);
+		}
+
+		final KeyStore sslTrustStore = getSSLTrustStore();
+		if (sslTrustStore != null) {
+			LOG.debug("Set the SSL trust store as trust materials");
+			sslContextBuilder.loadTrustMaterial(sslTrustStore, trustStrategy);
+		}
+
+		final KeyStore sslKeystore = getSSLKeyStore();
+		if (sslKeystore != null) {
+			LOG.debug("Set the SSL keystore as key materials");
+			sslContextBuilder.loadKeyMaterial(sslKeystore, sslKeystorePassword);
+			if (loadKeyStoreAsTrustMaterial) {
+				LOG.debug("Set the SSL keystore as trust materials");
+				sslContextBuilder.loadTrustMaterial(sslKeystore, trustStrategy);
+			}
+		}
+
+		return sslContextBuilder.build();
+	}
+
 	/**
 	 * Gets the SSL KeyStore
 	 *
@@ -1125,19 +1241,36 @@ public class CommonsDataLoader implements DataLoader {
 
 		httpClientBuilder = configCredentials(httpClientBuilder, url);
 
-		final RequestConfig.Builder requestConfigBuilder = RequestConfig.custom()
-				.setConnectionRequestTimeout(timeoutConnectionRequest)
-				.setResponseTimeout(timeoutResponse)
-				.setConnectionKeepAlive(connectionKeepAlive)
-				.setRedirectsEnabled(redirectsEnabled);
-
 		httpClientBuilder.setConnectionManager(getConnectionManager())
-				.setDefaultRequestConfig(requestConfigBuilder.build())
+				.setDefaultRequestConfig(getRequestConfig())
 				.setRetryStrategy(retryStrategy);
 		
 		return httpClientBuilder;
 	}
 
+	/**
+	 * Gets the default request configuration
+	 *
+	 * @return {@link RequestConfig}
+	 */
+	protected RequestConfig getRequestConfig() {
+		return RequestConfig.custom()
+				.setConnectionRequestTimeout(timeoutConnectionRequest)
+				.setResponseTimeout(timeoutResponse)
+				.setConnectionKeepAlive(connectionKeepAlive)
+				.setRedirectsEnabled(redirectsEnabled)
+				.build();
+	}
+
+	/**
+	 * Gets the retry strategy
+	 *
+	 * @return {@link HttpRequestRetryStrategy}
+	 */
+	protected HttpRequestRetryStrategy getRetryStrategy() {
+		return retryStrategy;
+	}
+
 	/**
 	 * Gets the HTTP client
 	 *
@@ -1235,26 +1368,8 @@ public class CommonsDataLoader implements DataLoader {
 
 				@Override
 				protected HttpHost determineProxy(HttpHost host, HttpContext context) throws HttpException {
-					String hostname = (host != null ? host.getHostName().toLowerCase() : null);
-					if (hostname != null) {
-						for (String h : excludedHosts) {
-							String hostnamePattern = h.toLowerCase();
-							if (hostname.equals(hostnamePattern)) {
-								// bypass proxy for that hostname
-								return null;
-
-							} else if (hostnamePattern.equals("*")) {
-								// bypass all hostnames
-								return null;
-
-							} else if (hostnamePattern.startsWith("*.")) {
-								String matchingEnd = hostnamePattern.substring(1).toLowerCase();
-								if (hostname.endsWith(matchingEnd)) {
-									// pattern matches, bypass proxy for that hostname
-									return null;
-								}
-							}
-						}
+					if (isProxyBypassed(host, excludedHosts)) {
+						return null;
 					}
 					return super.determineProxy(host, context);
 				}
@@ -1267,6 +1382,38 @@ public class CommonsDataLoader implements DataLoader {
 		return httpClientBuilder.setProxy(proxy);
 	}
 
+	/**
+	 * Checks whether the proxy shall be bypassed for the given host
+	 *
+	 * @param host {@link HttpHost} target host
+	 * @param excludedHosts a collection of excluded host names or patterns (e.g. "*.europa.eu")
+	 * @return TRUE if the proxy shall not be used for the host, FALSE otherwise
+	 */
+	static boolean isProxyBypassed(HttpHost host, Collection<String> excludedHosts) {
+		String hostname = (host != null ? host.getHostName().toLowerCase() : null);
+		if (hostname != null && excludedHosts != null) {
+			for (String h : excludedHosts) {
+				String hostnamePattern = h.toLowerCase();
+				if (hostname.equals(hostnamePattern)) {
+					// bypass proxy for that hostname
+					return true;
+
+				} else if (hostnamePattern.equals("*")) {
+					// bypass all hostnames
+					return true;
+
+				} else if (hostnamePattern.startsWith("*.")) {
+					String matchingEnd = hostnamePattern.substring(1).toLowerCase();
+					if (hostname.endsWith(matchingEnd)) {
+						// pattern matches, bypass proxy for that hostname
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
 	private static Timeout toTimeoutMilliseconds(int millis) {
 		if (millis < 0) {
 			LOG.info("A negative timeout has been provided. Use system default.");
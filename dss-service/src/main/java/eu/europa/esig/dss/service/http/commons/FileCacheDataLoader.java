@@ -25,9 +25,12 @@ import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.http.ConditionalDataLoader;
+import eu.europa.esig.dss.spi.client.http.ConditionalGetResult;
 import eu.europa.esig.dss.spi.client.http.DSSFileLoader;
 import eu.europa.esig.dss.spi.client.http.DataLoader;
 import eu.europa.esig.dss.spi.client.http.Protocol;
+import eu.europa.esig.dss.spi.client.http.RemoteResourceVersion;
 import eu.europa.esig.dss.spi.exception.DSSDataLoaderMultipleException;
 import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
 import eu.europa.esig.dss.utils.Utils;
@@ -47,7 +50,7 @@ import java.util.Objects;
  * {@code java.io.tmpdir}. The urls of the resources is transformed to the
  * file name by replacing the special characters by {@code _}
  */
-public class FileCacheDataLoader implements DataLoader, DSSFileLoader {
+public class FileCacheDataLoader implements DataLoader, DSSFileLoader, ConditionalDataLoader {
 
 	private static final long serialVersionUID = 1028849693098211169L;
 
@@ -258,6 +261,52 @@ public class FileCacheDataLoader implements DataLoader, DSSFileLoader {
 	public DSSDocument getDocument(String url) {
 		return getDocument(url, false);
 	}
+
+	/**
+	 * Executes a conditional GET request to the provided URL, when the cached file is expired or absent.
+	 * If the remote document has not been modified since the given {@code resourceVersion},
+	 * the cached file is kept and its expiration time is renewed.
+	 *
+	 * NOTE: the conditional request is executed only when the configured {@code DataLoader}
+	 * implements {@code ConditionalDataLoader}. Otherwise, the behavior is the same as for {@code #getDocument(url)}.
+	 *
+	 * @param url {@link String} to access
+	 * @param resourceVersion {@link RemoteResourceVersion} of the locally known copy, null to retrieve the document unconditionally
+	 * @return {@link ConditionalGetResult}
+	 */
+	@Override
+	public ConditionalGetResult conditionalGet(final String url, final RemoteResourceVersion resourceVersion) {
+		Objects.requireNonNull(dataLoader, DATA_LOADER_NOT_CONFIGURED);
+		if (!isNetworkProtocol(url) || !(dataLoader instanceof ConditionalDataLoader)) {
+			return new ConditionalGetResult(getDocument(url), resourceVersion);
+		}
+
+		if ((toBeLoaded != null) && !toBeLoaded.contains(url)) {
+			throw new DSSExternalResourceException(String.format("The toBeLoaded list does not contain URL [%s]!", url));
+		}
+		final String fileName = DSSUtils.getNormalizedString(url);
+		final File file = getCacheFile(fileName);
+		if (file.exists() && !isCacheExpired(file)) {
+			LOG.debug("Cached file was used");
+			return new ConditionalGetResult(new FileDocument(file), resourceVersion);
+		}
+
+		final ConditionalGetResult result = ((ConditionalDataLoader) dataLoader).conditionalGet(url, resourceVersion);
+		if (result.isNotModified()) {
+			LOG.debug("The remote file has not been modified");
+			if (file.exists() && !file.setLastModified(System.currentTimeMillis())) {
+				LOG.warn("Unable to update the last modification time of the cached file '{}'", file.getPath());
+			}
+			return result;
+		}
+
+		final byte[] bytes = result.getDocument() != null ? DSSUtils.toByteArray(result.getDocument()) : null;
+		if (Utils.isArrayNotEmpty(bytes)) {
+			final File out = createFile(fileName, bytes);
+			return new ConditionalGetResult(new FileDocument(out), result.getResourceVersion());
+		}
+		throw new DSSExternalResourceException(String.format("Cannot retrieve data from url [%s]. Empty content is obtained!", url));
+	}
 	
 	@Override
 	public boolean remove(String url) {
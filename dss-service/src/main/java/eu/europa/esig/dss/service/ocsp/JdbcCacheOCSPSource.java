@@ -163,6 +163,20 @@ public class JdbcCacheOCSPSource extends JdbcRevocationSource<OCSP> implements O
 		}
 	}
 
+	@Override
+	protected RevocationToken<OCSP> buildRevocationTokenFromCachedToken(RevocationToken<OCSP> cachedRevocationToken,
+			CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+		final BasicOCSPResp basicResponse = ((OCSPToken) cachedRevocationToken).getBasicOCSPResp();
+		SingleResp latestSingleResponse = DSSRevocationUtils.getLatestSingleResponse(basicResponse, certificateToken, issuerCertificateToken);
+		if (latestSingleResponse == null) {
+			return null;
+		}
+		OCSPToken ocspToken = new OCSPToken(basicResponse, latestSingleResponse, certificateToken, issuerCertificateToken);
+		ocspToken.setSourceURL(cachedRevocationToken.getSourceURL());
+		ocspToken.setExternalOrigin(RevocationOrigin.CACHED);
+		return ocspToken;
+	}
+
 	@Override
 	protected void insertRevocation(final String revocationKey, final RevocationToken<OCSP> token) {
 		getJdbcCacheConnector().execute(getInsertRevocationTokenEntryQuery(), revocationKey, token.getEncoded(), token.getSourceURL());
@@ -0,0 +1,177 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ *
+ * This file is part of the "DSS - Digital Signature Services" project.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSRevocationUtils;
+import eu.europa.esig.dss.spi.DSSUtils;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.AccessDescription;
+import org.bouncycastle.asn1.x509.AuthorityInformationAccess;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.CRLDistPoint;
+import org.bouncycastle.asn1.x509.CRLReason;
+import org.bouncycastle.asn1.x509.DistributionPoint;
+import org.bouncycastle.asn1.x509.DistributionPointName;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.asn1.x509.KeyUsage;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.X509v2CRLBuilder;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.cert.ocsp.BasicOCSPResp;
+import org.bouncycastle.cert.ocsp.BasicOCSPRespBuilder;
+import org.bouncycastle.cert.ocsp.CertificateStatus;
+import org.bouncycastle.cert.ocsp.RespID;
+import org.bouncycastle.cert.ocsp.RevokedStatus;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Date;
+
+/**
+ * Creates a CA, its certificates and their revocation data in memory, for the tests of the revocation caches
+ */
+public class RevocationTestPKI {
+
+	/** The CRL distribution point of the created certificates */
+	public static final String CRL_URL = "http://crl.dss.test/ca.crl";
+
+	/** The OCSP access point of the created certificates */
+	public static final String OCSP_URL = "http://ocsp.dss.test";
+
+	private static final String SIGNATURE_ALGORITHM = "SHA256withRSA";
+
+	private static final long ONE_DAY = 24 * 60 * 60 * 1000L;
+
+	private final KeyPair caKeyPair;
+
+	private final KeyPair userKeyPair;
+
+	private final X500Name caName = new X500Name("CN=Revocation Test CA,O=DSS-test,C=LU");
+
+	private final CertificateToken caCertificate;
+
+	private long serialNumber = 1;
+
+	/**
+	 * Creates a new self-signed CA
+	 *
+	 * @throws Exception if an error occurs
+	 */
+	public RevocationTestPKI() throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(2048);
+		this.caKeyPair = keyPairGenerator.generateKeyPair();
+		this.userKeyPair = keyPairGenerator.generateKeyPair();
+
+		X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(caName, BigInteger.valueOf(serialNumber++),
+				new Date(System.currentTimeMillis() - ONE_DAY), new Date(System.currentTimeMillis() + 365 * ONE_DAY),
+				caName, caKeyPair.getPublic());
+		builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+		builder.addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.keyCertSign | KeyUsage.cRLSign));
+		this.caCertificate = toCertificateToken(builder.build(getCASigner()));
+	}
+
+	/**
+	 * Gets the CA certificate
+	 *
+	 * @return {@link CertificateToken}
+	 */
+	public CertificateToken getCACertificate() {
+		return caCertificate;
+	}
+
+	/**
+	 * Creates a new certificate issued by the CA, with the CRL and OCSP access points
+	 *
+	 * @param commonName {@link String}
+	 * @return {@link CertificateToken}
+	 * @throws Exception if an error occurs
+	 */
+	public CertificateToken createCertificate(String commonName) throws Exception {
+		X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(caName, BigInteger.valueOf(serialNumber++),
+				new Date(System.currentTimeMillis() - ONE_DAY), new Date(System.currentTimeMillis() + 365 * ONE_DAY),
+				new X500Name("CN=" + commonName + ",O=DSS-test,C=LU"), userKeyPair.getPublic());
+		DistributionPointName distributionPointName = new DistributionPointName(
+				new GeneralNames(new GeneralName(GeneralName.uniformResourceIdentifier, CRL_URL)));
+		builder.addExtension(Extension.cRLDistributionPoints, false,
+				new CRLDistPoint(new DistributionPoint[] { new DistributionPoint(distributionPointName, null, null) }));
+		builder.addExtension(Extension.authorityInfoAccess, false, new AuthorityInformationAccess(
+				new AccessDescription(AccessDescription.id_ad_ocsp, new GeneralName(GeneralName.uniformResourceIdentifier, OCSP_URL))));
+		return toCertificateToken(builder.build(getCASigner()));
+	}
+
+	/**
+	 * Creates a CRL signed by the CA
+	 *
+	 * @param thisUpdate {@link Date}
+	 * @param nextUpdate {@link Date}
+	 * @param revokedCertificates the {@link CertificateToken}s to be revoked
+	 * @return CRL binaries
+	 * @throws Exception if an error occurs
+	 */
+	public byte[] createCRL(Date thisUpdate, Date nextUpdate, CertificateToken... revokedCertificates) throws Exception {
+		X509v2CRLBuilder builder = new X509v2CRLBuilder(caName, thisUpdate);
+		builder.setNextUpdate(nextUpdate);
+		for (CertificateToken revokedCertificate : revokedCertificates) {
+			builder.addCRLEntry(revokedCertificate.getSerialNumber(), thisUpdate, CRLReason.keyCompromise);
+		}
+		return builder.build(getCASigner()).getEncoded();
+	}
+
+	/**
+	 * Creates an OCSP response signed by the CA, with a SingleResp for each given certificate
+	 *
+	 * @param thisUpdate {@link Date}
+	 * @param nextUpdate {@link Date}
+	 * @param revoked whether the certificates are revoked
+	 * @param certificates the {@link CertificateToken}s to include a SingleResp for
+	 * @return {@link BasicOCSPResp}
+	 * @throws Exception if an error occurs
+	 */
+	public BasicOCSPResp createOCSPResponse(Date thisUpdate, Date nextUpdate, boolean revoked,
+											CertificateToken... certificates) throws Exception {
+		BasicOCSPRespBuilder builder = new BasicOCSPRespBuilder(new RespID(caName));
+		for (CertificateToken certificate : certificates) {
+			CertificateStatus status = revoked ? new RevokedStatus(thisUpdate, CRLReason.keyCompromise) : CertificateStatus.GOOD;
+			builder.addResponse(DSSRevocationUtils.getOCSPCertificateID(certificate, caCertificate, DigestAlgorithm.SHA1),
+					status, thisUpdate, nextUpdate);
+		}
+		return builder.build(getCASigner(), new X509CertificateHolder[] { new X509CertificateHolder(caCertificate.getEncoded()) },
+				thisUpdate);
+	}
+
+	private ContentSigner getCASigner() throws Exception {
+		return new JcaContentSignerBuilder(SIGNATURE_ALGORITHM).build(caKeyPair.getPrivate());
+	}
+
+	private static CertificateToken toCertificateToken(X509CertificateHolder certificateHolder) throws Exception {
+		return DSSUtils.loadCertificate(certificateHolder.getEncoded());
+	}
+
+}
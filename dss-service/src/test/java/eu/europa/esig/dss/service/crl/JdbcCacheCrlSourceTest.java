@@ -20,12 +20,20 @@
  */
 package eu.europa.esig.dss.service.crl;
 
+import eu.europa.esig.dss.crl.CRLUtils;
+import eu.europa.esig.dss.crl.CRLValidity;
+import eu.europa.esig.dss.enumerations.CertificateStatus;
 import eu.europa.esig.dss.enumerations.RevocationOrigin;
 import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
+import eu.europa.esig.dss.service.RevocationTestPKI;
 import eu.europa.esig.dss.service.http.commons.CommonsDataLoader;
+import eu.europa.esig.dss.spi.DSSRevocationUtils;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.client.http.DataLoader;
 import eu.europa.esig.dss.spi.client.jdbc.JdbcCacheConnector;
+import eu.europa.esig.dss.spi.x509.revocation.InMemoryRevocationCache;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
 import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
 import org.h2.jdbcx.JdbcDataSource;
 import org.junit.jupiter.api.AfterEach;
@@ -33,8 +41,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.concurrent.TimeUnit;
 
 import static org.awaitility.Awaitility.await;
@@ -150,6 +160,69 @@ public class JdbcCacheCrlSourceTest {
 		assertEquals(RevocationOrigin.EXTERNAL, savedRevocationToken.getExternalOrigin()); // expired crl
 	}
 
+	@Test
+	public void inMemoryCacheTest() throws Exception {
+		RevocationTestPKI pki = new RevocationTestPKI();
+		CertificateToken caToken = pki.getCACertificate();
+		CertificateToken goodUser = pki.createCertificate("good-user");
+		CertificateToken revokedUser = pki.createCertificate("revoked-user");
+
+		MockCRLSource proxiedSource = new MockCRLSource(pki.createCRL(new Date(),
+				new Date(System.currentTimeMillis() + 60 * 60 * 1000L), revokedUser));
+		crlSource.setProxySource(proxiedSource);
+		InMemoryRevocationCache<CRL> inMemoryCache = new InMemoryRevocationCache<>();
+		crlSource.setInMemoryRevocationCache(inMemoryCache);
+
+		CRLToken goodUserToken = crlSource.getRevocationToken(goodUser, caToken);
+		assertNotNull(goodUserToken);
+		assertEquals(RevocationOrigin.EXTERNAL, goodUserToken.getExternalOrigin());
+		assertEquals(CertificateStatus.GOOD, goodUserToken.getStatus());
+		assertEquals(1, proxiedSource.counter);
+
+		// the CRL shared by the second certificate is served from memory, with its own status
+		CRLToken revokedUserToken = crlSource.getRevocationToken(revokedUser, caToken);
+		assertNotNull(revokedUserToken);
+		assertEquals(RevocationOrigin.CACHED, revokedUserToken.getExternalOrigin());
+		assertEquals(revokedUser, revokedUserToken.getRelatedCertificate());
+		assertEquals(CertificateStatus.REVOKED, revokedUserToken.getStatus());
+		assertEquals(goodUserToken.getThisUpdate(), revokedUserToken.getThisUpdate());
+		assertEquals(1, proxiedSource.counter);
+		assertEquals(1, inMemoryCache.getHitCount());
+
+		goodUserToken = crlSource.getRevocationToken(goodUser, caToken);
+		assertEquals(RevocationOrigin.CACHED, goodUserToken.getExternalOrigin());
+		assertEquals(CertificateStatus.GOOD, goodUserToken.getStatus());
+		assertEquals(1, proxiedSource.counter);
+	}
+
+	@Test
+	public void inMemoryCacheExpiredTest() throws Exception {
+		RevocationTestPKI pki = new RevocationTestPKI();
+		CertificateToken caToken = pki.getCACertificate();
+		CertificateToken certificateToken = pki.createCertificate("good-user");
+
+		// thisUpdate in the past, so the CRL expires right away with a max next update delay of 1 second
+		MockCRLSource proxiedSource = new MockCRLSource(pki.createCRL(new Date(System.currentTimeMillis() - 5000L),
+				new Date(System.currentTimeMillis() + 60 * 60 * 1000L)));
+		crlSource.setProxySource(proxiedSource);
+		InMemoryRevocationCache<CRL> inMemoryCache = new InMemoryRevocationCache<>();
+		crlSource.setInMemoryRevocationCache(inMemoryCache);
+
+		assertNotNull(crlSource.getRevocationToken(certificateToken, caToken));
+		String key = DSSRevocationUtils.getCRLRevocationTokenKey(RevocationTestPKI.CRL_URL);
+		assertNotNull(inMemoryCache.get(key));
+
+		crlSource.setProxySource(null);
+		crlSource.setMaxNextUpdateDelay(1L);
+		assertNull(crlSource.getRevocationToken(certificateToken, caToken));
+		assertNull(inMemoryCache.get(key));
+
+		// the fresh CRL would be returned from the DB, if not removed
+		crlSource.setMaxNextUpdateDelay(null);
+		assertNull(crlSource.getRevocationToken(certificateToken, caToken));
+		assertEquals(1, proxiedSource.counter);
+	}
+
 	@AfterEach
 	public void cleanUp() throws SQLException {
 		crlSource.destroyTable();
@@ -159,6 +232,33 @@ public class JdbcCacheCrlSourceTest {
 		//webServer.shutdown();
 	}
 	
+	@SuppressWarnings("serial")
+	private static class MockCRLSource implements RevocationSource<CRL> {
+
+		private final byte[] crlBinaries;
+
+		private int counter = 0;
+
+		private MockCRLSource(byte[] crlBinaries) {
+			this.crlBinaries = crlBinaries;
+		}
+
+		@Override
+		public CRLToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			++counter;
+			try {
+				CRLValidity crlValidity = CRLUtils.buildCRLValidity(CRLUtils.buildCRLBinary(crlBinaries), issuerCertificateToken);
+				CRLToken crlToken = new CRLToken(certificateToken, crlValidity);
+				crlToken.setExternalOrigin(RevocationOrigin.EXTERNAL);
+				crlToken.setSourceURL(RevocationTestPKI.CRL_URL);
+				return crlToken;
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+	}
+
 	@SuppressWarnings("serial")
 	private static class MockJdbcCacheCRLSource extends JdbcCacheCRLSource {
 		
@@ -0,0 +1,146 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.http.commons;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.http.DataLoader;
+import eu.europa.esig.dss.spi.exception.DSSDataLoaderMultipleException;
+import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CommonsAsyncDataLoaderTest {
+
+	private HttpServer server;
+
+	private String baseUrl;
+
+	private CommonsAsyncDataLoader dataLoader;
+
+	@BeforeEach
+	public void init() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.createContext("/fast", exchange -> respond(exchange, 200, "fast".getBytes()));
+		server.createContext("/slow", exchange -> {
+			try {
+				Thread.sleep(2000);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			respond(exchange, 200, "slow".getBytes());
+		});
+		server.createContext("/error", exchange -> respond(exchange, 500, "error".getBytes()));
+		server.createContext("/empty", exchange -> respond(exchange, 200, new byte[0]));
+		server.createContext("/echo", exchange -> {
+			byte[] content;
+			try (InputStream is = exchange.getRequestBody()) {
+				content = DSSUtils.toByteArray(is);
+			}
+			respond(exchange, 200, content);
+		});
+		server.start();
+		baseUrl = "http://localhost:" + server.getAddress().getPort();
+
+		dataLoader = new CommonsAsyncDataLoader();
+		// all the urls share the same route
+		dataLoader.setConnectionsMaxPerRoute(10);
+	}
+
+	@AfterEach
+	public void close() {
+		dataLoader.close();
+		server.stop(0);
+	}
+
+	private static void respond(HttpExchange exchange, int status, byte[] content) throws IOException {
+		exchange.sendResponseHeaders(status, content.length == 0 ? -1 : content.length);
+		try (OutputStream os = exchange.getResponseBody()) {
+			os.write(content);
+		}
+	}
+
+	@Test
+	public void getTest() {
+		assertArrayEquals("fast".getBytes(), dataLoader.get(baseUrl + "/fast"));
+		assertArrayEquals("fast".getBytes(), dataLoader.getAsync(baseUrl + "/fast").join());
+
+		DSSExternalResourceException exception = assertThrows(DSSExternalResourceException.class,
+				() -> dataLoader.get(baseUrl + "/error"));
+		assertNotNull(exception.getMessage());
+	}
+
+	@Test
+	public void getFirstSuccessfulTest() {
+		CompletableFuture<DataLoader.DataAndUrl> future = dataLoader.getAsync(Arrays.asList(
+				baseUrl + "/slow", baseUrl + "/error", baseUrl + "/empty", baseUrl + "/fast"));
+		DataLoader.DataAndUrl dataAndUrl = future.join();
+		assertEquals(baseUrl + "/fast", dataAndUrl.getUrlString());
+		assertArrayEquals("fast".getBytes(), dataAndUrl.getData());
+
+		dataAndUrl = dataLoader.get(Arrays.asList(baseUrl + "/error", baseUrl + "/slow"));
+		assertEquals(baseUrl + "/slow", dataAndUrl.getUrlString());
+		assertArrayEquals("slow".getBytes(), dataAndUrl.getData());
+	}
+
+	@Test
+	public void getAllFailedTest() {
+		DSSDataLoaderMultipleException exception = assertThrows(DSSDataLoaderMultipleException.class,
+				() -> dataLoader.get(Arrays.asList(baseUrl + "/error", baseUrl + "/empty", "http://wrong url")));
+		assertNotNull(exception.getMessage());
+
+		assertThrows(DSSExternalResourceException.class, () -> dataLoader.get(Collections.emptyList()));
+	}
+
+	@Test
+	public void getAllEmptyTest() {
+		DSSDataLoaderMultipleException exception = assertThrows(DSSDataLoaderMultipleException.class,
+				() -> dataLoader.get(Arrays.asList(baseUrl + "/empty", baseUrl + "/empty?alternative")));
+		assertTrue(exception.getMessage().contains(baseUrl + "/empty"));
+		assertTrue(exception.getMessage().contains(baseUrl + "/empty?alternative"));
+	}
+
+	@Test
+	public void postTest() {
+		byte[] content = "Hello World!".getBytes();
+		assertArrayEquals(content, dataLoader.post(baseUrl + "/echo", content));
+		assertArrayEquals(content, dataLoader.postAsync(baseUrl + "/echo", content).join());
+	}
+
+}
@@ -0,0 +1,155 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.http.commons;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.http.ConditionalGetResult;
+import eu.europa.esig.dss.spi.client.http.RemoteResourceVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CommonsDataLoaderConditionalGetTest {
+
+	private static final String ETAG = "\"v1\"";
+
+	private static final String LAST_MODIFIED = "Tue, 15 Nov 1994 12:45:26 GMT";
+
+	private static final byte[] CONTENT = "<tl>content</tl>".getBytes();
+
+	private final AtomicInteger fullResponses = new AtomicInteger();
+
+	private HttpServer server;
+
+	private String url;
+
+	@TempDir
+	File cacheDirectory;
+
+	@BeforeEach
+	public void init() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/tl", exchange -> {
+			exchange.getResponseHeaders().add("ETag", ETAG);
+			exchange.getResponseHeaders().add("Last-Modified", LAST_MODIFIED);
+			if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+				respond(exchange, 304, new byte[0]);
+			} else {
+				fullResponses.incrementAndGet();
+				respond(exchange, 200, CONTENT);
+			}
+		});
+		server.createContext("/no-version", exchange -> {
+			fullResponses.incrementAndGet();
+			respond(exchange, 200, CONTENT);
+		});
+		server.start();
+		url = "http://localhost:" + server.getAddress().getPort();
+	}
+
+	@AfterEach
+	public void close() {
+		server.stop(0);
+	}
+
+	private static void respond(HttpExchange exchange, int status, byte[] content) throws IOException {
+		exchange.sendResponseHeaders(status, content.length == 0 ? -1 : content.length);
+		try (OutputStream os = exchange.getResponseBody()) {
+			os.write(content);
+		}
+	}
+
+	@Test
+	public void conditionalGetTest() {
+		CommonsDataLoader dataLoader = new CommonsDataLoader();
+
+		ConditionalGetResult result = dataLoader.conditionalGet(url + "/tl", null);
+		assertFalse(result.isNotModified());
+		assertArrayEquals(CONTENT, DSSUtils.toByteArray(result.getDocument()));
+		RemoteResourceVersion resourceVersion = result.getResourceVersion();
+		assertNotNull(resourceVersion);
+		assertEquals(ETAG, resourceVersion.getETag());
+		assertEquals(LAST_MODIFIED, resourceVersion.getLastModified());
+		assertEquals(1, fullResponses.get());
+
+		result = dataLoader.conditionalGet(url + "/tl", resourceVersion);
+		assertTrue(result.isNotModified());
+		assertNull(result.getDocument());
+		assertEquals(resourceVersion, result.getResourceVersion());
+		assertEquals(1, fullResponses.get());
+
+		result = dataLoader.conditionalGet(url + "/tl", new RemoteResourceVersion("\"v0\"", null));
+		assertFalse(result.isNotModified());
+		assertArrayEquals(CONTENT, DSSUtils.toByteArray(result.getDocument()));
+		assertEquals(2, fullResponses.get());
+
+		result = dataLoader.conditionalGet(url + "/no-version", null);
+		assertFalse(result.isNotModified());
+		assertTrue(result.getResourceVersion().isEmpty());
+		assertEquals(3, fullResponses.get());
+	}
+
+	@Test
+	public void fileCacheConditionalGetTest() {
+		FileCacheDataLoader fileCacheDataLoader = new FileCacheDataLoader(new CommonsDataLoader());
+		fileCacheDataLoader.setFileCacheDirectory(cacheDirectory);
+		fileCacheDataLoader.setCacheExpirationTime(0);
+
+		ConditionalGetResult result = fileCacheDataLoader.conditionalGet(url + "/tl", null);
+		assertFalse(result.isNotModified());
+		assertTrue(result.getDocument() instanceof FileDocument);
+		assertArrayEquals(CONTENT, DSSUtils.toByteArray(result.getDocument()));
+		RemoteResourceVersion resourceVersion = result.getResourceVersion();
+		assertEquals(ETAG, resourceVersion.getETag());
+		assertEquals(1, fullResponses.get());
+
+		result = fileCacheDataLoader.conditionalGet(url + "/tl", resourceVersion);
+		assertTrue(result.isNotModified());
+		assertEquals(1, fullResponses.get());
+		// the cached file is kept
+		assertArrayEquals(CONTENT, fileCacheDataLoader.loadFileFromCache(url + "/tl"));
+
+		// no cache expiration, the cached file is returned
+		fileCacheDataLoader.setCacheExpirationTime(-1);
+		result = fileCacheDataLoader.conditionalGet(url + "/tl", resourceVersion);
+		assertFalse(result.isNotModified());
+		assertArrayEquals(CONTENT, DSSUtils.toByteArray(result.getDocument()));
+		assertEquals(1, fullResponses.get());
+	}
+
+}
@@ -0,0 +1,291 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ *
+ * This file is part of the "DSS - Digital Signature Services" project.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.service.jdbc;
+
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.spi.client.jdbc.JdbcCacheConnector;
+import eu.europa.esig.dss.spi.client.jdbc.WriteBehindJdbcCacheConnector;
+import eu.europa.esig.dss.spi.client.jdbc.query.SqlQuery;
+import eu.europa.esig.dss.spi.client.jdbc.query.SqlSelectQuery;
+import eu.europa.esig.dss.spi.client.jdbc.record.SqlRecord;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WriteBehindJdbcCacheConnectorTest {
+
+    private static final SqlQuery CREATE_TABLE = SqlQuery.createQuery("CREATE TABLE WRITE_BEHIND_TEST (ID VARCHAR(100) PRIMARY KEY, DATA VARCHAR(100))");
+
+    private static final SqlQuery DROP_TABLE = SqlQuery.createQuery("DROP TABLE WRITE_BEHIND_TEST");
+
+    private static final SqlQuery INSERT = SqlQuery.createQuery("INSERT INTO WRITE_BEHIND_TEST (ID, DATA) VALUES (?, ?)");
+
+    private static final SqlQuery INSERT_INVALID = SqlQuery.createQuery("INSERT INTO WRITE_BEHIND_TEST (ID, DATA) VALUES (?, 'too long data value exceeding the column size " +
+            "limited to one hundred characters, in order to make the query fail')");
+
+    private static final SqlQuery DELETE = SqlQuery.createQuery("DELETE FROM WRITE_BEHIND_TEST WHERE ID = ?");
+
+    private static final SqlSelectQuery SELECT_BY_ID = new SqlSelectQuery("SELECT ID, DATA FROM WRITE_BEHIND_TEST WHERE ID = ?") {
+        @Override
+        protected SqlRecord getRecord(ResultSet rs) throws SQLException {
+            return new TestRecord(rs.getString("ID"), rs.getString("DATA"));
+        }
+    };
+
+    private static final SqlSelectQuery SELECT_ALL = new SqlSelectQuery("SELECT ID, DATA FROM WRITE_BEHIND_TEST") {
+        @Override
+        protected SqlRecord getRecord(ResultSet rs) throws SQLException {
+            return new TestRecord(rs.getString("ID"), rs.getString("DATA"));
+        }
+    };
+
+    private JdbcDataSource dataSource = new JdbcDataSource();
+
+    private JdbcCacheConnector cacheConnector;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        dataSource.setUrl("jdbc:h2:mem:writebehind;DB_CLOSE_DELAY=-1");
+        cacheConnector = new JdbcCacheConnector(dataSource);
+        cacheConnector.executeThrowable(CREATE_TABLE);
+    }
+
+    @Test
+    public void batchTest() {
+        try (WriteBehindJdbcCacheConnector connector = new WriteBehindJdbcCacheConnector(dataSource, 100, 10, 60000)) {
+            for (int ii = 0; ii < 5; ii++) {
+                assertEquals(0, connector.execute(INSERT, "id" + ii, "data" + ii));
+            }
+            assertEquals(5, connector.getPendingQueriesCount());
+            assertEquals(0, cacheConnector.select(SELECT_ALL).size());
+
+            connector.flush();
+            assertEquals(0, connector.getPendingQueriesCount());
+            assertEquals(5, cacheConnector.select(SELECT_ALL).size());
+
+            connector.execute(DELETE, "id0");
+            connector.execute(INSERT, "id0", "updated");
+            assertEquals(2, connector.getPendingQueriesCount());
+        }
+        assertEquals(5, cacheConnector.select(SELECT_ALL).size());
+        Collection<SqlRecord> records = cacheConnector.select(SELECT_BY_ID, "id0");
+        assertEquals(1, records.size());
+        assertEquals("updated", ((TestRecord) records.iterator().next()).data);
+    }
+
+    @Test
+    public void selectPendingTest() {
+        try (WriteBehindJdbcCacheConnector connector = new WriteBehindJdbcCacheConnector(dataSource, 100, 10, 60000)) {
+            connector.execute(INSERT, "id1", "data1");
+            connector.execute(INSERT, "id2", "data2");
+
+            // a SELECT query not concerning the pending entries does not flush them
+            assertEquals(0, connector.select(SELECT_BY_ID, "id3").size());
+            assertEquals(2, connector.getPendingQueriesCount());
+
+            // only the queries concerning the selected entry are executed
+            Collection<SqlRecord> records = connector.select(SELECT_BY_ID, "id1");
+            assertEquals(1, records.size());
+            assertEquals("data1", ((TestRecord) records.iterator().next()).data);
+            assertEquals(1, connector.getPendingQueriesCount());
+            assertEquals(1, cacheConnector.select(SELECT_ALL).size());
+
+            // the queries concerning the same entry are executed in order
+            connector.execute(DELETE, "id1");
+            connector.execute(INSERT, "id1", "updated");
+            records = connector.select(SELECT_BY_ID, "id1");
+            assertEquals(1, records.size());
+            assertEquals("updated", ((TestRecord) records.iterator().next()).data);
+            assertEquals(1, connector.getPendingQueriesCount());
+
+            // a SELECT query without arguments may concern any entry
+            assertEquals(2, connector.select(SELECT_ALL).size());
+            assertEquals(0, connector.getPendingQueriesCount());
+        }
+    }
+
+    @Test
+    public void queueCapacityTest() {
+        try (WriteBehindJdbcCacheConnector connector = new WriteBehindJdbcCacheConnector(dataSource, 3, 100, 60000)) {
+            for (int ii = 0; ii < 10; ii++) {
+                connector.execute(INSERT, "id" + ii, "data" + ii);
+                assertTrue(connector.getPendingQueriesCount() <= 3);
+            }
+        }
+        assertEquals(10, cacheConnector.select(SELECT_ALL).size());
+    }
+
+    @Test
+    public void scheduledFlushTest() throws InterruptedException {
+        try (WriteBehindJdbcCacheConnector connector = new WriteBehindJdbcCacheConnector(dataSource, 100, 100, 50)) {
+            connector.execute(INSERT, "id1", "data1");
+
+            long end = System.currentTimeMillis() + 5000;
+            while (connector.getPendingQueriesCount() > 0 && System.currentTimeMillis() < end) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, connector.getPendingQueriesCount());
+            assertEquals(1, cacheConnector.select(SELECT_ALL).size());
+        }
+    }
+
+    @Test
+    public void executeAfterCloseTest() {
+        WriteBehindJdbcCacheConnector connector = new WriteBehindJdbcCacheConnector(dataSource, 100, 10, 60000);
+        connector.execute(INSERT, "id1", "data1");
+        connector.close();
+        assertEquals(1, cacheConnector.select(SELECT_ALL).size());
+
+        assertEquals(1, connector.execute(INSERT, "id2", "data2"));
+        assertEquals(0, connector.getPendingQueriesCount());
+        assertEquals(2, cacheConnector.select(SELECT_ALL).size());
+    }
+
+    @Test
+    public void concurrentCloseTest() throws Exception {
+        WriteBehindJdbcCacheConnector connector = new WriteBehindJdbcCacheConnector(dataSource, 50, 10, 60000);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                final int threadId = thread;
+                futures.add(executorService.submit(() -> {
+                    for (int ii = 0; ii < 250; ii++) {
+                        connector.execute(INSERT, "id" + threadId + "-" + ii, "data");
+                    }
+                }));
+            }
+            Thread.sleep(5);
+            connector.close();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        // no query is lost, whether it has been queued before the closing or executed after it
+        assertEquals(0, connector.getPendingQueriesCount());
+        assertEquals(1000, cacheConnector.select(SELECT_ALL).size());
+    }
+
+    @Test
+    public void failedBatchTest() {
+        try (WriteBehindJdbcCacheConnector connector = new WriteBehindJdbcCacheConnector(dataSource, 100, 10, 60000)) {
+            connector.execute(INSERT, "id1", "data1");
+            connector.flush();
+
+            // duplicated primary key
+            connector.execute(INSERT, "id1", "data1");
+            connector.execute(INSERT, "id2", "data2");
+            DSSException exception = assertThrows(DSSException.class, connector::flush);
+            assertTrue(exception.getMessage().contains("Unable to execute a batch of 2 pending queries"));
+
+            // the failed batch is kept and retried on the next flush
+            assertEquals(2, connector.getPendingQueriesCount());
+            assertEquals(1, cacheConnector.select(SELECT_ALL).size());
+
+            cacheConnector.execute(DELETE, "id1");
+            connector.flush();
+            assertEquals(0, connector.getPendingQueriesCount());
+            assertEquals(2, cacheConnector.select(SELECT_ALL).size());
+        }
+    }
+
+    @Test
+    public void invalidQueryDroppedTest() {
+        try (WriteBehindJdbcCacheConnector connector = new WriteBehindJdbcCacheConnector(dataSource, 100, 10, 60000)) {
+            connector.execute(INSERT, "id1", "data1");
+            connector.flush();
+
+            // duplicated primary key
+            connector.execute(INSERT, "id1", "data1");
+            connector.execute(INSERT, "id2", "data2");
+            assertThrows(DSSException.class, connector::flush);
+            assertThrows(DSSException.class, connector::flush);
+
+            // the batch is executed one by one on the third attempt, the invalid query is dropped
+            connector.flush();
+            assertEquals(0, connector.getPendingQueriesCount());
+            assertEquals(2, cacheConnector.select(SELECT_ALL).size());
+
+            connector.execute(INSERT, "id3", "data3");
+            connector.flush();
+            assertEquals(3, cacheConnector.select(SELECT_ALL).size());
+        }
+    }
+
+    @Test
+    public void fullQueueNotThrowingTest() {
+        try (WriteBehindJdbcCacheConnector connector = new WriteBehindJdbcCacheConnector(dataSource, 2, 10, 60000)) {
+            for (int ii = 0; ii < 10; ii++) {
+                assertEquals(0, connector.execute(INSERT_INVALID, "id" + ii));
+                assertTrue(connector.getPendingQueriesCount() <= 2);
+            }
+            assertTrue(connector.tableQuery(SqlQuery.createQuery("SELECT COUNT(*) FROM WRITE_BEHIND_TEST")));
+            assertEquals(0, connector.select(SELECT_BY_ID, "id9").size());
+        }
+        assertEquals(0, cacheConnector.select(SELECT_ALL).size());
+    }
+
+    @Test
+    public void closeWithInvalidQueriesTest() {
+        WriteBehindJdbcCacheConnector connector = new WriteBehindJdbcCacheConnector(dataSource, 100, 10, 60000);
+        connector.execute(INSERT_INVALID, "id1");
+        connector.execute(INSERT, "id2", "data2");
+        connector.close();
+        assertEquals(0, connector.getPendingQueriesCount());
+        assertEquals(1, cacheConnector.select(SELECT_ALL).size());
+    }
+
+    @AfterEach
+    public void cleanUp() throws SQLException {
+        cacheConnector.executeThrowable(DROP_TABLE);
+    }
+
+    private static final class TestRecord implements SqlRecord {
+
+        private final String id;
+
+        private final String data;
+
+        private TestRecord(String id, String data) {
+            this.id = id;
+            this.data = data;
+        }
+
+    }
+
+}
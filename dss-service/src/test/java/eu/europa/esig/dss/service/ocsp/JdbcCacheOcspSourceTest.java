@@ -20,18 +20,23 @@
  */
 package eu.europa.esig.dss.service.ocsp;
 
+import eu.europa.esig.dss.enumerations.CertificateStatus;
 import eu.europa.esig.dss.enumerations.RevocationOrigin;
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.model.x509.extension.AuthorityInformationAccess;
 import eu.europa.esig.dss.model.x509.revocation.ocsp.OCSP;
+import eu.europa.esig.dss.service.RevocationTestPKI;
 import eu.europa.esig.dss.service.http.commons.CommonsDataLoader;
 import eu.europa.esig.dss.service.http.commons.OCSPDataLoader;
 import eu.europa.esig.dss.spi.CertificateExtensionsUtils;
 import eu.europa.esig.dss.spi.DSSRevocationUtils;
 import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.client.jdbc.JdbcCacheConnector;
+import eu.europa.esig.dss.spi.x509.revocation.InMemoryRevocationCache;
+import eu.europa.esig.dss.spi.x509.revocation.RevocationSource;
 import eu.europa.esig.dss.spi.x509.revocation.RevocationToken;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
+import org.bouncycastle.cert.ocsp.BasicOCSPResp;
 import org.h2.jdbcx.JdbcDataSource;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -171,6 +176,93 @@ public class JdbcCacheOcspSourceTest {
 		assertEquals(secondOCSPToken.getThisUpdate(), revocationToken.getThisUpdate());
 	}
 	
+	@Test
+	public void inMemoryCacheFallbackTest() throws Exception {
+		RevocationTestPKI pki = new RevocationTestPKI();
+		CertificateToken caToken = pki.getCACertificate();
+		CertificateToken goodUser = pki.createCertificate("good-user");
+		CertificateToken otherUser = pki.createCertificate("other-user");
+
+		Date thisUpdate = new Date();
+		Date nextUpdate = new Date(thisUpdate.getTime() + 60 * 60 * 1000L);
+		BasicOCSPResp goodUserResponse = pki.createOCSPResponse(thisUpdate, nextUpdate, false, goodUser);
+		ocspSource.setProxySource(new MockOCSPSource(goodUserResponse));
+		InMemoryRevocationCache<OCSP> inMemoryCache = new InMemoryRevocationCache<>();
+		ocspSource.setInMemoryRevocationCache(inMemoryCache);
+
+		OCSPToken revocationToken = ocspSource.getRevocationToken(goodUser, caToken);
+		assertNotNull(revocationToken);
+		assertEquals(RevocationOrigin.EXTERNAL, revocationToken.getExternalOrigin());
+		assertEquals(CertificateStatus.GOOD, revocationToken.getStatus());
+
+		// the in-memory entry does not contain a SingleResp for the certificate
+		BasicOCSPResp otherUserResponse = pki.createOCSPResponse(thisUpdate, nextUpdate, true, otherUser);
+		String key = DSSRevocationUtils.getOcspRevocationKey(goodUser, RevocationTestPKI.OCSP_URL);
+		inMemoryCache.put(key, Collections.singletonList(new OCSPToken(otherUserResponse,
+				DSSRevocationUtils.getLatestSingleResponse(otherUserResponse, otherUser, caToken), otherUser, caToken)));
+
+		ocspSource.setProxySource(null);
+		revocationToken = ocspSource.getRevocationToken(goodUser, caToken);
+		assertNotNull(revocationToken);
+		assertEquals(RevocationOrigin.CACHED, revocationToken.getExternalOrigin());
+		assertEquals(CertificateStatus.GOOD, revocationToken.getStatus());
+		assertNotNull(revocationToken.getLatestSingleResp());
+		assertArrayEquals(goodUserResponse.getEncoded(), revocationToken.getBasicOCSPResp().getEncoded());
+
+		// the in-memory entry is replaced by the one from the DB
+		List<RevocationToken<OCSP>> cachedTokens = inMemoryCache.get(key);
+		assertEquals(1, cachedTokens.size());
+		assertEquals(goodUser, cachedTokens.get(0).getRelatedCertificate());
+	}
+
+	@Test
+	public void inMemoryCacheExpiredTest() throws Exception {
+		RevocationTestPKI pki = new RevocationTestPKI();
+		CertificateToken caToken = pki.getCACertificate();
+		CertificateToken goodUser = pki.createCertificate("good-user");
+
+		// thisUpdate in the past, so the response expires right away with a max next update delay of 1 second
+		Date thisUpdate = new Date(System.currentTimeMillis() - 5000L);
+		BasicOCSPResp response = pki.createOCSPResponse(thisUpdate, new Date(thisUpdate.getTime() + 60 * 60 * 1000L),
+				false, goodUser);
+		ocspSource.setProxySource(new MockOCSPSource(response));
+		InMemoryRevocationCache<OCSP> inMemoryCache = new InMemoryRevocationCache<>();
+		ocspSource.setInMemoryRevocationCache(inMemoryCache);
+
+		assertNotNull(ocspSource.getRevocationToken(goodUser, caToken));
+		String key = DSSRevocationUtils.getOcspRevocationKey(goodUser, RevocationTestPKI.OCSP_URL);
+		assertNotNull(inMemoryCache.get(key));
+
+		ocspSource.setProxySource(null);
+		ocspSource.setMaxNextUpdateDelay(1L);
+		assertNull(ocspSource.getRevocationToken(goodUser, caToken));
+		assertNull(inMemoryCache.get(key));
+
+		// the fresh response would be returned from the DB, if not removed
+		ocspSource.setMaxNextUpdateDelay(null);
+		assertNull(ocspSource.getRevocationToken(goodUser, caToken));
+	}
+
+	@SuppressWarnings("serial")
+	private static class MockOCSPSource implements RevocationSource<OCSP> {
+
+		private final BasicOCSPResp basicOCSPResp;
+
+		private MockOCSPSource(BasicOCSPResp basicOCSPResp) {
+			this.basicOCSPResp = basicOCSPResp;
+		}
+
+		@Override
+		public OCSPToken getRevocationToken(CertificateToken certificateToken, CertificateToken issuerCertificateToken) {
+			OCSPToken ocspToken = new OCSPToken(basicOCSPResp, DSSRevocationUtils.getLatestSingleResponse(
+					basicOCSPResp, certificateToken, issuerCertificateToken), certificateToken, issuerCertificateToken);
+			ocspToken.setSourceURL(RevocationTestPKI.OCSP_URL);
+			ocspToken.setExternalOrigin(RevocationOrigin.EXTERNAL);
+			return ocspToken;
+		}
+
+	}
+
 	/**
 	 * Mocked to avoid time synchronization issue between this computer time and the OCSP responder
 	 * (remote server is synchronized with UTC)
@@ -0,0 +1,194 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.http;
+
+import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * This {@code DataLoader} merges identical requests executed concurrently into a single call
+ * to the underlying {@code DataLoader}.
+ * When a request to the same URL (and with the same content, for POST requests) is already in progress,
+ * the calling thread waits for its completion and obtains the same result, instead of executing a new request.
+ *
+ * The class is opt-in, and may be provided explicitly to a source downloading the same resources concurrently
+ * (e.g. {@code new OnlineCRLSource(new CoalescingDataLoader(dataLoader))} or
+ * {@code new DefaultAIASource(new CoalescingDataLoader(dataLoader))}).
+ * As OCSP requests usually contain a nonce, it brings no benefit to the {@code OnlineOCSPSource}.
+ *
+ * NOTE: {@code #get(List)} is forwarded to the underlying {@code DataLoader} without merging,
+ * in order to preserve its own strategy of requesting the URLs.
+ *
+ * NOTE: the returned binaries are shared between the merged calls and shall not be modified.
+ *
+ */
+public class CoalescingDataLoader implements DataLoader {
+
+	private static final long serialVersionUID = -4613271358214530187L;
+
+	private static final Logger LOG = LoggerFactory.getLogger(CoalescingDataLoader.class);
+
+	/** The DataLoader used to execute the requests */
+	private final DataLoader dataLoader;
+
+	/** The map between requests in progress and their results */
+	private transient Map<Request, CompletableFuture<byte[]>> inFlightRequests;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param dataLoader {@link DataLoader} to be used to execute the requests
+	 */
+	public CoalescingDataLoader(final DataLoader dataLoader) {
+		Objects.requireNonNull(dataLoader, "DataLoader cannot be null!");
+		this.dataLoader = dataLoader;
+	}
+
+	/**
+	 * Gets the underlying {@code DataLoader}
+	 *
+	 * @return {@link DataLoader}
+	 */
+	public DataLoader getDataLoader() {
+		return dataLoader;
+	}
+
+	@Override
+	public byte[] get(String url) {
+		return execute(new Request(url, null), () -> dataLoader.get(url));
+	}
+
+	@Override
+	public DataAndUrl get(List<String> urlStrings) {
+		return dataLoader.get(urlStrings);
+	}
+
+	@Override
+	public byte[] post(String url, byte[] content) {
+		return execute(new Request(url, content), () -> dataLoader.post(url, content));
+	}
+
+	@Override
+	public void setContentType(String contentType) {
+		dataLoader.setContentType(contentType);
+	}
+
+	/**
+	 * Executes the {@code request}, or waits for the result of an identical request in progress
+	 *
+	 * @param request {@link Request} identifying the request
+	 * @param call {@link Supplier} executing the request
+	 * @return response binaries
+	 */
+	private byte[] execute(Request request, Supplier<byte[]> call) {
+		final Map<Request, CompletableFuture<byte[]>> requests = getInFlightRequests();
+		final CompletableFuture<byte[]> future = new CompletableFuture<>();
+		final CompletableFuture<byte[]> inFlightRequest = requests.putIfAbsent(request, future);
+		if (inFlightRequest != null) {
+			LOG.debug("A request to '{}' is already in progress. Waiting for its result...", request.url);
+			return getResult(inFlightRequest);
+		}
+
+		try {
+			final byte[] result = call.get();
+			future.complete(result);
+			return result;
+		} catch (RuntimeException e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			requests.remove(request, future);
+		}
+	}
+
+	private byte[] getResult(CompletableFuture<byte[]> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new DSSExternalResourceException(cause != null ? cause : e);
+		}
+	}
+
+	private synchronized Map<Request, CompletableFuture<byte[]>> getInFlightRequests() {
+		if (inFlightRequests == null) {
+			inFlightRequests = new ConcurrentHashMap<>();
+		}
+		return inFlightRequests;
+	}
+
+	/**
+	 * Identifies a request by its URL and content
+	 */
+	private static final class Request {
+
+		/** The requested URL */
+		private final String url;
+
+		/** The content of the request (null for GET requests) */
+		private final byte[] content;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param url {@link String}
+		 * @param content byte array
+		 */
+		private Request(final String url, final byte[] content) {
+			this.url = url;
+			this.content = content;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Request)) {
+				return false;
+			}
+			Request request = (Request) o;
+			return Objects.equals(url, request.url) && Arrays.equals(content, request.content);
+		}
+
+		@Override
+		public int hashCode() {
+			int result = Objects.hashCode(url);
+			result = 31 * result + Arrays.hashCode(content);
+			return result;
+		}
+
+	}
+
+}
@@ -0,0 +1,42 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.http;
+
+import java.io.Serializable;
+
+/**
+ * Allows to retrieve a remote resource only when it has been modified since a known version
+ * (e.g. using HTTP conditional requests with {@code If-None-Match} / {@code If-Modified-Since} headers)
+ */
+public interface ConditionalDataLoader extends Serializable {
+
+	/**
+	 * Executes a conditional GET operation.
+	 * If the remote resource has not been modified since the {@code resourceVersion}, returns
+	 * a result with {@code isNotModified() == TRUE} and without a document.
+	 *
+	 * @param url {@link String} the url to access
+	 * @param resourceVersion {@link RemoteResourceVersion} of the locally known copy, null to retrieve the resource unconditionally
+	 * @return {@link ConditionalGetResult}
+	 */
+	ConditionalGetResult conditionalGet(final String url, final RemoteResourceVersion resourceVersion);
+
+}
@@ -0,0 +1,94 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.http;
+
+import eu.europa.esig.dss.model.DSSDocument;
+
+/**
+ * Represents a result of a conditional GET request
+ */
+public class ConditionalGetResult {
+
+	/** The retrieved document, null when the resource has not been modified */
+	private final DSSDocument document;
+
+	/** The version of the remote resource */
+	private final RemoteResourceVersion resourceVersion;
+
+	/** Defines whether the remote resource has not been modified since the requested version */
+	private final boolean notModified;
+
+	/**
+	 * Constructor for a retrieved document
+	 *
+	 * @param document {@link DSSDocument} retrieved document
+	 * @param resourceVersion {@link RemoteResourceVersion} of the retrieved document, when known
+	 */
+	public ConditionalGetResult(final DSSDocument document, final RemoteResourceVersion resourceVersion) {
+		this(document, resourceVersion, false);
+	}
+
+	private ConditionalGetResult(final DSSDocument document, final RemoteResourceVersion resourceVersion,
+								 final boolean notModified) {
+		this.document = document;
+		this.resourceVersion = resourceVersion;
+		this.notModified = notModified;
+	}
+
+	/**
+	 * Creates a result for a remote resource, which has not been modified since the requested version
+	 * (e.g. HTTP 304 response)
+	 *
+	 * @param resourceVersion {@link RemoteResourceVersion} of the remote resource
+	 * @return {@link ConditionalGetResult}
+	 */
+	public static ConditionalGetResult notModified(final RemoteResourceVersion resourceVersion) {
+		return new ConditionalGetResult(null, resourceVersion, true);
+	}
+
+	/**
+	 * Gets the retrieved document
+	 *
+	 * @return {@link DSSDocument}, null if the resource has not been modified
+	 */
+	public DSSDocument getDocument() {
+		return document;
+	}
+
+	/**
+	 * Gets the version of the remote resource
+	 *
+	 * @return {@link RemoteResourceVersion}, null if not known
+	 */
+	public RemoteResourceVersion getResourceVersion() {
+		return resourceVersion;
+	}
+
+	/**
+	 * Gets whether the remote resource has not been modified since the requested version
+	 *
+	 * @return TRUE if the resource has not been modified, FALSE otherwise
+	 */
+	public boolean isNotModified() {
+		return notModified;
+	}
+
+}
@@ -0,0 +1,103 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.http;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Identifies a version of a remote resource, using the HTTP {@code ETag} and/or {@code Last-Modified} response
+ * header values. Used to issue conditional requests ({@code If-None-Match} / {@code If-Modified-Since}).
+ */
+public class RemoteResourceVersion implements Serializable {
+
+	private static final long serialVersionUID = -4633578150236329814L;
+
+	/** The entity tag value */
+	private final String eTag;
+
+	/** The last modification date in the HTTP-date format */
+	private final String lastModified;
+
+	/**
+	 * Default constructor
+	 *
+	 * @param eTag {@link String} the value of the {@code ETag} response header, if present
+	 * @param lastModified {@link String} the value of the {@code Last-Modified} response header, if present
+	 */
+	public RemoteResourceVersion(final String eTag, final String lastModified) {
+		this.eTag = eTag;
+		this.lastModified = lastModified;
+	}
+
+	/**
+	 * Gets the entity tag value
+	 *
+	 * @return {@link String}
+	 */
+	public String getETag() {
+		return eTag;
+	}
+
+	/**
+	 * Gets the last modification date in the HTTP-date format
+	 *
+	 * @return {@link String}
+	 */
+	public String getLastModified() {
+		return lastModified;
+	}
+
+	/**
+	 * Checks whether neither {@code ETag} nor {@code Last-Modified} value is defined
+	 *
+	 * @return TRUE if the version is not defined, FALSE otherwise
+	 */
+	public boolean isEmpty() {
+		return eTag == null && lastModified == null;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		RemoteResourceVersion other = (RemoteResourceVersion) obj;
+		return Objects.equals(eTag, other.eTag) && Objects.equals(lastModified, other.lastModified);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(eTag, lastModified);
+	}
+
+	@Override
+	public String toString() {
+		return "RemoteResourceVersion [eTag=" + eTag + ", lastModified=" + lastModified + "]";
+	}
+
+}
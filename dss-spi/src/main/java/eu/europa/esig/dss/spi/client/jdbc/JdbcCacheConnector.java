@@ -34,6 +34,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -94,6 +95,74 @@ public class JdbcCacheConnector {
         }
     }
 
+    /**
+     * This method executes the same query for each set of arguments within a single JDBC batch and transaction.
+     * In case of an error, the whole batch is rolled back.
+     *
+     * @param query {@link SqlQuery} the query
+     * @param argumentsList a list of {@link Object} arrays, each representing the arguments of one query execution
+     * @return number of rows concerned by the queries
+     */
+    public int executeBatch(final SqlQuery query, final List<Object[]> argumentsList) {
+        try {
+            return executeBatchThrowable(query, argumentsList);
+        } catch (final SQLException e) {
+            LOG.error("Unable to execute the batch query [{}]. Reason : '{}'", query, e.getMessage(), e);
+            return 0;
+        }
+    }
+
+    /**
+     * This method executes the same query for each set of arguments within a single JDBC batch and transaction,
+     * by throwing an exception in case of an error. In case of an error, the whole batch is rolled back.
+     *
+     * @param query {@link SqlQuery} the query
+     * @param argumentsList a list of {@link Object} arrays, each representing the arguments of one query execution
+     * @return number of rows concerned by the queries
+     * @throws SQLException if an exception occurs
+     */
+    public int executeBatchThrowable(final SqlQuery query, final List<Object[]> argumentsList) throws SQLException {
+        Objects.requireNonNull(query, "Query cannot be null!");
+        if (argumentsList == null || argumentsList.isEmpty()) {
+            return 0;
+        }
+
+        Connection c = null;
+        PreparedStatement s = null;
+        try {
+            c = dataSource.getConnection();
+            c.setAutoCommit(false);
+
+            s = c.prepareStatement(query.getQueryString());
+            for (Object[] arguments : argumentsList) {
+                for (int ii = 0; ii < arguments.length; ii++) {
+                    s.setObject(ii + 1, arguments[ii]);
+                }
+                s.addBatch();
+            }
+            int[] results = s.executeBatch();
+            c.commit();
+            LOG.debug("The query [{}] has been executed successfully in a batch of {} statements", query, argumentsList.size());
+
+            int ii = 0;
+            for (int result : results) {
+                if (result > 0) {
+                    ii += result;
+                } else if (result == Statement.SUCCESS_NO_INFO) {
+                    ++ii;
+                }
+            }
+            return ii;
+
+        } catch (final SQLException e) {
+            rollback(c);
+            throw e;
+
+        } finally {
+            closeQuietly(c, s, null);
+        }
+    }
+
     /**
      * This method executes the query and returns a collection of selected objects
      *
@@ -0,0 +1,422 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.jdbc;
+
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.spi.client.jdbc.query.SqlQuery;
+import eu.europa.esig.dss.spi.client.jdbc.query.SqlSelectQuery;
+import eu.europa.esig.dss.spi.client.jdbc.record.SqlRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * This class executes calls to a {@code javax.sql.DataSource} in a write-behind mode:
+ * the INSERT, UPDATE and DELETE queries executed with {@code execute(query, arguments)} are queued
+ * and flushed in JDBC batches by a background thread, outside the validation thread.
+ *
+ * The pending queries are executed in the order of their submission, consecutive executions of the same query
+ * being grouped within a JDBC batch. The queue is bounded: when it is full, the pending queries are flushed
+ * by the calling thread.
+ * A SELECT query concerning pending queries (i.e. having a common argument, such as a revocation or AIA key)
+ * executes these queries only before its execution, so the queued entries are visible right away, while the other
+ * pending queries are left to the background thread. A SELECT query without arguments flushes all pending queries.
+ *
+ * When a batch fails, its queries are kept in the queue and retried on the next flush (an explicit call
+ * of {@code flush()} throws a {@code DSSException} in this case). After three failed attempts, the queries
+ * of the batch are executed one by one, the failing ones being logged and dropped, so a single invalid query
+ * does not block the queue. As in {@code JdbcCacheConnector}, {@code execute(query, arguments)} never throws:
+ * when the queue is full and cannot be flushed, the query is logged and dropped.
+ *
+ * NOTE: the connector shall be closed in order to flush the remaining queries and to stop the background thread.
+ *
+ */
+public class WriteBehindJdbcCacheConnector extends JdbcCacheConnector implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WriteBehindJdbcCacheConnector.class);
+
+    /** The default maximum number of pending queries */
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    /** The default number of pending queries triggering a flush */
+    private static final int DEFAULT_BATCH_SIZE = 100;
+
+    /** The default delay between two flushes, in milliseconds */
+    private static final long DEFAULT_FLUSH_DELAY = 1000;
+
+    /** The number of failed executions of a batch, before its queries are executed one by one */
+    private static final int MAX_FAILED_ATTEMPTS = 3;
+
+    /** The queries waiting to be executed */
+    private final BlockingQueue<PendingQuery> pendingQueries;
+
+    /** The number of pending queries triggering a flush */
+    private final int batchSize;
+
+    /** Executes the flushes in background */
+    private final ScheduledExecutorService scheduler;
+
+    /** Ensures the pending queries are flushed one batch at a time and in order */
+    private final Object flushLock = new Object();
+
+    /** The number of failed executions of the batch at the head of the queue (guarded by {@code flushLock}) */
+    private int failedAttempts = 0;
+
+    /** Whether a flush has been already requested to the background thread */
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+    /** Prevents the queries from being queued while the connector is being closed */
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+
+    /** Whether the connector has been closed */
+    private volatile boolean closed = false;
+
+    /**
+     * Default constructor with a queue of 1000 queries, flushed by batches of 100 queries or every second
+     *
+     * @param dataSource {@link DataSource} to connect with
+     */
+    public WriteBehindJdbcCacheConnector(final DataSource dataSource) {
+        this(dataSource, DEFAULT_QUEUE_CAPACITY, DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_DELAY);
+    }
+
+    /**
+     * Constructor with a custom configuration
+     *
+     * @param dataSource {@link DataSource} to connect with
+     * @param queueCapacity the maximum number of pending queries
+     * @param batchSize the number of pending queries triggering a flush
+     * @param flushDelay the maximum delay before the pending queries are flushed, in milliseconds
+     */
+    public WriteBehindJdbcCacheConnector(final DataSource dataSource, final int queueCapacity,
+                                         final int batchSize, final long flushDelay) {
+        super(dataSource);
+        if (queueCapacity < 1 || batchSize < 1 || flushDelay < 1) {
+            throw new IllegalArgumentException("The queue capacity, the batch size and the flush delay shall be positive!");
+        }
+        this.pendingQueries = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "dss-jdbc-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::scheduledFlush, flushDelay, flushDelay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queues the query to be executed by the background thread.
+     * When the connector is closed, the query is executed immediately.
+     *
+     * @param query {@link SqlQuery} the query
+     * @param arguments an array of {@link Object}s, representing the query arguments
+     * @return 0, as the number of rows concerned by the query is unknown before the flush
+     */
+    @Override
+    public int execute(final SqlQuery query, Object... arguments) {
+        Objects.requireNonNull(query, "Query cannot be null!");
+        closeLock.readLock().lock();
+        try {
+            if (!closed) {
+                enqueue(new PendingQuery(query, arguments));
+                return 0;
+            }
+        } finally {
+            closeLock.readLock().unlock();
+        }
+        return super.execute(query, arguments);
+    }
+
+    private void enqueue(final PendingQuery pendingQuery) {
+        while (!pendingQueries.offer(pendingQuery)) {
+            LOG.debug("The queue of pending queries is full. Flushing in the current thread...");
+            try {
+                flush();
+            } catch (DSSException e) {
+                LOG.warn("The queue of pending queries is full and cannot be flushed. The query [{}] is dropped. " +
+                        "Reason : {}", pendingQuery.query, e.getMessage());
+                return;
+            }
+        }
+        if (pendingQueries.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::scheduledFlush);
+            } catch (Exception e) {
+                flushRequested.set(false);
+                LOG.warn("Unable to request a flush of the pending queries : {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public Collection<SqlRecord> select(final SqlSelectQuery selectQuery, Object... arguments) {
+        if (arguments == null || arguments.length == 0) {
+            // the SELECT query may concern any entry
+            flushQuietly(selectQuery);
+        } else if (isPending(arguments)) {
+            LOG.debug("The SELECT query [{}] concerns pending queries. Executing them...", selectQuery);
+            try {
+                flush(arguments);
+            } catch (DSSException e) {
+                LOG.warn("Unable to execute the pending queries before the SELECT query [{}] : {}", selectQuery, e.getMessage());
+            }
+        }
+        return super.select(selectQuery, arguments);
+    }
+
+    @Override
+    public boolean tableQuery(final SqlQuery query) {
+        flushQuietly(query);
+        return super.tableQuery(query);
+    }
+
+    @Override
+    public int executeThrowable(final SqlQuery query) throws SQLException {
+        flushQuietly(query);
+        return super.executeThrowable(query);
+    }
+
+    private void flushQuietly(final SqlQuery query) {
+        try {
+            flush();
+        } catch (DSSException e) {
+            LOG.warn("Unable to flush the pending queries before the query [{}] : {}", query, e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the number of queries waiting to be executed
+     *
+     * @return number of pending queries
+     */
+    public int getPendingQueriesCount() {
+        return pendingQueries.size();
+    }
+
+    /**
+     * Executes all the pending queries in the current thread.
+     * Consecutive executions of the same query are grouped within a JDBC batch.
+     * A failed batch is kept in the queue, in order to be retried on the next flush. After three failed attempts,
+     * its queries are executed one by one, the failing ones being logged and dropped.
+     *
+     * @throws DSSException if a batch of pending queries cannot be executed and is kept for a later flush
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            while (!pendingQueries.isEmpty()) {
+                // the queries are kept in the queue until their execution, in order to remain visible for SELECT queries
+                final Iterator<PendingQuery> it = pendingQueries.iterator();
+                final PendingQuery first = it.next();
+                final SqlQuery query = first.query;
+                final List<Object[]> argumentsList = new ArrayList<>();
+                argumentsList.add(first.arguments);
+                while (it.hasNext() && argumentsList.size() < batchSize) {
+                    final PendingQuery pendingQuery = it.next();
+                    if (!query.equals(pendingQuery.query)) {
+                        break;
+                    }
+                    argumentsList.add(pendingQuery.arguments);
+                }
+                try {
+                    executeBatchThrowable(query, argumentsList);
+                } catch (SQLException e) {
+                    if (++failedAttempts < MAX_FAILED_ATTEMPTS) {
+                        throw new DSSException(String.format("Unable to execute a batch of %s pending queries [%s]. " +
+                                "The queries are kept for a later flush. Reason : %s", argumentsList.size(), query, e.getMessage()), e);
+                    }
+                    LOG.warn("Unable to execute a batch of {} pending queries [{}] after {} attempts. " +
+                            "Executing the queries one by one... Reason : {}", argumentsList.size(), query, failedAttempts, e.getMessage());
+                    executeOneByOne(query, argumentsList);
+                }
+                failedAttempts = 0;
+                for (int ii = 0; ii < argumentsList.size(); ii++) {
+                    pendingQueries.poll();
+                }
+            }
+        }
+    }
+
+    /**
+     * Executes, in the current thread and in order of submission, the pending queries having an argument
+     * in common with the given {@code arguments}. The other pending queries remain queued.
+     * When a pending query without arguments is queued, all the pending queries are flushed in order to
+     * preserve the order of execution.
+     *
+     * @param arguments an array of {@link Object}s, representing the arguments of the concerned queries
+     * @throws DSSException if the concerned queries cannot be executed and are kept for a later flush
+     */
+    private void flush(final Object[] arguments) {
+        synchronized (flushLock) {
+            final List<PendingQuery> concernedQueries = new ArrayList<>();
+            for (PendingQuery pendingQuery : pendingQueries) {
+                if (pendingQuery.arguments.length == 0) {
+                    flush();
+                    return;
+                }
+                if (pendingQuery.concerns(arguments)) {
+                    concernedQueries.add(pendingQuery);
+                }
+            }
+            int ii = 0;
+            while (ii < concernedQueries.size()) {
+                final SqlQuery query = concernedQueries.get(ii).query;
+                final List<PendingQuery> batch = new ArrayList<>();
+                while (ii < concernedQueries.size() && query.equals(concernedQueries.get(ii).query)) {
+                    batch.add(concernedQueries.get(ii++));
+                }
+                final List<Object[]> argumentsList = new ArrayList<>();
+                for (PendingQuery pendingQuery : batch) {
+                    argumentsList.add(pendingQuery.arguments);
+                }
+                try {
+                    executeBatchThrowable(query, argumentsList);
+                } catch (SQLException e) {
+                    throw new DSSException(String.format("Unable to execute %s pending queries [%s]. " +
+                            "The queries are kept for a later flush. Reason : %s", argumentsList.size(), query, e.getMessage()), e);
+                }
+                for (PendingQuery pendingQuery : batch) {
+                    pendingQueries.remove(pendingQuery);
+                }
+            }
+        }
+    }
+
+    private void executeOneByOne(final SqlQuery query, final List<Object[]> argumentsList) {
+        for (Object[] arguments : argumentsList) {
+            try {
+                executeBatchThrowable(query, Collections.singletonList(arguments));
+            } catch (SQLException e) {
+                LOG.error("Unable to execute the pending query [{}]. The query is dropped. Reason : '{}'",
+                        query, e.getMessage(), e);
+            }
+        }
+    }
+
+    private void scheduledFlush() {
+        flushRequested.set(false);
+        try {
+            flush();
+        } catch (Exception e) {
+            LOG.error("Unable to flush the pending queries. Reason : {}", e.getMessage(), e);
+        }
+    }
+
+    private boolean isPending(final Object[] arguments) {
+        if (pendingQueries.isEmpty()) {
+            return false;
+        }
+        for (PendingQuery pendingQuery : pendingQueries) {
+            if (pendingQuery.concerns(arguments)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Flushes the pending queries and stops the background thread.
+     * The queries executed after the closing are executed immediately.
+     * The pending queries which cannot be executed are logged and dropped.
+     */
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(DEFAULT_FLUSH_DELAY, TimeUnit.MILLISECONDS)) {
+                LOG.warn("The background flush has not been terminated in time.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // terminates, as a batch is executed one by one after MAX_FAILED_ATTEMPTS failures
+        while (!pendingQueries.isEmpty()) {
+            try {
+                flush();
+            } catch (DSSException e) {
+                LOG.warn("Unable to flush the pending queries on closing : {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Represents a query waiting to be executed
+     */
+    private static final class PendingQuery {
+
+        /** The query */
+        private final SqlQuery query;
+
+        /** The query arguments */
+        private final Object[] arguments;
+
+        /**
+         * Default constructor
+         *
+         * @param query {@link SqlQuery}
+         * @param arguments an array of {@link Object}s
+         */
+        private PendingQuery(final SqlQuery query, final Object[] arguments) {
+            this.query = query;
+            this.arguments = arguments != null ? arguments : new Object[0];
+        }
+
+        /**
+         * Checks whether the query has an argument in common with the given {@code selectArguments}
+         *
+         * @param selectArguments an array of {@link Object}s
+         * @return TRUE if the query concerns the selected entries, FALSE otherwise
+         */
+        private boolean concerns(final Object[] selectArguments) {
+            for (Object selectArgument : selectArguments) {
+                for (Object argument : arguments) {
+                    if (selectArgument != null && selectArgument.equals(argument)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+    }
+
+}
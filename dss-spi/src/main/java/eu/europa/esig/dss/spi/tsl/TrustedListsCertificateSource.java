@@ -21,21 +21,34 @@
 package eu.europa.esig.dss.spi.tsl;
 
 import eu.europa.esig.dss.enumerations.CertificateSourceType;
+import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.model.identifier.EntityIdentifier;
 import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.X500PrincipalHelper;
+import eu.europa.esig.dss.spi.x509.CertificateRef;
+import eu.europa.esig.dss.spi.x509.CertificateSourceEntity;
+import eu.europa.esig.dss.spi.x509.CommonCertificateSource;
 import eu.europa.esig.dss.spi.x509.CommonTrustedCertificateSource;
+import eu.europa.esig.dss.spi.x509.SignerIdentifier;
 import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Serializable;
+import java.security.PublicKey;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * This class allows injection of trusted certificates from Trusted Lists
+ *
+ * The certificates and their trust properties are stored within an immutable state, which is built aside on update
+ * and published at once. Therefore, the read operations do not require any lock and never observe a partial update.
  */
 @SuppressWarnings("serial")
 public class TrustedListsCertificateSource extends CommonTrustedCertificateSource {
@@ -43,10 +56,10 @@ public class TrustedListsCertificateSource extends CommonTrustedCertificateSourc
 	private static final Logger LOG = LoggerFactory.getLogger(TrustedListsCertificateSource.class);
 
 	/** The TL Validation job summary */
-	private TLValidationJobSummary summary;
+	private volatile TLValidationJobSummary summary;
 
-	/** The map of trust properties by EntityIdentifier (public keys) */
-	private Map<EntityIdentifier, List<TrustProperties>> trustPropertiesByEntity = new HashMap<>();
+	/** The current state of the source (certificates and trust properties) */
+	private volatile TrustedListsState state = new TrustedListsState(Collections.emptyMap());
 
 	/**
 	 * The default constructor.
@@ -92,30 +105,79 @@ public class TrustedListsCertificateSource extends CommonTrustedCertificateSourc
 	}
 
 	/**
-	 * The method allows to fill the CertificateSource
+	 * The method allows to fill the CertificateSource. All the previously defined certificates are replaced.
+	 *
 	 * @param trustPropertiesByCerts map between {@link CertificateToken}s and a list of {@link TrustProperties}
 	 */
 	public synchronized void setTrustPropertiesByCertificates(final Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts) {
-		this.trustPropertiesByEntity = new HashMap<>(); // reinit the map
-		super.reset();
-		trustPropertiesByCerts.forEach(this::addCertificate);
-	}
-	
-	private void addCertificate(CertificateToken certificateToken, List<TrustProperties> trustPropertiesList) {
-		super.addCertificate(certificateToken);
-		
-		EntityIdentifier entityKey = certificateToken.getEntityKey();
-		List<TrustProperties> list = trustPropertiesByEntity.computeIfAbsent(entityKey, k -> new ArrayList<>());
-		for (TrustProperties trustProperties : trustPropertiesList) {
-			if (!list.contains(trustProperties)) {
-				list.add(trustProperties);
+		this.state = new TrustedListsState(groupByTrustedList(trustPropertiesByCerts));
+	}
+
+	/**
+	 * The method allows to update the CertificateSource for the given trusted lists only.
+	 * All the certificates and trust properties previously extracted from the trusted lists with the URLs
+	 * {@code tlUrls} are replaced by the ones from {@code trustPropertiesByCerts}.
+	 * The entries of other trusted lists are kept unchanged.
+	 *
+	 * @param trustPropertiesByCerts map between {@link CertificateToken}s and a list of {@link TrustProperties},
+	 *                               extracted from the updated trusted lists
+	 * @param tlUrls a collection of {@link String} URLs of the updated (or removed) trusted lists
+	 */
+	public synchronized void updateTrustPropertiesByCertificates(final Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts,
+																 final Collection<String> tlUrls) {
+		final Map<String, Map<CertificateToken, List<TrustProperties>>> trustPropertiesByTL = new HashMap<>(state.trustPropertiesByTL);
+		for (String tlUrl : tlUrls) {
+			trustPropertiesByTL.remove(tlUrl);
+		}
+		trustPropertiesByTL.putAll(groupByTrustedList(trustPropertiesByCerts));
+		this.state = new TrustedListsState(trustPropertiesByTL);
+	}
+
+	private static Map<String, Map<CertificateToken, List<TrustProperties>>> groupByTrustedList(
+			final Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts) {
+		final Map<String, Map<CertificateToken, List<TrustProperties>>> result = new HashMap<>();
+		for (Map.Entry<CertificateToken, List<TrustProperties>> entry : trustPropertiesByCerts.entrySet()) {
+			for (TrustProperties trustProperties : entry.getValue()) {
+				final String tlUrl = trustProperties.getTLInfo().getUrl();
+				final List<TrustProperties> list = result.computeIfAbsent(tlUrl, k -> new HashMap<>())
+						.computeIfAbsent(entry.getKey(), k -> new ArrayList<>());
+				if (!list.contains(trustProperties)) {
+					list.add(trustProperties);
+				}
 			}
 		}
+		return result;
+	}
+
+	/**
+	 * Returns the certificates and their trust properties previously extracted from the trusted list
+	 * with the given URL
+	 *
+	 * @param tlUrl {@link String} URL of the trusted list
+	 * @return an unmodifiable map between {@link CertificateToken}s and a list of {@link TrustProperties},
+	 *         empty if the trusted list is unknown
+	 */
+	public Map<CertificateToken, List<TrustProperties>> getTrustPropertiesByCertificates(String tlUrl) {
+		Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts = state.trustPropertiesByTL.get(tlUrl);
+		if (trustPropertiesByCerts != null) {
+			return Collections.unmodifiableMap(trustPropertiesByCerts);
+		} else {
+			return Collections.emptyMap();
+		}
+	}
+
+	/**
+	 * Returns URLs of the trusted lists the certificates of the source have been extracted from
+	 *
+	 * @return an unmodifiable set of {@link String} TL URLs
+	 */
+	public Set<String> getTrustedListUrls() {
+		return Collections.unmodifiableSet(state.trustPropertiesByTL.keySet());
 	}
 
 	@Override
-	public synchronized List<TrustProperties> getTrustServices(CertificateToken token) {
-		List<TrustProperties> currentTrustProperties = trustPropertiesByEntity.get(token.getEntityKey());
+	public List<TrustProperties> getTrustServices(CertificateToken token) {
+		List<TrustProperties> currentTrustProperties = state.trustPropertiesByEntity.get(token.getEntityKey());
 		if (currentTrustProperties != null) {
 			return currentTrustProperties;
 		} else {
@@ -123,6 +185,61 @@ public class TrustedListsCertificateSource extends CommonTrustedCertificateSourc
 		}
 	}
 
+	@Override
+	public boolean isKnown(CertificateToken token) {
+		return state.certificateSource.isKnown(token);
+	}
+
+	@Override
+	public List<CertificateToken> getCertificates() {
+		return state.certificateSource.getCertificates();
+	}
+
+	@Override
+	public List<CertificateSourceEntity> getEntities() {
+		return state.certificateSource.getEntities();
+	}
+
+	@Override
+	public Set<CertificateToken> getByPublicKey(PublicKey publicKey) {
+		return state.certificateSource.getByPublicKey(publicKey);
+	}
+
+	@Override
+	public Set<CertificateToken> getBySki(byte[] ski) {
+		return state.certificateSource.getBySki(ski);
+	}
+
+	@Override
+	public Set<CertificateToken> getBySubject(X500PrincipalHelper subject) {
+		return state.certificateSource.getBySubject(subject);
+	}
+
+	@Override
+	public Set<CertificateToken> getBySignerIdentifier(SignerIdentifier signerIdentifier) {
+		return state.certificateSource.getBySignerIdentifier(signerIdentifier);
+	}
+
+	@Override
+	public Set<CertificateToken> getByCertificateDigest(Digest digest) {
+		return state.certificateSource.getByCertificateDigest(digest);
+	}
+
+	@Override
+	public Set<CertificateToken> findTokensFromCertRef(CertificateRef certificateRef) {
+		return state.certificateSource.findTokensFromCertRef(certificateRef);
+	}
+
+	@Override
+	public int getNumberOfCertificates() {
+		return state.certificateSource.getNumberOfCertificates();
+	}
+
+	@Override
+	public int getNumberOfEntities() {
+		return state.certificateSource.getNumberOfEntities();
+	}
+
 	@Override
 	public List<String> getAlternativeOCSPUrls(CertificateToken trustAnchor) {
 		return getServiceSupplyPoints(trustAnchor, "ocsp");
@@ -160,7 +277,54 @@ public class TrustedListsCertificateSource extends CommonTrustedCertificateSourc
 	 * @return the number of trusted public keys
 	 */
 	public int getNumberOfTrustedPublicKeys() {
-		return trustPropertiesByEntity.size();
+		return state.trustPropertiesByEntity.size();
+	}
+
+	/**
+	 * Immutable state of the source. The instance is never modified once it has been built.
+	 */
+	private static final class TrustedListsState implements Serializable {
+
+		private static final long serialVersionUID = -3415738716497623012L;
+
+		/** The map of trust properties by certificates, grouped by TL URL */
+		private final Map<String, Map<CertificateToken, List<TrustProperties>>> trustPropertiesByTL;
+
+		/** The map of trust properties by EntityIdentifier (public keys) */
+		private final Map<EntityIdentifier, List<TrustProperties>> trustPropertiesByEntity;
+
+		/** Contains all the certificates from the trusted lists */
+		private final CommonCertificateSource certificateSource;
+
+		/**
+		 * Builds the state from the trust properties grouped by trusted lists
+		 *
+		 * @param trustPropertiesByTL map between TL URLs and the extracted trust properties by certificates
+		 */
+		private TrustedListsState(Map<String, Map<CertificateToken, List<TrustProperties>>> trustPropertiesByTL) {
+			this.trustPropertiesByTL = Collections.unmodifiableMap(trustPropertiesByTL);
+			this.certificateSource = new CommonCertificateSource();
+
+			final Map<EntityIdentifier, List<TrustProperties>> byEntity = new HashMap<>();
+			for (Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts : trustPropertiesByTL.values()) {
+				for (Map.Entry<CertificateToken, List<TrustProperties>> entry : trustPropertiesByCerts.entrySet()) {
+					final CertificateToken certificateToken = entry.getKey();
+					certificateSource.addCertificate(certificateToken);
+
+					final List<TrustProperties> list = byEntity.computeIfAbsent(certificateToken.getEntityKey(), k -> new ArrayList<>());
+					for (TrustProperties trustProperties : entry.getValue()) {
+						if (!list.contains(trustProperties)) {
+							list.add(trustProperties);
+						}
+					}
+				}
+			}
+			for (Map.Entry<EntityIdentifier, List<TrustProperties>> entry : byEntity.entrySet()) {
+				entry.setValue(Collections.unmodifiableList(entry.getValue()));
+			}
+			this.trustPropertiesByEntity = Collections.unmodifiableMap(byEntity);
+		}
+
 	}
 
 }
@@ -29,8 +29,8 @@ import org.slf4j.LoggerFactory;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class re-groups equivalent certificates.
@@ -38,7 +38,7 @@ import java.util.Set;
  * All certificates for a given {@code CertificateSourceEntity} share the same
  * public key.
  */
-class CertificateSourceEntity implements Serializable {
+public class CertificateSourceEntity implements Serializable {
 	
 	private static final long serialVersionUID = -8670353777128605464L;
 
@@ -57,7 +57,7 @@ class CertificateSourceEntity implements Serializable {
 	/**
 	 * Equivalent certificates (which have the same public key)
 	 */
-	private final Set<CertificateToken> equivalentCertificates = new HashSet<>();
+	private final Set<CertificateToken> equivalentCertificates = ConcurrentHashMap.newKeySet();
 
 	/**
 	 * Default constructor
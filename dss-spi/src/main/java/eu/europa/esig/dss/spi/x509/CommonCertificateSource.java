@@ -30,16 +30,18 @@ import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.security.auth.x500.X500Principal;
 import java.security.PublicKey;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class is the common class for all {@code CertificateSource}. It stores
@@ -61,14 +63,20 @@ public class CommonCertificateSource implements CertificateSource {
 	 * 
 	 * All entries share the same key pair
 	 */
-	private Map<EntityIdentifier, CertificateSourceEntity> entriesByPublicKeyHash = new HashMap<>();
+	private Map<EntityIdentifier, CertificateSourceEntity> entriesByPublicKeyHash = new ConcurrentHashMap<>();
 
 	/**
-	 * Map of tokens, the key is the properties map of SubjectX500Principal
+	 * Map of tokens, the key is a compact representation of the properties map of SubjectX500Principal
+	 * (see {@code #getSubjectKey})
 	 * 
 	 * For a same SubjectX500Principal, different key pairs (and certificates) are possible
 	 */
-	private Map<Map<String, String>, Set<CertificateToken>> tokensBySubject = new HashMap<>();
+	private Map<String, Set<CertificateToken>> tokensBySubject = new ConcurrentHashMap<>();
+
+	/**
+	 * Cache of the subject keys computed for the SubjectX500Principals of the added certificates
+	 */
+	private Map<X500Principal, String> subjectKeys = new ConcurrentHashMap<>();
 
 	/**
 	 * The default constructor
@@ -93,23 +101,25 @@ public class CommonCertificateSource implements CertificateSource {
 			LOG.trace("Certificate to add: {} | {}", certificateToAdd.getIssuerX500Principal(), certificateToAdd.getSerialNumber());
 		}
 
-		synchronized (entriesByPublicKeyHash) {
-			final EntityIdentifier entityKey = certificateToAdd.getEntityKey();
-			CertificateSourceEntity poolEntity = entriesByPublicKeyHash.get(entityKey);
+		final EntityIdentifier entityKey = certificateToAdd.getEntityKey();
+		entriesByPublicKeyHash.compute(entityKey, (k, poolEntity) -> {
 			if (poolEntity == null) {
 				LOG.trace("Public key {} is not in the pool", entityKey);
-				poolEntity = new CertificateSourceEntity(certificateToAdd);
-				entriesByPublicKeyHash.put(entityKey, poolEntity);
+				return new CertificateSourceEntity(certificateToAdd);
 			} else {
 				LOG.trace("Public key {} is already in the pool", entityKey);
 				poolEntity.addEquivalentCertificate(certificateToAdd);
+				return poolEntity;
 			}
-		}
+		});
 
-		synchronized (tokensBySubject) {
-			Map<String, String> propertiesMap = DSSASN1Utils.get(certificateToAdd.getSubject().getPrincipal());
-			tokensBySubject.computeIfAbsent(propertiesMap, k -> new HashSet<>()).add(certificateToAdd);
-		}
+		final X500Principal subject = certificateToAdd.getSubject().getPrincipal();
+		final String subjectKey = subjectKeys.computeIfAbsent(subject, CommonCertificateSource::getSubjectKey);
+		tokensBySubject.compute(subjectKey, (k, certificateTokens) -> {
+			final Set<CertificateToken> result = certificateTokens != null ? certificateTokens : ConcurrentHashMap.newKeySet();
+			result.add(certificateToAdd);
+			return result;
+		});
 
 		return certificateToAdd;
 	}
@@ -126,35 +136,35 @@ public class CommonCertificateSource implements CertificateSource {
 			LOG.trace("Certificate to remove: {} | {}", certificateToRemove.getIssuerX500Principal(), certificateToRemove.getSerialNumber());
 		}
 
-		synchronized (entriesByPublicKeyHash) {
-			final EntityIdentifier entityKey = certificateToRemove.getEntityKey();
-			CertificateSourceEntity poolEntity = entriesByPublicKeyHash.get(entityKey);
-			if (poolEntity == null) {
-				LOG.trace("Public key {} is not in the pool", entityKey);
+		final EntityIdentifier entityKey = certificateToRemove.getEntityKey();
+		final CertificateSourceEntity entity = entriesByPublicKeyHash.computeIfPresent(entityKey, (k, poolEntity) -> {
+			LOG.trace("Public key {} is in the pool", entityKey);
+			if (poolEntity.getEquivalentCertificates().size() == 1) {
+				LOG.trace("Remove the public key {} from the pool", entityKey);
+				return null;
 			} else {
-				LOG.trace("Public key {} is in the pool", entityKey);
-				if (poolEntity.getEquivalentCertificates().size() == 1) {
-					LOG.trace("Remove the public key {} from the pool", entityKey);
-					entriesByPublicKeyHash.remove(entityKey);
-				} else {
-					LOG.trace("Remove the token {} from the pool", certificateToRemove.getAbbreviation());
-					poolEntity.removeEquivalentCertificate(certificateToRemove);
-				}
+				LOG.trace("Remove the token {} from the pool", certificateToRemove.getAbbreviation());
+				poolEntity.removeEquivalentCertificate(certificateToRemove);
+				return poolEntity;
 			}
+		});
+		if (entity == null && LOG.isTraceEnabled()) {
+			LOG.trace("Public key {} is not in the pool (anymore)", entityKey);
 		}
 
-		synchronized (tokensBySubject) {
-			final Map<String, String> propertiesMap = DSSASN1Utils.get(certificateToRemove.getSubject().getPrincipal());
-			Set<CertificateToken> certificateTokens = tokensBySubject.get(propertiesMap);
-			if (Utils.isCollectionEmpty(certificateTokens)) {
-				LOG.trace("Property map {} is not in the pool", propertiesMap);
+		final X500Principal subject = certificateToRemove.getSubject().getPrincipal();
+		final String subjectKey = getSubjectKey(subject);
+		final Set<CertificateToken> tokens = tokensBySubject.computeIfPresent(subjectKey, (k, certificateTokens) -> {
+			if (certificateTokens.size() == 1) {
+				return null;
 			} else {
-				if (certificateTokens.size() == 1) {
-					tokensBySubject.remove(propertiesMap);
-				} else {
-					certificateTokens.remove(certificateToRemove);
-				}
+				certificateTokens.remove(certificateToRemove);
+				return certificateTokens;
 			}
+		});
+		if (tokens == null) {
+			LOG.trace("Subject {} is not in the pool (anymore)", subjectKey);
+			subjectKeys.remove(subject);
 		}
 	}
 
@@ -162,8 +172,9 @@ public class CommonCertificateSource implements CertificateSource {
 	 * This method removes all certificates from the source
 	 */
 	protected void reset() {
-		entriesByPublicKeyHash = new HashMap<>();
-		tokensBySubject = new HashMap<>();
+		entriesByPublicKeyHash = new ConcurrentHashMap<>();
+		tokensBySubject = new ConcurrentHashMap<>();
+		subjectKeys = new ConcurrentHashMap<>();
 	}
 
 	@Override
@@ -238,13 +249,37 @@ public class CommonCertificateSource implements CertificateSource {
 	 */
 	@Override
 	public Set<CertificateToken> getBySubject(X500PrincipalHelper subject) {
-		final Set<CertificateToken> tokensSet = tokensBySubject.get(DSSASN1Utils.get(subject.getPrincipal()));
+		final X500Principal principal = subject.getPrincipal();
+		String subjectKey = subjectKeys.get(principal);
+		if (subjectKey == null) {
+			subjectKey = getSubjectKey(principal);
+		}
+		final Set<CertificateToken> tokensSet = tokensBySubject.get(subjectKey);
 		if (tokensSet != null) {
-			return tokensSet;
+			return Collections.unmodifiableSet(tokensSet);
 		}
 		return Collections.emptySet();
 	}
 
+	/**
+	 * Computes a compact key for the given {@code X500Principal}.
+	 * The key is built from the properties map of the principal (see {@code DSSASN1Utils#get}),
+	 * thus two principals with the same properties obtain the same key, independently of the order of RDNs.
+	 *
+	 * @param x500Principal {@link X500Principal} to compute the key for
+	 * @return {@link String} key
+	 */
+	private static String getSubjectKey(X500Principal x500Principal) {
+		final Map<String, String> propertiesMap = new TreeMap<>(DSSASN1Utils.get(x500Principal));
+		final StringBuilder sb = new StringBuilder();
+		for (Map.Entry<String, String> entry : propertiesMap.entrySet()) {
+			// length prefixes avoid ambiguities with values containing separators
+			sb.append(entry.getKey()).append('=');
+			sb.append(entry.getValue().length()).append(':').append(entry.getValue()).append(';');
+		}
+		return sb.toString();
+	}
+
 	@Override
 	public Set<CertificateToken> getBySignerIdentifier(SignerIdentifier signerIdentifier) {
 		Set<CertificateToken> result = new HashSet<>();
@@ -0,0 +1,282 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509.revocation;
+
+import eu.europa.esig.dss.model.x509.revocation.Revocation;
+import eu.europa.esig.dss.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded in-memory cache of the revocation tokens extracted from a {@code RepositoryRevocationSource},
+ * allowing to skip the repository request and the parsing of the revocation data.
+ *
+ * The entries are stored by revocation key and evicted:
+ * - when the maximum number of entries is reached (the least recently used entry is removed);
+ * - when the latest nextUpdate of the cached revocation tokens is reached.
+ *
+ * NOTE: the cache does not replace the freshness checks performed by the {@code RepositoryRevocationSource}.
+ *
+ * @param <R> {@code CRL} or {@code OCSP}
+ */
+public class InMemoryRevocationCache<R extends Revocation> {
+
+	private static final Logger LOG = LoggerFactory.getLogger(InMemoryRevocationCache.class);
+
+	/** The default maximum number of cached entries */
+	private static final int DEFAULT_MAX_SIZE = 1000;
+
+	/** The maximum number of cached entries */
+	private final int maxSize;
+
+	/** The cached entries, ordered by access */
+	private final Map<String, CacheEntry<R>> entries;
+
+	/** Number of requests answered from the cache */
+	private final AtomicLong hitCount = new AtomicLong();
+
+	/** Number of requests not answered from the cache */
+	private final AtomicLong missCount = new AtomicLong();
+
+	/** Number of entries removed because of the size limit or of the nextUpdate */
+	private final AtomicLong evictionCount = new AtomicLong();
+
+	/**
+	 * Default constructor instantiating a cache with a maximum of 1000 entries
+	 */
+	public InMemoryRevocationCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Constructor instantiating a cache with the given maximum number of entries
+	 *
+	 * @param maxSize the maximum number of cached entries
+	 */
+	public InMemoryRevocationCache(final int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("The maximum size of the cache shall be positive!");
+		}
+		this.maxSize = maxSize;
+		this.entries = new LinkedHashMap<String, CacheEntry<R>>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 5290368741685047452L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CacheEntry<R>> eldest) {
+				if (size() > InMemoryRevocationCache.this.maxSize) {
+					evictionCount.incrementAndGet();
+					return true;
+				}
+				return false;
+			}
+
+		};
+	}
+
+	/**
+	 * Gets the cached revocation tokens for the given key
+	 *
+	 * @param key {@link String} revocation key
+	 * @return a list of {@link RevocationToken}s, NULL if no valid entry is cached for the key
+	 */
+	public List<RevocationToken<R>> get(final String key) {
+		final Date currentTime = new Date();
+		synchronized (entries) {
+			final CacheEntry<R> entry = entries.get(key);
+			if (entry != null) {
+				if (entry.isExpired(currentTime)) {
+					LOG.debug("The cached revocation data with key '{}' is expired. The entry is removed.", key);
+					entries.remove(key);
+					evictionCount.incrementAndGet();
+				} else {
+					hitCount.incrementAndGet();
+					return entry.revocationTokens;
+				}
+			}
+		}
+		missCount.incrementAndGet();
+		return null;
+	}
+
+	/**
+	 * Stores the revocation tokens for the given key
+	 *
+	 * @param key {@link String} revocation key
+	 * @param revocationTokens a list of {@link RevocationToken}s
+	 */
+	public void put(final String key, final List<RevocationToken<R>> revocationTokens) {
+		if (Utils.isCollectionEmpty(revocationTokens)) {
+			remove(key);
+			return;
+		}
+		final CacheEntry<R> entry = new CacheEntry<>(revocationTokens);
+		synchronized (entries) {
+			entries.put(key, entry);
+		}
+	}
+
+	/**
+	 * Removes the entry with the given key
+	 *
+	 * @param key {@link String} revocation key
+	 */
+	public void remove(final String key) {
+		synchronized (entries) {
+			entries.remove(key);
+		}
+	}
+
+	/**
+	 * Removes all the entries (the statistics are kept)
+	 */
+	public void clear() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	/**
+	 * Gets the current number of cached entries
+	 *
+	 * @return number of entries
+	 */
+	public int getSize() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * Gets the maximum number of cached entries
+	 *
+	 * @return maximum number of entries
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Gets the number of requests answered from the cache
+	 *
+	 * @return number of hits
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * Gets the number of requests not answered from the cache
+	 *
+	 * @return number of misses
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * Gets the number of entries removed because of the size limit or because they were expired
+	 *
+	 * @return number of evictions
+	 */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	/**
+	 * Gets the ratio of requests answered from the cache
+	 *
+	 * @return hit ratio between 0 and 1
+	 */
+	public double getHitRatio() {
+		final long hits = hitCount.get();
+		final long total = hits + missCount.get();
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	/**
+	 * Resets the hit, miss and eviction counters
+	 */
+	public void resetStatistics() {
+		hitCount.set(0);
+		missCount.set(0);
+		evictionCount.set(0);
+	}
+
+	/**
+	 * Represents a cached entry
+	 *
+	 * @param <R> {@code CRL} or {@code OCSP}
+	 */
+	private static class CacheEntry<R extends Revocation> {
+
+		/** The cached revocation tokens */
+		private final List<RevocationToken<R>> revocationTokens;
+
+		/** The time after which the entry is not used anymore (NULL if not defined) */
+		private final Date expirationTime;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param revocationTokens a list of {@link RevocationToken}s
+		 */
+		private CacheEntry(final List<RevocationToken<R>> revocationTokens) {
+			this.revocationTokens = Collections.unmodifiableList(new ArrayList<>(revocationTokens));
+			this.expirationTime = getLatestNextUpdate(revocationTokens);
+		}
+
+		private static <R extends Revocation> Date getLatestNextUpdate(List<RevocationToken<R>> revocationTokens) {
+			Date latestNextUpdate = null;
+			for (RevocationToken<R> revocationToken : revocationTokens) {
+				final Date nextUpdate = revocationToken.getNextUpdate();
+				if (nextUpdate == null) {
+					// the freshness is defined by the repository source
+					return null;
+				}
+				if (latestNextUpdate == null || nextUpdate.after(latestNextUpdate)) {
+					latestNextUpdate = nextUpdate;
+				}
+			}
+			return latestNextUpdate;
+		}
+
+		/**
+		 * Checks whether the entry is expired at the given time
+		 *
+		 * @param currentTime {@link Date}
+		 * @return TRUE if the entry is expired, FALSE otherwise
+		 */
+		private boolean isExpired(Date currentTime) {
+			return expirationTime != null && !expirationTime.after(currentTime);
+		}
+
+	}
+
+}
@@ -26,6 +26,7 @@ import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -66,6 +67,11 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
      */
     private boolean removeExpired = true;
 
+    /**
+     * Optional in-memory cache tier used in front of the repository
+     */
+    private transient InMemoryRevocationCache<R> inMemoryRevocationCache;
+
     /**
      * Default constructor instantiating object with null values
      */
@@ -168,6 +174,28 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
         this.removeExpired = removeExpired;
     }
 
+    /**
+     * Sets the in-memory cache tier to be used in front of the repository.
+     * When defined, the revocation tokens extracted from the repository are kept in memory,
+     * avoiding the repository requests and the parsing of the stored revocation data.
+     * <p>
+     * Default : null (the repository is requested on every call)
+     *
+     * @param inMemoryRevocationCache {@link InMemoryRevocationCache}
+     */
+    public void setInMemoryRevocationCache(InMemoryRevocationCache<R> inMemoryRevocationCache) {
+        this.inMemoryRevocationCache = inMemoryRevocationCache;
+    }
+
+    /**
+     * Gets the in-memory cache tier used in front of the repository, when defined
+     *
+     * @return {@link InMemoryRevocationCache}
+     */
+    public InMemoryRevocationCache<R> getInMemoryRevocationCache() {
+        return inMemoryRevocationCache;
+    }
+
     @Override
     public RevocationToken<R> getRevocationToken(final CertificateToken certificateToken, final CertificateToken issuerCertificateToken) {
         return getRevocationToken(certificateToken, issuerCertificateToken, false);
@@ -254,7 +282,7 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
             final CertificateToken certificateToken, final CertificateToken issuerCertificateToken, Collection<String> keys) {
         final Map<String, List<RevocationToken<R>>> result = new HashMap<>();
         for (String key : keys) {
-            final List<RevocationToken<R>> revocationTokens = findRevocations(key, certificateToken, issuerCertificateToken);
+            final List<RevocationToken<R>> revocationTokens = findRevocationsWithInMemoryCache(key, certificateToken, issuerCertificateToken);
             if (Utils.isCollectionNotEmpty(revocationTokens)) {
                 final List<RevocationToken<R>> freshRevocationData = revocationTokens.stream()
                         .filter(r -> isNotExpired(r, issuerCertificateToken)).collect(Collectors.toList());
@@ -266,6 +294,9 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
                     if (removeExpired) {
                         removeRevocation(key);
                     }
+                    if (inMemoryRevocationCache != null) {
+                        inMemoryRevocationCache.remove(key);
+                    }
                 }
             }
         }
@@ -276,6 +307,66 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
         return result;
     }
 
+    /**
+     * Finds the revocation tokens for the given {@code key} within the in-memory cache, when defined,
+     * and in the repository otherwise
+     *
+     * @param key              the key {@link String}
+     * @param certificateToken {@link CertificateToken}
+     * @param issuerCertToken  {@link CertificateToken}
+     * @return a list of {@link RevocationToken} objects
+     */
+    private List<RevocationToken<R>> findRevocationsWithInMemoryCache(final String key, final CertificateToken certificateToken,
+                                                                      final CertificateToken issuerCertToken) {
+        if (inMemoryRevocationCache == null) {
+            return findRevocations(key, certificateToken, issuerCertToken);
+        }
+
+        final List<RevocationToken<R>> cachedRevocationTokens = inMemoryRevocationCache.get(key);
+        if (cachedRevocationTokens != null) {
+            final List<RevocationToken<R>> result = new ArrayList<>();
+            for (RevocationToken<R> cachedRevocationToken : cachedRevocationTokens) {
+                final RevocationToken<R> revocationToken = buildRevocationTokenFromCachedToken(
+                        cachedRevocationToken, certificateToken, issuerCertToken);
+                if (revocationToken == null) {
+                    LOG.debug("Unable to reuse the in-memory revocation data with key '{}'", key);
+                    result.clear();
+                    break;
+                }
+                result.add(revocationToken);
+            }
+            if (Utils.isCollectionNotEmpty(result)) {
+                LOG.debug("Revocation data with key '{}' has been loaded from the in-memory cache", key);
+                return result;
+            }
+        }
+
+        final List<RevocationToken<R>> revocationTokens = findRevocations(key, certificateToken, issuerCertToken);
+        inMemoryRevocationCache.put(key, revocationTokens);
+        return revocationTokens;
+    }
+
+    /**
+     * Builds a {@code RevocationToken} for the given {@code certificateToken} from a revocation token stored
+     * in the in-memory cache (which may have been created for another certificate sharing the same revocation key).
+     * <p>
+     * The default implementation reuses the cached token only when it has been created for the same certificate.
+     * Implementations are encouraged to create a new token from the already parsed revocation data.
+     *
+     * @param cachedRevocationToken  {@link RevocationToken} from the in-memory cache
+     * @param certificateToken       {@link CertificateToken} to get the revocation token for
+     * @param issuerCertificateToken {@link CertificateToken} of the issuer of certificateToken
+     * @return {@link RevocationToken} for the certificate, or NULL if the cached token cannot be used
+     */
+    protected RevocationToken<R> buildRevocationTokenFromCachedToken(final RevocationToken<R> cachedRevocationToken,
+                                                                     final CertificateToken certificateToken,
+                                                                     final CertificateToken issuerCertificateToken) {
+        if (certificateToken.equals(cachedRevocationToken.getRelatedCertificate())) {
+            return cachedRevocationToken;
+        }
+        return null;
+    }
+
     private RevocationToken<R> getLatestRevocationData(Collection<RevocationToken<R>> revocationTokens) {
         RevocationToken<R> latestRevocationData = null;
         if (Utils.isCollectionNotEmpty(revocationTokens)) {
@@ -324,6 +415,9 @@ public abstract class RepositoryRevocationSource<R extends Revocation> implement
                     updateRevocation(revocationTokenKey, revocationToken);
                     LOG.info("Revocation token for certificate '{}' is updated in the cache", certificateToken.getDSSIdAsString());
                 }
+                if (inMemoryRevocationCache != null) {
+                    inMemoryRevocationCache.put(revocationTokenKey, Collections.singletonList(revocationToken));
+                }
             } else {
                 LOG.warn("The extracted revocation token with Id '{}' is invalid! Reason: {}",
                         revocationToken.getDSSIdAsString(), revocationToken.getInvalidityReason());
@@ -0,0 +1,182 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.client.http;
+
+import eu.europa.esig.dss.spi.exception.DSSExternalResourceException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CoalescingDataLoaderTest {
+
+	private static final String URL = "http://dss.test.lu/crl/good-ca.crl";
+
+	@Test
+	public void concurrentGetTest() throws Exception {
+		final CountDownLatch latch = new CountDownLatch(1);
+		final MockDataLoader mockDataLoader = new MockDataLoader(latch);
+		final CoalescingDataLoader dataLoader = new CoalescingDataLoader(mockDataLoader);
+
+		final List<byte[]> results = Collections.synchronizedList(new ArrayList<>());
+		final List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			threads.add(new Thread(() -> results.add(dataLoader.get(URL))));
+		}
+		try {
+			threads.get(0).start();
+			assertTrue(mockDataLoader.started.await(10, TimeUnit.SECONDS));
+			for (int i = 1; i < threads.size(); i++) {
+				threads.get(i).start();
+			}
+			// each thread waits either for the request in progress, or within a new call to the delegate
+			for (Thread thread : threads) {
+				awaitWaiting(thread);
+			}
+			latch.countDown();
+
+			for (Thread thread : threads) {
+				thread.join(10000);
+			}
+			assertEquals(4, results.size());
+			for (byte[] result : results) {
+				assertArrayEquals(URL.getBytes(), result);
+			}
+			assertEquals(1, mockDataLoader.counter.get());
+
+		} finally {
+			latch.countDown();
+		}
+
+		// the completed request is not cached
+		assertArrayEquals(URL.getBytes(), dataLoader.get(URL));
+		assertEquals(2, mockDataLoader.counter.get());
+	}
+
+	private void awaitWaiting(Thread thread) throws InterruptedException {
+		final long deadline = System.currentTimeMillis() + 10000;
+		while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING) {
+			assertTrue(System.currentTimeMillis() < deadline, "The thread is not waiting");
+			Thread.sleep(10);
+		}
+	}
+
+	@Test
+	public void postWithDifferentContentTest() {
+		final CountDownLatch latch = new CountDownLatch(0);
+		final MockDataLoader mockDataLoader = new MockDataLoader(latch);
+		final CoalescingDataLoader dataLoader = new CoalescingDataLoader(mockDataLoader);
+
+		assertArrayEquals(new byte[] { 1 }, dataLoader.post(URL, new byte[] { 1 }));
+		assertArrayEquals(new byte[] { 2 }, dataLoader.post(URL, new byte[] { 2 }));
+		assertEquals(2, mockDataLoader.counter.get());
+	}
+
+	@Test
+	public void getListTest() {
+		final CountDownLatch latch = new CountDownLatch(0);
+		final MockDataLoader mockDataLoader = new MockDataLoader(latch);
+		final CoalescingDataLoader dataLoader = new CoalescingDataLoader(mockDataLoader);
+
+		DataLoader.DataAndUrl dataAndUrl = dataLoader.get(Arrays.asList("http://wrong.url", URL));
+		assertEquals(URL, dataAndUrl.getUrlString());
+		assertArrayEquals(URL.getBytes(), dataAndUrl.getData());
+		// the list is processed by the underlying DataLoader
+		assertEquals(1, mockDataLoader.listCounter.get());
+	}
+
+	@Test
+	public void exceptionTest() {
+		final CountDownLatch latch = new CountDownLatch(0);
+		final CoalescingDataLoader dataLoader = new CoalescingDataLoader(new MockDataLoader(latch));
+
+		assertThrows(DSSExternalResourceException.class, () -> dataLoader.get("http://wrong.url"));
+		assertThrows(DSSExternalResourceException.class, () -> dataLoader.get(Arrays.asList("http://wrong.url")));
+	}
+
+	@Test
+	public void nullDataLoaderTest() {
+		assertThrows(NullPointerException.class, () -> new CoalescingDataLoader(null));
+	}
+
+	private static class MockDataLoader extends MemoryDataLoader {
+
+		private static final long serialVersionUID = 3208541698236745178L;
+
+		private final CountDownLatch started = new CountDownLatch(1);
+
+		private final AtomicInteger counter = new AtomicInteger();
+
+		private final AtomicInteger listCounter = new AtomicInteger();
+
+		private final CountDownLatch latch;
+
+		MockDataLoader(CountDownLatch latch) {
+			super(new HashMap<>());
+			this.latch = latch;
+		}
+
+		@Override
+		public byte[] get(String url) {
+			if (url.contains("wrong")) {
+				throw new DSSExternalResourceException("Unable to connect!");
+			}
+			counter.incrementAndGet();
+			started.countDown();
+			try {
+				latch.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return url.getBytes();
+		}
+
+		@Override
+		public DataAndUrl get(List<String> urlStrings) {
+			listCounter.incrementAndGet();
+			for (String url : urlStrings) {
+				if (!url.contains("wrong")) {
+					return new DataAndUrl(url, get(url));
+				}
+			}
+			throw new DSSExternalResourceException("Unable to connect!");
+		}
+
+		@Override
+		public byte[] post(String url, byte[] content) {
+			counter.incrementAndGet();
+			return content;
+		}
+
+	}
+
+}
@@ -21,13 +21,25 @@
 package eu.europa.esig.dss.spi.tls;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import eu.europa.esig.dss.model.x509.CertificateToken;
 import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.tsl.TLInfo;
+import eu.europa.esig.dss.spi.tsl.TrustProperties;
 import eu.europa.esig.dss.spi.tsl.TrustedListsCertificateSource;
+import eu.europa.esig.dss.spi.tsl.builder.TrustServiceProviderBuilder;
+import eu.europa.esig.dss.spi.util.TimeDependentValues;
 
 public class TrustedListsCertificateSourceTest {
 
@@ -42,4 +54,51 @@ public class TrustedListsCertificateSourceTest {
 		assertEquals("Cannot directly add certificate to a TrustedListsCertificateSource", exception.getMessage());
 	}
 
+	@Test
+	public void updateTrustPropertiesByCertificatesTest() {
+		CertificateToken goodUser = DSSUtils.loadCertificate(new File("src/test/resources/good-user.crt"));
+		CertificateToken belgiumRoot = DSSUtils.loadCertificate(new File("src/test/resources/belgiumrca2-self-sign.crt"));
+
+		TrustProperties firstTLProperties = getTrustProperties("http://first.tl");
+		TrustProperties secondTLProperties = getTrustProperties("http://second.tl");
+
+		Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts = new HashMap<>();
+		trustPropertiesByCerts.put(goodUser, Collections.singletonList(firstTLProperties));
+		trustPropertiesByCerts.put(belgiumRoot, Collections.singletonList(secondTLProperties));
+
+		TrustedListsCertificateSource trustedCertSource = new TrustedListsCertificateSource();
+		trustedCertSource.setTrustPropertiesByCertificates(trustPropertiesByCerts);
+		assertEquals(2, trustedCertSource.getNumberOfCertificates());
+		assertEquals(2, trustedCertSource.getTrustedListUrls().size());
+		assertTrue(trustedCertSource.isTrusted(goodUser));
+		assertTrue(trustedCertSource.isTrusted(belgiumRoot));
+
+		// the second TL now contains both certificates
+		trustPropertiesByCerts = new HashMap<>();
+		trustPropertiesByCerts.put(goodUser, Collections.singletonList(secondTLProperties));
+		trustPropertiesByCerts.put(belgiumRoot, Collections.singletonList(secondTLProperties));
+		trustedCertSource.updateTrustPropertiesByCertificates(trustPropertiesByCerts, Collections.singletonList("http://second.tl"));
+		assertEquals(2, trustedCertSource.getNumberOfCertificates());
+		assertEquals(2, trustedCertSource.getTrustServices(goodUser).size());
+		assertEquals(1, trustedCertSource.getTrustServices(belgiumRoot).size());
+
+		// the first TL is removed
+		trustedCertSource.updateTrustPropertiesByCertificates(Collections.emptyMap(), Collections.singletonList("http://first.tl"));
+		assertEquals(Collections.singleton("http://second.tl"), trustedCertSource.getTrustedListUrls());
+		assertTrue(trustedCertSource.isTrusted(goodUser));
+		assertEquals(1, trustedCertSource.getTrustServices(goodUser).size());
+
+		// the second TL is removed
+		trustedCertSource.updateTrustPropertiesByCertificates(Collections.emptyMap(), Collections.singletonList("http://second.tl"));
+		assertEquals(0, trustedCertSource.getNumberOfCertificates());
+		assertEquals(0, trustedCertSource.getNumberOfTrustedPublicKeys());
+		assertFalse(trustedCertSource.isTrusted(goodUser));
+		assertTrue(trustedCertSource.getTrustServices(goodUser).isEmpty());
+	}
+
+	private TrustProperties getTrustProperties(String tlUrl) {
+		return new TrustProperties(new TLInfo(null, null, null, tlUrl), new TrustServiceProviderBuilder().build(),
+				new TimeDependentValues<>());
+	}
+
 }
@@ -0,0 +1,117 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of a {@code CommonCertificateSource} shared between 16 threads
+ * (lookups by subject and public key, and additions of already known certificates).
+ *
+ * The benchmark is not executed with the unit tests. Run the main method with the test classpath of the module
+ * (from the module directory, in order to resolve the keystore).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+public class CommonCertificateSourceBenchmark {
+
+	private List<CertificateToken> certificates;
+
+	private CommonCertificateSource certificateSource;
+
+	@Setup
+	public void init() throws IOException {
+		KeyStoreCertificateSource kscs = new KeyStoreCertificateSource(new File("src/test/resources/extract-tls.p12"),
+				"PKCS12", "ks-password".toCharArray());
+		certificates = kscs.getCertificates();
+
+		certificateSource = new CommonCertificateSource();
+		for (CertificateToken certificateToken : certificates) {
+			certificateSource.addCertificate(certificateToken);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class ThreadState {
+
+		private int index;
+
+		CertificateToken next(List<CertificateToken> certificates) {
+			index = (index + 1) % certificates.size();
+			return certificates.get(index);
+		}
+
+	}
+
+	@Benchmark
+	public Set<CertificateToken> getBySubject(ThreadState threadState) {
+		return certificateSource.getBySubject(threadState.next(certificates).getSubject());
+	}
+
+	@Benchmark
+	public Set<CertificateToken> getByPublicKey(ThreadState threadState) {
+		return certificateSource.getByPublicKey(threadState.next(certificates).getPublicKey());
+	}
+
+	@Benchmark
+	public boolean isKnown(ThreadState threadState) {
+		return certificateSource.isKnown(threadState.next(certificates));
+	}
+
+	@Benchmark
+	public CertificateToken addCertificate(ThreadState threadState) {
+		return certificateSource.addCertificate(threadState.next(certificates));
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(CommonCertificateSourceBenchmark.class.getSimpleName())
+				.build();
+		new Runner(options).run();
+	}
+
+}
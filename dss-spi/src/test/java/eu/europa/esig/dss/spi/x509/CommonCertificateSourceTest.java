@@ -22,15 +22,25 @@ package eu.europa.esig.dss.spi.x509;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.security.auth.x500.X500Principal;
+
+import org.bouncycastle.asn1.x500.RDN;
+import org.bouncycastle.asn1.x500.X500Name;
 
 import org.junit.jupiter.api.Test;
 
 import eu.europa.esig.dss.enumerations.CertificateSourceType;
 import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.X500PrincipalHelper;
 import eu.europa.esig.dss.spi.DSSUtils;
 
 public class CommonCertificateSourceTest {
@@ -144,4 +154,30 @@ public class CommonCertificateSourceTest {
 		assertTrue(ccTwo.isCertificateSourceEquivalent(ccOne));
 	}
 
+	@Test
+	public void getBySubjectTest() throws Exception {
+		CommonCertificateSource ccc = new CommonCertificateSource();
+		ccc.addCertificate(CERT);
+		ccc.addCertificate(SAME_PK_CERT_1);
+
+		assertEquals(1, ccc.getBySubject(CERT.getSubject()).size());
+		assertTrue(ccc.getBySubject(CERT.getSubject()).contains(CERT));
+
+		// same attributes in a reversed order
+		RDN[] rdNs = X500Name.getInstance(CERT.getSubject().getEncoded()).getRDNs();
+		List<RDN> reversedRDNs = Arrays.asList(rdNs);
+		Collections.reverse(reversedRDNs);
+		X500Principal reversedPrincipal = new X500Principal(new X500Name(reversedRDNs.toArray(new RDN[0])).getEncoded());
+		assertNotEquals(CERT.getSubject().getPrincipal(), reversedPrincipal);
+		assertEquals(1, ccc.getBySubject(new X500PrincipalHelper(reversedPrincipal)).size());
+
+		assertTrue(ccc.getBySubject(new X500PrincipalHelper(new X500Principal("CN=Unknown"))).isEmpty());
+
+		ccc.removeCertificate(CERT);
+		assertTrue(ccc.getBySubject(CERT.getSubject()).isEmpty());
+		assertFalse(ccc.isKnown(CERT));
+		assertEquals(1, ccc.getBySubject(SAME_PK_CERT_1.getSubject()).size());
+		assertTrue(ccc.isKnown(SAME_PK_CERT_1));
+	}
+
 }
@@ -0,0 +1,150 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.spi.x509.revocation;
+
+import eu.europa.esig.dss.crl.CRLBinary;
+import eu.europa.esig.dss.crl.CRLUtils;
+import eu.europa.esig.dss.crl.CRLValidity;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.model.x509.revocation.crl.CRL;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.x509.revocation.crl.CRLToken;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class InMemoryRevocationCacheTest {
+
+	private static CertificateToken certificateToken;
+
+	private static CRLValidity crlValidity;
+
+	@BeforeAll
+	public static void init() throws IOException {
+		FileDocument doc = new FileDocument("src/test/resources/crl/belgium2.crl");
+		FileDocument caCert = new FileDocument("src/test/resources/belgiumrs2.crt");
+		FileDocument tsaCert = new FileDocument("src/test/resources/TSA_BE.cer");
+
+		CRLBinary crlBinary = CRLUtils.buildCRLBinary(DSSUtils.toByteArray(doc));
+		crlValidity = CRLUtils.buildCRLValidity(crlBinary, DSSUtils.loadCertificate(caCert.openStream()));
+		certificateToken = DSSUtils.loadCertificate(tsaCert.openStream());
+	}
+
+	@Test
+	public void hitAndMissTest() {
+		InMemoryRevocationCache<CRL> cache = new InMemoryRevocationCache<>();
+		assertNull(cache.get("key"));
+		assertEquals(0, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+
+		RevocationToken<CRL> crlToken = getCRLToken(new Date(System.currentTimeMillis() + 60000));
+		cache.put("key", Collections.singletonList(crlToken));
+		assertEquals(1, cache.getSize());
+
+		List<RevocationToken<CRL>> revocationTokens = cache.get("key");
+		assertNotNull(revocationTokens);
+		assertEquals(1, revocationTokens.size());
+		assertEquals(crlToken, revocationTokens.get(0));
+		assertNull(cache.get("another-key"));
+
+		assertEquals(1, cache.getHitCount());
+		assertEquals(2, cache.getMissCount());
+		assertEquals(1d / 3, cache.getHitRatio(), 0.0001);
+
+		cache.remove("key");
+		assertNull(cache.get("key"));
+		assertEquals(0, cache.getSize());
+
+		cache.resetStatistics();
+		assertEquals(0, cache.getHitCount());
+		assertEquals(0, cache.getMissCount());
+		assertEquals(0, cache.getHitRatio(), 0.0001);
+	}
+
+	@Test
+	public void expiredEntryTest() {
+		InMemoryRevocationCache<CRL> cache = new InMemoryRevocationCache<>();
+		cache.put("expired", Collections.singletonList(getCRLToken(new Date(System.currentTimeMillis() - 60000))));
+		assertEquals(1, cache.getSize());
+
+		assertNull(cache.get("expired"));
+		assertEquals(0, cache.getSize());
+		assertEquals(1, cache.getEvictionCount());
+		assertEquals(1, cache.getMissCount());
+
+		cache.put("no-next-update", Collections.singletonList(getCRLToken(null)));
+		assertNotNull(cache.get("no-next-update"));
+	}
+
+	@Test
+	public void sizeLimitTest() {
+		InMemoryRevocationCache<CRL> cache = new InMemoryRevocationCache<>(2);
+		Date nextUpdate = new Date(System.currentTimeMillis() + 60000);
+		cache.put("first", Collections.singletonList(getCRLToken(nextUpdate)));
+		cache.put("second", Collections.singletonList(getCRLToken(nextUpdate)));
+
+		// the first entry becomes the most recently used
+		assertNotNull(cache.get("first"));
+
+		cache.put("third", Collections.singletonList(getCRLToken(nextUpdate)));
+		assertEquals(2, cache.getSize());
+		assertEquals(1, cache.getEvictionCount());
+		assertNotNull(cache.get("first"));
+		assertNull(cache.get("second"));
+		assertNotNull(cache.get("third"));
+
+		cache.put("third", Collections.emptyList());
+		assertEquals(1, cache.getSize());
+
+		cache.clear();
+		assertEquals(0, cache.getSize());
+	}
+
+	@Test
+	public void invalidSizeTest() {
+		assertThrows(IllegalArgumentException.class, () -> new InMemoryRevocationCache<>(0));
+	}
+
+	private RevocationToken<CRL> getCRLToken(Date nextUpdate) {
+		return new MockCRLToken(certificateToken, crlValidity, nextUpdate);
+	}
+
+	@SuppressWarnings("serial")
+	private static class MockCRLToken extends CRLToken {
+
+		private MockCRLToken(CertificateToken certificateToken, CRLValidity crlValidity, Date nextUpdate) {
+			super(certificateToken, crlValidity);
+			this.nextUpdate = nextUpdate;
+		}
+
+	}
+
+}
@@ -0,0 +1,469 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.cache;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.Indication;
+import eu.europa.esig.dss.enumerations.SubIndication;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.spi.client.http.RemoteResourceVersion;
+import eu.europa.esig.dss.tsl.parsing.AbstractParsingResult;
+import eu.europa.esig.dss.tsl.validation.ValidationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Contains a persistable copy of the documents downloaded by the TL/LOTL cache, together with their digests and
+ * the versions of the remote resources. Allows to restore the download records on start-up, so the trusted lists
+ * which have not been changed since the snapshot creation are not downloaded again when a conditional
+ * {@code DSSFileLoader} is used.
+ *
+ * The parsing and validation results are stored together with the download record, so they refer to the digest of
+ * the stored document. A validation result is restored only when it has been computed with the same trust anchors
+ * as the currently configured ones (see {@code Entry#getValidationResult(byte[])}). When a document is changed on the
+ * next refresh, its parsing and validation are performed again.
+ *
+ * The snapshot is stored using Java serialization of plain values (arrays, strings, dates and enumerations),
+ * protected with an HMAC computed with a secret key provided by the user. A snapshot is deserialized only
+ * when its HMAC is valid, and only the snapshot classes are accepted.
+ */
+public class CacheSnapshot implements Serializable {
+
+	private static final long serialVersionUID = -1874254163460402184L;
+
+	private static final Logger LOG = LoggerFactory.getLogger(CacheSnapshot.class);
+
+	/** The MAC algorithm used to protect the snapshot */
+	private static final String MAC_ALGORITHM = "HmacSHA256";
+
+	/** The maximum size of a stored (compressed) snapshot, in bytes */
+	private static final int MAX_SNAPSHOT_SIZE = 64 * 1024 * 1024;
+
+	/** The maximum number of bytes to be deserialized */
+	private static final long MAX_BYTES = 512L * 1024 * 1024;
+
+	/** The maximum number of object references to be deserialized */
+	private static final long MAX_REFS = 5_000_000L;
+
+	/** The maximum depth of the deserialized graph */
+	private static final long MAX_DEPTH = 20L;
+
+	/** The classes allowed to be read from a snapshot */
+	private static final Set<String> ALLOWED_CLASSES = new HashSet<>(Arrays.asList(
+			CacheSnapshot.class.getName(),
+			Entry.class.getName(),
+			Entry[].class.getName(),
+			CacheSnapshotRecords.ParsingRecord.class.getName(),
+			CacheSnapshotRecords.TrustServiceProviderRecord.class.getName(),
+			CacheSnapshotRecords.TrustServiceProviderRecord[].class.getName(),
+			CacheSnapshotRecords.TrustServiceRecord.class.getName(),
+			CacheSnapshotRecords.TrustServiceRecord[].class.getName(),
+			CacheSnapshotRecords.StatusRecord.class.getName(),
+			CacheSnapshotRecords.StatusRecord[].class.getName(),
+			CacheSnapshotRecords.ConditionForQualifiersRecord.class.getName(),
+			CacheSnapshotRecords.ConditionForQualifiersRecord[].class.getName(),
+			CacheSnapshotRecords.ConditionRecord.class.getName(),
+			CacheSnapshotRecords.ConditionRecord[].class.getName(),
+			CacheSnapshotRecords.PointerRecord.class.getName(),
+			CacheSnapshotRecords.PointerRecord[].class.getName(),
+			CacheSnapshotRecords.ValidationRecord.class.getName(),
+			DigestAlgorithm.class.getName(),
+			Indication.class.getName(),
+			SubIndication.class.getName(),
+			Enum.class.getName(),
+			Date.class.getName(),
+			String[].class.getName(),
+			String[][].class.getName(),
+			byte[].class.getName(),
+			byte[][].class.getName()
+	));
+
+	/** The snapshot creation time */
+	private final long creationTime;
+
+	/** The cached records */
+	private Entry[] entries = new Entry[0];
+
+	/**
+	 * Default constructor instantiating an empty snapshot
+	 */
+	public CacheSnapshot() {
+		this.creationTime = System.currentTimeMillis();
+	}
+
+	/**
+	 * Gets the snapshot creation time
+	 *
+	 * @return {@link Date}
+	 */
+	public Date getCreationTime() {
+		return new Date(creationTime);
+	}
+
+	/**
+	 * Gets the cached records
+	 *
+	 * @return a list of snapshot {@link Entry}s
+	 */
+	public List<Entry> getEntries() {
+		return Collections.unmodifiableList(Arrays.asList(entries));
+	}
+
+	/**
+	 * Adds a cached record
+	 *
+	 * @param entry {@link Entry} to add
+	 */
+	public void addEntry(Entry entry) {
+		Objects.requireNonNull(entry, "The entry must be defined!");
+		entries = Arrays.copyOf(entries, entries.length + 1);
+		entries[entries.length - 1] = entry;
+	}
+
+	/**
+	 * Writes the compressed snapshot, preceded by its HMAC, to the given {@code outputStream}
+	 *
+	 * @param outputStream {@link OutputStream} to write the snapshot to
+	 * @param key the secret key used to compute the HMAC of the snapshot
+	 */
+	public void writeTo(OutputStream outputStream, byte[] key) {
+		try {
+			final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			try (GZIPOutputStream gzos = new GZIPOutputStream(baos);
+				 ObjectOutputStream oos = new ObjectOutputStream(gzos)) {
+				oos.writeObject(this);
+			}
+			final byte[] content = baos.toByteArray();
+			outputStream.write(computeMac(content, key));
+			outputStream.write(content);
+			outputStream.flush();
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to write the cache snapshot : %s", e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Reads a snapshot written with {@code #writeTo(OutputStream, byte[])}.
+	 * The snapshot is deserialized only when its HMAC matches the one computed with the given {@code key}.
+	 *
+	 * @param inputStream {@link InputStream} to read the snapshot from
+	 * @param key the secret key used to compute the HMAC of the snapshot
+	 * @return {@link CacheSnapshot}
+	 */
+	public static CacheSnapshot readFrom(InputStream inputStream, byte[] key) {
+		try {
+			final byte[] binaries = readBinaries(inputStream);
+			final int macLength = getMac(key).getMacLength();
+			if (binaries.length <= macLength) {
+				throw new DSSException("Unable to read the cache snapshot : the content is too short!");
+			}
+			final byte[] mac = Arrays.copyOfRange(binaries, 0, macLength);
+			final byte[] content = Arrays.copyOfRange(binaries, macLength, binaries.length);
+			if (!MessageDigest.isEqual(mac, computeMac(content, key))) {
+				throw new DSSException("Unable to read the cache snapshot : the HMAC does not match the content!");
+			}
+			try (ObjectInputStream ois = new SnapshotObjectInputStream(new GZIPInputStream(new ByteArrayInputStream(content)))) {
+				final CacheSnapshot snapshot = (CacheSnapshot) ois.readObject();
+				snapshot.assertValid();
+				return snapshot;
+			}
+		} catch (IOException | ClassNotFoundException | ClassCastException e) {
+			throw new DSSException(String.format("Unable to read the cache snapshot : %s", e.getMessage()), e);
+		}
+	}
+
+	private void assertValid() {
+		if (entries == null) {
+			throw new DSSException("Unable to read the cache snapshot : the entries are not defined!");
+		}
+		for (Entry entry : entries) {
+			if (entry == null || entry.cacheKey == null || entry.documentBinaries == null ||
+					entry.digestAlgorithm == null || entry.digestValue == null) {
+				throw new DSSException("Unable to read the cache snapshot : an entry is not complete!");
+			}
+		}
+	}
+
+	private static byte[] readBinaries(InputStream inputStream) throws IOException {
+		final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		final byte[] buffer = new byte[8192];
+		int count;
+		while ((count = inputStream.read(buffer)) != -1) {
+			if (baos.size() + count > MAX_SNAPSHOT_SIZE) {
+				throw new DSSException(String.format(
+						"Unable to read the cache snapshot : the size exceeds the limit of %s bytes!", MAX_SNAPSHOT_SIZE));
+			}
+			baos.write(buffer, 0, count);
+		}
+		return baos.toByteArray();
+	}
+
+	private static byte[] computeMac(byte[] content, byte[] key) {
+		return getMac(key).doFinal(content);
+	}
+
+	private static Mac getMac(byte[] key) {
+		Objects.requireNonNull(key, "The snapshot key must be defined!");
+		try {
+			final Mac mac = Mac.getInstance(MAC_ALGORITHM);
+			mac.init(new SecretKeySpec(key, MAC_ALGORITHM));
+			return mac;
+		} catch (GeneralSecurityException | IllegalArgumentException e) {
+			throw new DSSException(String.format("Unable to initialize the snapshot HMAC : %s", e.getMessage()), e);
+		}
+	}
+
+	/**
+	 * Represents a single record of the snapshot
+	 */
+	public static class Entry implements Serializable {
+
+		private static final long serialVersionUID = 3317626398862958348L;
+
+		/** The cache key of the record */
+		private final String cacheKey;
+
+		/** Binaries of the downloaded document */
+		private final byte[] documentBinaries;
+
+		/** Digest algorithm used to compute the digest of the canonicalized downloaded document */
+		private final DigestAlgorithm digestAlgorithm;
+
+		/** Digest value of the canonicalized downloaded document */
+		private final byte[] digestValue;
+
+		/** The {@code ETag} of the remote document, null if not known */
+		private final String eTag;
+
+		/** The {@code Last-Modified} date of the remote document, null if not known */
+		private final String lastModified;
+
+		/** The parsing result of the downloaded document, null if not stored */
+		private CacheSnapshotRecords.ParsingRecord parsingRecord;
+
+		/** The validation result of the downloaded document, null if not stored */
+		private CacheSnapshotRecords.ValidationRecord validationRecord;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param cacheKey {@link CacheKey} of the record
+		 * @param documentBinaries binaries of the downloaded document
+		 * @param downloadDigest {@link Digest} of the canonicalized downloaded document
+		 * @param resourceVersion {@link RemoteResourceVersion} of the remote document, null if not known
+		 */
+		public Entry(CacheKey cacheKey, byte[] documentBinaries, Digest downloadDigest,
+					 RemoteResourceVersion resourceVersion) {
+			Objects.requireNonNull(cacheKey, "The cache key must be defined!");
+			Objects.requireNonNull(documentBinaries, "The document binaries must be defined!");
+			Objects.requireNonNull(downloadDigest, "The download digest must be defined!");
+			this.cacheKey = cacheKey.getKey();
+			this.documentBinaries = documentBinaries;
+			this.digestAlgorithm = downloadDigest.getAlgorithm();
+			this.digestValue = downloadDigest.getValue();
+			this.eTag = resourceVersion != null ? resourceVersion.getETag() : null;
+			this.lastModified = resourceVersion != null ? resourceVersion.getLastModified() : null;
+		}
+
+		/**
+		 * Gets the cache key of the record
+		 *
+		 * @return {@link CacheKey}
+		 */
+		public CacheKey getCacheKey() {
+			return new CacheKey(cacheKey);
+		}
+
+		/**
+		 * Gets the downloaded document
+		 *
+		 * @return {@link DSSDocument}
+		 */
+		public DSSDocument getDocument() {
+			return new InMemoryDocument(documentBinaries);
+		}
+
+		/**
+		 * Gets digest of the canonicalized downloaded document
+		 *
+		 * @return {@link Digest}
+		 */
+		public Digest getDownloadDigest() {
+			return new Digest(digestAlgorithm, digestValue);
+		}
+
+		/**
+		 * Gets the version of the remote document
+		 *
+		 * @return {@link RemoteResourceVersion}, null if not known
+		 */
+		public RemoteResourceVersion getResourceVersion() {
+			if (eTag == null && lastModified == null) {
+				return null;
+			}
+			return new RemoteResourceVersion(eTag, lastModified);
+		}
+
+		/**
+		 * Sets the parsing result of the downloaded document.
+		 * The result is not stored when it contains elements not supported by the snapshot
+		 * (e.g. a mutual recognition agreement).
+		 *
+		 * @param parsingResult {@link AbstractParsingResult}
+		 * @return TRUE if the parsing result has been stored, FALSE otherwise
+		 */
+		public boolean setParsingResult(AbstractParsingResult parsingResult) {
+			Objects.requireNonNull(parsingResult, "The parsing result must be defined!");
+			this.parsingRecord = CacheSnapshotRecords.toParsingRecord(parsingResult);
+			return parsingRecord != null;
+		}
+
+		/**
+		 * Gets the parsing result of the downloaded document
+		 *
+		 * @return {@link AbstractParsingResult}, null if not stored
+		 */
+		public AbstractParsingResult getParsingResult() {
+			if (parsingRecord == null) {
+				return null;
+			}
+			return CacheSnapshotRecords.fromParsingRecord(parsingRecord);
+		}
+
+		/**
+		 * Sets the validation result of the downloaded document
+		 *
+		 * @param validationResult {@link ValidationResult}
+		 * @param trustAnchorsFingerprint the fingerprint of the trust anchors used for the validation
+		 */
+		public void setValidationResult(ValidationResult validationResult, byte[] trustAnchorsFingerprint) {
+			Objects.requireNonNull(validationResult, "The validation result must be defined!");
+			Objects.requireNonNull(trustAnchorsFingerprint, "The trust anchors fingerprint must be defined!");
+			this.validationRecord = CacheSnapshotRecords.toValidationRecord(validationResult, trustAnchorsFingerprint);
+		}
+
+		/**
+		 * Gets the validation result of the downloaded document, when it has been computed with
+		 * the trust anchors of the given fingerprint
+		 *
+		 * @param trustAnchorsFingerprint the fingerprint of the currently configured trust anchors
+		 * @return {@link ValidationResult}, null if not stored or computed with other trust anchors
+		 */
+		public ValidationResult getValidationResult(byte[] trustAnchorsFingerprint) {
+			if (validationRecord == null || !validationRecord.isValidatedWith(trustAnchorsFingerprint)) {
+				return null;
+			}
+			return CacheSnapshotRecords.fromValidationRecord(validationRecord);
+		}
+
+	}
+
+	/**
+	 * Restricts the classes and the size of the graph allowed to be deserialized from a snapshot
+	 */
+	private static class SnapshotObjectInputStream extends ObjectInputStream {
+
+		/**
+		 * Default constructor
+		 *
+		 * @param in {@link InputStream} to read
+		 * @throws IOException if an exception occurs
+		 */
+		private SnapshotObjectInputStream(InputStream in) throws IOException {
+			super(in);
+			setSerialFilter();
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			final String className = desc.getName();
+			if (!ALLOWED_CLASSES.contains(className)) {
+				throw new InvalidClassException(className, "The class is not allowed within a cache snapshot");
+			}
+			return super.resolveClass(desc);
+		}
+
+		@Override
+		protected Class<?> resolveProxyClass(String[] interfaces) throws IOException, ClassNotFoundException {
+			throw new InvalidClassException("Proxy classes are not allowed within a cache snapshot");
+		}
+
+		/**
+		 * Sets the maxdepth/maxrefs/maxbytes limits using the serialization filter of the JVM
+		 * ({@code java.io.ObjectInputFilter} since Java 9, {@code sun.misc.ObjectInputFilter} since Java 8u121)
+		 */
+		private void setSerialFilter() {
+			final String pattern = String.format("maxdepth=%s;maxrefs=%s;maxbytes=%s", MAX_DEPTH, MAX_REFS, MAX_BYTES);
+			try {
+				final Class<?> filterClass = Class.forName("java.io.ObjectInputFilter");
+				final Object filter = createFilter(filterClass, pattern);
+				ObjectInputStream.class.getMethod("setObjectInputFilter", filterClass).invoke(this, filter);
+				return;
+			} catch (ClassNotFoundException e) {
+				LOG.trace("java.io.ObjectInputFilter is not available. Trying sun.misc.ObjectInputFilter...");
+			} catch (ReflectiveOperationException e) {
+				throw new DSSException(String.format("Unable to set the serialization filter : %s", e.getMessage()), e);
+			}
+			try {
+				final Class<?> filterClass = Class.forName("sun.misc.ObjectInputFilter");
+				final Object filter = createFilter(filterClass, pattern);
+				Class.forName("sun.misc.ObjectInputFilter$Config")
+						.getMethod("setObjectInputFilter", ObjectInputStream.class, filterClass).invoke(null, this, filter);
+			} catch (ReflectiveOperationException e) {
+				throw new DSSException(String.format(
+						"Unable to read the cache snapshot : no serialization filter is supported by the JVM (%s)!", e.getMessage()), e);
+			}
+		}
+
+		private Object createFilter(Class<?> filterClass, String pattern) throws ReflectiveOperationException {
+			return Class.forName(filterClass.getName() + "$Config").getMethod("createFilter", String.class).invoke(null, pattern);
+		}
+
+	}
+
+}
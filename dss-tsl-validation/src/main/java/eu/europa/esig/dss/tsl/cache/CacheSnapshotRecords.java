@@ -0,0 +1,758 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ *
+ * This file is part of the "DSS - Digital Signature Services" project.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.cache;
+
+import eu.europa.esig.dss.enumerations.Indication;
+import eu.europa.esig.dss.enumerations.KeyUsageBit;
+import eu.europa.esig.dss.enumerations.SubIndication;
+import eu.europa.esig.dss.enumerations.TSLType;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.tsl.Condition;
+import eu.europa.esig.dss.spi.tsl.ConditionForQualifiers;
+import eu.europa.esig.dss.spi.tsl.OtherTSLPointer;
+import eu.europa.esig.dss.spi.tsl.TrustService;
+import eu.europa.esig.dss.spi.tsl.TrustServiceProvider;
+import eu.europa.esig.dss.spi.tsl.TrustServiceStatusAndInformationExtensions;
+import eu.europa.esig.dss.spi.tsl.builder.TrustServiceProviderBuilder;
+import eu.europa.esig.dss.spi.util.MutableTimeDependentValues;
+import eu.europa.esig.dss.spi.x509.CommonCertificateSource;
+import eu.europa.esig.dss.tsl.dto.condition.CertSubjectDNAttributeCondition;
+import eu.europa.esig.dss.tsl.dto.condition.CompositeCondition;
+import eu.europa.esig.dss.tsl.dto.condition.ExtendedKeyUsageCondition;
+import eu.europa.esig.dss.tsl.dto.condition.KeyUsageCondition;
+import eu.europa.esig.dss.tsl.dto.condition.PolicyIdCondition;
+import eu.europa.esig.dss.tsl.dto.condition.QCStatementCondition;
+import eu.europa.esig.dss.tsl.parsing.AbstractParsingResult;
+import eu.europa.esig.dss.tsl.parsing.LOTLParsingResult;
+import eu.europa.esig.dss.tsl.parsing.TLParsingResult;
+import eu.europa.esig.dss.tsl.validation.ValidationResult;
+import eu.europa.esig.trustedlist.enums.Assert;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contains the records used to store the parsing and validation results within a {@code CacheSnapshot}.
+ *
+ * The records are made of arrays, strings, dates and enumerations only, so the list of classes accepted
+ * on the snapshot deserialization stays short. The certificates are stored as DER-encoded binaries.
+ */
+final class CacheSnapshotRecords {
+
+	private CacheSnapshotRecords() {
+		// empty
+	}
+
+	/**
+	 * Converts the parsing result to a snapshot record
+	 *
+	 * @param parsingResult {@link AbstractParsingResult} to convert
+	 * @return {@link ParsingRecord}, null if the parsing result cannot be stored within a snapshot
+	 */
+	static ParsingRecord toParsingRecord(AbstractParsingResult parsingResult) {
+		final ParsingRecord record = new ParsingRecord();
+		record.tslType = parsingResult.getTSLType() != null ? parsingResult.getTSLType().getUri() : null;
+		record.sequenceNumber = parsingResult.getSequenceNumber();
+		record.version = parsingResult.getVersion();
+		record.territory = parsingResult.getTerritory();
+		record.issueDate = parsingResult.getIssueDate();
+		record.nextUpdateDate = parsingResult.getNextUpdateDate();
+		record.distributionPoints = toArray(parsingResult.getDistributionPoints());
+		if (parsingResult instanceof TLParsingResult) {
+			final List<TrustServiceProvider> trustServiceProviders = ((TLParsingResult) parsingResult).getTrustServiceProviders();
+			if (trustServiceProviders != null) {
+				record.trustServiceProviders = new TrustServiceProviderRecord[trustServiceProviders.size()];
+				for (int i = 0; i < trustServiceProviders.size(); i++) {
+					record.trustServiceProviders[i] = toTrustServiceProviderRecord(trustServiceProviders.get(i));
+					if (record.trustServiceProviders[i] == null) {
+						return null;
+					}
+				}
+			}
+			return record;
+
+		} else if (parsingResult instanceof LOTLParsingResult) {
+			final LOTLParsingResult lotlParsingResult = (LOTLParsingResult) parsingResult;
+			record.lotl = true;
+			record.lotlPointers = toPointerRecords(lotlParsingResult.getLotlPointers());
+			record.tlPointers = toPointerRecords(lotlParsingResult.getTlPointers());
+			if ((lotlParsingResult.getLotlPointers() != null && record.lotlPointers == null) ||
+					(lotlParsingResult.getTlPointers() != null && record.tlPointers == null)) {
+				return null;
+			}
+			record.signingCertificateAnnouncementURL = lotlParsingResult.getSigningCertificateAnnouncementURL();
+			record.pivotURLs = toArray(lotlParsingResult.getPivotURLs());
+			return record;
+		}
+		return null;
+	}
+
+	/**
+	 * Restores the parsing result from a snapshot record
+	 *
+	 * @param record {@link ParsingRecord} to restore
+	 * @return {@link AbstractParsingResult}
+	 */
+	static AbstractParsingResult fromParsingRecord(ParsingRecord record) {
+		final AbstractParsingResult parsingResult;
+		if (record.lotl) {
+			final LOTLParsingResult lotlParsingResult = new LOTLParsingResult();
+			lotlParsingResult.setLotlPointers(fromPointerRecords(record.lotlPointers));
+			lotlParsingResult.setTlPointers(fromPointerRecords(record.tlPointers));
+			lotlParsingResult.setSigningCertificateAnnouncementURL(record.signingCertificateAnnouncementURL);
+			lotlParsingResult.setPivotURLs(toList(record.pivotURLs));
+			parsingResult = lotlParsingResult;
+
+		} else {
+			final TLParsingResult tlParsingResult = new TLParsingResult();
+			if (record.trustServiceProviders != null) {
+				final List<TrustServiceProvider> trustServiceProviders = new ArrayList<>();
+				for (TrustServiceProviderRecord trustServiceProviderRecord : record.trustServiceProviders) {
+					trustServiceProviders.add(fromTrustServiceProviderRecord(trustServiceProviderRecord));
+				}
+				tlParsingResult.setTrustServiceProviders(Collections.unmodifiableList(trustServiceProviders));
+			}
+			parsingResult = tlParsingResult;
+		}
+		parsingResult.setTSLType(record.tslType != null ? TSLType.fromUri(record.tslType) : null);
+		parsingResult.setSequenceNumber(record.sequenceNumber);
+		parsingResult.setVersion(record.version);
+		parsingResult.setTerritory(record.territory);
+		parsingResult.setIssueDate(record.issueDate);
+		parsingResult.setNextUpdateDate(record.nextUpdateDate);
+		parsingResult.setDistributionPoints(toList(record.distributionPoints));
+		return parsingResult;
+	}
+
+	/**
+	 * Converts the validation result to a snapshot record
+	 *
+	 * @param validationResult {@link ValidationResult} to convert
+	 * @param trustAnchorsFingerprint the fingerprint of the trust anchors used for the validation
+	 * @return {@link ValidationRecord}
+	 */
+	static ValidationRecord toValidationRecord(ValidationResult validationResult, byte[] trustAnchorsFingerprint) {
+		final ValidationRecord record = new ValidationRecord();
+		record.indication = validationResult.getIndication();
+		record.subIndication = validationResult.getSubIndication();
+		record.signingTime = validationResult.getSigningTime();
+		record.signingCertificate = validationResult.getSigningCertificate() != null ?
+				validationResult.getSigningCertificate().getEncoded() : null;
+		record.potentialSigners = toBinaries(validationResult.getPotentialSigners());
+		record.trustAnchorsFingerprint = trustAnchorsFingerprint;
+		return record;
+	}
+
+	/**
+	 * Restores the validation result from a snapshot record
+	 *
+	 * @param record {@link ValidationRecord} to restore
+	 * @return {@link ValidationResult}
+	 */
+	static ValidationResult fromValidationRecord(ValidationRecord record) {
+		final CommonCertificateSource certificateSource = new CommonCertificateSource();
+		if (record.potentialSigners != null) {
+			for (CertificateToken certificateToken : fromBinaries(record.potentialSigners)) {
+				certificateSource.addCertificate(certificateToken);
+			}
+		}
+		final CertificateToken signingCertificate = record.signingCertificate != null ?
+				DSSUtils.loadCertificate(record.signingCertificate) : null;
+		return new ValidationResult(record.indication, record.subIndication, record.signingTime,
+				signingCertificate, certificateSource);
+	}
+
+	private static TrustServiceProviderRecord toTrustServiceProviderRecord(TrustServiceProvider trustServiceProvider) {
+		final TrustServiceProviderRecord record = new TrustServiceProviderRecord();
+		record.names = toMultiValueRows(trustServiceProvider.getNames());
+		record.tradeNames = toMultiValueRows(trustServiceProvider.getTradeNames());
+		record.registrationIdentifiers = toArray(trustServiceProvider.getRegistrationIdentifiers());
+		record.postalAddresses = toRows(trustServiceProvider.getPostalAddresses());
+		record.electronicAddresses = toMultiValueRows(trustServiceProvider.getElectronicAddresses());
+		record.information = toRows(trustServiceProvider.getInformation());
+		record.territory = trustServiceProvider.getTerritory();
+		final List<TrustService> services = trustServiceProvider.getServices();
+		if (services != null) {
+			record.services = new TrustServiceRecord[services.size()];
+			for (int i = 0; i < services.size(); i++) {
+				record.services[i] = toTrustServiceRecord(services.get(i));
+				if (record.services[i] == null) {
+					return null;
+				}
+			}
+		}
+		return record;
+	}
+
+	private static TrustServiceProvider fromTrustServiceProviderRecord(TrustServiceProviderRecord record) {
+		final TrustServiceProviderBuilder builder = new TrustServiceProviderBuilder();
+		builder.setNames(fromMultiValueRows(record.names));
+		builder.setTradeNames(fromMultiValueRows(record.tradeNames));
+		builder.setRegistrationIdentifiers(toList(record.registrationIdentifiers));
+		builder.setPostalAddresses(fromRows(record.postalAddresses));
+		builder.setElectronicAddresses(fromMultiValueRows(record.electronicAddresses));
+		builder.setInformation(fromRows(record.information));
+		builder.setTerritory(record.territory);
+		if (record.services != null) {
+			final List<TrustService> services = new ArrayList<>();
+			for (TrustServiceRecord trustServiceRecord : record.services) {
+				services.add(fromTrustServiceRecord(trustServiceRecord));
+			}
+			builder.setServices(Collections.unmodifiableList(services));
+		}
+		return builder.build();
+	}
+
+	private static TrustServiceRecord toTrustServiceRecord(TrustService trustService) {
+		final TrustServiceRecord record = new TrustServiceRecord();
+		record.certificates = toBinaries(trustService.getCertificates());
+		if (trustService.getStatusAndInformationExtensions() != null) {
+			final List<StatusRecord> statusRecords = new ArrayList<>();
+			for (TrustServiceStatusAndInformationExtensions status : trustService.getStatusAndInformationExtensions()) {
+				final StatusRecord statusRecord = toStatusRecord(status);
+				if (statusRecord == null) {
+					return null;
+				}
+				statusRecords.add(statusRecord);
+			}
+			record.statusAndInformationExtensions = statusRecords.toArray(new StatusRecord[0]);
+		}
+		return record;
+	}
+
+	private static TrustService fromTrustServiceRecord(TrustServiceRecord record) {
+		final TrustService.TrustServiceBuilder builder = new TrustService.TrustServiceBuilder();
+		final List<CertificateToken> certificates = fromBinaries(record.certificates);
+		builder.setCertificates(certificates != null ? Collections.unmodifiableList(certificates) : null);
+		if (record.statusAndInformationExtensions != null) {
+			final MutableTimeDependentValues<TrustServiceStatusAndInformationExtensions> statusHistoryList =
+					new MutableTimeDependentValues<>();
+			for (StatusRecord statusRecord : record.statusAndInformationExtensions) {
+				statusHistoryList.addOldest(fromStatusRecord(statusRecord));
+			}
+			builder.setStatusAndInformationExtensions(statusHistoryList);
+		}
+		return builder.build();
+	}
+
+	private static StatusRecord toStatusRecord(TrustServiceStatusAndInformationExtensions status) {
+		final StatusRecord record = new StatusRecord();
+		record.names = toMultiValueRows(status.getNames());
+		record.type = status.getType();
+		record.status = status.getStatus();
+		record.additionalServiceInfoUris = toArray(status.getAdditionalServiceInfoUris());
+		record.serviceSupplyPoints = toArray(status.getServiceSupplyPoints());
+		record.expiredCertsRevocationInfo = status.getExpiredCertsRevocationInfo();
+		record.startDate = status.getStartDate();
+		record.endDate = status.getEndDate();
+		final List<ConditionForQualifiers> conditionsForQualifiers = status.getConditionsForQualifiers();
+		if (conditionsForQualifiers != null) {
+			record.conditionsForQualifiers = new ConditionForQualifiersRecord[conditionsForQualifiers.size()];
+			for (int i = 0; i < conditionsForQualifiers.size(); i++) {
+				final ConditionForQualifiers conditionForQualifiers = conditionsForQualifiers.get(i);
+				final ConditionForQualifiersRecord conditionRecord = new ConditionForQualifiersRecord();
+				conditionRecord.qualifiers = toArray(conditionForQualifiers.getQualifiers());
+				conditionRecord.critical = conditionForQualifiers.isCritical();
+				if (conditionForQualifiers.getCondition() != null) {
+					final List<ConditionRecord> conditionRecords = new ArrayList<>();
+					if (!addConditionRecords(conditionForQualifiers.getCondition(), conditionRecords)) {
+						return null;
+					}
+					conditionRecord.condition = conditionRecords.toArray(new ConditionRecord[0]);
+				}
+				record.conditionsForQualifiers[i] = conditionRecord;
+			}
+		}
+		return record;
+	}
+
+	private static TrustServiceStatusAndInformationExtensions fromStatusRecord(StatusRecord record) {
+		final TrustServiceStatusAndInformationExtensions.TrustServiceStatusAndInformationExtensionsBuilder builder =
+				new TrustServiceStatusAndInformationExtensions.TrustServiceStatusAndInformationExtensionsBuilder();
+		builder.setNames(fromMultiValueRows(record.names));
+		builder.setType(record.type);
+		builder.setStatus(record.status);
+		builder.setAdditionalServiceInfoUris(toList(record.additionalServiceInfoUris));
+		builder.setServiceSupplyPoints(toList(record.serviceSupplyPoints));
+		builder.setExpiredCertsRevocationInfo(record.expiredCertsRevocationInfo);
+		builder.setStartDate(record.startDate);
+		builder.setEndDate(record.endDate);
+		if (record.conditionsForQualifiers != null) {
+			final List<ConditionForQualifiers> conditionsForQualifiers = new ArrayList<>();
+			for (ConditionForQualifiersRecord conditionRecord : record.conditionsForQualifiers) {
+				final Condition condition = conditionRecord.condition != null ?
+						fromConditionRecords(conditionRecord.condition, new int[] { 0 }) : null;
+				final List<String> qualifiers = conditionRecord.qualifiers != null ?
+						Collections.unmodifiableList(toList(conditionRecord.qualifiers)) : null;
+				conditionsForQualifiers.add(new ConditionForQualifiers(condition, qualifiers, conditionRecord.critical));
+			}
+			builder.setConditionsForQualifiers(Collections.unmodifiableList(conditionsForQualifiers));
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Adds the records of the condition tree in the preorder, so the depth of the stored graph does not depend
+	 * on the depth of the condition tree
+	 */
+	private static boolean addConditionRecords(Condition condition, List<ConditionRecord> conditionRecords) {
+		final ConditionRecord record = new ConditionRecord();
+		conditionRecords.add(record);
+		if (condition instanceof CompositeCondition) {
+			final CompositeCondition compositeCondition = (CompositeCondition) condition;
+			record.type = ConditionRecord.COMPOSITE;
+			record.values = new String[] { compositeCondition.getMatchingCriteriaIndicator() != null ?
+					compositeCondition.getMatchingCriteriaIndicator().name() : null };
+			record.childrenCount = compositeCondition.getChildren().size();
+			for (Condition child : compositeCondition.getChildren()) {
+				if (!addConditionRecords(child, conditionRecords)) {
+					return false;
+				}
+			}
+		} else if (condition instanceof PolicyIdCondition) {
+			record.type = ConditionRecord.POLICY_ID;
+			record.values = new String[] { ((PolicyIdCondition) condition).getPolicyOid() };
+		} else if (condition instanceof KeyUsageCondition) {
+			final KeyUsageCondition keyUsageCondition = (KeyUsageCondition) condition;
+			record.type = ConditionRecord.KEY_USAGE;
+			record.values = new String[] { keyUsageCondition.getBit() != null ? keyUsageCondition.getBit().name() : null,
+					String.valueOf(keyUsageCondition.getValue()) };
+		} else if (condition instanceof CertSubjectDNAttributeCondition) {
+			record.type = ConditionRecord.CERT_SUBJECT_DN_ATTRIBUTE;
+			record.values = toArray(((CertSubjectDNAttributeCondition) condition).getAttributeOids());
+		} else if (condition instanceof ExtendedKeyUsageCondition) {
+			record.type = ConditionRecord.EXTENDED_KEY_USAGE;
+			record.values = toArray(((ExtendedKeyUsageCondition) condition).getKeyPurposeIds());
+		} else if (condition instanceof QCStatementCondition) {
+			final QCStatementCondition qcStatementCondition = (QCStatementCondition) condition;
+			record.type = ConditionRecord.QC_STATEMENT;
+			record.values = new String[] { qcStatementCondition.getOid(), qcStatementCondition.getType(),
+					qcStatementCondition.getLegislation() };
+		} else {
+			return false;
+		}
+		return true;
+	}
+
+	private static Condition fromConditionRecords(ConditionRecord[] records, int[] position) {
+		final ConditionRecord record = records[position[0]++];
+		switch (record.type) {
+			case ConditionRecord.COMPOSITE:
+				final CompositeCondition compositeCondition = new CompositeCondition(
+						record.values[0] != null ? Assert.valueOf(record.values[0]) : null);
+				for (int i = 0; i < record.childrenCount; i++) {
+					compositeCondition.addChild(fromConditionRecords(records, position));
+				}
+				return compositeCondition;
+			case ConditionRecord.POLICY_ID:
+				return new PolicyIdCondition(record.values[0]);
+			case ConditionRecord.KEY_USAGE:
+				return new KeyUsageCondition(record.values[0] != null ? KeyUsageBit.valueOf(record.values[0]) : null,
+						Boolean.parseBoolean(record.values[1]));
+			case ConditionRecord.CERT_SUBJECT_DN_ATTRIBUTE:
+				return new CertSubjectDNAttributeCondition(toList(record.values));
+			case ConditionRecord.EXTENDED_KEY_USAGE:
+				return new ExtendedKeyUsageCondition(toList(record.values));
+			case ConditionRecord.QC_STATEMENT:
+				return new QCStatementCondition(record.values[0], record.values[1], record.values[2]);
+			default:
+				throw new IllegalStateException(String.format("Unsupported condition type '%s'!", record.type));
+		}
+	}
+
+	private static PointerRecord[] toPointerRecords(List<OtherTSLPointer> pointers) {
+		if (pointers == null) {
+			return null;
+		}
+		final PointerRecord[] records = new PointerRecord[pointers.size()];
+		for (int i = 0; i < pointers.size(); i++) {
+			final OtherTSLPointer pointer = pointers.get(i);
+			if (pointer.getMra() != null) {
+				// the mutual recognition agreement is not stored within the snapshot
+				return null;
+			}
+			final PointerRecord record = new PointerRecord();
+			record.sdiCertificates = toBinaries(pointer.getSdiCertificates());
+			record.tslLocation = pointer.getTSLLocation();
+			record.schemeTerritory = pointer.getSchemeTerritory();
+			record.tslType = pointer.getTslType();
+			record.mimeType = pointer.getMimeType();
+			record.schemeOperatorNames = toMultiValueRows(pointer.getSchemeOperatorNames());
+			record.schemeTypeCommunityRules = toMultiValueRows(pointer.getSchemeTypeCommunityRules());
+			records[i] = record;
+		}
+		return records;
+	}
+
+	private static List<OtherTSLPointer> fromPointerRecords(PointerRecord[] records) {
+		if (records == null) {
+			return null;
+		}
+		final List<OtherTSLPointer> pointers = new ArrayList<>();
+		for (PointerRecord record : records) {
+			pointers.add(new OtherTSLPointer.OtherTSLPointerBuilder()
+					.setSdiCertificates(fromBinaries(record.sdiCertificates))
+					.setTslLocation(record.tslLocation)
+					.setSchemeTerritory(record.schemeTerritory)
+					.setTslType(record.tslType)
+					.setMimeType(record.mimeType)
+					.setSchemeOperatorNames(fromMultiValueRows(record.schemeOperatorNames))
+					.setSchemeTypeCommunityRules(fromMultiValueRows(record.schemeTypeCommunityRules))
+					.build());
+		}
+		return pointers;
+	}
+
+	private static byte[][] toBinaries(List<CertificateToken> certificates) {
+		if (certificates == null) {
+			return null;
+		}
+		final byte[][] binaries = new byte[certificates.size()][];
+		for (int i = 0; i < certificates.size(); i++) {
+			binaries[i] = certificates.get(i).getEncoded();
+		}
+		return binaries;
+	}
+
+	private static List<CertificateToken> fromBinaries(byte[][] binaries) {
+		if (binaries == null) {
+			return null;
+		}
+		final List<CertificateToken> certificates = new ArrayList<>();
+		for (byte[] certificateBinaries : binaries) {
+			certificates.add(DSSUtils.loadCertificate(certificateBinaries));
+		}
+		return certificates;
+	}
+
+	private static String[] toArray(List<String> values) {
+		return values != null ? values.toArray(new String[0]) : null;
+	}
+
+	private static List<String> toList(String[] values) {
+		return values != null ? new ArrayList<>(Arrays.asList(values)) : null;
+	}
+
+	/**
+	 * Stores each map entry as a row, the first element being the key and the following ones the values
+	 */
+	private static String[][] toMultiValueRows(Map<String, List<String>> map) {
+		if (map == null) {
+			return null;
+		}
+		final String[][] rows = new String[map.size()][];
+		int i = 0;
+		for (Map.Entry<String, List<String>> entry : map.entrySet()) {
+			final List<String> values = entry.getValue() != null ? entry.getValue() : Collections.emptyList();
+			final String[] row = new String[values.size() + 1];
+			row[0] = entry.getKey();
+			for (int j = 0; j < values.size(); j++) {
+				row[j + 1] = values.get(j);
+			}
+			rows[i++] = row;
+		}
+		return rows;
+	}
+
+	private static Map<String, List<String>> fromMultiValueRows(String[][] rows) {
+		if (rows == null) {
+			return null;
+		}
+		final Map<String, List<String>> map = new HashMap<>();
+		for (String[] row : rows) {
+			map.put(row[0], new ArrayList<>(Arrays.asList(row).subList(1, row.length)));
+		}
+		return map;
+	}
+
+	private static String[][] toRows(Map<String, String> map) {
+		if (map == null) {
+			return null;
+		}
+		final String[][] rows = new String[map.size()][];
+		int i = 0;
+		for (Map.Entry<String, String> entry : map.entrySet()) {
+			rows[i++] = new String[] { entry.getKey(), entry.getValue() };
+		}
+		return rows;
+	}
+
+	private static Map<String, String> fromRows(String[][] rows) {
+		if (rows == null) {
+			return null;
+		}
+		final Map<String, String> map = new HashMap<>();
+		for (String[] row : rows) {
+			map.put(row[0], row[1]);
+		}
+		return map;
+	}
+
+	/**
+	 * The parsing result of a TL or a LOTL
+	 */
+	static class ParsingRecord implements Serializable {
+
+		private static final long serialVersionUID = -2529853946356958307L;
+
+		/** Defines whether the record contains a LOTL parsing result */
+		private boolean lotl;
+
+		/** The URI of the TSL type */
+		private String tslType;
+
+		/** The sequence number */
+		private int sequenceNumber;
+
+		/** The version */
+		private int version;
+
+		/** The territory */
+		private String territory;
+
+		/** The issue date */
+		private Date issueDate;
+
+		/** The next update date */
+		private Date nextUpdateDate;
+
+		/** The distribution points */
+		private String[] distributionPoints;
+
+		/** The trust service providers of a TL */
+		private TrustServiceProviderRecord[] trustServiceProviders;
+
+		/** The LOTL pointers of a LOTL */
+		private PointerRecord[] lotlPointers;
+
+		/** The TL pointers of a LOTL */
+		private PointerRecord[] tlPointers;
+
+		/** The signing certificate announcement URL of a LOTL */
+		private String signingCertificateAnnouncementURL;
+
+		/** The pivot URLs of a LOTL */
+		private String[] pivotURLs;
+
+	}
+
+	/**
+	 * A trust service provider
+	 */
+	static class TrustServiceProviderRecord implements Serializable {
+
+		private static final long serialVersionUID = 6510961950437716378L;
+
+		/** The names */
+		private String[][] names;
+
+		/** The trade names */
+		private String[][] tradeNames;
+
+		/** The registration identifiers */
+		private String[] registrationIdentifiers;
+
+		/** The postal addresses */
+		private String[][] postalAddresses;
+
+		/** The electronic addresses */
+		private String[][] electronicAddresses;
+
+		/** The information URIs */
+		private String[][] information;
+
+		/** The trust services */
+		private TrustServiceRecord[] services;
+
+		/** The territory */
+		private String territory;
+
+	}
+
+	/**
+	 * A trust service
+	 */
+	static class TrustServiceRecord implements Serializable {
+
+		private static final long serialVersionUID = -3524408853016598452L;
+
+		/** DER-encoded service digital identities */
+		private byte[][] certificates;
+
+		/** The status history, from the latest to the oldest */
+		private StatusRecord[] statusAndInformationExtensions;
+
+	}
+
+	/**
+	 * A status of a trust service
+	 */
+	static class StatusRecord implements Serializable {
+
+		private static final long serialVersionUID = 1983862290315722447L;
+
+		/** The service names */
+		private String[][] names;
+
+		/** The service type */
+		private String type;
+
+		/** The service status */
+		private String status;
+
+		/** The qualifiers with their conditions */
+		private ConditionForQualifiersRecord[] conditionsForQualifiers;
+
+		/** The additional service information URIs */
+		private String[] additionalServiceInfoUris;
+
+		/** The service supply points */
+		private String[] serviceSupplyPoints;
+
+		/** The expired certificates revocation info date */
+		private Date expiredCertsRevocationInfo;
+
+		/** The start date */
+		private Date startDate;
+
+		/** The end date */
+		private Date endDate;
+
+	}
+
+	/**
+	 * Qualifiers with their condition
+	 */
+	static class ConditionForQualifiersRecord implements Serializable {
+
+		private static final long serialVersionUID = -6143390185226738532L;
+
+		/** The condition tree stored in the preorder */
+		private ConditionRecord[] condition;
+
+		/** The qualifiers */
+		private String[] qualifiers;
+
+		/** Defines whether the qualification extension is critical */
+		private boolean critical;
+
+	}
+
+	/**
+	 * A node of a condition tree
+	 */
+	static class ConditionRecord implements Serializable {
+
+		private static final long serialVersionUID = 4590476826150946014L;
+
+		private static final String COMPOSITE = "COMPOSITE";
+		private static final String POLICY_ID = "POLICY_ID";
+		private static final String KEY_USAGE = "KEY_USAGE";
+		private static final String CERT_SUBJECT_DN_ATTRIBUTE = "CERT_SUBJECT_DN_ATTRIBUTE";
+		private static final String EXTENDED_KEY_USAGE = "EXTENDED_KEY_USAGE";
+		private static final String QC_STATEMENT = "QC_STATEMENT";
+
+		/** The condition type */
+		private String type;
+
+		/** The condition values */
+		private String[] values;
+
+		/** The number of children of a composite condition, following the current record */
+		private int childrenCount;
+
+	}
+
+	/**
+	 * A pointer to another TSL
+	 */
+	static class PointerRecord implements Serializable {
+
+		private static final long serialVersionUID = -4829335870785412340L;
+
+		/** DER-encoded service digital identities */
+		private byte[][] sdiCertificates;
+
+		/** The TSL location */
+		private String tslLocation;
+
+		/** The scheme territory */
+		private String schemeTerritory;
+
+		/** The TSL type */
+		private String tslType;
+
+		/** The MIME type */
+		private String mimeType;
+
+		/** The scheme operator names */
+		private String[][] schemeOperatorNames;
+
+		/** The scheme type community rules */
+		private String[][] schemeTypeCommunityRules;
+
+	}
+
+	/**
+	 * The signature validation result of a TL or a LOTL
+	 */
+	static class ValidationRecord implements Serializable {
+
+		private static final long serialVersionUID = -1089547263712630944L;
+
+		/** The validation indication */
+		private Indication indication;
+
+		/** The validation sub-indication */
+		private SubIndication subIndication;
+
+		/** The signing time */
+		private Date signingTime;
+
+		/** DER-encoded signing certificate */
+		private byte[] signingCertificate;
+
+		/** DER-encoded signing candidates */
+		private byte[][] potentialSigners;
+
+		/** The fingerprint of the trust anchors used for the validation */
+		private byte[] trustAnchorsFingerprint;
+
+		/**
+		 * Checks whether the validation has been performed with the given trust anchors
+		 *
+		 * @param trustAnchorsFingerprint the fingerprint of the currently configured trust anchors
+		 * @return TRUE if the fingerprints match, FALSE otherwise
+		 */
+		boolean isValidatedWith(byte[] trustAnchorsFingerprint) {
+			return this.trustAnchorsFingerprint != null && Arrays.equals(this.trustAnchorsFingerprint, trustAnchorsFingerprint);
+		}
+
+	}
+
+}
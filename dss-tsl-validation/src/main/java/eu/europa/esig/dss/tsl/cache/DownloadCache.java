@@ -26,6 +26,8 @@ import org.slf4j.LoggerFactory;
 import eu.europa.esig.dss.tsl.cache.state.CachedEntry;
 import eu.europa.esig.dss.tsl.download.XmlDownloadResult;
 
+import java.util.Objects;
+
 /**
  * The DownloadCache to store files
  *
@@ -56,6 +58,10 @@ public class DownloadCache extends AbstractCache<XmlDownloadResult> {
 			boolean upToDate = cachedResult.getDigest().equals(downloadedResult.getDigest());
 			LOG.trace("Is file with the key [{}] up to date ? {}", cacheKey, upToDate);
 			if (upToDate) {
+				if (cachedResult != downloadedResult && !Objects.equals(cachedResult.getResourceVersion(), downloadedResult.getResourceVersion())) {
+					LOG.trace("The content is the same, but the version of the remote file has been changed. Update the cached result.");
+					cachedFileEntry.replace(downloadedResult);
+				}
 				cachedFileEntry.syncUpdateDate();
 			}
 			return upToDate;
@@ -65,6 +65,15 @@ public class CacheAccessByKey extends ReadOnlyCacheAccessByKey {
 		return downloadCache.isUpToDate(key, xmlDownloadResult);
 	}
 
+	/**
+	 * Gets the download result stored in the cache for the given key
+	 *
+	 * @return {@link XmlDownloadResult}, null if the cache record is empty
+	 */
+	public XmlDownloadResult getCachedDownloadResult() {
+		return downloadCache.get(key).getCachedResult();
+	}
+
 	/**
 	 * Updates the download result
 	 *
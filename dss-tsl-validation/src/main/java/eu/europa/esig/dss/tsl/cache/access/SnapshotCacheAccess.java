@@ -0,0 +1,127 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.cache.access;
+
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.tsl.cache.CacheKey;
+import eu.europa.esig.dss.tsl.cache.CacheSnapshot;
+import eu.europa.esig.dss.tsl.cache.DownloadCache;
+import eu.europa.esig.dss.tsl.cache.ParsingCache;
+import eu.europa.esig.dss.tsl.cache.ValidationCache;
+import eu.europa.esig.dss.tsl.cache.state.CachedEntry;
+import eu.europa.esig.dss.tsl.download.XmlDownloadResult;
+import eu.europa.esig.dss.tsl.parsing.AbstractParsingResult;
+import eu.europa.esig.dss.tsl.validation.ValidationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates and restores a {@code CacheSnapshot} of the cache
+ */
+public class SnapshotCacheAccess extends ReadOnlyCacheAccess {
+
+	private static final Logger LOG = LoggerFactory.getLogger(SnapshotCacheAccess.class);
+
+	/**
+	 * Default constructor
+	 *
+	 * @param downloadCache {@link DownloadCache}
+	 * @param parsingCache {@link ParsingCache}
+	 * @param validationCache {@link ValidationCache}
+	 */
+	public SnapshotCacheAccess(final DownloadCache downloadCache, final ParsingCache parsingCache,
+							   final ValidationCache validationCache) {
+		super(downloadCache, parsingCache, validationCache);
+	}
+
+	/**
+	 * Creates a snapshot of all successfully downloaded records, together with their up-to-date parsing
+	 * and validation results
+	 *
+	 * @param trustAnchorsFingerprint the fingerprint of the trust anchors used for the validation
+	 * @return {@link CacheSnapshot}
+	 */
+	public CacheSnapshot createSnapshot(byte[] trustAnchorsFingerprint) {
+		final CacheSnapshot snapshot = new CacheSnapshot();
+		for (CacheKey key : getAllCacheKeys()) {
+			final CachedEntry<XmlDownloadResult> downloadEntry = downloadCache.get(key);
+			if (downloadEntry.isEmpty() || downloadEntry.isError() || downloadEntry.isToBeDeleted() ||
+					downloadEntry.getCachedResult().getDSSDocument() == null) {
+				LOG.debug("The record with the key [{}] is not complete. Skipped from the snapshot.", key.getKey());
+				continue;
+			}
+			final XmlDownloadResult downloadResult = downloadEntry.getCachedResult();
+			final CacheSnapshot.Entry entry = new CacheSnapshot.Entry(key, DSSUtils.toByteArray(downloadResult.getDSSDocument()),
+					downloadResult.getDigest(), downloadResult.getResourceVersion());
+			final CachedEntry<AbstractParsingResult> parsingEntry = parsingCache.get(key);
+			if (isUpToDate(parsingEntry) && !entry.setParsingResult(parsingEntry.getCachedResult())) {
+				LOG.debug("The parsing result with the key [{}] cannot be stored within the snapshot.", key.getKey());
+			}
+			final CachedEntry<ValidationResult> validationEntry = validationCache.get(key);
+			if (isUpToDate(validationEntry)) {
+				entry.setValidationResult(validationEntry.getCachedResult(), trustAnchorsFingerprint);
+			}
+			snapshot.addEntry(entry);
+		}
+		LOG.debug("A snapshot with {} record(s) has been created", snapshot.getEntries().size());
+		return snapshot;
+	}
+
+	private boolean isUpToDate(CachedEntry<?> cachedEntry) {
+		return !cachedEntry.isEmpty() && !cachedEntry.isError() && !cachedEntry.isRefreshNeeded() &&
+				!cachedEntry.isToBeDeleted();
+	}
+
+	/**
+	 * Restores the records of the {@code snapshot} for the keys without a cached download result.
+	 * The parsing results are restored together with the download records. The validation results are restored
+	 * only when they have been computed with the trust anchors of the given {@code trustAnchorsFingerprint},
+	 * otherwise the signatures of the trusted lists are verified again on the next refresh.
+	 *
+	 * @param snapshot {@link CacheSnapshot} to restore
+	 * @param trustAnchorsFingerprint the fingerprint of the currently configured trust anchors
+	 * @return number of restored records
+	 */
+	public int restore(CacheSnapshot snapshot, byte[] trustAnchorsFingerprint) {
+		int restored = 0;
+		for (CacheSnapshot.Entry entry : snapshot.getEntries()) {
+			final CacheKey key = entry.getCacheKey();
+			if (!downloadCache.get(key).isEmpty()) {
+				LOG.debug("The cache already contains a record for the key [{}]. The snapshot record is skipped.", key.getKey());
+				continue;
+			}
+			downloadCache.update(key, new XmlDownloadResult(entry.getDocument(), entry.getDownloadDigest(),
+					entry.getResourceVersion()));
+			final AbstractParsingResult parsingResult = entry.getParsingResult();
+			if (parsingResult != null) {
+				parsingCache.update(key, parsingResult);
+			}
+			final ValidationResult validationResult = entry.getValidationResult(trustAnchorsFingerprint);
+			if (validationResult != null) {
+				validationCache.update(key, validationResult);
+			}
+			++restored;
+		}
+		LOG.info("{} record(s) restored from the cache snapshot created at {}", restored, snapshot.getCreationTime());
+		return restored;
+	}
+
+}
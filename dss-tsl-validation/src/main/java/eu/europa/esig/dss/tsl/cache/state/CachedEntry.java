@@ -105,6 +105,17 @@ public class CachedEntry<R extends CachedResult> {
 		cachedResult = newCachedResult;
 	}
 
+	/**
+	 * Replaces the cache record with an equivalent one (e.g. the same content with another metadata),
+	 * without a state transition
+	 *
+	 * @param equivalentResult the equivalent cache record
+	 */
+	public void replace(R equivalentResult) {
+		Objects.requireNonNull(equivalentResult, "Cached result cannot be overwritten with a null value");
+		cachedResult = equivalentResult;
+	}
+
 	/**
 	 * Synchronizes the update date
 	 */
@@ -22,6 +22,7 @@ package eu.europa.esig.dss.tsl.download;
 
 import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.spi.client.http.RemoteResourceVersion;
 import eu.europa.esig.dss.tsl.cache.CachedResult;
 
 /**
@@ -35,6 +36,9 @@ public class XmlDownloadResult implements CachedResult {
 	/** Digest of a canonicalized document */
 	private final Digest digest;
 
+	/** Version (ETag / Last-Modified) of the remote document, when known */
+	private final RemoteResourceVersion resourceVersion;
+
 	/**
 	 * Default constructor
 	 *
@@ -42,8 +46,20 @@ public class XmlDownloadResult implements CachedResult {
 	 * @param digest {@link Digest} of the canonicalized document
 	 */
 	public XmlDownloadResult(DSSDocument dssDocument, Digest digest) {
+		this(dssDocument, digest, null);
+	}
+
+	/**
+	 * Constructor with a version of the remote document
+	 *
+	 * @param dssDocument {@link DSSDocument} downloaded document
+	 * @param digest {@link Digest} of the canonicalized document
+	 * @param resourceVersion {@link RemoteResourceVersion} of the remote document, when known
+	 */
+	public XmlDownloadResult(DSSDocument dssDocument, Digest digest, RemoteResourceVersion resourceVersion) {
 		this.dssDocument = dssDocument;
 		this.digest = digest;
+		this.resourceVersion = resourceVersion;
 	}
 
 	/**
@@ -64,4 +80,13 @@ public class XmlDownloadResult implements CachedResult {
 		return digest;
 	}
 
+	/**
+	 * Gets the version (ETag / Last-Modified) of the remote document, to be used for conditional requests
+	 *
+	 * @return {@link RemoteResourceVersion}, null if not known
+	 */
+	public RemoteResourceVersion getResourceVersion() {
+		return resourceVersion;
+	}
+
 }
@@ -27,7 +27,12 @@ import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.Digest;
 import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.http.ConditionalDataLoader;
+import eu.europa.esig.dss.spi.client.http.ConditionalGetResult;
 import eu.europa.esig.dss.spi.client.http.DSSFileLoader;
+import eu.europa.esig.dss.spi.client.http.RemoteResourceVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 
 import javax.xml.crypto.dsig.CanonicalizationMethod;
@@ -39,12 +44,17 @@ import java.util.function.Supplier;
  */
 public class XmlDownloadTask implements Supplier<XmlDownloadResult> {
 
+	private static final Logger LOG = LoggerFactory.getLogger(XmlDownloadTask.class);
+
 	/** The file loader */
 	private final DSSFileLoader dssFileLoader;
 
 	/** The URL to download the document from */
 	private final String url;
 
+	/** The previously downloaded result, used for a conditional download */
+	private final XmlDownloadResult cachedResult;
+
 	/**
 	 * Default constructor
 	 *
@@ -52,21 +62,51 @@ public class XmlDownloadTask implements Supplier<XmlDownloadResult> {
 	 * @param url {@link String} to download the document from
 	 */
 	public XmlDownloadTask(DSSFileLoader dssFileLoader, String url) {
+		this(dssFileLoader, url, null);
+	}
+
+	/**
+	 * Constructor with a previously downloaded result.
+	 * When the {@code dssFileLoader} implements {@code ConditionalDataLoader}, the document is downloaded
+	 * only if it has been modified since the version of the {@code cachedResult}.
+	 * Otherwise, the {@code cachedResult} is returned.
+	 *
+	 * @param dssFileLoader {@link DSSFileLoader} to use
+	 * @param url {@link String} to download the document from
+	 * @param cachedResult {@link XmlDownloadResult} the previously downloaded result, if available
+	 */
+	public XmlDownloadTask(DSSFileLoader dssFileLoader, String url, XmlDownloadResult cachedResult) {
 		Objects.requireNonNull(dssFileLoader, "The DSSFileLoader is null");
 		Objects.requireNonNull(url, "The url is null");
 		this.dssFileLoader = dssFileLoader;
 		this.url = url;
+		this.cachedResult = cachedResult;
 	}
 
 	@Override
 	public XmlDownloadResult get() {
 		try {
-			final DSSDocument dssDocument = dssFileLoader.getDocument(url);
+			final DSSDocument dssDocument;
+			RemoteResourceVersion resourceVersion = null;
+			if (dssFileLoader instanceof ConditionalDataLoader) {
+				final RemoteResourceVersion cachedVersion = cachedResult != null ? cachedResult.getResourceVersion() : null;
+				final ConditionalGetResult conditionalGetResult = ((ConditionalDataLoader) dssFileLoader).conditionalGet(url, cachedVersion);
+				if (conditionalGetResult.isNotModified() && cachedResult != null) {
+					LOG.debug("The document from URL '{}' has not been modified. The cached result is used.", url);
+					return cachedResult;
+				}
+				dssDocument = conditionalGetResult.getDocument();
+				resourceVersion = conditionalGetResult.getResourceVersion();
+
+			} else {
+				dssDocument = dssFileLoader.getDocument(url);
+			}
 			assertDocumentIsValidXML(dssDocument);
 
 			final Document dom = DomUtils.buildDOM(dssDocument);
 			final byte[] canonicalizedContent = XMLCanonicalizer.createInstance(CanonicalizationMethod.EXCLUSIVE).canonicalize(dom);
-			return new XmlDownloadResult(dssDocument, new Digest(DigestAlgorithm.SHA256, DSSUtils.digest(DigestAlgorithm.SHA256, canonicalizedContent)));
+			return new XmlDownloadResult(dssDocument, new Digest(DigestAlgorithm.SHA256,
+					DSSUtils.digest(DigestAlgorithm.SHA256, canonicalizedContent)), resourceVersion);
 		} catch (DSSException e) {
 			throw e;
 		} catch (Exception e) {
@@ -21,15 +21,20 @@
 package eu.europa.esig.dss.tsl.job;
 
 import eu.europa.esig.dss.alert.Alert;
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.spi.client.http.DSSFileLoader;
 import eu.europa.esig.dss.spi.tsl.LOTLInfo;
 import eu.europa.esig.dss.spi.tsl.TLInfo;
 import eu.europa.esig.dss.spi.tsl.TLValidationJobSummary;
 import eu.europa.esig.dss.spi.tsl.TrustedListsCertificateSource;
+import eu.europa.esig.dss.spi.x509.CertificateSource;
 import eu.europa.esig.dss.tsl.alerts.TLValidationJobAlerter;
 import eu.europa.esig.dss.tsl.cache.CacheCleaner;
 import eu.europa.esig.dss.tsl.cache.CacheKey;
+import eu.europa.esig.dss.tsl.cache.CacheSnapshot;
 import eu.europa.esig.dss.tsl.cache.access.CacheAccessByKey;
 import eu.europa.esig.dss.tsl.cache.access.CacheAccessFactory;
 import eu.europa.esig.dss.tsl.cache.access.ReadOnlyCacheAccess;
@@ -47,6 +52,9 @@ import eu.europa.esig.dss.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -54,6 +62,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -276,6 +285,77 @@ public class TLValidationJob {
 		LOG.info("Online refresh is DONE.");
 	}
 
+	/**
+	 * Writes a snapshot of the currently downloaded trusted lists, with their parsing and validation results,
+	 * to the given {@code outputStream}. The snapshot is protected with an HMAC computed with the given secret
+	 * {@code key}, and can be loaded on a start-up with {@code #loadCacheSnapshot(InputStream, byte[])}.
+	 *
+	 * @param outputStream {@link OutputStream} to write the snapshot to
+	 * @param key the secret key used to compute the HMAC of the snapshot
+	 */
+	public synchronized void writeCacheSnapshot(OutputStream outputStream, byte[] key) {
+		Objects.requireNonNull(outputStream, "The OutputStream must be defined!");
+		Objects.requireNonNull(key, "The snapshot key must be defined!");
+		CacheSnapshot snapshot = cacheAccessFactory.getSnapshotCacheAccess().createSnapshot(getTrustAnchorsFingerprint());
+		snapshot.writeTo(outputStream, key);
+		LOG.info("Cache snapshot with {} record(s) has been written.", snapshot.getEntries().size());
+	}
+
+	/**
+	 * Loads a snapshot written with {@code #writeCacheSnapshot(OutputStream, byte[])} into the empty cache records,
+	 * and synchronizes the {@code TrustedListsCertificateSource} with the restored results.
+	 * The validation results are restored only when the configured LOTL/TL signing certificates are the same
+	 * as on the snapshot creation. On the following refresh, a conditional {@code DSSFileLoader} downloads only
+	 * the documents modified since the snapshot creation, and only the modified documents and the documents without
+	 * a restored validation result are parsed or validated again.
+	 *
+	 * NOTE: the TL/LOTL sources are to be configured before loading the snapshot, with the same configuration as
+	 * on the snapshot creation. The snapshot is rejected when its HMAC does not match the one computed with
+	 * the given {@code key}.
+	 *
+	 * @param inputStream {@link InputStream} to read the snapshot from
+	 * @param key the secret key used to compute the HMAC of the snapshot
+	 */
+	public synchronized void loadCacheSnapshot(InputStream inputStream, byte[] key) {
+		Objects.requireNonNull(inputStream, "The InputStream must be defined!");
+		Objects.requireNonNull(key, "The snapshot key must be defined!");
+		CacheSnapshot snapshot = CacheSnapshot.readFrom(inputStream, key);
+		cacheAccessFactory.getSnapshotCacheAccess().restore(snapshot, getTrustAnchorsFingerprint());
+		synchronizeTLCertificateSource();
+	}
+
+	/**
+	 * Computes a fingerprint of the signing certificates configured for the LOTL and TL sources
+	 *
+	 * @return SHA-256 digest of the configured trust anchors
+	 */
+	private byte[] getTrustAnchorsFingerprint() {
+		final Set<String> trustAnchors = new TreeSet<>();
+		if (listOfTrustedListSources != null) {
+			for (LOTLSource lotlSource : listOfTrustedListSources) {
+				addTrustAnchors(trustAnchors, lotlSource, lotlSource.isPivotSupport() ? "PIVOT" : "LOTL");
+			}
+		}
+		if (trustedListSources != null) {
+			for (TLSource tlSource : trustedListSources) {
+				addTrustAnchors(trustAnchors, tlSource, "TL");
+			}
+		}
+		return DSSUtils.digest(DigestAlgorithm.SHA256, String.join("\n", trustAnchors).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private void addTrustAnchors(Set<String> trustAnchors, TLSource tlSource, String sourceType) {
+		final CertificateSource certificateSource = tlSource.getCertificateSource();
+		if (certificateSource == null) {
+			trustAnchors.add(String.format("%s;%s;", sourceType, tlSource.getUrl()));
+			return;
+		}
+		for (CertificateToken certificateToken : certificateSource.getCertificates()) {
+			trustAnchors.add(String.format("%s;%s;%s", sourceType, tlSource.getUrl(),
+					Utils.toHex(certificateToken.getDigest(DigestAlgorithm.SHA256))));
+		}
+	}
+
 	private void refresh(DSSFileLoader dssFileLoader) {
 
 		List<TLSource> currentTLSources = new ArrayList<>();
@@ -90,7 +90,7 @@ public abstract class AbstractAnalysis  {
 		DSSDocument document = null;
 		try {
 			LOG.debug("Downloading url '{}'...", url);
-			XmlDownloadTask downloadTask = new XmlDownloadTask(dssFileLoader, url);
+			XmlDownloadTask downloadTask = new XmlDownloadTask(dssFileLoader, url, cacheAccess.getCachedDownloadResult());
 			XmlDownloadResult downloadResult = downloadTask.get();
 			if (!cacheAccess.isUpToDate(downloadResult)) {
 				cacheAccess.update(downloadResult);
@@ -31,6 +31,7 @@ import eu.europa.esig.dss.spi.tsl.TrustService;
 import eu.europa.esig.dss.spi.tsl.TrustServiceProvider;
 import eu.europa.esig.dss.spi.tsl.TrustServiceStatusAndInformationExtensions;
 import eu.europa.esig.dss.spi.tsl.TrustedListsCertificateSource;
+import eu.europa.esig.dss.spi.tsl.ValidationInfoRecord;
 import eu.europa.esig.dss.spi.tsl.builder.TrustServiceProviderBuilder;
 import eu.europa.esig.dss.spi.util.TimeDependentValues;
 import eu.europa.esig.dss.tsl.cache.CacheKey;
@@ -44,9 +45,12 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.Set;
 
 /**
  * Loads trusted certificate source
@@ -108,13 +112,13 @@ public class TrustedListCertificateSourceSynchronizer {
 			ValidationJobSummaryBuilder summaryBuilder = new ValidationJobSummaryBuilder(cacheAccess, tlSources, lotlSources);
 
 			TLValidationJobSummary summary = summaryBuilder.build();
-			if (isCertificateSyncNeeded(summary)) {
-				synchronizeCertificates(summary);
-			}
+			final Set<String> changedTLUrls = getChangedTLUrls(summary);
 			syncCache(summary);
 
 			// re-build summary after synchronization
 			summary = summaryBuilder.build();
+			// trust properties refer to the synchronized summary (up-to-date loading dates)
+			synchronizeCertificates(summary, changedTLUrls);
 			certificateSource.setSummary(summary);
 
 		} catch (Exception e) {
@@ -122,40 +126,69 @@ public class TrustedListCertificateSourceSynchronizer {
 		}
 	}
 
-	private boolean isCertificateSyncNeeded(TLValidationJobSummary summary) {
+	/**
+	 * Returns URLs of the trusted lists which have been changed since the last synchronization
+	 * (updated parsing or validation result of the TL or of its LOTL)
+	 *
+	 * @param summary {@link TLValidationJobSummary} built before the cache synchronization
+	 * @return a set of {@link String} TL URLs
+	 */
+	private Set<String> getChangedTLUrls(TLValidationJobSummary summary) {
+		final Set<String> changedTLUrls = new HashSet<>();
 		for (LOTLInfo lotlInfo : summary.getLOTLInfos()) {
-			if (isTLParsingDesyncOrError(lotlInfo.getTLInfos())) {
-				return true;
-			}
+			addChangedTLUrls(changedTLUrls, lotlInfo.getTLInfos(), isChanged(lotlInfo));
 		}
-		return isTLParsingDesyncOrError(summary.getOtherTLInfos());
+		addChangedTLUrls(changedTLUrls, summary.getOtherTLInfos(), false);
+		return changedTLUrls;
 	}
 
-	private boolean isTLParsingDesyncOrError(List<TLInfo> tlInfos) {
+	private void addChangedTLUrls(Set<String> changedTLUrls, List<TLInfo> tlInfos, boolean lotlChanged) {
 		for (TLInfo tlInfo : tlInfos) {
-			ParsingInfoRecord parsingCacheInfo = tlInfo.getParsingCacheInfo();
-			if (parsingCacheInfo == null || parsingCacheInfo.isDesynchronized() || parsingCacheInfo.isError()) {
-				return true;
+			if (lotlChanged || isChanged(tlInfo)) {
+				changedTLUrls.add(tlInfo.getUrl());
 			}
 		}
-		return false;
 	}
 
-	private void synchronizeCertificates(TLValidationJobSummary summary) {
-		final Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts = new WeakHashMap<>();
+	/**
+	 * Synchronizes the certificates only for trusted lists which have been changed since the last synchronization,
+	 * added or removed. The certificates and trust services of other trusted lists are kept, but their trust
+	 * properties are re-pointed to the current {@code TLInfo} and {@code LOTLInfo}, in order to report
+	 * up-to-date loading dates.
+	 *
+	 * @param summary {@link TLValidationJobSummary} built after the cache synchronization
+	 * @param changedTLUrls a set of {@link String} URLs of the changed trusted lists
+	 */
+	private void synchronizeCertificates(TLValidationJobSummary summary, Set<String> changedTLUrls) {
+		final Set<String> previousTLUrls = certificateSource.getTrustedListUrls();
+		final Set<String> synchronizedTLUrls = new HashSet<>();
+		final Set<String> updatedTLUrls = new HashSet<>();
+		final Set<String> extractedTLUrls = new HashSet<>();
+		final Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts = new HashMap<>();
 		for (LOTLInfo lotlInfo : summary.getLOTLInfos()) {
 			if (synchronizationStrategy.canBeSynchronized(lotlInfo)) {
-				addCertificatesFromTLs(trustPropertiesByCerts, lotlInfo.getTLInfos(), lotlInfo);
+				addCertificatesFromTLs(trustPropertiesByCerts, lotlInfo.getTLInfos(), lotlInfo, changedTLUrls,
+						previousTLUrls, synchronizedTLUrls, updatedTLUrls, extractedTLUrls);
 			} else {
 				LOG.warn("Certificate synchronization is skipped for LOTL '{}' and its TLs", lotlInfo.getUrl());
 			}
 		}
-		addCertificatesFromTLs(trustPropertiesByCerts, summary.getOtherTLInfos(), null);
-		certificateSource.setTrustPropertiesByCertificates(trustPropertiesByCerts);
+		addCertificatesFromTLs(trustPropertiesByCerts, summary.getOtherTLInfos(), null, changedTLUrls,
+				previousTLUrls, synchronizedTLUrls, updatedTLUrls, extractedTLUrls);
+
+		for (String tlUrl : previousTLUrls) {
+			if (!synchronizedTLUrls.contains(tlUrl)) {
+				updatedTLUrls.add(tlUrl);
+			}
+		}
+		LOG.debug("Certificates from {} TL(s) are to be extracted, {} TL(s) are to be updated",
+				extractedTLUrls.size(), updatedTLUrls.size());
+		certificateSource.updateTrustPropertiesByCertificates(trustPropertiesByCerts, updatedTLUrls);
 	}
 
 	private void addCertificatesFromTLs(final Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts, final List<TLInfo> tlInfos,
-			final LOTLInfo relatedLOTL) {
+			final LOTLInfo relatedLOTL, final Set<String> changedTLUrls, final Set<String> previousTLUrls,
+			final Set<String> synchronizedTLUrls, final Set<String> updatedTLUrls, final Set<String> extractedTLUrls) {
 
 		for (final TLInfo tlInfo : tlInfos) {
 			if (synchronizationStrategy.canBeSynchronized(tlInfo)) {
@@ -163,20 +196,13 @@ public class TrustedListCertificateSourceSynchronizer {
 				if (parsingCacheInfo == null || !parsingCacheInfo.isResultExist()) {
 					LOG.warn("No Parsing result for TLInfo with url [{}]", tlInfo.getUrl());
 				} else {
-					final List<TrustServiceProvider> trustServiceProviders = parsingCacheInfo.getTrustServiceProviders();
-					if (Utils.isCollectionNotEmpty(trustServiceProviders)) {
-						for (TrustServiceProvider original : trustServiceProviders) {
-							TrustServiceProvider detached = getDetached(original);
-							for (TrustService trustService : original.getServices()) {
-								TimeDependentValues<TrustServiceStatusAndInformationExtensions> statusAndInformationExtensions = trustService
-										.getStatusAndInformationExtensions();
-								TrustProperties trustProperties = getTrustProperties(
-										relatedLOTL, tlInfo, detached, statusAndInformationExtensions);
-								for (CertificateToken certificate : trustService.getCertificates()) {
-									addCertificate(trustPropertiesByCerts, certificate, trustProperties);
-								}
-							}
-						}
+					synchronizedTLUrls.add(tlInfo.getUrl());
+					updatedTLUrls.add(tlInfo.getUrl());
+					if (changedTLUrls.contains(tlInfo.getUrl()) || !previousTLUrls.contains(tlInfo.getUrl())) {
+						extractedTLUrls.add(tlInfo.getUrl());
+						addCertificatesFromTL(trustPropertiesByCerts, tlInfo, relatedLOTL);
+					} else {
+						refreshCertificatesFromTL(trustPropertiesByCerts, tlInfo, relatedLOTL);
 					}
 				}
 			} else {
@@ -185,6 +211,50 @@ public class TrustedListCertificateSourceSynchronizer {
 		}
 	}
 
+	private boolean isChanged(TLInfo tlInfo) {
+		ParsingInfoRecord parsingCacheInfo = tlInfo.getParsingCacheInfo();
+		ValidationInfoRecord validationCacheInfo = tlInfo.getValidationCacheInfo();
+		return parsingCacheInfo == null || parsingCacheInfo.isDesynchronized() || parsingCacheInfo.isError() ||
+				validationCacheInfo == null || validationCacheInfo.isDesynchronized() || validationCacheInfo.isError();
+	}
+
+	private void addCertificatesFromTL(final Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts, final TLInfo tlInfo,
+			final LOTLInfo relatedLOTL) {
+		final List<TrustServiceProvider> trustServiceProviders = tlInfo.getParsingCacheInfo().getTrustServiceProviders();
+		if (Utils.isCollectionNotEmpty(trustServiceProviders)) {
+			for (TrustServiceProvider original : trustServiceProviders) {
+				TrustServiceProvider detached = getDetached(original);
+				for (TrustService trustService : original.getServices()) {
+					TimeDependentValues<TrustServiceStatusAndInformationExtensions> statusAndInformationExtensions = trustService
+							.getStatusAndInformationExtensions();
+					TrustProperties trustProperties = getTrustProperties(
+							relatedLOTL, tlInfo, detached, statusAndInformationExtensions);
+					for (CertificateToken certificate : trustService.getCertificates()) {
+						addCertificate(trustPropertiesByCerts, certificate, trustProperties);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Re-uses the certificates and trust services previously extracted from the unchanged TL,
+	 * within new trust properties pointing to the current {@code tlInfo} and {@code relatedLOTL}
+	 */
+	private void refreshCertificatesFromTL(final Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts, final TLInfo tlInfo,
+			final LOTLInfo relatedLOTL) {
+		// keeps a single instance per trust service, as on extraction
+		final Map<TrustProperties, TrustProperties> refreshed = new IdentityHashMap<>();
+		for (Map.Entry<CertificateToken, List<TrustProperties>> entry :
+				certificateSource.getTrustPropertiesByCertificates(tlInfo.getUrl()).entrySet()) {
+			for (TrustProperties previous : entry.getValue()) {
+				TrustProperties trustProperties = refreshed.computeIfAbsent(previous, p -> getTrustProperties(
+						relatedLOTL, tlInfo, p.getTrustServiceProvider(), p.getTrustService()));
+				addCertificate(trustPropertiesByCerts, entry.getKey(), trustProperties);
+			}
+		}
+	}
+
 	private void addCertificate(Map<CertificateToken, List<TrustProperties>> trustPropertiesByCerts, CertificateToken certificate,
 			TrustProperties trustProperties) {
 		List<TrustProperties> list = trustPropertiesByCerts.computeIfAbsent(certificate, k -> new ArrayList<>());
@@ -0,0 +1,239 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.cache;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.enumerations.Indication;
+import eu.europa.esig.dss.model.DSSException;
+import eu.europa.esig.dss.model.Digest;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.spi.client.http.RemoteResourceVersion;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.x509.CommonCertificateSource;
+import eu.europa.esig.dss.tsl.cache.access.CacheAccessByKey;
+import eu.europa.esig.dss.tsl.cache.access.CacheAccessFactory;
+import eu.europa.esig.dss.tsl.download.XmlDownloadResult;
+import eu.europa.esig.dss.tsl.parsing.TLParsingResult;
+import eu.europa.esig.dss.tsl.validation.ValidationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CacheSnapshotTest {
+
+	private static final CacheKey KEY = new CacheKey("https://example.com/tl.xml");
+
+	private static final byte[] TL_CONTENT = "<TrustServiceStatusList/>".getBytes();
+
+	private static final byte[] SNAPSHOT_KEY = "snapshot-secret-key".getBytes();
+
+	private static final byte[] TRUST_ANCHORS_FINGERPRINT = DSSUtils.digest(DigestAlgorithm.SHA256, "trust-anchors".getBytes());
+
+	private CacheAccessFactory cacheAccessFactory;
+
+	@BeforeEach
+	public void init() {
+		cacheAccessFactory = new CacheAccessFactory();
+
+		CacheAccessByKey cacheAccess = cacheAccessFactory.getCacheAccess(KEY);
+		cacheAccess.update(new XmlDownloadResult(new InMemoryDocument(TL_CONTENT), getDigest(TL_CONTENT),
+				new RemoteResourceVersion("\"v1\"", null)));
+
+		TLParsingResult parsingResult = new TLParsingResult();
+		parsingResult.setTerritory("BE");
+		parsingResult.setSequenceNumber(42);
+		cacheAccess.update(parsingResult);
+
+		cacheAccess.update(new ValidationResult(Indication.TOTAL_PASSED, null, new Date(), null, new CommonCertificateSource()));
+	}
+
+	@Test
+	public void writeAndRestoreTest() {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		cacheAccessFactory.getSnapshotCacheAccess().createSnapshot(TRUST_ANCHORS_FINGERPRINT).writeTo(baos, SNAPSHOT_KEY);
+
+		CacheSnapshot snapshot = CacheSnapshot.readFrom(new ByteArrayInputStream(baos.toByteArray()), SNAPSHOT_KEY);
+		assertNotNull(snapshot.getCreationTime());
+		assertEquals(1, snapshot.getEntries().size());
+
+		CacheAccessFactory restoredCacheAccessFactory = new CacheAccessFactory();
+		assertEquals(1, restoredCacheAccessFactory.getSnapshotCacheAccess().restore(snapshot, TRUST_ANCHORS_FINGERPRINT));
+
+		CacheAccessByKey cacheAccess = restoredCacheAccessFactory.getCacheAccess(KEY);
+		assertNotNull(cacheAccess.getCachedDownloadResult().getDSSDocument());
+		assertArrayEquals(TL_CONTENT, DSSUtils.toByteArray(cacheAccess.getCachedDownloadResult().getDSSDocument()));
+		assertEquals(new RemoteResourceVersion("\"v1\"", null), cacheAccess.getCachedDownloadResult().getResourceVersion());
+
+		// the same document is downloaded : no update of the download record is required
+		assertTrue(cacheAccess.isUpToDate(new XmlDownloadResult(new InMemoryDocument(TL_CONTENT), getDigest(TL_CONTENT))));
+
+		// the parsing and the validation results are restored
+		assertFalse(cacheAccess.isParsingRefreshNeeded());
+		assertEquals("BE", cacheAccess.getParsingReadOnlyResult().getTerritory());
+		assertEquals(42, cacheAccess.getParsingReadOnlyResult().getSequenceNumber());
+		assertFalse(cacheAccess.isValidationRefreshNeeded());
+		assertEquals(Indication.TOTAL_PASSED, cacheAccess.getValidationReadOnlyResult().getIndication());
+
+		// the record is already present, the snapshot is ignored
+		assertEquals(0, restoredCacheAccessFactory.getSnapshotCacheAccess().restore(snapshot, TRUST_ANCHORS_FINGERPRINT));
+	}
+
+	@Test
+	public void otherTrustAnchorsTest() {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		cacheAccessFactory.getSnapshotCacheAccess().createSnapshot(TRUST_ANCHORS_FINGERPRINT).writeTo(baos, SNAPSHOT_KEY);
+
+		byte[] otherFingerprint = DSSUtils.digest(DigestAlgorithm.SHA256, "other-trust-anchors".getBytes());
+		CacheAccessFactory restoredCacheAccessFactory = new CacheAccessFactory();
+		restoredCacheAccessFactory.getSnapshotCacheAccess().restore(
+				CacheSnapshot.readFrom(new ByteArrayInputStream(baos.toByteArray()), SNAPSHOT_KEY), otherFingerprint);
+
+		// the signature is verified again against the current trust anchors
+		CacheAccessByKey cacheAccess = restoredCacheAccessFactory.getCacheAccess(KEY);
+		assertFalse(cacheAccess.isParsingRefreshNeeded());
+		assertTrue(cacheAccess.isValidationRefreshNeeded());
+		assertNull(cacheAccess.getValidationReadOnlyResult().getIndication());
+	}
+
+	@Test
+	public void errorResultsTest() {
+		CacheAccessByKey cacheAccess = cacheAccessFactory.getCacheAccess(KEY);
+		cacheAccess.parsingError(new DSSException("Unable to parse the TL"));
+		cacheAccess.validationError(new DSSException("Unable to validate the TL"));
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		cacheAccessFactory.getSnapshotCacheAccess().createSnapshot(TRUST_ANCHORS_FINGERPRINT).writeTo(baos, SNAPSHOT_KEY);
+
+		CacheAccessFactory restoredCacheAccessFactory = new CacheAccessFactory();
+		restoredCacheAccessFactory.getSnapshotCacheAccess().restore(
+				CacheSnapshot.readFrom(new ByteArrayInputStream(baos.toByteArray()), SNAPSHOT_KEY), TRUST_ANCHORS_FINGERPRINT);
+
+		CacheAccessByKey restoredCacheAccess = restoredCacheAccessFactory.getCacheAccess(KEY);
+		assertTrue(restoredCacheAccess.isParsingRefreshNeeded());
+		assertTrue(restoredCacheAccess.isValidationRefreshNeeded());
+	}
+
+	@Test
+	public void modifiedDocumentTest() {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		cacheAccessFactory.getSnapshotCacheAccess().createSnapshot(TRUST_ANCHORS_FINGERPRINT).writeTo(baos, SNAPSHOT_KEY);
+
+		CacheAccessFactory restoredCacheAccessFactory = new CacheAccessFactory();
+		restoredCacheAccessFactory.getSnapshotCacheAccess().restore(CacheSnapshot.readFrom(new ByteArrayInputStream(baos.toByteArray()), SNAPSHOT_KEY),
+				TRUST_ANCHORS_FINGERPRINT);
+
+		byte[] newContent = "<TrustServiceStatusList Id=\"new\"/>".getBytes();
+		CacheAccessByKey cacheAccess = restoredCacheAccessFactory.getCacheAccess(KEY);
+		assertFalse(cacheAccess.isUpToDate(new XmlDownloadResult(new InMemoryDocument(newContent), getDigest(newContent))));
+	}
+
+	@Test
+	public void invalidSnapshotTest() {
+		assertThrows(DSSException.class, () -> CacheSnapshot.readFrom(new ByteArrayInputStream(TL_CONTENT), SNAPSHOT_KEY));
+	}
+
+	@Test
+	public void tamperedSnapshotTest() {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		cacheAccessFactory.getSnapshotCacheAccess().createSnapshot(TRUST_ANCHORS_FINGERPRINT).writeTo(baos, SNAPSHOT_KEY);
+
+		byte[] snapshotBinaries = baos.toByteArray();
+		snapshotBinaries[snapshotBinaries.length - 10] ^= 1;
+		DSSException exception = assertThrows(DSSException.class,
+				() -> CacheSnapshot.readFrom(new ByteArrayInputStream(snapshotBinaries), SNAPSHOT_KEY));
+		assertTrue(exception.getMessage().contains("HMAC"));
+	}
+
+	@Test
+	public void wrongKeyTest() {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		cacheAccessFactory.getSnapshotCacheAccess().createSnapshot(TRUST_ANCHORS_FINGERPRINT).writeTo(baos, SNAPSHOT_KEY);
+
+		byte[] wrongKey = "another-secret-key".getBytes();
+		DSSException exception = assertThrows(DSSException.class,
+				() -> CacheSnapshot.readFrom(new ByteArrayInputStream(baos.toByteArray()), wrongKey));
+		assertTrue(exception.getMessage().contains("HMAC"));
+	}
+
+	@Test
+	public void notAllowedClassTest() throws Exception {
+		byte[] snapshotBinaries = getSignedSnapshotBinaries(new StringBuilder("not a snapshot"));
+		DSSException exception = assertThrows(DSSException.class,
+				() -> CacheSnapshot.readFrom(new ByteArrayInputStream(snapshotBinaries), SNAPSHOT_KEY));
+		assertTrue(exception.getMessage().contains("java.lang.StringBuilder"));
+	}
+
+	@Test
+	public void jdkCollectionNotAllowedTest() throws Exception {
+		byte[] snapshotBinaries = getSignedSnapshotBinaries(new ArrayList<>());
+		DSSException exception = assertThrows(DSSException.class,
+				() -> CacheSnapshot.readFrom(new ByteArrayInputStream(snapshotBinaries), SNAPSHOT_KEY));
+		assertTrue(exception.getMessage().contains("java.util.ArrayList"));
+	}
+
+	@Test
+	public void maxDepthTest() throws Exception {
+		List<Object> list = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			List<Object> parent = new ArrayList<>();
+			parent.add(list);
+			list = parent;
+		}
+		byte[] snapshotBinaries = getSignedSnapshotBinaries(list);
+		assertThrows(DSSException.class, () -> CacheSnapshot.readFrom(new ByteArrayInputStream(snapshotBinaries), SNAPSHOT_KEY));
+	}
+
+	private byte[] getSignedSnapshotBinaries(Object object) throws Exception {
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(new GZIPOutputStream(content))) {
+			oos.writeObject(object);
+		}
+		Mac mac = Mac.getInstance("HmacSHA256");
+		mac.init(new SecretKeySpec(SNAPSHOT_KEY, "HmacSHA256"));
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		baos.write(mac.doFinal(content.toByteArray()));
+		baos.write(content.toByteArray());
+		return baos.toByteArray();
+	}
+
+	private Digest getDigest(byte[] content) {
+		return new Digest(DigestAlgorithm.SHA256, DSSUtils.digest(DigestAlgorithm.SHA256, content));
+	}
+
+}
@@ -23,7 +23,9 @@ package eu.europa.esig.dss.tsl.download;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.util.HashMap;
@@ -31,12 +33,18 @@ import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import eu.europa.esig.dss.model.DSSDocument;
 import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.service.http.commons.FileCacheDataLoader;
 import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.client.http.ConditionalDataLoader;
+import eu.europa.esig.dss.spi.client.http.ConditionalGetResult;
 import eu.europa.esig.dss.spi.client.http.DSSFileLoader;
 import eu.europa.esig.dss.spi.client.http.MemoryDataLoader;
+import eu.europa.esig.dss.spi.client.http.RemoteResourceVersion;
+import eu.europa.esig.dss.tsl.cache.CacheKey;
+import eu.europa.esig.dss.tsl.cache.DownloadCache;
 
 public class XmlDownloadTaskTest {
 
@@ -99,4 +107,80 @@ public class XmlDownloadTaskTest {
 		assertNotEquals(first.getDigest(), downloadResultDiff.getDigest());
 	}
 
+	@Test
+	public void conditionalDownload() {
+		MockConditionalFileLoader fileLoader = new MockConditionalFileLoader(
+				new FileDocument(new File("src/test/resources/sample.xml")), new RemoteResourceVersion("\"v1\"", null));
+
+		XmlDownloadResult downloadResult = new XmlDownloadTask(fileLoader, "sample").get();
+		assertNotNull(downloadResult.getDigest());
+		assertEquals(fileLoader.resourceVersion, downloadResult.getResourceVersion());
+		assertEquals(1, fileLoader.downloads);
+
+		XmlDownloadResult secondResult = new XmlDownloadTask(fileLoader, "sample", downloadResult).get();
+		assertSame(downloadResult, secondResult);
+		assertEquals(1, fileLoader.downloads);
+
+		fileLoader.resourceVersion = new RemoteResourceVersion("\"v2\"", null);
+		secondResult = new XmlDownloadTask(fileLoader, "sample", downloadResult).get();
+		assertNotEquals(downloadResult, secondResult);
+		assertEquals(downloadResult.getDigest(), secondResult.getDigest());
+		assertEquals(fileLoader.resourceVersion, secondResult.getResourceVersion());
+		assertEquals(2, fileLoader.downloads);
+	}
+
+	@Test
+	public void versionChangedOnDesynchronizedEntry() {
+		FileDocument document = new FileDocument(new File("src/test/resources/sample.xml"));
+		CacheKey cacheKey = new CacheKey("sample");
+		DownloadCache downloadCache = new DownloadCache();
+
+		MockConditionalFileLoader fileLoader = new MockConditionalFileLoader(document, new RemoteResourceVersion("\"v1\"", null));
+		downloadCache.update(cacheKey, new XmlDownloadTask(fileLoader, "sample").get());
+		assertTrue(downloadCache.isDesync(cacheKey));
+
+		// the same content with another version does not require a new synchronization
+		fileLoader.resourceVersion = new RemoteResourceVersion("\"v2\"", null);
+		XmlDownloadResult newVersionResult = new XmlDownloadTask(fileLoader, "sample").get();
+		assertTrue(downloadCache.isUpToDate(cacheKey, newVersionResult));
+		assertEquals(fileLoader.resourceVersion, downloadCache.get(cacheKey).getCachedResult().getResourceVersion());
+		assertTrue(downloadCache.isDesync(cacheKey));
+	}
+
+	private static class MockConditionalFileLoader implements DSSFileLoader, ConditionalDataLoader {
+
+		private static final long serialVersionUID = -2125440386373632327L;
+
+		private final DSSDocument document;
+
+		private RemoteResourceVersion resourceVersion;
+
+		private int downloads = 0;
+
+		MockConditionalFileLoader(DSSDocument document, RemoteResourceVersion resourceVersion) {
+			this.document = document;
+			this.resourceVersion = resourceVersion;
+		}
+
+		@Override
+		public ConditionalGetResult conditionalGet(String url, RemoteResourceVersion cachedVersion) {
+			if (resourceVersion.equals(cachedVersion)) {
+				return ConditionalGetResult.notModified(resourceVersion);
+			}
+			return new ConditionalGetResult(getDocument(url), resourceVersion);
+		}
+
+		@Override
+		public DSSDocument getDocument(String url) {
+			++downloads;
+			return document;
+		}
+
+		@Override
+		public boolean remove(String url) {
+			return false;
+		}
+
+	}
+
 }
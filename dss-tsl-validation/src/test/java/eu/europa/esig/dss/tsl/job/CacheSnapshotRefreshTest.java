@@ -0,0 +1,221 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ *
+ * This file is part of the "DSS - Digital Signature Services" project.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.tsl.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.service.http.commons.FileCacheDataLoader;
+import eu.europa.esig.dss.spi.DSSUtils;
+import eu.europa.esig.dss.spi.tsl.InfoRecord;
+import eu.europa.esig.dss.spi.tsl.LOTLInfo;
+import eu.europa.esig.dss.spi.tsl.TLInfo;
+import eu.europa.esig.dss.spi.tsl.TrustProperties;
+import eu.europa.esig.dss.spi.tsl.TrustServiceStatusAndInformationExtensions;
+import eu.europa.esig.dss.spi.tsl.TrustedListsCertificateSource;
+import eu.europa.esig.dss.spi.x509.CertificateSource;
+import eu.europa.esig.dss.spi.x509.CommonCertificateSource;
+import eu.europa.esig.dss.tsl.source.LOTLSource;
+
+public class CacheSnapshotRefreshTest {
+
+	private static final byte[] SNAPSHOT_KEY = "snapshot-secret-key".getBytes();
+
+	private static final String LOTL_SIGNING_CERTIFICATE = "MIIG7zCCBNegAwIBAgIQEAAAAAAAnuXHXttK9Tyf2zANBgkqhkiG9w0BAQsFADBkMQswCQYDVQQGEwJCRTERMA8GA1UEBxMIQnJ1c3NlbHMxHDAaBgNVBAoTE0NlcnRpcG9zdCBOLlYuL1MuQS4xEzARBgNVBAMTCkNpdGl6ZW4gQ0ExDzANBgNVBAUTBjIwMTgwMzAeFw0xODA2MDEyMjA0MTlaFw0yODA1MzAyMzU5NTlaMHAxCzAJBgNVBAYTAkJFMSMwIQYDVQQDExpQYXRyaWNrIEtyZW1lciAoU2lnbmF0dXJlKTEPMA0GA1UEBBMGS3JlbWVyMRUwEwYDVQQqEwxQYXRyaWNrIEplYW4xFDASBgNVBAUTCzcyMDIwMzI5OTcwMIIBIjANBgkqhkiG9w0BAQEFAAOCAQ8AMIIBCgKCAQEAr7g7VriDY4as3R4LPOg7uPH5inHzaVMOwFb/8YOW+9IVMHz/V5dJAzeTKvhLG5S4Pk6Kd2E+h18FlRonp70Gv2+ijtkPk7ZQkfez0ycuAbLXiNx2S7fc5GG9LGJafDJgBgTQuQm1aDVLDQ653mqR5tAO+gEf6vs4zRESL3MkYXAUq+S/WocEaGpIheNVAF3iPSkvEe3LvUjF/xXHWF4aMvqGK6kXGseaTcn9hgTbceuW2PAiEr+eDTNczkwGBDFXwzmnGFPMRez3ONk/jIKhha8TylDSfI/MX3ODt0dU3jvJEKPIfUJixBPehxMJMwWxTjFbNu/CK7tJ8qT2i1S4VQIDAQABo4ICjzCCAoswHwYDVR0jBBgwFoAU2TQhPjpCJW3hu7++R0z4Aq3jL1QwcwYIKwYBBQUHAQEEZzBlMDkGCCsGAQUFBzAChi1odHRwOi8vY2VydHMuZWlkLmJlbGdpdW0uYmUvY2l0aXplbjIwMTgwMy5jcnQwKAYIKwYBBQUHMAGGHGh0dHA6Ly9vY3NwLmVpZC5iZWxnaXVtLmJlLzIwggEjBgNVHSAEggEaMIIBFjCCAQcGB2A4DAEBAgEwgfswLAYIKwYBBQUHAgEWIGh0dHA6Ly9yZXBvc2l0b3J5LmVpZC5iZWxnaXVtLmJlMIHKBggrBgEFBQcCAjCBvQyBukdlYnJ1aWsgb25kZXJ3b3JwZW4gYWFuIGFhbnNwcmFrZWxpamtoZWlkc2JlcGVya2luZ2VuLCB6aWUgQ1BTIC0gVXNhZ2Ugc291bWlzIMOgIGRlcyBsaW1pdGF0aW9ucyBkZSByZXNwb25zYWJpbGl0w6ksIHZvaXIgQ1BTIC0gVmVyd2VuZHVuZyB1bnRlcmxpZWd0IEhhZnR1bmdzYmVzY2hyw6Rua3VuZ2VuLCBnZW3DpHNzIENQUzAJBgcEAIvsQAECMDkGA1UdHwQyMDAwLqAsoCqGKGh0dHA6Ly9jcmwuZWlkLmJlbGdpdW0uYmUvZWlkYzIwMTgwMy5jcmwwDgYDVR0PAQH/BAQDAgZAMBMGA1UdJQQMMAoGCCsGAQUFBwMEMGwGCCsGAQUFBwEDBGAwXjAIBgYEAI5GAQEwCAYGBACORgEEMDMGBgQAjkYBBTApMCcWIWh0dHBzOi8vcmVwb3NpdG9yeS5laWQuYmVsZ2l1bS5iZRMCZW4wEwYGBACORgEGMAkGBwQAjkYBBgEwDQYJKoZIhvcNAQELBQADggIBACBY+OLhM7BryzXWklDUh9UK1+cDVboPg+lN1Et1lAEoxV4y9zuXUWLco9t8M5WfDcWFfDxyhatLedku2GurSJ1t8O/knDwLLyoJE1r2Db9VrdG+jtST+j/TmJHAX3yNWjn/9dsjiGQQuTJcce86rlzbGdUqjFTt5mGMm4zy4l/wKy6XiDKiZT8cFcOTevsl+l/vxiLiDnghOwTztVZhmWExeHG9ypqMFYmIucHQ0SFZre8mv3c7Df+VhqV/sY9xLERK3Ffk4l6B5qRPygImXqGzNSWiDISdYeUf4XoZLXJBEP7/36r4mlnP2NWQ+c1ORjesuDAZ8tD/yhMvR4DVG95EScjpTYv1wOmVB2lQrWnEtygZIi60HXfozo8uOekBnqWyDc1kuizZsYRfVNlwhCu7RsOq4zN8gkael0fejuSNtBf2J9A+rc9LQeu6AcdPauWmbxtJV93H46pFptsR8zXo+IJn5m2P9QPZ3mvDkzldNTGLG+ukhN7IF2CCcagt/WoVZLq3qKC35WVcqeoSMEE/XeSrf3/mIJ1OyFQm+tsfhTceOFDXuUgl3E86bR/f8Ur/bapwXpWpFxGIpXLGaJXbzQGSTtyNEYrdENlh71I3OeYdw3xmzU2B3tbaWREOXtj2xjyW2tIv+vvHG6sloR1QkIkGMFfzsT7W5U6ILetv";
+
+	@TempDir
+	File cacheDirectory;
+
+	private FileCacheDataLoader offlineFileLoader;
+
+	private TrustedListsCertificateSource trustedListsCertificateSource;
+
+	private byte[] snapshotBinaries;
+
+	@BeforeEach
+	public void init() {
+		Map<String, DSSDocument> urlMap = new HashMap<>();
+		urlMap.put("EU", new FileDocument("src/test/resources/lotlCache/EU.xml"));
+		urlMap.put("https://tsl.belgium.be/tsl-be.xml", new FileDocument("src/test/resources/lotlCache/BE.xml"));
+		urlMap.put("https://tsl.gov.cz/publ/TSL_CZ.xtsl", new FileDocument("src/test/resources/lotlCache/CZ.xml"));
+
+		offlineFileLoader = new FileCacheDataLoader();
+		offlineFileLoader.setCacheExpirationTime(Long.MAX_VALUE);
+		offlineFileLoader.setDataLoader(new MockDataLoader(urlMap));
+		offlineFileLoader.setFileCacheDirectory(cacheDirectory);
+
+		trustedListsCertificateSource = new TrustedListsCertificateSource();
+
+		TLValidationJob job = new TLValidationJob();
+		job.setOfflineDataLoader(offlineFileLoader);
+		job.setListOfTrustedListSources(europeanLOTL());
+		job.setTrustedListCertificateSource(trustedListsCertificateSource);
+		job.offlineRefresh();
+		assertTrue(trustedListsCertificateSource.getNumberOfCertificates() > 0);
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		job.writeCacheSnapshot(baos, SNAPSHOT_KEY);
+		snapshotBinaries = baos.toByteArray();
+	}
+
+	@Test
+	public void unchangedSnapshotTest() throws InterruptedException {
+		TrustedListsCertificateSource restoredCertificateSource = new TrustedListsCertificateSource();
+
+		TLValidationJob restoredJob = new TLValidationJob();
+		restoredJob.setOfflineDataLoader(offlineFileLoader);
+		restoredJob.setListOfTrustedListSources(europeanLOTL());
+		restoredJob.setTrustedListCertificateSource(restoredCertificateSource);
+		restoredJob.loadCacheSnapshot(new ByteArrayInputStream(snapshotBinaries), SNAPSHOT_KEY);
+
+		// the certificate source is populated from the snapshot, before any refresh
+		assertEquals(trustedListsCertificateSource.getNumberOfCertificates(), restoredCertificateSource.getNumberOfCertificates());
+		assertTrustServicesEqual(restoredCertificateSource);
+
+		Date loadTime = new Date();
+		Thread.sleep(10);
+		restoredJob.offlineRefresh();
+
+		// the documents are not changed : no parsing or validation is performed on refresh
+		List<InfoRecord> parsingRecords = getParsingRecords(restoredCertificateSource);
+		List<InfoRecord> validationRecords = getValidationRecords(restoredCertificateSource);
+		assertEquals(3, parsingRecords.size());
+		assertEquals(3, validationRecords.size());
+		assertNotChangedSince(parsingRecords, loadTime);
+		assertNotChangedSince(validationRecords, loadTime);
+
+		assertEquals(trustedListsCertificateSource.getNumberOfCertificates(), restoredCertificateSource.getNumberOfCertificates());
+		assertTrustServicesEqual(restoredCertificateSource);
+	}
+
+	@Test
+	public void otherTrustAnchorsTest() throws InterruptedException {
+		LOTLSource lotlSource = europeanLOTL();
+		lotlSource.getCertificateSource().addCertificate(DSSUtils.loadCertificate(new File("src/test/resources/pe-signing-cert.cer")));
+
+		TrustedListsCertificateSource restoredCertificateSource = new TrustedListsCertificateSource();
+
+		TLValidationJob restoredJob = new TLValidationJob();
+		restoredJob.setOfflineDataLoader(offlineFileLoader);
+		restoredJob.setListOfTrustedListSources(lotlSource);
+		restoredJob.setTrustedListCertificateSource(restoredCertificateSource);
+		restoredJob.loadCacheSnapshot(new ByteArrayInputStream(snapshotBinaries), SNAPSHOT_KEY);
+
+		Date loadTime = new Date();
+		Thread.sleep(10);
+		restoredJob.offlineRefresh();
+
+		// the parsing results are reused, the signatures are verified against the new trust anchors
+		List<InfoRecord> parsingRecords = getParsingRecords(restoredCertificateSource);
+		assertEquals(3, parsingRecords.size());
+		assertNotChangedSince(parsingRecords, loadTime);
+		for (InfoRecord validationRecord : getValidationRecords(restoredCertificateSource)) {
+			assertTrue(validationRecord.getLastStateTransitionTime().after(loadTime));
+		}
+
+		assertEquals(trustedListsCertificateSource.getNumberOfCertificates(), restoredCertificateSource.getNumberOfCertificates());
+	}
+
+	private List<InfoRecord> getParsingRecords(TrustedListsCertificateSource certificateSource) {
+		List<InfoRecord> parsingRecords = new ArrayList<>();
+		for (LOTLInfo lotlInfo : certificateSource.getSummary().getLOTLInfos()) {
+			parsingRecords.add(lotlInfo.getParsingCacheInfo());
+			for (TLInfo tlInfo : lotlInfo.getTLInfos()) {
+				if (tlInfo.getDownloadCacheInfo().isResultExist()) {
+					parsingRecords.add(tlInfo.getParsingCacheInfo());
+				}
+			}
+		}
+		return parsingRecords;
+	}
+
+	private List<InfoRecord> getValidationRecords(TrustedListsCertificateSource certificateSource) {
+		List<InfoRecord> validationRecords = new ArrayList<>();
+		for (LOTLInfo lotlInfo : certificateSource.getSummary().getLOTLInfos()) {
+			validationRecords.add(lotlInfo.getValidationCacheInfo());
+			for (TLInfo tlInfo : lotlInfo.getTLInfos()) {
+				if (tlInfo.getDownloadCacheInfo().isResultExist()) {
+					validationRecords.add(tlInfo.getValidationCacheInfo());
+				}
+			}
+		}
+		return validationRecords;
+	}
+
+	private void assertNotChangedSince(List<InfoRecord> infoRecords, Date date) {
+		for (InfoRecord infoRecord : infoRecords) {
+			assertTrue(infoRecord.isResultExist());
+			assertFalse(infoRecord.getLastStateTransitionTime().after(date));
+		}
+	}
+
+	private void assertTrustServicesEqual(TrustedListsCertificateSource restoredCertificateSource) {
+		for (CertificateToken certificateToken : trustedListsCertificateSource.getCertificates()) {
+			assertEquals(getDescriptions(trustedListsCertificateSource.getTrustServices(certificateToken)),
+					getDescriptions(restoredCertificateSource.getTrustServices(certificateToken)));
+		}
+	}
+
+	private List<String> getDescriptions(List<TrustProperties> trustPropertiesList) {
+		List<String> descriptions = new ArrayList<>();
+		for (TrustProperties trustProperties : trustPropertiesList) {
+			StringBuilder sb = new StringBuilder();
+			sb.append(trustProperties.getTLInfo().getUrl()).append(trustProperties.getTrustServiceProvider().getNames());
+			for (TrustServiceStatusAndInformationExtensions status : trustProperties.getTrustService()) {
+				sb.append(status.getNames()).append(status.getType()).append(status.getStatus())
+						.append(status.getStartDate()).append(status.getEndDate())
+						.append(status.getConditionsForQualifiers()).append(status.getAdditionalServiceInfoUris())
+						.append(status.getServiceSupplyPoints()).append(status.getExpiredCertsRevocationInfo());
+			}
+			descriptions.add(sb.toString());
+		}
+		Collections.sort(descriptions);
+		return descriptions;
+	}
+
+	private LOTLSource europeanLOTL() {
+		LOTLSource lotl = new LOTLSource();
+		lotl.setUrl("EU");
+		CertificateSource certificateSource = new CommonCertificateSource();
+		certificateSource.addCertificate(DSSUtils.loadCertificateFromBase64EncodedString(LOTL_SIGNING_CERTIFICATE));
+		lotl.setCertificateSource(certificateSource);
+		return lotl;
+	}
+
+}
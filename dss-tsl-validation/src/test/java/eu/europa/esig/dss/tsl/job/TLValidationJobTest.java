@@ -35,6 +35,7 @@ import eu.europa.esig.dss.spi.tsl.TLInfo;
 import eu.europa.esig.dss.spi.tsl.TLValidationJobSummary;
 import eu.europa.esig.dss.spi.tsl.TrustService;
 import eu.europa.esig.dss.spi.tsl.TrustServiceProvider;
+import eu.europa.esig.dss.spi.tsl.TrustProperties;
 import eu.europa.esig.dss.spi.tsl.TrustServiceStatusAndInformationExtensions;
 import eu.europa.esig.dss.spi.tsl.TrustedListsCertificateSource;
 import eu.europa.esig.dss.spi.tsl.ValidationInfoRecord;
@@ -58,12 +59,15 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -399,6 +403,89 @@ public class TLValidationJobTest {
 		assertEquals(czSigningCertificate, czTL.getValidationCacheInfo().getSigningCertificate());
 	}
 
+	@Test
+	public void trustPropertiesRefreshedWithUnchangedTLTest() throws InterruptedException {
+		updateTLUrl("src/test/resources/lotlCache/CZ.xml");
+
+		FileCacheDataLoader fileCacheDataLoader = new FileCacheDataLoader();
+		fileCacheDataLoader.setCacheExpirationTime(0);
+		fileCacheDataLoader.setDataLoader(new MockDataLoader(urlMap));
+		fileCacheDataLoader.setFileCacheDirectory(cacheDirectory);
+
+		TrustedListsCertificateSource trustedListsCertificateSource = new TrustedListsCertificateSource();
+
+		TLValidationJob tlValidationJob = new TLValidationJob();
+		tlValidationJob.setOnlineDataLoader(fileCacheDataLoader);
+		tlValidationJob.setCacheCleaner(cacheCleaner);
+		tlValidationJob.setTrustedListSources(czSource);
+		tlValidationJob.setTrustedListCertificateSource(trustedListsCertificateSource);
+		tlValidationJob.onlineRefresh();
+
+		TLInfo czTL = trustedListsCertificateSource.getSummary().getOtherTLInfos().get(0);
+		Date firstLoading = czTL.getDownloadCacheInfo().getLastSuccessSynchronizationTime();
+		assertNotNull(firstLoading);
+
+		CertificateToken trustedCertificate = czTL.getParsingCacheInfo().getTrustServiceProviders().get(0)
+				.getServices().get(0).getCertificates().get(0);
+		List<TrustProperties> trustServices = trustedListsCertificateSource.getTrustServices(trustedCertificate);
+		assertTrue(Utils.isCollectionNotEmpty(trustServices));
+		assertEquals(firstLoading, trustServices.get(0).getTLInfo().getDownloadCacheInfo().getLastSuccessSynchronizationTime());
+
+		Thread.sleep(10);
+
+		// the same content is downloaded again
+		tlValidationJob.onlineRefresh();
+
+		czTL = trustedListsCertificateSource.getSummary().getOtherTLInfos().get(0);
+		Date secondLoading = czTL.getDownloadCacheInfo().getLastSuccessSynchronizationTime();
+		assertTrue(secondLoading.after(firstLoading));
+
+		trustServices = trustedListsCertificateSource.getTrustServices(trustedCertificate);
+		assertTrue(Utils.isCollectionNotEmpty(trustServices));
+		for (TrustProperties trustProperties : trustServices) {
+			assertEquals(secondLoading, trustProperties.getTLInfo().getDownloadCacheInfo().getLastSuccessSynchronizationTime());
+		}
+	}
+
+	@Test
+	public void cacheSnapshotTest() {
+		byte[] snapshotKey = "snapshot-secret-key".getBytes();
+
+		TLValidationJob lotlValidationJob = getLOTLValidationJob();
+		TrustedListsCertificateSource trustedListsCertificateSource = new TrustedListsCertificateSource();
+		lotlValidationJob.setTrustedListCertificateSource(trustedListsCertificateSource);
+		lotlValidationJob.offlineRefresh();
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		lotlValidationJob.writeCacheSnapshot(baos, snapshotKey);
+
+		TrustedListsCertificateSource restoredCertificateSource = new TrustedListsCertificateSource();
+
+		TLValidationJob restoredValidationJob = new TLValidationJob();
+		restoredValidationJob.setOfflineDataLoader(offlineFileLoader);
+		restoredValidationJob.setListOfTrustedListSources(lotlSource);
+		restoredValidationJob.setTrustedListCertificateSource(restoredCertificateSource);
+		restoredValidationJob.loadCacheSnapshot(new ByteArrayInputStream(baos.toByteArray()), snapshotKey);
+		restoredValidationJob.offlineRefresh();
+
+		TLValidationJobSummary summary = trustedListsCertificateSource.getSummary();
+		TLValidationJobSummary restoredSummary = restoredCertificateSource.getSummary();
+		assertEquals(summary.getNumberOfProcessedLOTLs(), restoredSummary.getNumberOfProcessedLOTLs());
+		assertEquals(summary.getNumberOfProcessedTLs(), restoredSummary.getNumberOfProcessedTLs());
+		assertEquals(trustedListsCertificateSource.getNumberOfCertificates(), restoredCertificateSource.getNumberOfCertificates());
+
+		List<TLInfo> tlInfos = summary.getLOTLInfos().get(0).getTLInfos();
+		List<TLInfo> restoredTLInfos = restoredSummary.getLOTLInfos().get(0).getTLInfos();
+		assertEquals(tlInfos.size(), restoredTLInfos.size());
+		for (int i = 0; i < tlInfos.size(); i++) {
+			assertEquals(tlInfos.get(i).getUrl(), restoredTLInfos.get(i).getUrl());
+			assertEquals(tlInfos.get(i).getParsingCacheInfo().getSequenceNumber(),
+					restoredTLInfos.get(i).getParsingCacheInfo().getSequenceNumber());
+			assertEquals(tlInfos.get(i).getValidationCacheInfo().getIndication(),
+					restoredTLInfos.get(i).getValidationCacheInfo().getIndication());
+		}
+	}
+
 	@Test
 	public void testNoSynchronization() {
 		updateTLUrl("src/test/resources/lotlCache/CZ.xml");
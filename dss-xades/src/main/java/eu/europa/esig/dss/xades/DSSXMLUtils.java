@@ -73,6 +73,7 @@ import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.security.PublicKey;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -1101,6 +1102,40 @@ public final class DSSXMLUtils {
 		}
 		return bytes;
 	}
+
+	/**
+	 * Applies transforms on a node and writes the output to the given {@code outputStream}.
+	 * Unlike {@code #applyTransforms(Node, List)}, the output of the last transform is not cached in memory.
+	 *
+	 * NOTE: if the list of {@code transforms} is empty, the node's bytes are written
+	 *
+	 * @param node {@link Node} to apply transforms on
+	 * @param transforms a list of {@link DSSTransform}s to execute on the node
+	 * @param outputStream {@link OutputStream} to write the output to
+	 */
+	public static void applyTransforms(final Node node, final List<DSSTransform> transforms, final OutputStream outputStream) {
+		try {
+			if (Utils.isCollectionNotEmpty(transforms)) {
+				DSSTransformOutput output = new DSSTransformOutput(node);
+				Iterator<DSSTransform> iterator = transforms.iterator();
+				while (iterator.hasNext()) {
+					DSSTransform transform = iterator.next();
+					output = transform.performTransform(output);
+					if (iterator.hasNext() && Utils.isArrayEmpty(output.getBytes())) {
+						throw new IllegalInputException(String.format(
+								"Unable to perform the next transform. The %s produced an empty output!", transform));
+					}
+				}
+				output.writeTo(outputStream);
+
+			} else {
+				outputStream.write(DomUtils.getNodeBytes(node));
+			}
+		} catch (IOException e) {
+			throw new DSSException(String.format("Unable to write the transforms output. Reason : %s", e.getMessage()), e);
+		}
+	}
+
 	/**
 	 * Applies transforms on document content and returns the byte array to be used for a
 	 * digest computation
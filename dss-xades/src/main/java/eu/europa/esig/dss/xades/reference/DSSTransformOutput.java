@@ -26,6 +26,7 @@ import org.apache.xml.security.signature.XMLSignatureInput;
 import org.w3c.dom.Node;
 
 import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * Represents an {@code XMLSignatureInput} wrapper
@@ -76,4 +77,18 @@ public class DSSTransformOutput {
         }
     }
 
+    /**
+     * Writes the output after performing transforms to the given {@code outputStream},
+     * without caching the result in memory
+     *
+     * @param outputStream {@link OutputStream} to write the output to
+     */
+    public void writeTo(OutputStream outputStream) {
+        try {
+            xmlSignatureInput.updateOutputStream(outputStream);
+        } catch (IOException | XMLSecurityException e) {
+            throw new DSSException(String.format("Cannot write Transform output. Reason : [%s]", e.getMessage()), e);
+        }
+    }
+
 }
@@ -20,14 +20,18 @@
  */
 package eu.europa.esig.dss.xades.reference;
 
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.DigestDocument;
 import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.spi.DSSUtils;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.xades.DSSXMLUtils;
 import eu.europa.esig.dss.xades.XAdESSignatureParameters;
 import eu.europa.esig.dss.xml.common.definition.DSSNamespace;
 import eu.europa.esig.dss.xml.utils.DomUtils;
+import eu.europa.esig.dss.xml.utils.XMLCanonicalizer;
 import eu.europa.esig.xmldsig.definition.XMLDSigAttribute;
 import eu.europa.esig.xmldsig.definition.XMLDSigElement;
 import org.slf4j.Logger;
@@ -36,6 +40,10 @@ import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
 import java.util.List;
 
 /**
@@ -94,6 +102,69 @@ public class ReferenceProcessor {
         return new InMemoryDocument(referenceOutputResult);
     }
 
+    /**
+     * Computes the base64-encoded digest of the given {@code DSSReference} output.
+     * Unlike {@code #getReferenceOutput(DSSReference)}, the reference output is digested on the fly
+     * and is not cached in memory. Detached XML documents referenced with a unique canonicalization transform
+     * are canonicalized in a streaming manner, without building a DOM.
+     *
+     * @param reference {@link DSSReference} to compute digest for
+     * @return {@link String} base64-encoded digest value
+     */
+    public String getReferenceDigest(DSSReference reference) {
+        final DigestAlgorithm digestAlgorithm = reference.getDigestMethodAlgorithm();
+        if (reference.getContents() instanceof DigestDocument || isUniqueBase64Transform(reference.getTransforms())) {
+            return reference.getContents().getDigest(digestAlgorithm);
+        }
+
+        final MessageDigest messageDigest = DSSUtils.getMessageDigest(digestAlgorithm);
+        if (isStreamCanonicalizationApplicable(reference)) {
+            try (InputStream is = reference.getContents().openStream();
+                 OutputStream os = new MessageDigestOutputStream(messageDigest)) {
+                XMLCanonicalizer.createInstance(reference.getTransforms().get(0).getAlgorithm()).canonicalize(is, os);
+                return Utils.toBase64(messageDigest.digest());
+
+            } catch (IOException | DSSException e) {
+                LOG.debug("Unable to canonicalize the reference content in a streaming manner : {}. " +
+                        "Process using DOM.", e.getMessage());
+                messageDigest.reset();
+            }
+        }
+
+        Node nodeToTransform = dereferenceNode(reference);
+        if (nodeToTransform == null) {
+            return reference.getContents().getDigest(digestAlgorithm);
+        }
+        try (OutputStream os = new MessageDigestOutputStream(messageDigest)) {
+            DSSXMLUtils.applyTransforms(nodeToTransform, reference.getTransforms(), os);
+        } catch (IOException e) {
+            throw new DSSException(String.format("Unable to compute the reference digest : %s", e.getMessage()), e);
+        }
+        return Utils.toBase64(messageDigest.digest());
+    }
+
+    /**
+     * Checks whether the reference content is a detached XML document with a unique canonicalization transform,
+     * that can be processed with a streaming canonicalizer
+     *
+     * @param reference {@link DSSReference} to check
+     * @return TRUE if the streaming canonicalization can be applied, FALSE otherwise
+     */
+    private boolean isStreamCanonicalizationApplicable(DSSReference reference) {
+        if (signatureParameters != null && signatureParameters.isEmbedXML()) {
+            return false;
+        }
+        final String uri = reference.getUri();
+        if (DSSXMLUtils.isSameDocumentReference(uri) || DomUtils.isElementReference(uri)) {
+            return false;
+        }
+        final List<DSSTransform> transforms = reference.getTransforms();
+        return transforms != null && transforms.size() == 1 && transforms.get(0) instanceof CanonicalizationTransform
+                && XMLCanonicalizer.canCanonicalizeStream(transforms.get(0).getAlgorithm())
+                // cheap check only, a non-conformant content falls back to the DOM processing on parsing failure
+                && DomUtils.startsWithXmlPreamble(reference.getContents());
+    }
+
     private Node dereferenceNode(DSSReference reference) {
         Document document = getDocumentToTransform(reference);
         /*
@@ -157,6 +228,35 @@ public class ReferenceProcessor {
         return transforms != null && transforms.size() == 1 && transforms.get(0) instanceof Base64Transform;
     }
 
+    /**
+     * Updates the given {@code MessageDigest} with all the written bytes
+     */
+    private static class MessageDigestOutputStream extends OutputStream {
+
+        /** The digest to be updated */
+        private final MessageDigest messageDigest;
+
+        /**
+         * Default constructor
+         *
+         * @param messageDigest {@link MessageDigest} to be updated
+         */
+        private MessageDigestOutputStream(MessageDigest messageDigest) {
+            this.messageDigest = messageDigest;
+        }
+
+        @Override
+        public void write(int b) {
+            messageDigest.update((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            messageDigest.update(b, off, len);
+        }
+
+    }
+
     /**
      * This method incorporates a list of references within the provided {@code referenceContainer} element
      *
@@ -189,8 +289,7 @@ public class ReferenceProcessor {
                 DSSXMLUtils.incorporateTransforms(referenceDom, dssReference.getTransforms(), namespace);
                 DSSXMLUtils.incorporateDigestMethod(referenceDom, dssReference.getDigestMethodAlgorithm(), namespace);
 
-                DSSDocument documentAfterTransforms = getReferenceOutput(dssReference);
-                String base64EncodedDigestBytes = documentAfterTransforms.getDigest(dssReference.getDigestMethodAlgorithm());
+                String base64EncodedDigestBytes = getReferenceDigest(dssReference);
                 DSSXMLUtils.incorporateDigestValue(referenceDom, base64EncodedDigestBytes, namespace);
             }
         }
@@ -0,0 +1,137 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.xades.reference;
+
+import eu.europa.esig.dss.enumerations.DigestAlgorithm;
+import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.FileDocument;
+import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.spi.DSSUtils;
+import org.apache.xml.security.c14n.Canonicalizer;
+import org.junit.jupiter.api.Test;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReferenceProcessorTest {
+
+    private static final DSSDocument DOCUMENT = new FileDocument("src/test/resources/sample-c14n.xml");
+
+    @Test
+    public void streamCanonicalizationTest() {
+        ReferenceProcessor referenceProcessor = new ReferenceProcessor();
+        for (String algorithm : new String[] { Canonicalizer.ALGO_ID_C14N_OMIT_COMMENTS, Canonicalizer.ALGO_ID_C14N_WITH_COMMENTS,
+                Canonicalizer.ALGO_ID_C14N_EXCL_OMIT_COMMENTS, Canonicalizer.ALGO_ID_C14N_EXCL_WITH_COMMENTS,
+                Canonicalizer.ALGO_ID_C14N11_OMIT_COMMENTS, Canonicalizer.ALGO_ID_C14N11_WITH_COMMENTS }) {
+            DSSReference reference = getReference(Collections.singletonList(new CanonicalizationTransform(algorithm)));
+            assertEquals(referenceProcessor.getReferenceOutput(reference).getDigest(DigestAlgorithm.SHA256),
+                    referenceProcessor.getReferenceDigest(reference), algorithm);
+        }
+    }
+
+    @Test
+    public void streamCanonicalizationWithoutDOMTest() {
+        ReferenceProcessor referenceProcessor = new ReferenceProcessor();
+        DSSReference reference = getReference(Collections.singletonList(
+                new CanonicalizationTransform(Canonicalizer.ALGO_ID_C14N_EXCL_OMIT_COMMENTS)));
+        String expectedDigest = referenceProcessor.getReferenceOutput(reference).getDigest(DigestAlgorithm.SHA256);
+
+        byte[] content = DSSUtils.toByteArray(DOCUMENT);
+        ReadCountingDocument readCountingDocument = new ReadCountingDocument(content);
+        reference.setContents(readCountingDocument);
+        assertEquals(expectedDigest, referenceProcessor.getReferenceDigest(reference));
+
+        // the content is read once by the canonicalizer, only the preamble is read on top of it (no DOM is built)
+        assertTrue(readCountingDocument.getReadBytes() < 2L * content.length);
+    }
+
+    @Test
+    public void noTransformsTest() {
+        ReferenceProcessor referenceProcessor = new ReferenceProcessor();
+        DSSReference reference = getReference(null);
+        assertEquals(DOCUMENT.getDigest(DigestAlgorithm.SHA256), referenceProcessor.getReferenceDigest(reference));
+    }
+
+    @Test
+    public void base64TransformTest() {
+        ReferenceProcessor referenceProcessor = new ReferenceProcessor();
+        DSSReference reference = getReference(Collections.singletonList(new Base64Transform()));
+        assertEquals(DOCUMENT.getDigest(DigestAlgorithm.SHA256), referenceProcessor.getReferenceDigest(reference));
+    }
+
+    private static class ReadCountingDocument extends InMemoryDocument {
+
+        private static final long serialVersionUID = 6123850471739102436L;
+
+        private long readBytes = 0;
+
+        private ReadCountingDocument(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new FilterInputStream(super.openStream()) {
+
+                @Override
+                public int read() throws IOException {
+                    int b = super.read();
+                    if (b != -1) {
+                        readBytes++;
+                    }
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    int read = super.read(b, off, len);
+                    if (read > 0) {
+                        readBytes += read;
+                    }
+                    return read;
+                }
+
+            };
+        }
+
+        private long getReadBytes() {
+            return readBytes;
+        }
+
+    }
+
+    private DSSReference getReference(List<DSSTransform> transforms) {
+        DSSReference reference = new DSSReference();
+        reference.setId("r-1");
+        reference.setUri(DOCUMENT.getName());
+        reference.setContents(DOCUMENT);
+        reference.setDigestMethodAlgorithm(DigestAlgorithm.SHA256);
+        reference.setTransforms(transforms);
+        return reference;
+    }
+
+}
@@ -49,6 +49,9 @@ public abstract class AbstractConfigurator<F> {
     /** Defines the behaviour for processing a security exception */
     private StatusAlert securityExceptionAlert = new ExceptionOnStatusAlert();
 
+    /** Incremented on every configuration change, used to invalidate the objects cached for the configuration */
+    private volatile int configurationVersion = 0;
+
     /**
      * Default constructor initializing empty maps of security features and attributes
      */
@@ -65,6 +68,7 @@ public abstract class AbstractConfigurator<F> {
     public void setSecurityExceptionAlert(StatusAlert securityExceptionAlert) {
         Objects.requireNonNull(securityExceptionAlert);
         this.securityExceptionAlert = securityExceptionAlert;
+        configurationVersion++;
     }
 
     /**
@@ -96,6 +100,7 @@ public abstract class AbstractConfigurator<F> {
             LOG.debug("The feature {} = {} has been added to the configuration", feature, value);
         }
         features.put(feature, value);
+        configurationVersion++;
         return this;
     }
 
@@ -115,6 +120,7 @@ public abstract class AbstractConfigurator<F> {
             LOG.debug("The attribute {} = {} has been added to the configuration", attribute, value);
         }
         attributes.put(attribute, value);
+        configurationVersion++;
         return this;
     }
 
@@ -128,11 +134,21 @@ public abstract class AbstractConfigurator<F> {
         Objects.requireNonNull(attribute, "The attribute constraint cannot be null!");
         if (attributes.containsKey(attribute)) {
             attributes.remove(attribute);
+            configurationVersion++;
             LOG.warn("SECURITY : the attribute with name [{}] has been disabled", attribute);
         }
         return this;
     }
 
+    /**
+     * Returns the current version of the configuration, changed on every modification of the configuration
+     *
+     * @return configuration version
+     */
+    int getConfigurationVersion() {
+        return configurationVersion;
+    }
+
     /**
      * Sets all features to the factory
      *
@@ -22,8 +22,12 @@ package eu.europa.esig.dss.xml.common;
 
 import org.xml.sax.SAXException;
 
+import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.Source;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
@@ -51,6 +55,12 @@ public final class XmlDefinerUtils {
 	/** Builds the secure version of {@code Validator} */
 	private ValidatorConfigurator secureValidatorConfigurator = ValidatorConfigurator.getSecureValidatorConfigurator();
 
+	/** Caches a secure {@code DocumentBuilder} per thread */
+	private final ThreadLocal<CachedInstance<DocumentBuilder>> documentBuilderCache = new ThreadLocal<>();
+
+	/** Caches a secure {@code Transformer} per thread */
+	private final ThreadLocal<CachedInstance<Transformer>> transformerCache = new ThreadLocal<>();
+
 	/**
 	 * Singleton
 	 */
@@ -87,7 +97,38 @@ public final class XmlDefinerUtils {
 	public DocumentBuilderFactory getSecureDocumentBuilderFactory() {
 		return secureDocumentBuilderFactoryBuilder.build();
 	}
+
+	/**
+	 * Returns a secure DocumentBuilder cached for the current thread, which is reset on every call
+	 *
+	 * @return {@link DocumentBuilder}
+	 * @throws ParserConfigurationException if the DocumentBuilder cannot be created
+	 */
+	public DocumentBuilder getCachedSecureDocumentBuilder() throws ParserConfigurationException {
+		final DocumentBuilderFactoryBuilder builder = secureDocumentBuilderFactoryBuilder;
+		final CachedInstance<DocumentBuilder> cachedInstance = documentBuilderCache.get();
+		if (cachedInstance != null && cachedInstance.isValidFor(builder)) {
+			try {
+				cachedInstance.instance.reset();
+				return cachedInstance.instance;
+			} catch (UnsupportedOperationException e) {
+				// the implementation does not support reuse, create a new instance
+			}
+		}
+		final int configurationVersion = builder.getConfigurationVersion();
+		final DocumentBuilder documentBuilder = builder.build().newDocumentBuilder();
+		documentBuilderCache.set(new CachedInstance<>(builder, configurationVersion, documentBuilder));
+		return documentBuilder;
+	}
 	
+	/**
+	 * Removes the {@code DocumentBuilder} and {@code Transformer} cached for the current thread
+	 */
+	public void clearCachedInstances() {
+		documentBuilderCache.remove();
+		transformerCache.remove();
+	}
+
 	/**
 	 * Returns a Schema for a list of defined xsdSources
 	 * 
@@ -140,6 +181,29 @@ public final class XmlDefinerUtils {
 	public TransformerFactory getSecureTransformerFactory() {
 		return secureTransformerFactoryBuilder.build();
 	}
+
+	/**
+	 * Returns a secure Transformer cached for the current thread, which is reset on every call
+	 *
+	 * @return {@link Transformer}
+	 * @throws TransformerConfigurationException if the Transformer cannot be created
+	 */
+	public Transformer getCachedSecureTransformer() throws TransformerConfigurationException {
+		final TransformerFactoryBuilder builder = secureTransformerFactoryBuilder;
+		final CachedInstance<Transformer> cachedInstance = transformerCache.get();
+		if (cachedInstance != null && cachedInstance.isValidFor(builder)) {
+			try {
+				cachedInstance.instance.reset();
+				return cachedInstance.instance;
+			} catch (UnsupportedOperationException e) {
+				// the implementation does not support reuse, create a new instance
+			}
+		}
+		final int configurationVersion = builder.getConfigurationVersion();
+		final Transformer transformer = builder.build().newTransformer();
+		transformerCache.set(new CachedInstance<>(builder, configurationVersion, transformer));
+		return transformer;
+	}
 	
 	/**
 	 * Sets a pre-configured builder to instantiate a {@code Validator}
@@ -169,4 +233,45 @@ public final class XmlDefinerUtils {
 		secureValidatorConfigurator.postProcess(validator);
 	}
 
+	/**
+	 * Contains an object created for the given configuration
+	 *
+	 * @param <T> type of the cached object
+	 */
+	private static final class CachedInstance<T> {
+
+		/** The configuration used to create the instance */
+		private final AbstractConfigurator<?> configurator;
+
+		/** Version of the configuration used to create the instance */
+		private final int configurationVersion;
+
+		/** The cached object */
+		private final T instance;
+
+		/**
+		 * Default constructor
+		 *
+		 * @param configurator {@link AbstractConfigurator} used to create the instance
+		 * @param configurationVersion version of the configuration
+		 * @param instance the cached object
+		 */
+		private CachedInstance(AbstractConfigurator<?> configurator, int configurationVersion, T instance) {
+			this.configurator = configurator;
+			this.configurationVersion = configurationVersion;
+			this.instance = instance;
+		}
+
+		/**
+		 * Checks whether the cached object has been created with the current state of the {@code configurator}
+		 *
+		 * @param configurator {@link AbstractConfigurator} to check
+		 * @return TRUE if the cached object can be reused, FALSE otherwise
+		 */
+		private boolean isValidFor(AbstractConfigurator<?> configurator) {
+			return this.configurator == configurator && this.configurationVersion == configurator.getConfigurationVersion();
+		}
+
+	}
+
 }
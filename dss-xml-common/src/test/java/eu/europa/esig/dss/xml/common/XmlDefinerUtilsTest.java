@@ -24,14 +24,21 @@ import org.junit.jupiter.api.Test;
 import org.xml.sax.SAXException;
 
 import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.validation.SchemaFactory;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class XmlDefinerUtilsTest {
 
@@ -50,6 +57,64 @@ public class XmlDefinerUtilsTest {
 		assertNotNull(XmlDefinerUtils.getInstance().getSecureDocumentBuilderFactory());
 	}
 
+	@Test
+	public void getCachedSecureDocumentBuilder() throws Exception {
+		XmlDefinerUtils xmlDefinerUtils = XmlDefinerUtils.getInstance();
+		DocumentBuilder documentBuilder = xmlDefinerUtils.getCachedSecureDocumentBuilder();
+		assertNotNull(documentBuilder);
+		assertSame(documentBuilder, xmlDefinerUtils.getCachedSecureDocumentBuilder());
+
+		AtomicReference<DocumentBuilder> otherThreadBuilder = new AtomicReference<>();
+		Thread thread = new Thread(() -> {
+			try {
+				otherThreadBuilder.set(xmlDefinerUtils.getCachedSecureDocumentBuilder());
+			} catch (ParserConfigurationException e) {
+				// keep null
+			}
+		});
+		thread.start();
+		thread.join();
+		assertNotNull(otherThreadBuilder.get());
+		assertNotSame(documentBuilder, otherThreadBuilder.get());
+
+		DocumentBuilderFactoryBuilder documentBuilderFactoryBuilder = DocumentBuilderFactoryBuilder.getSecureDocumentBuilderFactoryBuilder();
+		xmlDefinerUtils.setDocumentBuilderFactoryBuilder(documentBuilderFactoryBuilder);
+		DocumentBuilder newDocumentBuilder = xmlDefinerUtils.getCachedSecureDocumentBuilder();
+		assertNotSame(documentBuilder, newDocumentBuilder);
+		assertSame(newDocumentBuilder, xmlDefinerUtils.getCachedSecureDocumentBuilder());
+
+		// configuration change
+		documentBuilderFactoryBuilder.enableFeature(XMLConstants.FEATURE_SECURE_PROCESSING);
+		assertNotSame(newDocumentBuilder, xmlDefinerUtils.getCachedSecureDocumentBuilder());
+	}
+
+	@Test
+	public void getCachedSecureTransformer() throws Exception {
+		XmlDefinerUtils xmlDefinerUtils = XmlDefinerUtils.getInstance();
+		Transformer transformer = xmlDefinerUtils.getCachedSecureTransformer();
+		assertNotNull(transformer);
+		transformer.setOutputProperty(OutputKeys.ENCODING, "ISO-8859-1");
+
+		assertSame(transformer, xmlDefinerUtils.getCachedSecureTransformer());
+		// the cached transformer is reset
+		assertNotEquals("ISO-8859-1", transformer.getOutputProperty(OutputKeys.ENCODING));
+
+		TransformerFactoryBuilder transformerFactoryBuilder = TransformerFactoryBuilder.getSecureTransformerBuilder();
+		xmlDefinerUtils.setTransformerFactoryBuilder(transformerFactoryBuilder);
+		assertNotSame(transformer, xmlDefinerUtils.getCachedSecureTransformer());
+	}
+
+	@Test
+	public void clearCachedInstances() throws Exception {
+		XmlDefinerUtils xmlDefinerUtils = XmlDefinerUtils.getInstance();
+		DocumentBuilder documentBuilder = xmlDefinerUtils.getCachedSecureDocumentBuilder();
+		Transformer transformer = xmlDefinerUtils.getCachedSecureTransformer();
+
+		xmlDefinerUtils.clearCachedInstances();
+		assertNotSame(documentBuilder, xmlDefinerUtils.getCachedSecureDocumentBuilder());
+		assertNotSame(transformer, xmlDefinerUtils.getCachedSecureTransformer());
+	}
+
 	@Test
 	public void mockSecureSchemaFactoryBuilderTest() throws SAXException {
 		MockSchemaFactoryBuilder schemaFactoryBuilder = new MockSchemaFactoryBuilder();
@@ -69,9 +69,11 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The utils for dealing with {@code org.w3c.dom} objects
@@ -117,6 +119,15 @@ public final class DomUtils {
 	/** Map containing the defined namespaces */
 	private static final NamespaceContextMap namespacePrefixMapper;
 
+	/** The maximum number of compiled XPath expressions cached per thread */
+	private static final int XPATH_CACHE_SIZE = 256;
+
+	/** Caches compiled XPath expressions per thread */
+	private static final ThreadLocal<XPathExpressionCache> xPathExpressionCache = ThreadLocal.withInitial(XPathExpressionCache::new);
+
+	/** Incremented on a namespace registration, invalidates the cached XPath expressions */
+	private static final AtomicInteger namespacesVersion = new AtomicInteger();
+
 	static {
 		namespacePrefixMapper = new NamespaceContextMap();
 	}
@@ -137,7 +148,9 @@ public final class DomUtils {
 		if (XMLNS.equals(prefix)) {
 			throw new UnsupportedOperationException(String.format("The default namespace '%s' cannot be registered!", XMLNS));
 		}
-		return namespacePrefixMapper.registerNamespace(prefix, uri);
+		boolean registered = namespacePrefixMapper.registerNamespace(prefix, uri);
+		namespacesVersion.incrementAndGet();
+		return registered;
 	}
 
 	/**
@@ -166,10 +179,24 @@ public final class DomUtils {
 	 * @return an instance of Transformer with enabled secure features
 	 */
 	public static Transformer getSecureTransformer() {
-		TransformerFactory transformerFactory = getSecureTransformerFactory();
+		return createSecureTransformer(false);
+	}
+
+	/**
+	 * Returns a secure Transformer cached for the current thread.
+	 * To be used only for an immediate transformation, without keeping the reference to the object.
+	 *
+	 * @return {@link Transformer}
+	 */
+	private static Transformer getCachedSecureTransformer() {
+		return createSecureTransformer(true);
+	}
+
+	private static Transformer createSecureTransformer(boolean cached) {
 		Transformer transformer;
 		try {
-			transformer = transformerFactory.newTransformer();
+			transformer = cached ? XmlDefinerUtils.getInstance().getCachedSecureTransformer() :
+					getSecureTransformerFactory().newTransformer();
 			transformer.setOutputProperty(OutputKeys.METHOD, TRANSFORMER_METHOD_VALUE);
 		} catch (TransformerConfigurationException e) {
 			throw new DSSException(String.format("Unable to instantiate a new secure Transformer. Reason : %s", e.getMessage()), e);
@@ -224,7 +251,7 @@ public final class DomUtils {
 	 */
 	public static Document buildDOM() {
 		try {
-			return getSecureDocumentBuilderFactory().newDocumentBuilder().newDocument();
+			return XmlDefinerUtils.getInstance().getCachedSecureDocumentBuilder().newDocument();
 		} catch (ParserConfigurationException e) {
 			throw new DSSException(String.format("Unable to build an empty DOM : %s", e.getMessage()), e);
 		}
@@ -262,7 +289,7 @@ public final class DomUtils {
 	 */
 	public static Document buildDOM(final InputStream inputStream) {
 		try (InputStream is = inputStream) {
-			return getSecureDocumentBuilderFactory().newDocumentBuilder().parse(is);
+			return XmlDefinerUtils.getInstance().getCachedSecureDocumentBuilder().parse(is);
 		} catch (ParserConfigurationException | SAXException e) {
 			throw new DSSException(String.format("Unable to parse content (XML expected) : %s", e.getMessage()), e);
 		} catch (IOException e) {
@@ -386,6 +413,24 @@ public final class DomUtils {
 		}
 	}
 
+	/**
+	 * Removes the XPath expressions and the XML builders cached for the current thread
+	 */
+	public static void clearCachedInstances() {
+		xPathExpressionCache.remove();
+		XmlDefinerUtils.getInstance().clearCachedInstances();
+	}
+
+	/**
+	 * Returns a compiled XPathExpression for the given xpath expression, cached for the current thread
+	 *
+	 * @param xpathString XPath query string
+	 * @return {@link XPathExpression}
+	 */
+	private static XPathExpression getXPathExpression(final String xpathString) {
+		return xPathExpressionCache.get().getOrCompile(xpathString);
+	}
+
 	/**
 	 * Returns the String value of the corresponding to the XPath query.
 	 *
@@ -397,7 +442,7 @@ public final class DomUtils {
 	 */
 	public static String getValue(final Node xmlNode, final String xPathString) {
 		try {
-			final XPathExpression xPathExpression = createXPathExpression(xPathString);
+			final XPathExpression xPathExpression = getXPathExpression(xPathString);
 			final String string = (String) xPathExpression.evaluate(xmlNode, XPathConstants.STRING);
 			return Utils.trim(string);
 		} catch (XPathExpressionException e) {
@@ -416,7 +461,7 @@ public final class DomUtils {
 	 */
 	public static NodeList getNodeList(final Node xmlNode, final String xPathString) {
 		try {
-			final XPathExpression expr = createXPathExpression(xPathString);
+			final XPathExpression expr = getXPathExpression(xPathString);
 			return (NodeList) expr.evaluate(xmlNode, XPathConstants.NODESET);
 		} catch (XPathExpressionException e) {
 			throw new DSSException(String.format("Unable to find a NodeList by the given xPathString '%s'. Reason : %s",
@@ -597,7 +642,7 @@ public final class DomUtils {
 		try {
 			final DOMSource xmlSource = new DOMSource(dom);
 			final StreamResult outputTarget = new StreamResult(os);
-			Transformer transformer = getSecureTransformer();
+			Transformer transformer = getCachedSecureTransformer();
 			transformer.transform(xmlSource, outputTarget);
 		} catch (Exception e) {
 			throw new DSSException(String.format("Unable to store a DOM document to OutputStream : %s", e.getMessage()), e);
@@ -645,7 +690,7 @@ public final class DomUtils {
 	 */
 	private static void serializeNode(Node node, Result result) {
 		try {
-			Transformer transformer = DomUtils.getSecureTransformer();
+			Transformer transformer = getCachedSecureTransformer();
 			Document document;
 			if (Node.DOCUMENT_NODE == node.getNodeType()) {
 				document = (Document) node;
@@ -930,7 +975,7 @@ public final class DomUtils {
 	 */
 	public static byte[] serializeNode(final Node xmlNode) {
 		try (ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
-			Transformer transformer = getSecureTransformer();
+			Transformer transformer = getCachedSecureTransformer();
 			Document document;
 			if (Node.DOCUMENT_NODE == xmlNode.getNodeType()) {
 				document = (Document) xmlNode;
@@ -988,4 +1033,46 @@ public final class DomUtils {
 		}
 	}
 
+	/**
+	 * LRU cache of compiled XPath expressions, invalidated on a namespace registration
+	 */
+	private static final class XPathExpressionCache {
+
+		/** Compiled expressions by their XPath query strings, in access order */
+		private final Map<String, XPathExpression> expressions = new LinkedHashMap<String, XPathExpression>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 4093316386416553347L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, XPathExpression> eldest) {
+				return size() > XPATH_CACHE_SIZE;
+			}
+
+		};
+
+		/** Version of the registered namespaces the expressions have been compiled with */
+		private int version = namespacesVersion.get();
+
+		/**
+		 * Returns a cached or newly compiled XPath expression
+		 *
+		 * @param xpathString XPath query string
+		 * @return {@link XPathExpression}
+		 */
+		private XPathExpression getOrCompile(String xpathString) {
+			int currentVersion = namespacesVersion.get();
+			if (version != currentVersion) {
+				expressions.clear();
+				version = currentVersion;
+			}
+			XPathExpression xPathExpression = expressions.get(xpathString);
+			if (xPathExpression == null) {
+				xPathExpression = createXPathExpression(xpathString);
+				expressions.put(xpathString, xPathExpression);
+			}
+			return xPathExpression;
+		}
+
+	}
+
 }
@@ -24,13 +24,28 @@ import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.utils.Utils;
 import org.apache.xml.security.c14n.Canonicalizer;
 import org.apache.xml.security.c14n.InvalidCanonicalizerException;
+import org.apache.xml.security.stax.ext.Transformer;
+import org.apache.xml.security.stax.ext.stax.XMLSecEvent;
+import org.apache.xml.security.stax.ext.stax.XMLSecEventFactory;
+import org.apache.xml.security.stax.ext.stax.XMLSecStartElement;
+import org.apache.xml.security.stax.impl.transformer.canonicalizer.Canonicalizer11_OmitCommentsTransformer;
+import org.apache.xml.security.stax.impl.transformer.canonicalizer.Canonicalizer11_WithCommentsTransformer;
+import org.apache.xml.security.stax.impl.transformer.canonicalizer.Canonicalizer20010315_ExclOmitCommentsTransformer;
+import org.apache.xml.security.stax.impl.transformer.canonicalizer.Canonicalizer20010315_ExclWithCommentsTransformer;
+import org.apache.xml.security.stax.impl.transformer.canonicalizer.Canonicalizer20010315_OmitCommentsTransformer;
+import org.apache.xml.security.stax.impl.transformer.canonicalizer.Canonicalizer20010315_WithCommentsTransformer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Node;
 
 import javax.xml.crypto.dsig.CanonicalizationMethod;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -64,6 +79,9 @@ public class XMLCanonicalizer {
      */
     public static final String DEFAULT_XMLDSIG_C14N_METHOD = CanonicalizationMethod.INCLUSIVE;
 
+    /** The canonicalization method to be used */
+    private final String canonicalizationMethod;
+
     /** Xmlsec canonicalizer instance */
     private final Canonicalizer c14n;
 
@@ -93,6 +111,7 @@ public class XMLCanonicalizer {
     private XMLCanonicalizer(String canonicalizationMethod) {
         canonicalizationMethod = getCanonicalizationMethod(canonicalizationMethod);
         assertCanonicalizationMethodSupported(canonicalizationMethod);
+        this.canonicalizationMethod = canonicalizationMethod;
         this.c14n = initCanonicalizer(canonicalizationMethod);
     }
 
@@ -210,6 +229,110 @@ public class XMLCanonicalizer {
         }
     }
 
+    /**
+     * This method says if the given canonicalization method can be performed in a streaming mode,
+     * without building a DOM of the whole document (see {@code #canonicalize(InputStream, OutputStream)}).
+     *
+     * @param canonicalizationMethod
+     *            the canonicalization method to be checked
+     * @return TRUE if the streaming canonicalization is supported, FALSE otherwise
+     */
+    public static boolean canCanonicalizeStream(final String canonicalizationMethod) {
+        return canonicalizationMethod != null && getStreamingTransformer(canonicalizationMethod) != null;
+    }
+
+    /**
+     * This method canonicalizes the XML document from the given {@code InputStream} in a streaming mode,
+     * writing the output to the {@code outputStream}. The document is read with a StAX parser,
+     * thus the memory consumption does not depend on the document size.
+     *
+     * NOTE: the document shall not contain a DTD. Closes the input stream after reading.
+     *
+     * @param inputStream
+     *            {@link InputStream} representing the whole XML document to canonicalize
+     * @param outputStream
+     *            {@link OutputStream} to write the canonicalized bytes to
+     * @throws DSSException
+     *             if the canonicalization method is not supported in a streaming mode or
+     *             if any error is encountered
+     */
+    public void canonicalize(InputStream inputStream, OutputStream outputStream) throws DSSException {
+        final Transformer transformer = getStreamingTransformer(canonicalizationMethod);
+        if (transformer == null) {
+            throw new DSSException(String.format("The canonicalization method '%s' is not supported " +
+                    "in a streaming mode!", canonicalizationMethod));
+        }
+
+        XMLStreamReader xmlStreamReader = null;
+        try (InputStream is = inputStream) {
+            transformer.setOutputStream(outputStream);
+            xmlStreamReader = getXMLInputFactory().createXMLStreamReader(is);
+
+            XMLSecStartElement parentElement = null;
+            while (true) {
+                if (XMLStreamConstants.DTD == xmlStreamReader.getEventType()) {
+                    throw new DSSException("DTD is not allowed within a document to canonicalize!");
+                }
+                final XMLSecEvent xmlSecEvent = XMLSecEventFactory.allocate(xmlStreamReader, parentElement);
+                if (xmlSecEvent.isStartElement()) {
+                    parentElement = (XMLSecStartElement) xmlSecEvent;
+                } else if (xmlSecEvent.isEndElement() && parentElement != null) {
+                    parentElement = parentElement.getParentXMLSecStartElement();
+                }
+                transformer.transform(xmlSecEvent);
+                if (!xmlStreamReader.hasNext()) {
+                    break;
+                }
+                xmlStreamReader.next();
+            }
+            transformer.doFinal();
+
+        } catch (DSSException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DSSException(String.format("Cannot canonicalize the stream. Reason : %s", e.getMessage()), e);
+        } finally {
+            closeQuietly(xmlStreamReader);
+        }
+    }
+
+    private static Transformer getStreamingTransformer(String canonicalizationMethod) {
+        switch (canonicalizationMethod) {
+            case Canonicalizer.ALGO_ID_C14N_OMIT_COMMENTS:
+                return new Canonicalizer20010315_OmitCommentsTransformer();
+            case Canonicalizer.ALGO_ID_C14N_WITH_COMMENTS:
+                return new Canonicalizer20010315_WithCommentsTransformer();
+            case Canonicalizer.ALGO_ID_C14N_EXCL_OMIT_COMMENTS:
+                return new Canonicalizer20010315_ExclOmitCommentsTransformer();
+            case Canonicalizer.ALGO_ID_C14N_EXCL_WITH_COMMENTS:
+                return new Canonicalizer20010315_ExclWithCommentsTransformer();
+            case Canonicalizer.ALGO_ID_C14N11_OMIT_COMMENTS:
+                return new Canonicalizer11_OmitCommentsTransformer();
+            case Canonicalizer.ALGO_ID_C14N11_WITH_COMMENTS:
+                return new Canonicalizer11_WithCommentsTransformer();
+            default:
+                return null;
+        }
+    }
+
+    private static XMLInputFactory getXMLInputFactory() {
+        final XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+        xmlInputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        return xmlInputFactory;
+    }
+
+    private static void closeQuietly(XMLStreamReader xmlStreamReader) {
+        if (xmlStreamReader != null) {
+            try {
+                xmlStreamReader.close();
+            } catch (XMLStreamException e) {
+                LOG.debug("Unable to close the XMLStreamReader : {}", e.getMessage());
+            }
+        }
+    }
+
     /**
      * Returns the {@code canonicalizationMethod} if provided, otherwise returns the DEFAULT_CANONICALIZATION_METHOD
      *
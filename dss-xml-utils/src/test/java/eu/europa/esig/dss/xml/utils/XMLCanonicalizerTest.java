@@ -22,16 +22,24 @@ package eu.europa.esig.dss.xml.utils;
 
 import eu.europa.esig.dss.enumerations.DigestAlgorithm;
 import eu.europa.esig.dss.model.DSSDocument;
+import eu.europa.esig.dss.model.DSSException;
 import eu.europa.esig.dss.model.FileDocument;
 import eu.europa.esig.dss.utils.Utils;
+import org.apache.xml.security.c14n.Canonicalizer;
 import org.junit.jupiter.api.Test;
 import org.w3c.dom.Document;
 
 import javax.xml.crypto.dsig.CanonicalizationMethod;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.security.MessageDigest;
+import java.util.Arrays;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class XMLCanonicalizerTest {
 
@@ -98,4 +106,41 @@ public class XMLCanonicalizerTest {
                 Utils.toBase64(messageDigest.digest(canonicalized)));
     }
 
+    @Test
+    public void canonicalizeStreamTest() throws Exception {
+        DSSDocument document = new FileDocument("src/test/resources/sample-c14n.xml");
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        XMLCanonicalizer.createInstance(CanonicalizationMethod.INCLUSIVE).canonicalize(document.openStream(), baos);
+        MessageDigest messageDigest = DigestAlgorithm.SHA256.getMessageDigest();
+        assertEquals("/TiBXkCOtm0bSdOukpXHtqSu6G5EPRfwyYH9DJ9YtCE=",
+                Utils.toBase64(messageDigest.digest(baos.toByteArray())));
+
+        baos = new ByteArrayOutputStream();
+        XMLCanonicalizer.createInstance(CanonicalizationMethod.INCLUSIVE_WITH_COMMENTS).canonicalize(document.openStream(), baos);
+        messageDigest = DigestAlgorithm.SHA256.getMessageDigest();
+        assertEquals("0VrRKOvUCLDg3QSMAzIrdahAmiCo/AFTFAjd5FZDx+0=",
+                Utils.toBase64(messageDigest.digest(baos.toByteArray())));
+
+        Document dom = DomUtils.buildDOM(document);
+        for (String canonicalizationMethod : Arrays.asList(CanonicalizationMethod.EXCLUSIVE,
+                CanonicalizationMethod.EXCLUSIVE_WITH_COMMENTS, Canonicalizer.ALGO_ID_C14N11_OMIT_COMMENTS)) {
+            assertTrue(XMLCanonicalizer.canCanonicalizeStream(canonicalizationMethod));
+            XMLCanonicalizer canonicalizer = XMLCanonicalizer.createInstance(canonicalizationMethod);
+            baos = new ByteArrayOutputStream();
+            canonicalizer.canonicalize(document.openStream(), baos);
+            assertArrayEquals(canonicalizer.canonicalize(dom), baos.toByteArray());
+        }
+
+        assertFalse(XMLCanonicalizer.canCanonicalizeStream(Canonicalizer.ALGO_ID_C14N_PHYSICAL));
+        assertFalse(XMLCanonicalizer.canCanonicalizeStream(null));
+    }
+
+    @Test
+    public void canonicalizeStreamWithDTDTest() {
+        DSSDocument document = new FileDocument("src/test/resources/xml_entity.xml");
+        XMLCanonicalizer canonicalizer = XMLCanonicalizer.createInstance(CanonicalizationMethod.INCLUSIVE);
+        assertThrows(DSSException.class, () -> canonicalizer.canonicalize(document.openStream(), new ByteArrayOutputStream()));
+    }
+
 }
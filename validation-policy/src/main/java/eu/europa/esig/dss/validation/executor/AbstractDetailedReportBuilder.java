@@ -28,9 +28,11 @@ import eu.europa.esig.dss.diagnostic.DiagnosticData;
 import eu.europa.esig.dss.diagnostic.jaxb.XmlTrustedList;
 import eu.europa.esig.dss.enumerations.Context;
 import eu.europa.esig.dss.i18n.I18nProvider;
+import eu.europa.esig.dss.policy.EtsiValidationPolicy;
 import eu.europa.esig.dss.policy.ValidationPolicy;
 import eu.europa.esig.dss.utils.Utils;
 import eu.europa.esig.dss.validation.process.bbb.BasicBuildingBlocks;
+import eu.europa.esig.dss.validation.process.bbb.xcv.sub.SubX509CertificateValidationCache;
 import eu.europa.esig.dss.validation.process.qualification.trust.TLValidationBlock;
 
 import java.util.ArrayList;
@@ -38,6 +40,9 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * Abstract code for DetailedReport builder
@@ -56,6 +61,12 @@ public abstract class AbstractDetailedReportBuilder {
 	/** The validation time */
 	protected final Date currentTime;
 
+	/** The executor used to run the Basic Building Blocks in parallel (null for a sequential execution) */
+	private Executor executor;
+
+	/** The cache of CA certificate validation results (optional) */
+	private SubX509CertificateValidationCache certificateValidationCache;
+
 	/**
 	 * Default constructor
 	 *
@@ -72,6 +83,29 @@ public abstract class AbstractDetailedReportBuilder {
 		this.diagnosticData = diagnosticData;
 	}
 
+	/**
+	 * Sets the executor to be used to run the Basic Building Blocks of the different tokens in parallel.
+	 * When not defined (default), the Basic Building Blocks are executed sequentially.
+	 *
+	 * NOTE: the produced report is identical in both modes.
+	 * A custom {@code ValidationPolicy} (other than {@code EtsiValidationPolicy}) shall not be modified
+	 * on access in order to be used in parallel.
+	 *
+	 * @param executor {@link Executor}
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Sets the cache to be used to re-use the CA certificate validation results between validations
+	 *
+	 * @param certificateValidationCache {@link SubX509CertificateValidationCache}
+	 */
+	public void setCertificateValidationCache(SubX509CertificateValidationCache certificateValidationCache) {
+		this.certificateValidationCache = certificateValidationCache;
+	}
+
 	/**
 	 * Initializes the {@code XmlDetailedReport} by adding the TL analysis
 	 *
@@ -123,11 +157,55 @@ public abstract class AbstractDetailedReportBuilder {
 	 */
 	protected void process(Collection<? extends AbstractTokenProxy> tokensToProcess, Context context,
 						   Map<String, XmlBasicBuildingBlocks> bbbs) {
+		if (executor != null && tokensToProcess.size() > 1) {
+			processInParallel(tokensToProcess, context, bbbs);
+		} else {
+			for (AbstractTokenProxy token : tokensToProcess) {
+				bbbs.put(token.getId(), executeBasicBuildingBlocks(token, context));
+			}
+		}
+	}
+
+	private void processInParallel(Collection<? extends AbstractTokenProxy> tokensToProcess, Context context,
+								   Map<String, XmlBasicBuildingBlocks> bbbs) {
+		// initialize the lazy-loaded lists of the DiagnosticData before sharing it between threads
+		diagnosticData.getSignatures();
+		diagnosticData.getTimestampList();
+		diagnosticData.getEvidenceRecords();
+		diagnosticData.getUsedCertificates();
+		// complete the cryptographic constraints, lazily modified on access otherwise
+		if (policy instanceof EtsiValidationPolicy) {
+			((EtsiValidationPolicy) policy).initializeCryptographicConstraints();
+		}
+
+		final List<CompletableFuture<XmlBasicBuildingBlocks>> futures = new ArrayList<>(tokensToProcess.size());
+		for (AbstractTokenProxy token : tokensToProcess) {
+			futures.add(CompletableFuture.supplyAsync(() -> executeBasicBuildingBlocks(token, context), executor));
+		}
+		// results are collected in the order of tokens, in order to obtain the same report as in the sequential mode
+		int i = 0;
 		for (AbstractTokenProxy token : tokensToProcess) {
-			BasicBuildingBlocks bbb = new BasicBuildingBlocks(i18nProvider, diagnosticData, token, currentTime, policy, context);
-			XmlBasicBuildingBlocks result = bbb.execute();
-			bbbs.put(token.getId(), result);
+			bbbs.put(token.getId(), getResult(futures.get(i++)));
 		}
 	}
 
+	private XmlBasicBuildingBlocks getResult(CompletableFuture<XmlBasicBuildingBlocks> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			} else if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	private XmlBasicBuildingBlocks executeBasicBuildingBlocks(AbstractTokenProxy token, Context context) {
+		BasicBuildingBlocks bbb = new BasicBuildingBlocks(i18nProvider, diagnosticData, token, currentTime, policy, context,
+				certificateValidationCache);
+		return bbb.execute();
+	}
+
 }
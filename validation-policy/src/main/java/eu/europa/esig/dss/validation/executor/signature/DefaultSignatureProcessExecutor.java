@@ -27,10 +27,13 @@ import eu.europa.esig.dss.simplereport.jaxb.XmlSimpleReport;
 import eu.europa.esig.dss.validation.executor.AbstractProcessExecutor;
 import eu.europa.esig.dss.validation.executor.DocumentProcessExecutor;
 import eu.europa.esig.dss.validation.executor.ValidationLevel;
+import eu.europa.esig.dss.validation.process.bbb.xcv.sub.SubX509CertificateValidationCache;
 import eu.europa.esig.dss.validation.reports.Reports;
 import eu.europa.esig.validationreport.jaxb.ValidationReportType;
 
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * This class executes a signature validation process and produces
@@ -48,6 +51,15 @@ public class DefaultSignatureProcessExecutor extends AbstractProcessExecutor imp
 	/** Defines if the semantics information shall be included (default: false) */
 	protected boolean includeSemantics = false;
 
+	/** Defines if the Basic Building Blocks shall be executed in parallel (default: false) */
+	protected boolean parallelExecution = false;
+
+	/** The executor used for the parallel execution (default: ForkJoinPool#commonPool()) */
+	protected Executor executor;
+
+	/** The cache of CA certificate validation results (default: null, no cache) */
+	protected SubX509CertificateValidationCache certificateValidationCache;
+
 	/**
 	 * Default constructor instantiating object with default configuration
 	 */
@@ -70,6 +82,42 @@ public class DefaultSignatureProcessExecutor extends AbstractProcessExecutor imp
 		this.includeSemantics = includeSemantics;
 	}
 
+	/**
+	 * Sets whether the Basic Building Blocks of the different tokens (signatures, timestamps, revocation data...)
+	 * shall be executed in parallel. The produced reports are the same as in the sequential mode.
+	 *
+	 * Default : false (sequential execution)
+	 *
+	 * @param parallelExecution whether the Basic Building Blocks shall be executed in parallel
+	 */
+	public void setParallelExecution(boolean parallelExecution) {
+		this.parallelExecution = parallelExecution;
+	}
+
+	/**
+	 * Sets the executor to be used for the parallel execution.
+	 * Applicable only when {@code #setParallelExecution(true)} is defined.
+	 *
+	 * Default : {@code ForkJoinPool.commonPool()}
+	 *
+	 * @param executor {@link Executor}
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Sets the cache used to re-use the results of CA certificate validations between the executions
+	 * (e.g. {@code InMemorySubX509CertificateValidationCache}). The same cache may be shared between executors.
+	 *
+	 * Default : null (no cache)
+	 *
+	 * @param certificateValidationCache {@link SubX509CertificateValidationCache}
+	 */
+	public void setCertificateValidationCache(SubX509CertificateValidationCache certificateValidationCache) {
+		this.certificateValidationCache = certificateValidationCache;
+	}
+
 	@Override
 	public Reports execute() {
 		assertConfigurationValid();
@@ -97,6 +145,10 @@ public class DefaultSignatureProcessExecutor extends AbstractProcessExecutor imp
 
 		DetailedReportBuilder detailedReportBuilder = new DetailedReportBuilder(getI18nProvider(), currentTime, policy,
 				validationLevel, diagnosticData, includeSemantics);
+		detailedReportBuilder.setCertificateValidationCache(certificateValidationCache);
+		if (parallelExecution) {
+			detailedReportBuilder.setExecutor(executor != null ? executor : ForkJoinPool.commonPool());
+		}
 		XmlDetailedReport jaxbDetailedReport = detailedReportBuilder.build();
 
 		DetailedReport detailedReportWrapper = new DetailedReport(jaxbDetailedReport);
@@ -52,6 +52,7 @@ import eu.europa.esig.dss.validation.process.bbb.sav.SignatureAcceptanceValidati
 import eu.europa.esig.dss.validation.process.bbb.sav.TimestampAcceptanceValidation;
 import eu.europa.esig.dss.validation.process.bbb.vci.ValidationContextInitialization;
 import eu.europa.esig.dss.validation.process.bbb.xcv.X509CertificateValidation;
+import eu.europa.esig.dss.validation.process.bbb.xcv.sub.SubX509CertificateValidationCache;
 
 import java.util.Collection;
 import java.util.Date;
@@ -81,6 +82,9 @@ public class BasicBuildingBlocks {
 	/** The validation context */
 	private final Context context;
 
+	/** The cache of CA certificate validation results (optional) */
+	private final SubX509CertificateValidationCache certificateValidationCache;
+
 	/**
 	 * Default constructor
 	 *
@@ -93,12 +97,30 @@ public class BasicBuildingBlocks {
 	 */
 	public BasicBuildingBlocks(I18nProvider i18nProvider, DiagnosticData diagnosticData, TokenProxy token, 
 			Date currentTime, ValidationPolicy policy, Context context) {
+		this(i18nProvider, diagnosticData, token, currentTime, policy, context, null);
+	}
+
+	/**
+	 * Constructor with a cache of CA certificate validation results
+	 *
+	 * @param i18nProvider {@link I18nProvider}
+	 * @param diagnosticData {@link DiagnosticData}
+	 * @param token {@link TokenProxy} to validate
+	 * @param currentTime {@link Date} validation time
+	 * @param policy {@link ValidationPolicy}
+	 * @param context {@link Context}
+	 * @param certificateValidationCache {@link SubX509CertificateValidationCache} (optional)
+	 */
+	public BasicBuildingBlocks(I18nProvider i18nProvider, DiagnosticData diagnosticData, TokenProxy token,
+			Date currentTime, ValidationPolicy policy, Context context,
+			SubX509CertificateValidationCache certificateValidationCache) {
 		this.i18nProvider = i18nProvider;
 		this.diagnosticData = diagnosticData;
 		this.token = token;
 		this.currentTime = currentTime;
 		this.policy = policy;
 		this.context = context;
+		this.certificateValidationCache = certificateValidationCache;
 	}
 
 	/**
@@ -239,18 +261,18 @@ public class BasicBuildingBlocks {
 	private X509CertificateValidation getX509CertificateValidation() {
 		if (Context.CERTIFICATE.equals(context)) {
 			CertificateWrapper certificate = (CertificateWrapper) token;
-			return new X509CertificateValidation(i18nProvider, certificate, currentTime, certificate.getNotBefore(), context, policy);
+			return new X509CertificateValidation(i18nProvider, certificate, currentTime, certificate.getNotBefore(), context, policy, certificateValidationCache);
 		} else {
 			CertificateWrapper certificate = token.getSigningCertificate();
 			if (certificate != null) {
 				if (Context.SIGNATURE.equals(context) || Context.COUNTER_SIGNATURE.equals(context)) {
-					return new X509CertificateValidation(i18nProvider, certificate, currentTime, certificate.getNotBefore(), context, policy);
+					return new X509CertificateValidation(i18nProvider, certificate, currentTime, certificate.getNotBefore(), context, policy, certificateValidationCache);
 				} else if (Context.TIMESTAMP.equals(context)) {
 					return new X509CertificateValidation(i18nProvider, certificate, currentTime, 
-							((TimestampWrapper) token).getProductionTime(), context, policy);
+							((TimestampWrapper) token).getProductionTime(), context, policy, certificateValidationCache);
 				} else if (Context.REVOCATION.equals(context)) {
 					return new X509CertificateValidation(i18nProvider, certificate, currentTime, 
-							((RevocationWrapper) token).getProductionDate(), context, policy);
+							((RevocationWrapper) token).getProductionDate(), context, policy, certificateValidationCache);
 				}
 			}
 		}
@@ -212,6 +212,26 @@ public class CryptographicConstraintWrapper {
 		return null;
 	}
 
+	/**
+	 * Gets all the expiration dates defined within the constraint
+	 *
+	 * @return a list of {@link Date}s
+	 */
+	public List<Date> getExpirationDates() {
+		List<Date> expirationDates = new ArrayList<>();
+		AlgoExpirationDate algoExpirationDates = getAlgoExpirationDates();
+		if (algoExpirationDates != null) {
+			SimpleDateFormat dateFormat = getUsedDateFormat(algoExpirationDates);
+			for (Algo algo : algoExpirationDates.getAlgos()) {
+				Date date = getDate(algo, dateFormat);
+				if (date != null) {
+					expirationDates.add(date);
+				}
+			}
+		}
+		return expirationDates;
+	}
+
 	private int parseKeySize(String keyLength) {
 		return Utils.isStringDigits(keyLength) ? Integer.parseInt(keyLength) : 0;
 	}
@@ -41,6 +41,7 @@ import eu.europa.esig.dss.validation.process.bbb.xcv.checks.ProspectiveCertifica
 import eu.europa.esig.dss.validation.process.bbb.xcv.checks.TrustServiceStatusCheck;
 import eu.europa.esig.dss.validation.process.bbb.xcv.checks.TrustServiceTypeIdentifierCheck;
 import eu.europa.esig.dss.validation.process.bbb.xcv.sub.SubX509CertificateValidation;
+import eu.europa.esig.dss.validation.process.bbb.xcv.sub.SubX509CertificateValidationCache;
 
 import java.util.Date;
 import java.util.List;
@@ -67,6 +68,9 @@ public class X509CertificateValidation extends Chain<XmlXCV> {
 	/** The validation policy */
 	private final ValidationPolicy validationPolicy;
 
+	/** The cache of CA certificate validation results (optional) */
+	private final SubX509CertificateValidationCache certificateValidationCache;
+
 	/**
 	 * Default constructor
 	 *
@@ -93,6 +97,23 @@ public class X509CertificateValidation extends Chain<XmlXCV> {
 	 */
 	public X509CertificateValidation(I18nProvider i18nProvider, CertificateWrapper currentCertificate, 
 			Date validationDate, Date usageTime, Context context, ValidationPolicy validationPolicy) {
+		this(i18nProvider, currentCertificate, validationDate, usageTime, context, validationPolicy, null);
+	}
+
+	/**
+	 * Constructor with usage time and a cache of CA certificate validation results
+	 *
+	 * @param i18nProvider {@link I18nProvider}
+	 * @param currentCertificate {@link CertificateWrapper} to validate
+	 * @param validationDate {@link Date}
+	 * @param usageTime {@link Date}
+	 * @param context {@link Context}
+	 * @param validationPolicy {@link ValidationPolicy}
+	 * @param certificateValidationCache {@link SubX509CertificateValidationCache} (optional)
+	 */
+	public X509CertificateValidation(I18nProvider i18nProvider, CertificateWrapper currentCertificate,
+			Date validationDate, Date usageTime, Context context, ValidationPolicy validationPolicy,
+			SubX509CertificateValidationCache certificateValidationCache) {
 		super(i18nProvider, new XmlXCV());
 
 		this.currentCertificate = currentCertificate;
@@ -101,6 +122,7 @@ public class X509CertificateValidation extends Chain<XmlXCV> {
 
 		this.context = context;
 		this.validationPolicy = validationPolicy;
+		this.certificateValidationCache = certificateValidationCache;
 	}
     
 	@Override
@@ -134,9 +156,7 @@ public class X509CertificateValidation extends Chain<XmlXCV> {
 			if (Utils.isCollectionNotEmpty(certificateChainList)) {
 				for (CertificateWrapper certificate : certificateChainList) {
 					if (!trustAnchorReached) {
-						certificateValidation = new SubX509CertificateValidation(i18nProvider, certificate, lastDate, 
-								context, SubContext.CA_CERTIFICATE, validationPolicy);
-						subXCV = certificateValidation.execute();
+						subXCV = executeCACertificateValidation(certificate, lastDate);
 						result.getSubXCV().add(subXCV);
 
 						trustAnchorReached = certificate.isTrusted();
@@ -151,6 +171,24 @@ public class X509CertificateValidation extends Chain<XmlXCV> {
 		}
 	}
 
+	private XmlSubXCV executeCACertificateValidation(CertificateWrapper certificate, Date validationTime) {
+		if (certificateValidationCache != null) {
+			XmlSubXCV cachedResult = certificateValidationCache.get(certificate, validationTime, context,
+					SubContext.CA_CERTIFICATE, validationPolicy, i18nProvider.getLocale());
+			if (cachedResult != null) {
+				return cachedResult;
+			}
+		}
+		SubX509CertificateValidation certificateValidation = new SubX509CertificateValidation(i18nProvider, certificate,
+				validationTime, context, SubContext.CA_CERTIFICATE, validationPolicy);
+		XmlSubXCV subXCV = certificateValidation.execute();
+		if (certificateValidationCache != null) {
+			certificateValidationCache.put(certificate, validationTime, context, SubContext.CA_CERTIFICATE,
+					validationPolicy, i18nProvider.getLocale(), subXCV);
+		}
+		return subXCV;
+	}
+
 	private ChainItem<XmlXCV> prospectiveCertificateChain() {
 		LevelConstraint constraint = validationPolicy.getProspectiveCertificateChainConstraint(context);
 		return new ProspectiveCertificateChainCheck<>(i18nProvider, result, currentCertificate, context, constraint);
@@ -0,0 +1,419 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.validation.process.bbb.xcv.sub;
+
+import eu.europa.esig.dss.detailedreport.jaxb.XmlConstraint;
+import eu.europa.esig.dss.detailedreport.jaxb.XmlRFC;
+import eu.europa.esig.dss.detailedreport.jaxb.XmlSubXCV;
+import eu.europa.esig.dss.diagnostic.CertificateRevocationWrapper;
+import eu.europa.esig.dss.diagnostic.CertificateWrapper;
+import eu.europa.esig.dss.enumerations.Context;
+import eu.europa.esig.dss.policy.RuleUtils;
+import eu.europa.esig.dss.policy.SubContext;
+import eu.europa.esig.dss.policy.ValidationPolicy;
+import eu.europa.esig.dss.policy.jaxb.TimeConstraint;
+import eu.europa.esig.dss.utils.Utils;
+import eu.europa.esig.dss.validation.process.ValidationProcessUtils;
+import eu.europa.esig.dss.validation.process.bbb.sav.checks.CryptographicConstraintWrapper;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/**
+ * Bounded in-memory implementation of {@code SubX509CertificateValidationCache}.
+ *
+ * Each result is stored with the time interval over which it holds, i.e. the interval between the dates
+ * the validation outcome depends on (validity range of the certificate, thisUpdate, nextUpdate and revocation date
+ * of its revocation data, revocation freshness and the expiration dates of the cryptographic constraints).
+ * A result is re-used for any validation time within this interval.
+ * The least recently used certificates are evicted when the maximum size is reached.
+ *
+ * NOTE: the validation policy is identified by its instance. In order to benefit from the cache,
+ * the same {@code ValidationPolicy} object shall be used between the validations and shall not be modified.
+ */
+public class InMemorySubX509CertificateValidationCache implements SubX509CertificateValidationCache {
+
+	/** The default maximum number of cached certificates */
+	private static final int DEFAULT_MAX_SIZE = 1000;
+
+	/** The maximum number of cached certificates */
+	private final int maxSize;
+
+	/** The cached results, with their validity intervals */
+	private final Map<CacheKey, List<CacheEntry>> results;
+
+	/** Identifiers of the used validation policies */
+	private final Map<ValidationPolicy, Long> policyIdentifiers = new WeakHashMap<>();
+
+	/** The last used policy identifier */
+	private long lastPolicyIdentifier = 0;
+
+	/**
+	 * Default constructor with a maximum size of 1000 certificates
+	 */
+	public InMemorySubX509CertificateValidationCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Constructor with custom configuration
+	 *
+	 * @param maxSize the maximum number of cached certificates (per validation context, policy and locale)
+	 */
+	public InMemorySubX509CertificateValidationCache(int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("The maximum size shall be positive!");
+		}
+		this.maxSize = maxSize;
+		this.results = new LinkedHashMap<CacheKey, List<CacheEntry>>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 4208474826390178954L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CacheKey, List<CacheEntry>> eldest) {
+				return size() > InMemorySubX509CertificateValidationCache.this.maxSize;
+			}
+
+		};
+	}
+
+	@Override
+	public synchronized XmlSubXCV get(CertificateWrapper certificate, Date validationTime, Context context,
+									  SubContext subContext, ValidationPolicy validationPolicy, Locale locale) {
+		List<CacheEntry> entries = results.get(getKey(certificate, context, subContext, validationPolicy, locale));
+		if (entries != null) {
+			for (CacheEntry entry : entries) {
+				if (entry.covers(validationTime)) {
+					return copy(entry.subXCV, entry.formattedValidationTime,
+							ValidationProcessUtils.getFormattedDate(validationTime));
+				}
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public synchronized void put(CertificateWrapper certificate, Date validationTime, Context context,
+								 SubContext subContext, ValidationPolicy validationPolicy, Locale locale, XmlSubXCV subXCV) {
+		String formattedValidationTime = ValidationProcessUtils.getFormattedDate(validationTime);
+		long time = validationTime.getTime();
+		long notBefore = Long.MIN_VALUE;
+		long notAfter = Long.MAX_VALUE;
+		for (Date date : getTimeDependencies(certificate, context, subContext, validationPolicy)) {
+			long dependency = date.getTime();
+			if (dependency == time) {
+				// the result may change at the validation time itself
+				return;
+			} else if (dependency < time) {
+				notBefore = Math.max(notBefore, dependency + 1);
+			} else {
+				notAfter = Math.min(notAfter, dependency - 1);
+			}
+		}
+		if (!isValidationTimeReplaceable(certificate, formattedValidationTime)) {
+			return;
+		}
+		List<CacheEntry> entries = results.computeIfAbsent(
+				getKey(certificate, context, subContext, validationPolicy, locale), k -> new ArrayList<>());
+		entries.removeIf(entry -> entry.covers(validationTime));
+		entries.add(new CacheEntry(notBefore, notAfter, formattedValidationTime,
+				copy(subXCV, formattedValidationTime, formattedValidationTime)));
+	}
+
+	/**
+	 * Returns the number of cached results
+	 *
+	 * @return number of cached results
+	 */
+	public synchronized int size() {
+		int size = 0;
+		for (List<CacheEntry> entries : results.values()) {
+			size += entries.size();
+		}
+		return size;
+	}
+
+	/**
+	 * Removes all the cached results
+	 */
+	public synchronized void clear() {
+		results.clear();
+	}
+
+	private CacheKey getKey(CertificateWrapper certificate, Context context, SubContext subContext,
+							ValidationPolicy validationPolicy, Locale locale) {
+		Long policyIdentifier = policyIdentifiers.computeIfAbsent(validationPolicy, p -> ++lastPolicyIdentifier);
+		return new CacheKey(certificate, context, subContext, policyIdentifier, locale);
+	}
+
+	/**
+	 * Returns the dates the outcome of the certificate validation may change at
+	 *
+	 * @param certificate {@link CertificateWrapper} validated certificate
+	 * @param context {@link Context}
+	 * @param subContext {@link SubContext}
+	 * @param validationPolicy {@link ValidationPolicy}
+	 * @return a list of {@link Date}s
+	 */
+	private static List<Date> getTimeDependencies(CertificateWrapper certificate, Context context, SubContext subContext,
+												  ValidationPolicy validationPolicy) {
+		List<Date> dates = new ArrayList<>();
+		addDate(dates, certificate.getNotBefore());
+		addDate(dates, certificate.getNotAfter());
+
+		TimeConstraint revocationFreshnessConstraint = validationPolicy.getRevocationFreshnessConstraint(context, subContext);
+		for (CertificateRevocationWrapper revocation : certificate.getCertificateRevocationData()) {
+			addDate(dates, revocation.getThisUpdate());
+			addDate(dates, revocation.getNextUpdate());
+			addDate(dates, revocation.getRevocationDate());
+			if (revocationFreshnessConstraint != null && revocation.getThisUpdate() != null) {
+				addDate(dates, new Date(revocation.getThisUpdate().getTime() + RuleUtils.convertDuration(revocationFreshnessConstraint)));
+			}
+		}
+
+		dates.addAll(new CryptographicConstraintWrapper(
+				validationPolicy.getCertificateCryptographicConstraint(context, subContext)).getExpirationDates());
+		dates.addAll(new CryptographicConstraintWrapper(
+				validationPolicy.getSignatureCryptographicConstraint(Context.REVOCATION)).getExpirationDates());
+		return dates;
+	}
+
+	private static void addDate(List<Date> dates, Date date) {
+		if (date != null) {
+			dates.add(date);
+		}
+	}
+
+	/**
+	 * Checks whether the formatted validation time may be replaced within the messages of the result,
+	 * i.e. no other date shown within the messages is formatted the same way
+	 *
+	 * @param certificate {@link CertificateWrapper} validated certificate
+	 * @param formattedValidationTime {@link String}
+	 * @return TRUE if the validation time may be replaced, FALSE otherwise
+	 */
+	private static boolean isValidationTimeReplaceable(CertificateWrapper certificate, String formattedValidationTime) {
+		for (CertificateRevocationWrapper revocation : certificate.getCertificateRevocationData()) {
+			for (Date date : new Date[] { revocation.getThisUpdate(), revocation.getNextUpdate(), revocation.getRevocationDate() }) {
+				if (date != null && formattedValidationTime.equals(ValidationProcessUtils.getFormattedDate(date))) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Creates a copy of the {@code subXCV}, which lists may be completed independently.
+	 * The nested objects are shared, as they are not modified once the validation is executed, except the
+	 * constraints referencing the validation time, which are copied with the new validation time.
+	 *
+	 * NOTE: the cross and equivalent certificates are not copied. They are not part of the certificate validation
+	 * result and are added by the Basic Building Blocks for every report. Their getters are not called,
+	 * in order to not create empty lists (marshalled as empty elements) within the source or the copy.
+	 *
+	 * @param subXCV {@link XmlSubXCV} to copy
+	 * @param formattedValidationTime {@link String} the validation time used within the messages of {@code subXCV}
+	 * @param newFormattedValidationTime {@link String} the validation time to be used within the copy
+	 * @return {@link XmlSubXCV} copy
+	 */
+	private static XmlSubXCV copy(XmlSubXCV subXCV, String formattedValidationTime, String newFormattedValidationTime) {
+		XmlSubXCV copy = new XmlSubXCV();
+		copy.setId(subXCV.getId());
+		copy.setTitle(subXCV.getTitle());
+		copy.setTrustAnchor(subXCV.isTrustAnchor());
+		copy.setSelfSigned(subXCV.isSelfSigned());
+		copy.getConstraint().addAll(copy(subXCV.getConstraint(), formattedValidationTime, newFormattedValidationTime));
+		copy.setConclusion(subXCV.getConclusion());
+		copy.setCRS(subXCV.getCRS());
+		copy.setRFC(copy(subXCV.getRFC(), formattedValidationTime, newFormattedValidationTime));
+		copy.setRevocationInfo(subXCV.getRevocationInfo());
+		return copy;
+	}
+
+	private static XmlRFC copy(XmlRFC rfc, String formattedValidationTime, String newFormattedValidationTime) {
+		if (rfc == null || formattedValidationTime.equals(newFormattedValidationTime)) {
+			return rfc;
+		}
+		XmlRFC copy = new XmlRFC();
+		copy.setId(rfc.getId());
+		copy.setTitle(rfc.getTitle());
+		copy.getConstraint().addAll(copy(rfc.getConstraint(), formattedValidationTime, newFormattedValidationTime));
+		copy.setConclusion(rfc.getConclusion());
+		return copy;
+	}
+
+	private static List<XmlConstraint> copy(List<XmlConstraint> constraints, String formattedValidationTime,
+											String newFormattedValidationTime) {
+		if (formattedValidationTime.equals(newFormattedValidationTime)) {
+			return constraints;
+		}
+		List<XmlConstraint> copies = new ArrayList<>();
+		for (XmlConstraint constraint : constraints) {
+			String additionalInfo = constraint.getAdditionalInfo();
+			if (Utils.isStringNotEmpty(additionalInfo) && additionalInfo.contains(formattedValidationTime)) {
+				XmlConstraint copy = new XmlConstraint();
+				copy.setName(constraint.getName());
+				copy.setStatus(constraint.getStatus());
+				copy.setError(constraint.getError());
+				copy.setWarning(constraint.getWarning());
+				copy.setInfo(constraint.getInfo());
+				copy.setAdditionalInfo(additionalInfo.replace(formattedValidationTime, newFormattedValidationTime));
+				copy.setId(constraint.getId());
+				copy.setBlockType(constraint.getBlockType());
+				copies.add(copy);
+			} else {
+				copies.add(constraint);
+			}
+		}
+		return copies;
+	}
+
+	/**
+	 * Contains a certificate validation result with the time interval over which it holds
+	 */
+	private static final class CacheEntry {
+
+		/** The first validation time the result holds for, in milliseconds */
+		private final long notBefore;
+
+		/** The last validation time the result holds for, in milliseconds */
+		private final long notAfter;
+
+		/** The validation time as shown within the messages of the result */
+		private final String formattedValidationTime;
+
+		/** The validation result */
+		private final XmlSubXCV subXCV;
+
+		private CacheEntry(long notBefore, long notAfter, String formattedValidationTime, XmlSubXCV subXCV) {
+			this.notBefore = notBefore;
+			this.notAfter = notAfter;
+			this.formattedValidationTime = formattedValidationTime;
+			this.subXCV = subXCV;
+		}
+
+		private boolean covers(Date validationTime) {
+			long time = validationTime.getTime();
+			return notBefore <= time && time <= notAfter;
+		}
+
+	}
+
+	/**
+	 * Identifies a certificate validation result
+	 */
+	private static final class CacheKey {
+
+		/** The certificate id */
+		private final String certificateId;
+
+		/** Whether the certificate is trusted */
+		private final boolean trusted;
+
+		/** The id of the certificate issuer (signing certificate) */
+		private final String signingCertificateId;
+
+		/** Whether the signature of the certificate is intact */
+		private final boolean signatureIntact;
+
+		/** Whether the signature of the certificate is valid */
+		private final boolean signatureValid;
+
+		/** Identifiers of the revocation data and of their certificate chains */
+		private final List<String> revocationKeys;
+
+		/** The validation context */
+		private final Context context;
+
+		/** The validation subContext */
+		private final SubContext subContext;
+
+		/** The validation policy identifier */
+		private final Long policyIdentifier;
+
+		/** The locale of the messages */
+		private final Locale locale;
+
+		private CacheKey(CertificateWrapper certificate, Context context, SubContext subContext,
+						 Long policyIdentifier, Locale locale) {
+			this.certificateId = certificate.getId();
+			this.trusted = certificate.isTrusted();
+			// the basic signature depends on the issuer resolved within the diagnostic data
+			CertificateWrapper signingCertificate = certificate.getSigningCertificate();
+			this.signingCertificateId = signingCertificate != null ? signingCertificate.getId() : null;
+			this.signatureIntact = certificate.isSignatureIntact();
+			this.signatureValid = certificate.isSignatureValid();
+			this.revocationKeys = getRevocationKeys(certificate);
+			this.context = context;
+			this.subContext = subContext;
+			this.policyIdentifier = policyIdentifier;
+			this.locale = locale;
+		}
+
+		private static List<String> getRevocationKeys(CertificateWrapper certificate) {
+			List<String> keys = new ArrayList<>();
+			for (CertificateRevocationWrapper revocation : certificate.getCertificateRevocationData()) {
+				keys.add(revocation.getId());
+				// the acceptance of the revocation data depends on the trust of its issuer
+				for (CertificateWrapper revocationChainItem : revocation.getCertificateChain()) {
+					keys.add(revocationChainItem.getId() + (revocationChainItem.isTrusted() ? ":T" : ":U"));
+				}
+			}
+			return keys;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			CacheKey cacheKey = (CacheKey) o;
+			return trusted == cacheKey.trusted
+					&& signatureIntact == cacheKey.signatureIntact
+					&& signatureValid == cacheKey.signatureValid
+					&& Objects.equals(certificateId, cacheKey.certificateId)
+					&& Objects.equals(signingCertificateId, cacheKey.signingCertificateId)
+					&& Objects.equals(revocationKeys, cacheKey.revocationKeys)
+					&& context == cacheKey.context
+					&& subContext == cacheKey.subContext
+					&& Objects.equals(policyIdentifier, cacheKey.policyIdentifier)
+					&& Objects.equals(locale, cacheKey.locale);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(certificateId, trusted, signingCertificateId, signatureIntact, signatureValid,
+					revocationKeys, context, subContext, policyIdentifier, locale);
+		}
+
+	}
+
+}
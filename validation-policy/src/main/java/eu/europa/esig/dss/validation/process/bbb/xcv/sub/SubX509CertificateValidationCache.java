@@ -0,0 +1,71 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.validation.process.bbb.xcv.sub;
+
+import eu.europa.esig.dss.detailedreport.jaxb.XmlSubXCV;
+import eu.europa.esig.dss.diagnostic.CertificateWrapper;
+import eu.europa.esig.dss.enumerations.Context;
+import eu.europa.esig.dss.policy.SubContext;
+import eu.europa.esig.dss.policy.ValidationPolicy;
+
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * Stores the results of {@code SubX509CertificateValidation} in order to re-use them between validations.
+ * The result of the validation of a certificate depends only on the certificate, its revocation data,
+ * the validation policy, the validation context and the validation time. As the result contains localized
+ * messages, it is also stored per locale.
+ *
+ * NOTE: the implementation shall be thread-safe and shall return a new instance on each call of
+ * {@code #get}, as the returned result may be completed by the caller.
+ */
+public interface SubX509CertificateValidationCache {
+
+	/**
+	 * Returns the cached result of the certificate validation, if available
+	 *
+	 * @param certificate {@link CertificateWrapper} validated certificate
+	 * @param validationTime {@link Date} the validation time
+	 * @param context {@link Context}
+	 * @param subContext {@link SubContext}
+	 * @param validationPolicy {@link ValidationPolicy}
+	 * @param locale {@link Locale} of the messages of the result
+	 * @return {@link XmlSubXCV} if the result is present in the cache, null otherwise
+	 */
+	XmlSubXCV get(CertificateWrapper certificate, Date validationTime, Context context, SubContext subContext,
+				  ValidationPolicy validationPolicy, Locale locale);
+
+	/**
+	 * Stores the result of the certificate validation
+	 *
+	 * @param certificate {@link CertificateWrapper} validated certificate
+	 * @param validationTime {@link Date} the validation time
+	 * @param context {@link Context}
+	 * @param subContext {@link SubContext}
+	 * @param validationPolicy {@link ValidationPolicy}
+	 * @param locale {@link Locale} of the messages of the result
+	 * @param subXCV {@link XmlSubXCV} the validation result
+	 */
+	void put(CertificateWrapper certificate, Date validationTime, Context context, SubContext subContext,
+			 ValidationPolicy validationPolicy, Locale locale, XmlSubXCV subXCV);
+
+}
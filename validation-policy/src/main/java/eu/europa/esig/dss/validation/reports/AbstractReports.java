@@ -30,6 +30,9 @@ import org.xml.sax.SAXException;
 
 import javax.xml.bind.JAXBException;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 
 /**
  * This class is a container for all reports generated by the validation
@@ -119,6 +122,24 @@ public abstract class AbstractReports {
 	 */
 	public abstract String getXmlSimpleReport();
 
+	/**
+	 * This method writes the XML representation of the JAXB SimpleReport into the {@code os}.
+	 *
+	 * NOTE: the default implementation writes the String returned by {@code #getXmlSimpleReport()}.
+	 *       Implementations should override the method in order to avoid building an intermediate String.
+	 *
+	 * @param os {@link OutputStream} to write the report into
+	 * @throws DSSReportException - in case of marshalling error
+	 */
+	public void writeXmlSimpleReport(OutputStream os) {
+		Objects.requireNonNull(os, "OutputStream cannot be null!");
+		try {
+			writeXml(getXmlSimpleReport(), os);
+		} catch (IOException e) {
+			throw new DSSReportException("An error occurred during writing of the Simple Report", e);
+		}
+	}
+
 	/**
 	 * This method returns the XML representation of the JAXB DiagnosticData String
 	 * 
@@ -153,6 +174,57 @@ public abstract class AbstractReports {
 		}
 	}
 
+	/**
+	 * This method writes the XML representation of the JAXB DiagnosticData into the {@code os}
+	 * without building an intermediate String
+	 *
+	 * @param os {@link OutputStream} to write the report into
+	 * @throws DSSReportException - in case of marshalling error
+	 */
+	public void writeXmlDiagnosticData(OutputStream os) {
+		Objects.requireNonNull(os, "OutputStream cannot be null!");
+		try {
+			if (xmlDiagnosticData != null) {
+				writeXml(xmlDiagnosticData, os);
+			} else {
+				DiagnosticDataFacade.newFacade().marshall(getDiagnosticDataJaxb(), os, validateXml);
+			}
+		} catch (JAXBException | IOException | SAXException e) {
+			throw new DSSReportException("An error occurred during marshalling of JAXB Diagnostic Data", e);
+		}
+	}
+
+	/**
+	 * This method writes the XML representation of the JAXB DetailedReport into the {@code os}
+	 * without building an intermediate String
+	 *
+	 * @param os {@link OutputStream} to write the report into
+	 * @throws DSSReportException - in case of marshalling error
+	 */
+	public void writeXmlDetailedReport(OutputStream os) {
+		Objects.requireNonNull(os, "OutputStream cannot be null!");
+		try {
+			if (xmlDetailedReport != null) {
+				writeXml(xmlDetailedReport, os);
+			} else {
+				DetailedReportFacade.newFacade().marshall(getDetailedReportJaxb(), os, validateXml);
+			}
+		} catch (JAXBException | IOException | SAXException e) {
+			throw new DSSReportException("An error occurred during marshalling of JAXB Detailed Report", e);
+		}
+	}
+
+	/**
+	 * Writes an already marshalled report into the {@code os}
+	 *
+	 * @param xml {@link String} the marshalled report
+	 * @param os {@link OutputStream} to write the report into
+	 * @throws IOException if an I/O error occurs
+	 */
+	protected void writeXml(String xml, OutputStream os) throws IOException {
+		os.write(xml.getBytes(StandardCharsets.UTF_8));
+	}
+
 	/**
 	 * For debug purpose.
 	 */
@@ -29,6 +29,8 @@ import org.xml.sax.SAXException;
 
 import javax.xml.bind.JAXBException;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
 
 /**
  * This class is a container for all reports generated by the certificate
@@ -97,4 +99,18 @@ public class CertificateReports extends AbstractReports {
 		}
 	}
 
+	@Override
+	public void writeXmlSimpleReport(OutputStream os) {
+		Objects.requireNonNull(os, "OutputStream cannot be null!");
+		try {
+			if (xmlSimpleReport != null) {
+				writeXml(xmlSimpleReport, os);
+			} else {
+				SimpleCertificateReportFacade.newFacade().marshall(getSimpleReportJaxb(), os, validateXml);
+			}
+		} catch (JAXBException | IOException | SAXException e) {
+			throw new DSSReportException("An error occurred during marshalling of JAXB Simple Report", e);
+		}
+	}
+
 }
@@ -31,6 +31,8 @@ import org.xml.sax.SAXException;
 
 import javax.xml.bind.JAXBException;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
 
 /**
  * This class is a container for all reports generated by the signature validation
@@ -115,6 +117,20 @@ public class Reports extends AbstractReports {
 		}
 	}
 
+	@Override
+	public void writeXmlSimpleReport(OutputStream os) {
+		Objects.requireNonNull(os, "OutputStream cannot be null!");
+		try {
+			if (xmlSimpleReport != null) {
+				writeXml(xmlSimpleReport, os);
+			} else {
+				SimpleReportFacade.newFacade().marshall(getSimpleReportJaxb(), os, validateXml);
+			}
+		} catch (JAXBException | IOException | SAXException e) {
+			throw new DSSReportException("An error occurred during marshalling of JAXB Simple Report", e);
+		}
+	}
+
 	/**
 	 * This method returns the XML representation of the JAXB ETSI Validation Report
 	 * String
@@ -134,6 +150,26 @@ public class Reports extends AbstractReports {
 		}
 	}
 
+	/**
+	 * This method writes the XML representation of the JAXB ETSI Validation Report into the {@code os}
+	 * without building an intermediate String
+	 *
+	 * @param os {@link OutputStream} to write the report into
+	 * @throws DSSReportException - in case of marshalling error
+	 */
+	public void writeXmlValidationReport(OutputStream os) {
+		Objects.requireNonNull(os, "OutputStream cannot be null!");
+		try {
+			if (xmlEtsiValidationReport != null) {
+				writeXml(xmlEtsiValidationReport, os);
+			} else {
+				ValidationReportFacade.newFacade().marshall(getEtsiValidationReportJaxb(), os, validateXml);
+			}
+		} catch (JAXBException | IOException | SAXException e) {
+			throw new DSSReportException("An error occurred during marshalling of JAXB Etsi Validation Report", e);
+		}
+	}
+
 	@Override
 	public void print() {
 		System.out.println("----------------Diagnostic data-----------------");
@@ -0,0 +1,104 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.validation.executor;
+
+import eu.europa.esig.dss.diagnostic.DiagnosticDataFacade;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDiagnosticData;
+import eu.europa.esig.dss.policy.ValidationPolicy;
+import eu.europa.esig.dss.policy.jaxb.CryptographicConstraint;
+import eu.europa.esig.dss.validation.executor.signature.DefaultSignatureProcessExecutor;
+import eu.europa.esig.dss.validation.reports.Reports;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ParallelExecutionTest extends AbstractTestValidationExecutor {
+
+	@Test
+	public void forkJoinPoolTest() throws Exception {
+		XmlDiagnosticData diagnosticData = DiagnosticDataFacade.newFacade().unmarshall(
+				new File("src/test/resources/passed_out_of_bounds_with_timestamps.xml"));
+
+		Reports sequentialReports = validate(diagnosticData, false, null);
+		Reports parallelReports = validate(diagnosticData, true, null);
+		assertFalse(parallelReports.getDetailedReportJaxb().getBasicBuildingBlocks().isEmpty());
+		assertEquals(sequentialReports.getXmlDetailedReport(), parallelReports.getXmlDetailedReport());
+		assertEquals(sequentialReports.getXmlSimpleReport(), parallelReports.getXmlSimpleReport());
+	}
+
+	@Test
+	public void customExecutorTest() throws Exception {
+		XmlDiagnosticData diagnosticData = DiagnosticDataFacade.newFacade().unmarshall(
+				new File("src/test/resources/universign.xml"));
+
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			Reports sequentialReports = validate(diagnosticData, false, null);
+			Reports parallelReports = validate(diagnosticData, true, executorService);
+			assertEquals(sequentialReports.getXmlDetailedReport(), parallelReports.getXmlDetailedReport());
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	@Test
+	public void cryptographicConstraintsInitializedTest() throws Exception {
+		XmlDiagnosticData diagnosticData = DiagnosticDataFacade.newFacade().unmarshall(
+				new File("src/test/resources/universign.xml"));
+
+		ValidationPolicy policy = loadDefaultPolicy();
+		CryptographicConstraint caConstraint = policy.getSignatureConstraints().getBasicSignatureConstraints()
+				.getCACertificate().getCryptographic();
+		assertNull(caConstraint.getAcceptableDigestAlgo());
+
+		validate(diagnosticData, policy, true, null);
+		assertSame(policy.getCryptographic().getAcceptableDigestAlgo(), caConstraint.getAcceptableDigestAlgo());
+		assertSame(policy.getCryptographic().getAcceptableDigestAlgo(),
+				policy.getEvidenceRecordConstraints().getCryptographic().getAcceptableDigestAlgo());
+	}
+
+	private Reports validate(XmlDiagnosticData diagnosticData, boolean parallelExecution, ExecutorService executorService)
+			throws Exception {
+		return validate(diagnosticData, loadDefaultPolicy(), parallelExecution, executorService);
+	}
+
+	private Reports validate(XmlDiagnosticData diagnosticData, ValidationPolicy policy, boolean parallelExecution,
+							 ExecutorService executorService) throws Exception {
+		DefaultSignatureProcessExecutor executor = new DefaultSignatureProcessExecutor();
+		executor.setDiagnosticData(diagnosticData);
+		executor.setValidationPolicy(policy);
+		executor.setCurrentTime(diagnosticData.getValidationDate());
+		executor.setParallelExecution(parallelExecution);
+		executor.setExecutor(executorService);
+
+		Reports reports = executor.execute();
+		checkReports(reports);
+		return reports;
+	}
+
+}
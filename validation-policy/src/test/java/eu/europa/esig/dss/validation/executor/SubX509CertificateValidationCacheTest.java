@@ -0,0 +1,204 @@
+/**
+ * DSS - Digital Signature Services
+ * Copyright (C) 2015 European Commission, provided under the CEF programme
+ * 
+ * This file is part of the "DSS - Digital Signature Services" project.
+ * 
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package eu.europa.esig.dss.validation.executor;
+
+import eu.europa.esig.dss.diagnostic.DiagnosticDataFacade;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlCertificate;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDiagnosticData;
+import eu.europa.esig.dss.policy.ValidationPolicy;
+import eu.europa.esig.dss.validation.executor.signature.DefaultSignatureProcessExecutor;
+import eu.europa.esig.dss.validation.process.bbb.xcv.sub.InMemorySubX509CertificateValidationCache;
+import eu.europa.esig.dss.validation.reports.Reports;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SubX509CertificateValidationCacheTest extends AbstractTestValidationExecutor {
+
+	@Test
+	public void sameReportsTest() throws Exception {
+		XmlDiagnosticData diagnosticData = DiagnosticDataFacade.newFacade().unmarshall(
+				new File("src/test/resources/universign.xml"));
+		ValidationPolicy policy = loadDefaultPolicy();
+
+		InMemorySubX509CertificateValidationCache cache = new InMemorySubX509CertificateValidationCache();
+
+		Reports reportsWithoutCache = validate(diagnosticData, policy, null);
+		assertEquals(0, cache.size());
+
+		Reports firstReports = validate(diagnosticData, policy, cache);
+		int cacheSize = cache.size();
+		assertTrue(cacheSize > 0);
+
+		Reports secondReports = validate(diagnosticData, policy, cache);
+		assertEquals(cacheSize, cache.size());
+
+		assertEquals(reportsWithoutCache.getXmlDetailedReport(), firstReports.getXmlDetailedReport());
+		assertEquals(reportsWithoutCache.getXmlDetailedReport(), secondReports.getXmlDetailedReport());
+		assertEquals(reportsWithoutCache.getXmlSimpleReport(), secondReports.getXmlSimpleReport());
+
+		// another policy instance
+		validate(diagnosticData, loadDefaultPolicy(), cache);
+		assertEquals(2 * cacheSize, cache.size());
+
+		cache.clear();
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void basicSignatureChangedTest() throws Exception {
+		XmlDiagnosticData diagnosticData = DiagnosticDataFacade.newFacade().unmarshall(
+				new File("src/test/resources/universign.xml"));
+		ValidationPolicy policy = loadDefaultPolicy();
+
+		InMemorySubX509CertificateValidationCache cache = new InMemorySubX509CertificateValidationCache();
+		validate(diagnosticData, policy, cache);
+		int cacheSize = cache.size();
+		assertTrue(cacheSize > 0);
+
+		XmlDiagnosticData brokenDiagnosticData = DiagnosticDataFacade.newFacade().unmarshall(
+				new File("src/test/resources/universign.xml"));
+		for (XmlCertificate certificate : brokenDiagnosticData.getUsedCertificates()) {
+			certificate.getBasicSignature().setSignatureIntact(false);
+			certificate.getBasicSignature().setSignatureValid(false);
+		}
+		Reports reportsWithoutCache = validate(brokenDiagnosticData, policy, null);
+		Reports reportsWithCache = validate(brokenDiagnosticData, policy, cache);
+		assertEquals(2 * cacheSize, cache.size());
+		assertEquals(reportsWithoutCache.getXmlDetailedReport(), reportsWithCache.getXmlDetailedReport());
+	}
+
+	@Test
+	public void localeTest() throws Exception {
+		XmlDiagnosticData diagnosticData = DiagnosticDataFacade.newFacade().unmarshall(
+				new File("src/test/resources/universign.xml"));
+		ValidationPolicy policy = loadDefaultPolicy();
+
+		InMemorySubX509CertificateValidationCache cache = new InMemorySubX509CertificateValidationCache();
+		validate(diagnosticData, policy, Locale.ENGLISH, cache);
+		int cacheSize = cache.size();
+		assertTrue(cacheSize > 0);
+
+		// the results contain localized messages and shall not be shared between locales
+		Reports reportsWithoutCache = validate(diagnosticData, policy, Locale.FRENCH, null);
+		Reports reportsWithCache = validate(diagnosticData, policy, Locale.FRENCH, cache);
+		assertEquals(2 * cacheSize, cache.size());
+		assertEquals(reportsWithoutCache.getXmlDetailedReport(), reportsWithCache.getXmlDetailedReport());
+
+		validate(diagnosticData, policy, Locale.ENGLISH, cache);
+		assertEquals(2 * cacheSize, cache.size());
+	}
+
+	@Test
+	public void validityIntervalTest() throws Exception {
+		XmlDiagnosticData diagnosticData = DiagnosticDataFacade.newFacade().unmarshall(
+				new File("src/test/resources/universign.xml"));
+		ValidationPolicy policy = loadDefaultPolicy();
+		Date validationTime = diagnosticData.getValidationDate();
+		Date nextValidationTime = new Date(validationTime.getTime() + 5 * 60 * 1000L);
+
+		InMemorySubX509CertificateValidationCache cache = new InMemorySubX509CertificateValidationCache();
+		validate(diagnosticData, policy, validationTime, cache);
+		int cacheSize = cache.size();
+		assertTrue(cacheSize > 0);
+
+		// the results hold within their validity intervals and are shared between the validation times
+		Reports reportsWithoutCache = validate(diagnosticData, policy, nextValidationTime, null);
+		Reports reportsWithCache = validate(diagnosticData, policy, nextValidationTime, cache);
+		assertEquals(cacheSize, cache.size());
+		assertEquals(reportsWithoutCache.getXmlDetailedReport(), reportsWithCache.getXmlDetailedReport());
+		assertEquals(reportsWithoutCache.getXmlSimpleReport(), reportsWithCache.getXmlSimpleReport());
+	}
+
+	@Test
+	public void outOfValidityIntervalTest() throws Exception {
+		XmlDiagnosticData diagnosticData = DiagnosticDataFacade.newFacade().unmarshall(
+				new File("src/test/resources/universign.xml"));
+		ValidationPolicy policy = loadDefaultPolicy();
+		Calendar calendar = Calendar.getInstance();
+		calendar.setTime(diagnosticData.getValidationDate());
+		calendar.add(Calendar.YEAR, 50);
+		Date expiredValidationTime = calendar.getTime();
+
+		InMemorySubX509CertificateValidationCache cache = new InMemorySubX509CertificateValidationCache();
+		validate(diagnosticData, policy, cache);
+		int cacheSize = cache.size();
+		assertTrue(cacheSize > 0);
+
+		// the certificates are expired and the algorithms are no longer reliable
+		Reports reportsWithoutCache = validate(diagnosticData, policy, expiredValidationTime, null);
+		Reports reportsWithCache = validate(diagnosticData, policy, expiredValidationTime, cache);
+		assertEquals(2 * cacheSize, cache.size());
+		assertEquals(reportsWithoutCache.getXmlDetailedReport(), reportsWithCache.getXmlDetailedReport());
+	}
+
+	@Test
+	public void boundedCacheTest() throws Exception {
+		XmlDiagnosticData diagnosticData = DiagnosticDataFacade.newFacade().unmarshall(
+				new File("src/test/resources/universign.xml"));
+
+		InMemorySubX509CertificateValidationCache cache = new InMemorySubX509CertificateValidationCache(1);
+		validate(diagnosticData, loadDefaultPolicy(), cache);
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void invalidConfigurationTest() {
+		assertThrows(IllegalArgumentException.class, () -> new InMemorySubX509CertificateValidationCache(0));
+	}
+
+	private Reports validate(XmlDiagnosticData diagnosticData, ValidationPolicy policy,
+							 InMemorySubX509CertificateValidationCache cache) throws Exception {
+		return validate(diagnosticData, policy, diagnosticData.getValidationDate(), cache);
+	}
+
+	private Reports validate(XmlDiagnosticData diagnosticData, ValidationPolicy policy, Locale locale,
+							 InMemorySubX509CertificateValidationCache cache) throws Exception {
+		return validate(diagnosticData, policy, diagnosticData.getValidationDate(), locale, cache);
+	}
+
+	private Reports validate(XmlDiagnosticData diagnosticData, ValidationPolicy policy, Date validationTime,
+							 InMemorySubX509CertificateValidationCache cache) throws Exception {
+		return validate(diagnosticData, policy, validationTime, Locale.getDefault(), cache);
+	}
+
+	private Reports validate(XmlDiagnosticData diagnosticData, ValidationPolicy policy, Date validationTime,
+							 Locale locale, InMemorySubX509CertificateValidationCache cache) throws Exception {
+		DefaultSignatureProcessExecutor executor = new DefaultSignatureProcessExecutor();
+		executor.setLocale(locale);
+		executor.setDiagnosticData(diagnosticData);
+		executor.setValidationPolicy(policy);
+		executor.setCurrentTime(validationTime);
+		executor.setCertificateValidationCache(cache);
+
+		Reports reports = executor.execute();
+		checkReports(reports);
+		return reports;
+	}
+
+}
@@ -20,8 +20,17 @@
  */
 package eu.europa.esig.dss.validation.reports;
 
+import eu.europa.esig.dss.diagnostic.DiagnosticDataFacade;
+import eu.europa.esig.dss.diagnostic.jaxb.XmlDiagnosticData;
+import eu.europa.esig.dss.policy.ValidationPolicyFacade;
+import eu.europa.esig.dss.validation.executor.signature.DefaultSignatureProcessExecutor;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -47,6 +56,43 @@ public class ReportsTest {
 
         assertNull(reports.getEtsiValidationReportJaxb());
         assertThrows(NullPointerException.class, () -> reports.getXmlValidationReport());
+
+        assertThrows(NullPointerException.class, () -> reports.writeXmlSimpleReport(new ByteArrayOutputStream()));
+        assertThrows(NullPointerException.class, () -> reports.writeXmlDetailedReport(new ByteArrayOutputStream()));
+        assertThrows(NullPointerException.class, () -> reports.writeXmlValidationReport(new ByteArrayOutputStream()));
+        assertThrows(NullPointerException.class, () -> reports.writeXmlDiagnosticData(null));
+    }
+
+    @Test
+    void testWriteXml() throws Exception {
+        XmlDiagnosticData diagnosticData = DiagnosticDataFacade.newFacade().unmarshall(
+                new File("src/test/resources/universign.xml"));
+
+        DefaultSignatureProcessExecutor executor = new DefaultSignatureProcessExecutor();
+        executor.setDiagnosticData(diagnosticData);
+        executor.setValidationPolicy(ValidationPolicyFacade.newFacade().getDefaultValidationPolicy());
+        executor.setCurrentTime(diagnosticData.getValidationDate());
+        Reports reports = executor.execute();
+        reports.setValidateXml(true);
+
+        // streamed before and after the String is built
+        for (int i = 0; i < 2; i++) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            reports.writeXmlDiagnosticData(baos);
+            assertEquals(reports.getXmlDiagnosticData(), new String(baos.toByteArray(), StandardCharsets.UTF_8));
+
+            baos = new ByteArrayOutputStream();
+            reports.writeXmlDetailedReport(baos);
+            assertEquals(reports.getXmlDetailedReport(), new String(baos.toByteArray(), StandardCharsets.UTF_8));
+
+            baos = new ByteArrayOutputStream();
+            reports.writeXmlSimpleReport(baos);
+            assertEquals(reports.getXmlSimpleReport(), new String(baos.toByteArray(), StandardCharsets.UTF_8));
+
+            baos = new ByteArrayOutputStream();
+            reports.writeXmlValidationReport(baos);
+            assertEquals(reports.getXmlValidationReport(), new String(baos.toByteArray(), StandardCharsets.UTF_8));
+        }
     }
 
 }